@@ -0,0 +1,98 @@
+package com.vtb.guardian.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares a JMH JSON result ({@code -rf json}) against a stored baseline and fails on regressions.
+ *
+ * A result regresses when it is worse than the baseline by more than the threshold and the
+ * difference exceeds both runs' error margins; throughput modes are better when higher, time
+ * modes when lower. Benchmarks missing from either file are listed but never fail the check.
+ *
+ * Usage: {@code java -cp target/benchmarks.jar com.vtb.guardian.benchmark.BaselineComparison
+ * baseline.json current.json [threshold-percent]}
+ */
+public final class BaselineComparison {
+
+    private static final double DEFAULT_THRESHOLD_PERCENT = 10;
+
+    private BaselineComparison() {
+    }
+
+    record Score(String mode, double score, double error, String unit) {
+
+        boolean higherIsBetter() {
+            return "thrpt".equals(mode);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineComparison <baseline.json> <current.json> [threshold-percent]");
+            System.exit(2);
+        }
+        double threshold = (args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT) / 100;
+        Map<String, Score> baseline = read(Path.of(args[0]));
+        Map<String, Score> current = read(Path.of(args[1]));
+
+        int regressions = 0;
+        for (Map.Entry<String, Score> entry : current.entrySet()) {
+            Score now = entry.getValue();
+            Score before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf(Locale.ROOT, "NEW        %-80s %12.3f %s%n", entry.getKey(), now.score(), now.unit());
+                continue;
+            }
+            double change = before.score() == 0 ? 0 : (now.score() - before.score()) / before.score();
+            double worse = before.higherIsBetter() ? -change : change;
+            boolean significant = Math.abs(now.score() - before.score()) > before.error() + now.error();
+            String verdict = worse > threshold && significant ? "REGRESSED"
+                : worse < -threshold && significant ? "IMPROVED" : "OK";
+            if ("REGRESSED".equals(verdict)) {
+                regressions++;
+            }
+            System.out.printf(Locale.ROOT, "%-10s %-80s %12.3f -> %12.3f %s (%+.1f%%)%n",
+                verdict, entry.getKey(), before.score(), now.score(), now.unit(), change * 100);
+        }
+        baseline.keySet().stream()
+            .filter(key -> !current.containsKey(key))
+            .forEach(key -> System.out.printf(Locale.ROOT, "MISSING    %s%n", key));
+
+        if (regressions > 0) {
+            System.out.printf(Locale.ROOT, "%d benchmark(s) regressed by more than %.0f%%%n",
+                regressions, threshold * 100);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * @return scores keyed by benchmark name and sorted parameters, e.g.
+     *     {@code ...AnalyzerBenchmark.analyze {endpoints=1000, type=BOLA}}
+     */
+    static Map<String, Score> read(Path file) throws IOException {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file.toFile())) {
+            Map<String, String> params = new TreeMap<>();
+            result.path("params").fields().forEachRemaining(param -> params.put(param.getKey(), param.getValue().asText()));
+            JsonNode metric = result.path("primaryMetric");
+            String key = result.path("benchmark").asText() + (params.isEmpty() ? "" : " " + params);
+            scores.put(key, new Score(result.path("mode").asText(), metric.path("score").asDouble(),
+                errorOf(metric), metric.path("scoreUnit").asText()));
+        }
+        return scores;
+    }
+
+    private static double errorOf(JsonNode metric) {
+        // JMH reports "NaN" when there were too few iterations to compute an error
+        double error = metric.path("scoreError").asDouble(0);
+        return Double.isNaN(error) ? 0 : error;
+    }
+}
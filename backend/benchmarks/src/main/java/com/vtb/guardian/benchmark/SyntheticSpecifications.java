@@ -0,0 +1,129 @@
+package com.vtb.guardian.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Deterministic OpenAPI 3.0 documents of a given size for the benchmarks.
+ *
+ * Operations come in CRUD groups of five per resource (list, create, read, update, delete),
+ * so every analyzer finds something to look at: id path parameters, request bodies with
+ * sensitive and URL-typed properties, unauthenticated operations, admin paths and deprecated
+ * versions. Schemas are shared through {@code $ref}, as in real specifications.
+ */
+public final class SyntheticSpecifications {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final int SCHEMAS = 50;
+
+    private SyntheticSpecifications() {
+    }
+
+    /**
+     * @return a JSON document with exactly {@code operations} operations
+     */
+    public static byte[] openApi(int operations) {
+        ObjectNode root = MAPPER.createObjectNode();
+        root.put("openapi", "3.0.3");
+        root.putObject("info").put("title", "Synthetic API " + operations).put("version", "1.0.0");
+        root.putArray("servers").addObject().put("url", "https://api.example.com");
+        root.putArray("security").addObject().putArray("bearerAuth");
+
+        ObjectNode paths = root.putObject("paths");
+        for (int i = 0; i < operations; i++) {
+            int resource = i / 5;
+            String collection = (resource % 11 == 0 ? "/admin" : "") + "/v" + (resource % 3 == 0 ? 1 : 2)
+                + "/resources" + resource;
+            String schema = "#/components/schemas/Resource" + resource % SCHEMAS;
+            switch (i % 5) {
+                case 0 -> {
+                    ObjectNode operation = operation(paths, collection, "get", i, "List resources " + resource);
+                    ArrayNode parameters = operation.putArray("parameters");
+                    parameters.addObject().put("name", "limit").put("in", "query")
+                        .putObject("schema").put("type", "integer").put("maximum", 1000);
+                    parameters.addObject().put("name", "callback").put("in", "query")
+                        .putObject("schema").put("type", "string").put("format", "uri");
+                    response(operation, "200").putObject("content").putObject("application/json")
+                        .putObject("schema").put("type", "array").putObject("items").put("$ref", schema);
+                }
+                case 1 -> {
+                    ObjectNode operation = operation(paths, collection, "post", i, "Create resource " + resource);
+                    operation.putObject("requestBody").put("required", true).putObject("content")
+                        .putObject("application/json").putObject("schema").put("$ref", schema);
+                    response(operation, "201");
+                }
+                case 2 -> {
+                    ObjectNode item = pathItem(paths, collection + "/{id}");
+                    item.putArray("parameters").addObject().put("name", "id").put("in", "path").put("required", true)
+                        .putObject("schema").put("type", "string").put("format", "uuid");
+                    ObjectNode operation = operation(paths, collection + "/{id}", "get", i, "Get resource " + resource);
+                    response(operation, "200").putObject("content").putObject("application/json")
+                        .putObject("schema").put("$ref", schema);
+                }
+                case 3 -> {
+                    ObjectNode operation = operation(paths, collection + "/{id}", "put", i,
+                        "Update resource " + resource);
+                    operation.putObject("requestBody").putObject("content")
+                        .putObject("application/json").putObject("schema").put("$ref", schema);
+                    response(operation, "200");
+                }
+                default -> response(operation(paths, collection + "/{id}", "delete", i,
+                    "Delete resource " + resource), "204");
+            }
+        }
+
+        ObjectNode components = root.putObject("components");
+        components.putObject("securitySchemes").putObject("bearerAuth")
+            .put("type", "http").put("scheme", "bearer").put("bearerFormat", "JWT");
+        ObjectNode schemas = components.putObject("schemas");
+        ObjectNode address = schemas.putObject("Address").put("type", "object");
+        address.putObject("properties").putObject("city").put("type", "string");
+        for (int s = 0; s < SCHEMAS; s++) {
+            ObjectNode schema = schemas.putObject("Resource" + s).put("type", "object");
+            schema.putArray("required").add("name");
+            ObjectNode properties = schema.putObject("properties");
+            properties.putObject("id").put("type", "string").put("format", "uuid").put("readOnly", true);
+            properties.putObject("name").put("type", "string").put("maxLength", 255);
+            properties.putObject("email").put("type", "string").put("format", "email");
+            properties.putObject("password").put("type", "string").put("format", "password");
+            properties.putObject("role").put("type", "string").putArray("enum").add("user").add("admin");
+            properties.putObject("webhookUrl").put("type", "string").put("format", "uri");
+            properties.putObject("balance").put("type", "number");
+            properties.putObject("address").put("$ref", "#/components/schemas/Address");
+        }
+
+        try {
+            return MAPPER.writeValueAsBytes(root);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ObjectNode pathItem(ObjectNode paths, String path) {
+        return paths.has(path) ? (ObjectNode) paths.get(path) : paths.putObject(path);
+    }
+
+    private static ObjectNode operation(ObjectNode paths, String path, String method, int index, String summary) {
+        ObjectNode operation = pathItem(paths, path).putObject(method);
+        operation.put("operationId", method + "Operation" + index).put("summary", summary);
+        if (index % 7 == 0) {
+            // Explicitly unauthenticated
+            operation.putArray("security");
+        }
+        if (index % 13 == 0) {
+            operation.put("deprecated", true);
+        }
+        return operation;
+    }
+
+    private static ObjectNode response(ObjectNode operation, String status) {
+        ObjectNode responses = operation.has("responses")
+            ? (ObjectNode) operation.get("responses")
+            : operation.putObject("responses");
+        return responses.putObject(status).put("description", "OK");
+    }
+}
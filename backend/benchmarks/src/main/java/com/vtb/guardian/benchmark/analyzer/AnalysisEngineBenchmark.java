@@ -0,0 +1,72 @@
+package com.vtb.guardian.benchmark.analyzer;
+
+import com.vtb.guardian.benchmark.SyntheticSpecifications;
+import com.vtb.guardian.core.analyzer.VulnerabilityAnalyzer;
+import com.vtb.guardian.core.analyzer.engine.ParallelAnalysisEngine;
+import com.vtb.guardian.core.model.domain.ApiSpecification;
+import com.vtb.guardian.core.model.domain.Vulnerability;
+import com.vtb.guardian.core.parser.OpenApiNormalizer;
+import com.vtb.guardian.core.parser.SpecificationLoader;
+import com.vtb.guardian.core.parser.streaming.StreamingOpenApiParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full static analysis of a specification with every registered analyzer: the fork-join
+ * engine against the sequential reference path. This is the number behind scan throughput.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AnalysisEngineBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int endpoints;
+
+    private ParallelAnalysisEngine engine;
+    private List<VulnerabilityAnalyzer> analyzers;
+    private ApiSpecification specification;
+
+    @Setup
+    public void setUp() throws Exception {
+        analyzers = ServiceLoader.load(VulnerabilityAnalyzer.class).stream()
+            .map(ServiceLoader.Provider::get)
+            .toList();
+        engine = new ParallelAnalysisEngine(analyzers, 0, 256);
+        specification = new SpecificationLoader(new StreamingOpenApiParser(), new OpenApiNormalizer(),
+                SpecificationLoader.DEFAULT_STREAMING_THRESHOLD_BYTES)
+            .load(SyntheticSpecifications.openApi(endpoints));
+    }
+
+    @TearDown
+    public void tearDown() {
+        engine.shutdown();
+    }
+
+    @Benchmark
+    public List<Vulnerability> parallel() {
+        return engine.analyze(specification);
+    }
+
+    @Benchmark
+    public List<Vulnerability> sequential() {
+        return engine.analyzeSequentially(specification, analyzers);
+    }
+}
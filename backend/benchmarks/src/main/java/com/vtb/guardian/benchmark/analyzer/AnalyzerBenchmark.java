@@ -0,0 +1,67 @@
+package com.vtb.guardian.benchmark.analyzer;
+
+import com.vtb.guardian.benchmark.SyntheticSpecifications;
+import com.vtb.guardian.core.analyzer.VulnerabilityAnalyzer;
+import com.vtb.guardian.core.model.domain.ApiSpecification;
+import com.vtb.guardian.core.model.domain.Vulnerability;
+import com.vtb.guardian.core.model.enums.VulnerabilityType;
+import com.vtb.guardian.core.parser.OpenApiNormalizer;
+import com.vtb.guardian.core.parser.SpecificationLoader;
+import com.vtb.guardian.core.parser.streaming.StreamingOpenApiParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of each OWASP analyzer on its own over a whole specification.
+ *
+ * Analyzers are loaded through the same {@link ServiceLoader} registration as the CLI offline
+ * mode and picked by {@link VulnerabilityType}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AnalyzerBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int endpoints;
+
+    // One value per analyzer registered in META-INF/services; add new analyzers here
+    @Param({"BOLA"})
+    private VulnerabilityType type;
+
+    private VulnerabilityAnalyzer analyzer;
+    private ApiSpecification specification;
+
+    @Setup
+    public void setUp() throws Exception {
+        analyzer = ServiceLoader.load(VulnerabilityAnalyzer.class).stream()
+            .map(ServiceLoader.Provider::get)
+            .filter(candidate -> candidate.getType() == type)
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException("No analyzer registered for " + type));
+        specification = new SpecificationLoader(new StreamingOpenApiParser(), new OpenApiNormalizer(),
+                SpecificationLoader.DEFAULT_STREAMING_THRESHOLD_BYTES)
+            .load(SyntheticSpecifications.openApi(endpoints));
+    }
+
+    @Benchmark
+    public List<Vulnerability> analyze() {
+        return analyzer.analyze(specification);
+    }
+}
@@ -0,0 +1,90 @@
+package com.vtb.guardian.benchmark.llm;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vtb.guardian.llm.model.completion.ChatCompletionDecoder;
+import com.vtb.guardian.llm.model.completion.ChatCompletionResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares chat completion envelope decoding strategies of {@code NvidiaLlmClient}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompletionDecodingBenchmark {
+
+    @Param({"1", "20", "200"})
+    private int findings;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ChatCompletionDecoder decoder;
+    private byte[] response;
+
+    @Setup
+    public void setUp() throws Exception {
+        decoder = new ChatCompletionDecoder(objectMapper.getFactory());
+
+        StringBuilder content = new StringBuilder("{\"vulnerabilities\":[");
+        for (int i = 0; i < findings; i++) {
+            if (i > 0) {
+                content.append(',');
+            }
+            content.append("{\"title\":\"Missing object ownership check #").append(i)
+                .append("\",\"description\":\"Endpoint /users/{id} returns \\\"foreign\\\" records\",")
+                .append("\"severity\":\"HIGH\",\"confidence\":0.87}");
+        }
+        content.append("]}");
+
+        Map<String, Object> envelope = Map.of(
+            "id", "chatcmpl-1",
+            "object", "chat.completion",
+            "model", "qwen/qwen3-next-80b-a3b-instruct",
+            "choices", List.of(Map.of(
+                "index", 0,
+                "message", Map.of("role", "assistant", "content", content.toString()),
+                "finish_reason", "stop")),
+            "usage", Map.of("prompt_tokens", 812, "completion_tokens", 40 * findings, "total_tokens", 812 + 40 * findings)
+        );
+        response = objectMapper.writeValueAsBytes(envelope);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public String mapBased() throws Exception {
+        // Previous NvidiaLlmClient path: body as String, then a generic Map tree with casts
+        String responseBody = new String(response, StandardCharsets.UTF_8);
+        Map<String, Object> responseMap = objectMapper.readValue(responseBody, Map.class);
+        List<Map<String, Object>> choices = (List<Map<String, Object>>) responseMap.get("choices");
+        Map<String, Object> message = (Map<String, Object>) choices.get(0).get("message");
+        return (String) message.get("content");
+    }
+
+    @Benchmark
+    public String typedRecords() throws Exception {
+        return objectMapper.readValue(response, ChatCompletionResponse.class).choices().get(0).message().content();
+    }
+
+    @Benchmark
+    public String streamingDecoder() throws Exception {
+        return decoder.decode(new ByteArrayInputStream(response)).content();
+    }
+}
@@ -0,0 +1,65 @@
+package com.vtb.guardian.benchmark.parser;
+
+import com.vtb.guardian.benchmark.SyntheticSpecifications;
+import com.vtb.guardian.core.model.domain.ApiSpecification;
+import com.vtb.guardian.core.parser.OpenApiNormalizer;
+import com.vtb.guardian.core.parser.SpecificationLoader;
+import com.vtb.guardian.core.parser.streaming.StreamingOpenApiParser;
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to turn a specification document into analyzable endpoints: swagger-parser with
+ * resolved references against the streaming parser behind {@link SpecificationLoader}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class SpecificationParsingBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int endpoints;
+
+    // Threshold 0 so every document goes through the streaming parser
+    private final SpecificationLoader loader = new SpecificationLoader(
+        new StreamingOpenApiParser(), new OpenApiNormalizer(), 0);
+    private byte[] document;
+    private ParseOptions options;
+
+    @Setup
+    public void setUp() {
+        document = SyntheticSpecifications.openApi(endpoints);
+        options = new ParseOptions();
+        options.setResolve(true);
+    }
+
+    @Benchmark
+    public OpenAPI swaggerParser() {
+        // swagger-parser only accepts the document as a String
+        return new OpenAPIParser().readContents(new String(document, StandardCharsets.UTF_8), null, options)
+            .getOpenAPI();
+    }
+
+    @Benchmark
+    public ApiSpecification streamingParser() throws Exception {
+        return loader.load(document);
+    }
+}
@@ -0,0 +1,124 @@
+package com.vtb.guardian.benchmark.persistence;
+
+import com.vtb.guardian.core.model.domain.Vulnerability;
+import com.vtb.guardian.core.model.enums.SeverityLevel;
+import com.vtb.guardian.core.model.enums.VulnerabilityType;
+import com.vtb.guardian.core.repository.VulnerabilityBulkWriter;
+import liquibase.integration.spring.SpringLiquibase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to persist the findings of one scan through {@link VulnerabilityBulkWriter}, including
+ * deduplication and rollup maintenance, as a scan of 100, 1k or 10k endpoints would produce.
+ *
+ * Starts a PostgreSQL container with the Liquibase schema, so it needs Docker; exclude it
+ * with {@code -e FindingPersistence} when Docker is not available.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class FindingPersistenceBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int findings;
+
+    private PostgreSQLContainer<?> postgres;
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private VulnerabilityBulkWriter writer;
+    private List<Vulnerability> vulnerabilities;
+    private UUID scanId;
+
+    @Setup(Level.Trial)
+    public void startDatabase() throws Exception {
+        postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+        postgres.start();
+        dataSource = new SingleConnectionDataSource(
+            postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword(), true);
+
+        SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(dataSource);
+        liquibase.setChangeLog("classpath:db/changelog/db.changelog-master.xml");
+        liquibase.setResourceLoader(new DefaultResourceLoader());
+        liquibase.afterPropertiesSet();
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writer = new VulnerabilityBulkWriter(jdbcTemplate, 1000);
+        vulnerabilities = findings(findings);
+    }
+
+    @Setup(Level.Invocation)
+    public void createScan() {
+        scanId = jdbcTemplate.queryForObject(
+            "INSERT INTO scans (name, status) VALUES ('benchmark', 'RUNNING') RETURNING id", UUID.class);
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() {
+        jdbcTemplate.execute("TRUNCATE scans, scan_finding_rollups, project_daily_rollups CASCADE");
+    }
+
+    @TearDown(Level.Trial)
+    public void stopDatabase() {
+        dataSource.destroy();
+        postgres.stop();
+    }
+
+    @Benchmark
+    public VulnerabilityBulkWriter.WriteResult writeAll() {
+        return writer.writeAll(scanId, vulnerabilities);
+    }
+
+    /**
+     * Findings spread over all categories and severities, with a few duplicates as analyzers
+     * and dynamic probes produce them.
+     */
+    private static List<Vulnerability> findings(int count) {
+        VulnerabilityType[] types = VulnerabilityType.values();
+        SeverityLevel[] severities = SeverityLevel.values();
+        String[] methods = {"GET", "POST", "PUT", "DELETE"};
+        List<Vulnerability> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            // Every 20th finding repeats its predecessor's key and is skipped by the writer
+            int key = i % 20 == 19 ? i - 1 : i;
+            VulnerabilityType type = types[key % types.length];
+            result.add(Vulnerability.builder()
+                .type(type)
+                .severity(severities[key % severities.length])
+                .title("Synthetic " + type + " finding")
+                .description("Endpoint /v1/resources" + key + "/{id} is affected by " + type)
+                .endpoint("/v1/resources" + key + "/{id}")
+                .method(methods[key % methods.length])
+                .recommendation("Fix the " + type + " issue")
+                .owaspCategory("API" + (type.ordinal() + 1) + ":2023")
+                .affectedParameter("id")
+                .references(List.of("https://owasp.org/API-Security/editions/2023/en/0x11-t10/"))
+                .build());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,44 @@
+package com.vtb.guardian.core.analyzer;
+
+import com.vtb.guardian.core.model.domain.ApiSpecification;
+import com.vtb.guardian.core.model.domain.Endpoint;
+import com.vtb.guardian.core.model.domain.Vulnerability;
+import com.vtb.guardian.core.model.enums.VulnerabilityType;
+
+import java.util.List;
+
+/**
+ * Static analyzer for a single OWASP API Top 10 category.
+ *
+ * Implementations must treat endpoints independently: the analysis engine
+ * may call {@link #analyzeEndpoints} on arbitrary slices of the specification
+ * and concatenates the results in endpoint order.
+ */
+public interface VulnerabilityAnalyzer {
+
+    VulnerabilityType getType();
+
+    /**
+     * Version of the analyzer's checks. Bump it when the checks change, so incremental scans
+     * analyze endpoints again that are unchanged since the previous scan.
+     */
+    default int getVersion() {
+        return 1;
+    }
+
+    List<Vulnerability> analyze(ApiSpecification specification);
+
+    /**
+     * Analyzes a contiguous slice of the specification's endpoints.
+     * The default implementation wraps the slice into a lightweight specification copy.
+     */
+    default List<Vulnerability> analyzeEndpoints(ApiSpecification specification, List<Endpoint> endpoints) {
+        ApiSpecification slice = ApiSpecification.builder()
+            .title(specification.getTitle())
+            .version(specification.getVersion())
+            .baseUrl(specification.getBaseUrl())
+            .endpoints(endpoints)
+            .build();
+        return analyze(slice);
+    }
+}
@@ -0,0 +1,23 @@
+package com.vtb.guardian.core.analyzer.engine;
+
+import com.vtb.guardian.core.model.domain.Vulnerability;
+
+import java.util.List;
+
+/**
+ * Receives progress while a specification is analyzed in slices.
+ * Implementations may throw to abort the analysis (e.g. on cancellation).
+ */
+@FunctionalInterface
+public interface AnalysisProgressListener {
+
+    AnalysisProgressListener NONE = (analyzed, total) -> { };
+
+    void onProgress(int analyzedEndpoints, int totalEndpoints);
+
+    /**
+     * Findings of the slice that was just analyzed, delivered before the matching {@link #onProgress}.
+     */
+    default void onFindings(List<Vulnerability> vulnerabilities) {
+    }
+}
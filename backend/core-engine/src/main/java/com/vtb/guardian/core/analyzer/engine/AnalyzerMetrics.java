@@ -0,0 +1,18 @@
+package com.vtb.guardian.core.analyzer.engine;
+
+import com.vtb.guardian.core.model.enums.VulnerabilityType;
+
+/**
+ * Receives the time each analyzer spent on a chunk of endpoints.
+ *
+ * Called concurrently from the analysis pool, once per (analyzer, chunk); implementations
+ * must be thread-safe and cheap. Kept free of metrics library types so the engine also
+ * runs where no registry is on the classpath (CLI offline mode).
+ */
+@FunctionalInterface
+public interface AnalyzerMetrics {
+
+    AnalyzerMetrics NONE = (type, nanos, endpoints, findings) -> { };
+
+    void record(VulnerabilityType type, long nanos, int endpoints, int findings);
+}
@@ -0,0 +1,405 @@
+package com.vtb.guardian.core.analyzer.engine;
+
+import com.vtb.guardian.core.analyzer.VulnerabilityAnalyzer;
+import com.vtb.guardian.core.analyzer.suppression.SuppressionIndex;
+import com.vtb.guardian.core.analyzer.visitor.EndpointTraversal;
+import com.vtb.guardian.core.analyzer.visitor.EndpointVisitor;
+import com.vtb.guardian.core.model.domain.ApiSpecification;
+import com.vtb.guardian.core.model.domain.Endpoint;
+import com.vtb.guardian.core.model.domain.Vulnerability;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+
+/**
+ * Runs all registered analyzers over the specification on a fork-join pool.
+ *
+ * Endpoints are split recursively into chunks of {@code chunkSize}, every
+ * (analyzer, chunk) pair is analyzed independently and the results are joined
+ * back in analyzer order (by {@code VulnerabilityType}) and endpoint order,
+ * so the output is identical to {@link #analyzeSequentially}.
+ *
+ * Analyzers that also implement {@link EndpointVisitor} share one traversal per
+ * chunk instead of walking the endpoints each on their own.
+ *
+ * With a {@link SuppressionIndex}, visitors are not called for endpoints where their type
+ * is suppressed, and findings of the remaining analyzers are dropped as they are joined.
+ *
+ * Time spent per analyzer and chunk is reported to {@link AnalyzerMetrics}, if one is registered.
+ */
+@Component
+@Slf4j
+public class ParallelAnalysisEngine {
+
+    private final List<VulnerabilityAnalyzer> analyzers;
+    private final int parallelism;
+    private final int chunkSize;
+    private final ForkJoinPool pool;
+    private final AnalyzerMetrics metrics;
+
+    @Autowired
+    public ParallelAnalysisEngine(
+            ObjectProvider<VulnerabilityAnalyzer> analyzers,
+            ObjectProvider<AnalyzerMetrics> metrics,
+            @Value("${app.scan.analysis.parallelism:0}") int parallelism,
+            @Value("${app.scan.analysis.chunk-size:256}") int chunkSize) {
+        this(analyzers.orderedStream().toList(), parallelism, chunkSize,
+            metrics.getIfAvailable(() -> AnalyzerMetrics.NONE));
+    }
+
+    public ParallelAnalysisEngine(List<? extends VulnerabilityAnalyzer> analyzers, int parallelism, int chunkSize) {
+        this(analyzers, parallelism, chunkSize, AnalyzerMetrics.NONE);
+    }
+
+    public ParallelAnalysisEngine(List<? extends VulnerabilityAnalyzer> analyzers, int parallelism, int chunkSize,
+                                  AnalyzerMetrics metrics) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        this.analyzers = sortByType(analyzers);
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.chunkSize = chunkSize;
+        this.pool = this.parallelism > 1 ? new ForkJoinPool(this.parallelism) : null;
+        this.metrics = metrics;
+        log.info("Analysis engine initialized: {} analyzers, parallelism={}, chunkSize={}",
+            this.analyzers.size(), this.parallelism, this.chunkSize);
+    }
+
+    public List<Vulnerability> analyze(ApiSpecification specification) {
+        return analyze(specification, analyzers);
+    }
+
+    public List<Vulnerability> analyze(ApiSpecification specification, List<? extends VulnerabilityAnalyzer> selected) {
+        return analyze(specification, selected, SuppressionIndex.EMPTY);
+    }
+
+    public List<Vulnerability> analyze(ApiSpecification specification, List<? extends VulnerabilityAnalyzer> selected,
+                                       SuppressionIndex suppressions) {
+        List<Endpoint> endpoints = endpointsOf(specification);
+        List<VulnerabilityAnalyzer> ordered = sortByType(selected);
+        if (pool == null || endpoints.size() <= chunkSize && ordered.size() <= 1) {
+            return analyzeInline(specification, endpoints, ordered, suppressions);
+        }
+        return pool.invoke(new AnalysisTask(specification, endpoints, ordered, chunkSize, suppressions, metrics));
+    }
+
+    /**
+     * Analyzes the specification in slices of {@code sliceSize} endpoints and reports
+     * progress after each slice. The merged output keeps the same order as {@link #analyze}.
+     */
+    public List<Vulnerability> analyze(ApiSpecification specification, int sliceSize,
+                                       AnalysisProgressListener listener) {
+        return analyze(specification, sliceSize, listener, SuppressionIndex.EMPTY);
+    }
+
+    public List<Vulnerability> analyze(ApiSpecification specification, int sliceSize,
+                                       AnalysisProgressListener listener, SuppressionIndex suppressions) {
+        List<Endpoint> endpoints = endpointsOf(specification);
+        if (endpoints.size() <= sliceSize) {
+            List<Vulnerability> result = analyze(specification, analyzers, suppressions);
+            listener.onFindings(result);
+            listener.onProgress(endpoints.size(), endpoints.size());
+            return result;
+        }
+
+        List<Vulnerability> result = new ArrayList<>();
+        for (int from = 0; from < endpoints.size(); from += sliceSize) {
+            int to = Math.min(from + sliceSize, endpoints.size());
+            ApiSpecification slice = ApiSpecification.builder()
+                .title(specification.getTitle())
+                .version(specification.getVersion())
+                .baseUrl(specification.getBaseUrl())
+                .endpoints(List.copyOf(endpoints.subList(from, to)))
+                .build();
+            List<Vulnerability> sliceResult = new ArrayList<>();
+            for (Vulnerability vulnerability : analyze(slice, analyzers, suppressions)) {
+                // Specification-level findings are the same for every slice
+                if (from == 0 || vulnerability.getEndpoint() != null) {
+                    sliceResult.add(vulnerability);
+                }
+            }
+            result.addAll(sliceResult);
+            listener.onFindings(sliceResult);
+            listener.onProgress(to, endpoints.size());
+        }
+        // Each slice is ordered by type, then endpoint; a stable sort by type restores the global order
+        result.sort(Comparator.comparingInt(vulnerability -> vulnerability.getType().ordinal()));
+        return result;
+    }
+
+    /**
+     * Reference implementation: every analyzer walks the full specification in turn.
+     */
+    public List<Vulnerability> analyzeSequentially(ApiSpecification specification,
+                                                   List<? extends VulnerabilityAnalyzer> selected) {
+        int endpoints = endpointsOf(specification).size();
+        List<Vulnerability> result = new ArrayList<>();
+        for (VulnerabilityAnalyzer analyzer : sortByType(selected)) {
+            result.addAll(timed(metrics, analyzer, endpoints, () -> analyzer.analyze(specification)));
+        }
+        return result;
+    }
+
+    /**
+     * Same merge order as the fork-join path, executed on the calling thread.
+     */
+    private List<Vulnerability> analyzeInline(ApiSpecification specification, List<Endpoint> endpoints,
+                                              List<VulnerabilityAnalyzer> ordered, SuppressionIndex suppressions) {
+        List<EndpointVisitor> visitors = new ArrayList<>();
+        for (VulnerabilityAnalyzer analyzer : ordered) {
+            if (analyzer instanceof EndpointVisitor visitor) {
+                visitors.add(visitor);
+            }
+        }
+        List<List<Vulnerability>> visitorResults = visitors.isEmpty()
+            ? List.of()
+            : traverse(specification, endpoints, visitors, suppressions, metrics);
+
+        List<Vulnerability> result = new ArrayList<>();
+        int visitorIndex = 0;
+        for (VulnerabilityAnalyzer analyzer : ordered) {
+            result.addAll(analyzer instanceof EndpointVisitor
+                ? visitorResults.get(visitorIndex++)
+                : withoutSuppressed(
+                    timed(metrics, analyzer, endpoints.size(), () -> analyzer.analyze(specification)), suppressions));
+        }
+        return result;
+    }
+
+    public List<VulnerabilityAnalyzer> getAnalyzers() {
+        return analyzers;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    private static List<VulnerabilityAnalyzer> sortByType(List<? extends VulnerabilityAnalyzer> analyzers) {
+        List<VulnerabilityAnalyzer> sorted = new ArrayList<>(analyzers);
+        sorted.sort(Comparator.comparing(analyzer -> analyzer.getType().ordinal()));
+        return List.copyOf(sorted);
+    }
+
+    private static List<Vulnerability> withoutSuppressed(List<Vulnerability> vulnerabilities,
+                                                         SuppressionIndex suppressions) {
+        if (suppressions.isEmpty()) {
+            return vulnerabilities;
+        }
+        List<Vulnerability> kept = new ArrayList<>(vulnerabilities.size());
+        for (Vulnerability vulnerability : vulnerabilities) {
+            if (!suppressions.isSuppressed(vulnerability)) {
+                kept.add(vulnerability);
+            }
+        }
+        return kept;
+    }
+
+    private static List<Endpoint> endpointsOf(ApiSpecification specification) {
+        return specification.getEndpoints() != null ? specification.getEndpoints() : List.of();
+    }
+
+    private static List<List<Vulnerability>> traverse(ApiSpecification specification, List<Endpoint> endpoints,
+                                                      List<EndpointVisitor> visitors, SuppressionIndex suppressions,
+                                                      AnalyzerMetrics metrics) {
+        long[] nanos = metrics != AnalyzerMetrics.NONE ? new long[visitors.size()] : null;
+        List<List<Vulnerability>> results =
+            EndpointTraversal.traverse(specification, endpoints, visitors, suppressions, nanos);
+        if (nanos != null) {
+            for (int i = 0; i < visitors.size(); i++) {
+                metrics.record(visitors.get(i).getType(), nanos[i], endpoints.size(), results.get(i).size());
+            }
+        }
+        return results;
+    }
+
+    private static List<Vulnerability> timed(AnalyzerMetrics metrics, VulnerabilityAnalyzer analyzer, int endpoints,
+                                             Supplier<List<Vulnerability>> analysis) {
+        long start = System.nanoTime();
+        List<Vulnerability> result = analysis.get();
+        metrics.record(analyzer.getType(), System.nanoTime() - start, endpoints, result.size());
+        return result;
+    }
+
+    /**
+     * Root task: one traversal for all visitor analyzers plus one range task per
+     * remaining analyzer, results concatenated in analyzer order.
+     */
+    private static final class AnalysisTask extends RecursiveTask<List<Vulnerability>> {
+
+        private final ApiSpecification specification;
+        private final List<Endpoint> endpoints;
+        private final List<VulnerabilityAnalyzer> analyzers;
+        private final int chunkSize;
+        private final SuppressionIndex suppressions;
+        private final AnalyzerMetrics metrics;
+
+        AnalysisTask(ApiSpecification specification, List<Endpoint> endpoints, List<VulnerabilityAnalyzer> analyzers,
+                     int chunkSize, SuppressionIndex suppressions, AnalyzerMetrics metrics) {
+            this.specification = specification;
+            this.endpoints = endpoints;
+            this.analyzers = analyzers;
+            this.chunkSize = chunkSize;
+            this.suppressions = suppressions;
+            this.metrics = metrics;
+        }
+
+        @Override
+        protected List<Vulnerability> compute() {
+            List<EndpointVisitor> visitors = new ArrayList<>();
+            List<ForkJoinTask<List<Vulnerability>>> rangeTasks = new ArrayList<>(analyzers.size());
+            for (VulnerabilityAnalyzer analyzer : analyzers) {
+                if (analyzer instanceof EndpointVisitor visitor) {
+                    visitors.add(visitor);
+                    rangeTasks.add(null);
+                } else {
+                    rangeTasks.add(new EndpointRangeTask(
+                        analyzer, specification, endpoints, 0, endpoints.size(), chunkSize, suppressions, metrics));
+                }
+            }
+
+            List<ForkJoinTask<?>> forked = new ArrayList<>();
+            VisitorRangeTask traversal = null;
+            if (!visitors.isEmpty()) {
+                traversal = new VisitorRangeTask(
+                    visitors, specification, endpoints, 0, endpoints.size(), chunkSize, suppressions, metrics);
+                forked.add(traversal);
+            }
+            for (ForkJoinTask<List<Vulnerability>> task : rangeTasks) {
+                if (task != null) {
+                    forked.add(task);
+                }
+            }
+            ForkJoinTask.invokeAll(forked);
+
+            List<List<Vulnerability>> visitorResults = traversal != null ? traversal.join() : List.of();
+            List<Vulnerability> result = new ArrayList<>();
+            int visitorIndex = 0;
+            for (ForkJoinTask<List<Vulnerability>> task : rangeTasks) {
+                result.addAll(task != null ? task.join() : visitorResults.get(visitorIndex++));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Shared traversal over an endpoint range; yields one finding list per visitor.
+     */
+    private static final class VisitorRangeTask extends RecursiveTask<List<List<Vulnerability>>> {
+
+        private final List<EndpointVisitor> visitors;
+        private final ApiSpecification specification;
+        private final List<Endpoint> endpoints;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+        private final SuppressionIndex suppressions;
+        private final AnalyzerMetrics metrics;
+
+        VisitorRangeTask(List<EndpointVisitor> visitors, ApiSpecification specification, List<Endpoint> endpoints,
+                         int from, int to, int chunkSize, SuppressionIndex suppressions, AnalyzerMetrics metrics) {
+            this.visitors = visitors;
+            this.specification = specification;
+            this.endpoints = endpoints;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.suppressions = suppressions;
+            this.metrics = metrics;
+        }
+
+        @Override
+        protected List<List<Vulnerability>> compute() {
+            if (to - from <= chunkSize) {
+                return traverse(specification, endpoints.subList(from, to), visitors, suppressions, metrics);
+            }
+
+            int mid = (from + to) >>> 1;
+            VisitorRangeTask left =
+                new VisitorRangeTask(visitors, specification, endpoints, from, mid, chunkSize, suppressions, metrics);
+            VisitorRangeTask right =
+                new VisitorRangeTask(visitors, specification, endpoints, mid, to, chunkSize, suppressions, metrics);
+            left.fork();
+            List<List<Vulnerability>> rightResult = right.compute();
+            List<List<Vulnerability>> leftResult = left.join();
+
+            for (int i = 0; i < leftResult.size(); i++) {
+                leftResult.get(i).addAll(rightResult.get(i));
+            }
+            return leftResult;
+        }
+    }
+
+    /**
+     * Splits the endpoint range in halves until it fits into one chunk.
+     */
+    private static final class EndpointRangeTask extends RecursiveTask<List<Vulnerability>> {
+
+        private final VulnerabilityAnalyzer analyzer;
+        private final ApiSpecification specification;
+        private final List<Endpoint> endpoints;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+        private final SuppressionIndex suppressions;
+        private final AnalyzerMetrics metrics;
+
+        EndpointRangeTask(VulnerabilityAnalyzer analyzer, ApiSpecification specification, List<Endpoint> endpoints,
+                          int from, int to, int chunkSize, SuppressionIndex suppressions, AnalyzerMetrics metrics) {
+            this.analyzer = analyzer;
+            this.specification = specification;
+            this.endpoints = endpoints;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.suppressions = suppressions;
+            this.metrics = metrics;
+        }
+
+        @Override
+        protected List<Vulnerability> compute() {
+            if (to - from <= chunkSize) {
+                boolean whole = from == 0 && to == endpoints.size();
+                List<Vulnerability> result = timed(metrics, analyzer, to - from, () -> whole
+                    ? analyzer.analyze(specification)
+                    : analyzer.analyzeEndpoints(specification, List.copyOf(endpoints.subList(from, to))));
+                if (from > 0) {
+                    // Specification-level findings are the same for every chunk; keep the first chunk's only
+                    result = result.stream().filter(vulnerability -> vulnerability.getEndpoint() != null).toList();
+                }
+                return withoutSuppressed(result, suppressions);
+            }
+
+            int mid = (from + to) >>> 1;
+            EndpointRangeTask left = new EndpointRangeTask(
+                analyzer, specification, endpoints, from, mid, chunkSize, suppressions, metrics);
+            EndpointRangeTask right = new EndpointRangeTask(
+                analyzer, specification, endpoints, mid, to, chunkSize, suppressions, metrics);
+            left.fork();
+            List<Vulnerability> rightResult = right.compute();
+            List<Vulnerability> leftResult = left.join();
+
+            List<Vulnerability> merged = new ArrayList<>(leftResult.size() + rightResult.size());
+            merged.addAll(leftResult);
+            merged.addAll(rightResult);
+            return merged;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.vtb.guardian.core.analyzer.incremental;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.vtb.guardian.core.analyzer.VulnerabilityAnalyzer;
+import com.vtb.guardian.core.analyzer.suppression.SuppressionIndex;
+import com.vtb.guardian.core.model.domain.ApiSpecification;
+import com.vtb.guardian.core.model.domain.Endpoint;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Locale;
+
+/**
+ * Computes stable content fingerprints for endpoints.
+ *
+ * The endpoint is serialized to canonical JSON (sorted properties and map keys),
+ * so the fingerprint covers path, method, parameters, security and schemas
+ * without depending on declaration order in the source document.
+ */
+@Component
+public class EndpointFingerprinter {
+
+    /** Key of the specification-level fingerprint (title, version, base URL, analyzer set and suppression rules). */
+    public static final String SPECIFICATION_KEY = "*";
+
+    private final ObjectMapper canonicalMapper = JsonMapper.builder()
+        .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true)
+        .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true)
+        .configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false)
+        .findAndAddModules()
+        .build();
+
+    public static String keyOf(Endpoint endpoint) {
+        return keyOf(endpoint.getMethod(), endpoint.getPath());
+    }
+
+    public static String keyOf(String method, String path) {
+        return (method != null ? method.toUpperCase(Locale.ROOT) : "") + " " + path;
+    }
+
+    public String fingerprint(Endpoint endpoint) {
+        try {
+            return sha256(canonicalMapper.writeValueAsBytes(endpoint));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to fingerprint endpoint " + keyOf(endpoint), e);
+        }
+    }
+
+    /**
+     * Fingerprint of what decides the findings besides the endpoints: the specification header,
+     * the analyzers that run and the project's suppression rules. Adding, removing or upgrading
+     * an analyzer, or changing a rule, changes it, so the next scan analyzes every endpoint again.
+     */
+    public String fingerprint(ApiSpecification specification, Collection<? extends VulnerabilityAnalyzer> analyzers,
+                              SuppressionIndex suppressions) {
+        StringBuilder header = new StringBuilder()
+            .append(specification.getTitle()).append('\n')
+            .append(specification.getVersion()).append('\n')
+            .append(specification.getBaseUrl());
+        analyzers.stream()
+            .map(EndpointFingerprinter::signature)
+            .sorted()
+            .forEach(signature -> header.append('\n').append(signature));
+        header.append('\n').append(suppressions.signature());
+        return sha256(header.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String signature(VulnerabilityAnalyzer analyzer) {
+        Class<?> type = analyzer.getClass();
+        String build = type.getPackage() != null ? type.getPackage().getImplementationVersion() : null;
+        return analyzer.getType() + " " + type.getName() + " " + analyzer.getVersion() + " " + build;
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.vtb.guardian.core.analyzer.incremental;
+
+import com.vtb.guardian.core.model.domain.Vulnerability;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Outcome of an incremental analysis.
+ *
+ * @param vulnerabilities  merged findings: fresh ones for changed endpoints, carried ones for the rest
+ * @param fingerprints     endpoint key to fingerprint for the analyzed specification
+ * @param baselineScanId   scan the unchanged findings were carried from, {@code null} for a full analysis
+ * @param analyzedEndpoints number of endpoints that were actually re-analyzed
+ * @param reusedEndpoints  number of endpoints whose findings were carried forward
+ */
+public record IncrementalAnalysisResult(
+    List<Vulnerability> vulnerabilities,
+    Map<String, String> fingerprints,
+    UUID baselineScanId,
+    int analyzedEndpoints,
+    int reusedEndpoints
+) {
+
+    public boolean isIncremental() {
+        return baselineScanId != null;
+    }
+}
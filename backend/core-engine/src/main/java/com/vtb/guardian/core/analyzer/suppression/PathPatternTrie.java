@@ -0,0 +1,111 @@
+package com.vtb.guardian.core.analyzer.suppression;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Trie over path segments for matching endpoint paths against many patterns at once.
+ *
+ * Pattern segments are literals, single-segment wildcards ({@code {name}} or {@code *}) and
+ * {@code **}, which matches any number of segments including none. Paths are endpoint templates
+ * such as {@code /users/{id}}: a template segment is matched only by a wildcard, a literal
+ * segment by an equal literal or a wildcard. Lookup cost depends on the path length and the
+ * number of wildcard branches, not on the number of patterns.
+ *
+ * Not thread-safe while being built; safe for concurrent lookups afterwards.
+ */
+public final class PathPatternTrie<T> {
+
+    private final Node<T> root = new Node<>();
+    private int size;
+
+    public void insert(String pattern, T value) {
+        Node<T> node = root;
+        for (String segment : segments(pattern)) {
+            if (segment.equals("**")) {
+                node = node.globstar != null ? node.globstar : (node.globstar = new Node<>());
+            } else if (isWildcard(segment)) {
+                node = node.wildcard != null ? node.wildcard : (node.wildcard = new Node<>());
+            } else {
+                node = node.literals.computeIfAbsent(segment, key -> new Node<>());
+            }
+        }
+        node.values.add(value);
+        size++;
+    }
+
+    /**
+     * Passes the value of every pattern that matches {@code path} to {@code sink}; a value
+     * may be passed more than once when a {@code **} pattern matches in several ways.
+     */
+    public void match(String path, Consumer<? super T> sink) {
+        if (size > 0) {
+            match(root, segments(path), 0, sink);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private static <T> void match(Node<T> node, List<String> segments, int index, Consumer<? super T> sink) {
+        if (node.globstar != null) {
+            for (int i = index; i <= segments.size(); i++) {
+                match(node.globstar, segments, i, sink);
+            }
+        }
+        if (index == segments.size()) {
+            node.values.forEach(sink);
+            return;
+        }
+        String segment = segments.get(index);
+        if (!isTemplate(segment)) {
+            Node<T> literal = node.literals.get(segment);
+            if (literal != null) {
+                match(literal, segments, index + 1, sink);
+            }
+        }
+        if (node.wildcard != null) {
+            match(node.wildcard, segments, index + 1, sink);
+        }
+    }
+
+    private static List<String> segments(String path) {
+        List<String> segments = new ArrayList<>();
+        if (path == null) {
+            return segments;
+        }
+        int start = 0;
+        int query = path.indexOf('?');
+        int end = query >= 0 ? query : path.length();
+        while (start < end) {
+            int slash = path.indexOf('/', start);
+            if (slash < 0 || slash > end) {
+                slash = end;
+            }
+            if (slash > start) {
+                segments.add(path.substring(start, slash));
+            }
+            start = slash + 1;
+        }
+        return segments;
+    }
+
+    private static boolean isWildcard(String segment) {
+        return segment.equals("*") || isTemplate(segment);
+    }
+
+    private static boolean isTemplate(String segment) {
+        return segment.length() >= 2 && segment.charAt(0) == '{' && segment.charAt(segment.length() - 1) == '}';
+    }
+
+    private static final class Node<T> {
+        final Map<String, Node<T>> literals = new HashMap<>();
+        final List<T> values = new ArrayList<>(1);
+        Node<T> wildcard;
+        Node<T> globstar;
+    }
+}
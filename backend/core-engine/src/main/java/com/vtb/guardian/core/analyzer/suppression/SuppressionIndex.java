@@ -0,0 +1,94 @@
+package com.vtb.guardian.core.analyzer.suppression;
+
+import com.vtb.guardian.core.model.domain.Vulnerability;
+import com.vtb.guardian.core.model.enums.VulnerabilityType;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable index of a project's suppression rules, consulted while analyzing.
+ *
+ * The engine asks for the suppressed types of an endpoint once and skips those checks
+ * entirely, so suppressed findings are never created. Specification-level findings have
+ * no path and are only matched by {@code **} or {@code /} patterns.
+ */
+public final class SuppressionIndex {
+
+    public static final SuppressionIndex EMPTY = new SuppressionIndex(new PathPatternTrie<>(), "");
+
+    private static final int ALL_TYPES = (1 << VulnerabilityType.values().length) - 1;
+
+    private record Entry(String method, int types) {
+    }
+
+    private final PathPatternTrie<Entry> trie;
+    private final String signature;
+
+    private SuppressionIndex(PathPatternTrie<Entry> trie, String signature) {
+        this.trie = trie;
+        this.signature = signature;
+    }
+
+    public static SuppressionIndex of(Collection<SuppressionRule> rules) {
+        if (rules.isEmpty()) {
+            return EMPTY;
+        }
+        PathPatternTrie<Entry> trie = new PathPatternTrie<>();
+        for (SuppressionRule rule : rules) {
+            String method = rule.method() != null ? rule.method().toUpperCase(Locale.ROOT) : null;
+            int types = rule.type() != null ? 1 << rule.type().ordinal() : ALL_TYPES;
+            trie.insert(rule.pathPattern(), new Entry(method, types));
+        }
+        String signature = rules.stream()
+            .map(rule -> rule.method() + " " + rule.pathPattern() + " " + rule.type())
+            .sorted()
+            .collect(Collectors.joining("\n"));
+        return new SuppressionIndex(trie, signature);
+    }
+
+    public boolean isEmpty() {
+        return trie.size() == 0;
+    }
+
+    public int size() {
+        return trie.size();
+    }
+
+    /**
+     * The rules' method, path pattern and type in a canonical order; equal for equal rule sets.
+     */
+    public String signature() {
+        return signature;
+    }
+
+    /**
+     * @return bit mask over {@link VulnerabilityType} ordinals of the types suppressed for the endpoint
+     */
+    public int suppressedTypes(String method, String path) {
+        if (isEmpty()) {
+            return 0;
+        }
+        int[] mask = new int[1];
+        trie.match(path, entry -> {
+            if (entry.method() == null || entry.method().equalsIgnoreCase(method)) {
+                mask[0] |= entry.types();
+            }
+        });
+        return mask[0];
+    }
+
+    public boolean isSuppressed(VulnerabilityType type, String method, String path) {
+        return contains(suppressedTypes(method, path), type);
+    }
+
+    public boolean isSuppressed(Vulnerability vulnerability) {
+        return !isEmpty()
+            && isSuppressed(vulnerability.getType(), vulnerability.getMethod(), vulnerability.getEndpoint());
+    }
+
+    public static boolean contains(int mask, VulnerabilityType type) {
+        return (mask & (1 << type.ordinal())) != 0;
+    }
+}
@@ -0,0 +1,28 @@
+package com.vtb.guardian.core.analyzer.suppression;
+
+import com.vtb.guardian.core.model.enums.VulnerabilityType;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Accepted-risk rule of a project: findings matching the path pattern, and the method and
+ * type if given, are not produced by the analysis.
+ *
+ * @param method      HTTP method, {@code null} for any
+ * @param pathPattern path template; {@code {name}} and {@code *} match one segment, {@code **} any number
+ * @param type        vulnerability type, {@code null} for any
+ * @param expiresAt   end of the acceptance, {@code null} if it does not expire
+ */
+public record SuppressionRule(
+    UUID id,
+    UUID projectId,
+    String method,
+    String pathPattern,
+    VulnerabilityType type,
+    String reason,
+    String createdBy,
+    Instant createdAt,
+    Instant expiresAt
+) {
+}
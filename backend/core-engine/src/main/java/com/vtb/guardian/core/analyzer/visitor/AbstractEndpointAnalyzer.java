@@ -0,0 +1,35 @@
+package com.vtb.guardian.core.analyzer.visitor;
+
+import com.vtb.guardian.core.analyzer.VulnerabilityAnalyzer;
+import com.vtb.guardian.core.model.domain.ApiSpecification;
+import com.vtb.guardian.core.model.domain.Endpoint;
+import com.vtb.guardian.core.model.domain.Vulnerability;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Base class for analyzers written as endpoint visitors.
+ *
+ * The analysis engine drives such analyzers through the shared traversal;
+ * {@link #analyze(ApiSpecification)} is kept for standalone use and tests.
+ */
+public abstract class AbstractEndpointAnalyzer implements VulnerabilityAnalyzer, EndpointVisitor {
+
+    @Override
+    public List<Vulnerability> analyze(ApiSpecification specification) {
+        return analyzeEndpoints(specification, specification.getEndpoints());
+    }
+
+    @Override
+    public List<Vulnerability> analyzeEndpoints(ApiSpecification specification, List<Endpoint> endpoints) {
+        List<Vulnerability> result = new ArrayList<>();
+        if (endpoints == null) {
+            return result;
+        }
+        for (Endpoint endpoint : endpoints) {
+            visit(specification, endpoint, EndpointFeatures.of(endpoint), result::add);
+        }
+        return result;
+    }
+}
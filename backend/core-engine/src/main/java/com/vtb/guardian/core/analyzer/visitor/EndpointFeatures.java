@@ -0,0 +1,122 @@
+package com.vtb.guardian.core.analyzer.visitor;
+
+import com.vtb.guardian.core.model.domain.Endpoint;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Facts about an endpoint that most OWASP checks need, derived once per traversal.
+ *
+ * @param method          upper-cased HTTP method
+ * @param pathParameters  names of all {@code {param}} templates in path order
+ * @param idParameters    subset of path parameters that look like object identifiers
+ * @param authenticated   endpoint declares at least one security scheme
+ * @param mutating        method changes server state (POST, PUT, PATCH, DELETE)
+ * @param pathDepth       number of non-empty path segments
+ * @param versioned       path contains a version segment such as {@code v1}
+ * @param privileged      path contains an admin/internal/management segment
+ */
+public record EndpointFeatures(
+    String method,
+    List<String> pathParameters,
+    List<String> idParameters,
+    boolean authenticated,
+    boolean mutating,
+    int pathDepth,
+    boolean versioned,
+    boolean privileged
+) {
+
+    public boolean hasIdParameters() {
+        return !idParameters.isEmpty();
+    }
+
+    public static EndpointFeatures of(Endpoint endpoint) {
+        String method = endpoint.getMethod() != null ? endpoint.getMethod().toUpperCase(Locale.ROOT) : "";
+        String path = endpoint.getPath() != null ? endpoint.getPath() : "";
+
+        List<String> pathParameters = new ArrayList<>(2);
+        List<String> idParameters = new ArrayList<>(2);
+        int depth = 0;
+        boolean versioned = false;
+        boolean privileged = false;
+
+        // Single scan over the path: segments are delimited by '/', templates by '{' and '}'
+        int length = path.length();
+        int segmentStart = 0;
+        for (int i = 0; i <= length; i++) {
+            if (i < length && path.charAt(i) != '/') {
+                continue;
+            }
+            if (i > segmentStart) {
+                depth++;
+                if (path.charAt(segmentStart) == '{' && path.charAt(i - 1) == '}') {
+                    String name = path.substring(segmentStart + 1, i - 1);
+                    pathParameters.add(name);
+                    if (isIdLike(name)) {
+                        idParameters.add(name);
+                    }
+                } else {
+                    versioned |= isVersionSegment(path, segmentStart, i);
+                    privileged |= isPrivilegedSegment(path, segmentStart, i);
+                }
+            }
+            segmentStart = i + 1;
+        }
+
+        return new EndpointFeatures(
+            method,
+            List.copyOf(pathParameters),
+            List.copyOf(idParameters),
+            endpoint.getSecuritySchemes() != null && !endpoint.getSecuritySchemes().isEmpty(),
+            isMutating(method),
+            depth,
+            versioned,
+            privileged
+        );
+    }
+
+    static boolean isIdLike(String name) {
+        String lower = name.toLowerCase(Locale.ROOT);
+        return lower.equals("id")
+            || name.endsWith("Id")
+            || name.endsWith("ID")
+            || lower.endsWith("_id")
+            || lower.endsWith("-id")
+            || lower.endsWith("uuid")
+            || lower.endsWith("guid");
+    }
+
+    private static boolean isMutating(String method) {
+        return switch (method) {
+            case "POST", "PUT", "PATCH", "DELETE" -> true;
+            default -> false;
+        };
+    }
+
+    private static boolean isVersionSegment(String path, int from, int to) {
+        if (to - from < 2 || (path.charAt(from) != 'v' && path.charAt(from) != 'V')) {
+            return false;
+        }
+        for (int i = from + 1; i < to; i++) {
+            char c = path.charAt(i);
+            if (!Character.isDigit(c) && c != '.') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isPrivilegedSegment(String path, int from, int to) {
+        return isSegment(path, from, to, "admin")
+            || isSegment(path, from, to, "internal")
+            || isSegment(path, from, to, "management")
+            || isSegment(path, from, to, "debug");
+    }
+
+    private static boolean isSegment(String path, int from, int to, String segment) {
+        return to - from == segment.length() && path.regionMatches(true, from, segment, 0, segment.length());
+    }
+}
@@ -0,0 +1,82 @@
+package com.vtb.guardian.core.analyzer.visitor;
+
+import com.vtb.guardian.core.analyzer.suppression.SuppressionIndex;
+import com.vtb.guardian.core.model.domain.ApiSpecification;
+import com.vtb.guardian.core.model.domain.Endpoint;
+import com.vtb.guardian.core.model.domain.Vulnerability;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Single traversal over a range of endpoints feeding every visitor.
+ *
+ * Findings are buffered per visitor so that callers can concatenate them in
+ * visitor order, the same order a sequential per-analyzer run would produce.
+ */
+public final class EndpointTraversal {
+
+    private EndpointTraversal() {
+    }
+
+    /**
+     * @return one finding list per visitor, in the order of {@code visitors}
+     */
+    public static List<List<Vulnerability>> traverse(ApiSpecification specification, List<Endpoint> endpoints,
+                                                     List<? extends EndpointVisitor> visitors) {
+        return traverse(specification, endpoints, visitors, SuppressionIndex.EMPTY);
+    }
+
+    /**
+     * Visitors whose type is suppressed for an endpoint are not called for it.
+     */
+    public static List<List<Vulnerability>> traverse(ApiSpecification specification, List<Endpoint> endpoints,
+                                                     List<? extends EndpointVisitor> visitors,
+                                                     SuppressionIndex suppressions) {
+        return traverse(specification, endpoints, visitors, suppressions, null);
+    }
+
+    /**
+     * @param nanos if not {@code null}, receives the time spent in each visitor (same order as
+     *              {@code visitors}); shared per-endpoint work is not attributed to any visitor
+     */
+    public static List<List<Vulnerability>> traverse(ApiSpecification specification, List<Endpoint> endpoints,
+                                                     List<? extends EndpointVisitor> visitors,
+                                                     SuppressionIndex suppressions, long[] nanos) {
+        List<List<Vulnerability>> buffers = new ArrayList<>(visitors.size());
+        for (int i = 0; i < visitors.size(); i++) {
+            buffers.add(new ArrayList<>());
+        }
+
+        for (Endpoint endpoint : endpoints) {
+            int suppressed = suppressions.suppressedTypes(endpoint.getMethod(), endpoint.getPath());
+            if (suppressed != 0 && allSuppressed(visitors, suppressed)) {
+                continue;
+            }
+            EndpointFeatures features = EndpointFeatures.of(endpoint);
+            // One clock read per visitor boundary rather than two per visit
+            long mark = nanos != null ? System.nanoTime() : 0;
+            for (int i = 0; i < visitors.size(); i++) {
+                EndpointVisitor visitor = visitors.get(i);
+                if (!SuppressionIndex.contains(suppressed, visitor.getType())) {
+                    visitor.visit(specification, endpoint, features, buffers.get(i)::add);
+                }
+                if (nanos != null) {
+                    long now = System.nanoTime();
+                    nanos[i] += now - mark;
+                    mark = now;
+                }
+            }
+        }
+        return buffers;
+    }
+
+    private static boolean allSuppressed(List<? extends EndpointVisitor> visitors, int suppressed) {
+        for (EndpointVisitor visitor : visitors) {
+            if (!SuppressionIndex.contains(suppressed, visitor.getType())) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
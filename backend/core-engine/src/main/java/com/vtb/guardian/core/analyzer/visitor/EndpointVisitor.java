@@ -0,0 +1,22 @@
+package com.vtb.guardian.core.analyzer.visitor;
+
+import com.vtb.guardian.core.model.domain.ApiSpecification;
+import com.vtb.guardian.core.model.domain.Endpoint;
+import com.vtb.guardian.core.model.domain.Vulnerability;
+import com.vtb.guardian.core.model.enums.VulnerabilityType;
+
+import java.util.function.Consumer;
+
+/**
+ * Per-endpoint check that participates in the shared single-pass traversal.
+ *
+ * The traversal computes {@link EndpointFeatures} once per endpoint and hands the
+ * same instance to every visitor, so visitors must not re-parse the path themselves.
+ */
+public interface EndpointVisitor {
+
+    VulnerabilityType getType();
+
+    void visit(ApiSpecification specification, Endpoint endpoint, EndpointFeatures features,
+               Consumer<Vulnerability> findings);
+}
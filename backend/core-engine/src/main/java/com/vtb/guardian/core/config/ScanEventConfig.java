@@ -0,0 +1,25 @@
+package com.vtb.guardian.core.config;
+
+import com.vtb.guardian.core.event.ScanEventPublisher;
+import com.vtb.guardian.core.event.ScanEventStreamService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Subscribes every node to the scan event channel so it can relay events to its own SSE clients.
+ */
+@Configuration
+public class ScanEventConfig {
+
+    @Bean
+    public RedisMessageListenerContainer scanEventListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                    ScanEventStreamService streamService) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(streamService, new ChannelTopic(ScanEventPublisher.CHANNEL));
+        return container;
+    }
+}
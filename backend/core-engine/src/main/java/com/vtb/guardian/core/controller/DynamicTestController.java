@@ -0,0 +1,39 @@
+package com.vtb.guardian.core.controller;
+
+import com.vtb.guardian.core.dynamic.DynamicTestService;
+import com.vtb.guardian.core.model.dto.request.StartDynamicTestRequest;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/scans")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.features.dynamic-testing", havingValue = "true")
+@Tag(name = "Dynamic testing", description = "Probing a deployed API with generated requests")
+public class DynamicTestController {
+
+    private final DynamicTestService dynamicTestService;
+
+    @PostMapping("/{id}/dynamic-tests")
+    @Operation(summary = "Start dynamic test",
+        description = "Probes the endpoints of the scanned specification against the target URL, "
+            + "optionally followed by coverage-guided fuzzing; "
+            + "findings are streamed to the scan's events and added to its report")
+    public ResponseEntity<Void> startDynamicTest(
+            @PathVariable UUID id,
+            @Valid @RequestBody StartDynamicTestRequest request) {
+        dynamicTestService.start(id, request);
+        return ResponseEntity.accepted().build();
+    }
+}
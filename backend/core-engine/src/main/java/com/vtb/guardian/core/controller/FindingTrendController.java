@@ -0,0 +1,36 @@
+package com.vtb.guardian.core.controller;
+
+import com.vtb.guardian.core.model.dto.response.FindingTrendResponse;
+import com.vtb.guardian.core.service.FindingTrendService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/trends")
+@RequiredArgsConstructor
+@Tag(name = "Trends", description = "Finding trends from precomputed rollups")
+public class FindingTrendController {
+
+    private final FindingTrendService trendService;
+
+    @GetMapping("/findings")
+    @Operation(summary = "Finding trend",
+        description = "Findings per period by severity and type, for one project or across all projects")
+    public ResponseEntity<FindingTrendResponse> findingTrend(
+            @RequestParam(required = false) UUID projectId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "day") String granularity) {
+        return ResponseEntity.ok(trendService.trend(projectId, from, to, granularity));
+    }
+}
@@ -0,0 +1,48 @@
+package com.vtb.guardian.core.controller;
+
+import com.vtb.guardian.core.model.dto.response.ScanSummaryResponse;
+import com.vtb.guardian.core.report.ReportFormat;
+import com.vtb.guardian.core.report.ReportStreamingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/scans")
+@RequiredArgsConstructor
+@Tag(name = "Reports", description = "Streaming scan reports")
+public class ReportController {
+
+    private final ReportStreamingService reportService;
+
+    @GetMapping("/{id}/report")
+    @Operation(summary = "Download scan report",
+        description = "Report rendered as it is read from the database; "
+            + "format is json, sarif, html or gsf (compact binary for CI)")
+    public ResponseEntity<StreamingResponseBody> downloadReport(
+            @PathVariable UUID id,
+            @RequestParam(defaultValue = "json") String format) {
+        ReportFormat reportFormat = ReportFormat.parse(format);
+        ScanSummaryResponse scan = reportService.findScan(id);
+        StreamingResponseBody body = out -> reportService.write(scan, reportFormat, out);
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(reportFormat.contentType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("scan-" + id + "." + reportFormat.extension())
+                .build()
+                .toString())
+            .body(body);
+    }
+}
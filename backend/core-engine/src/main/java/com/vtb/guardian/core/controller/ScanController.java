@@ -1,8 +1,18 @@
 package com.vtb.guardian.core.controller;
 
+import com.vtb.guardian.core.event.ScanEventStreamService;
+import com.vtb.guardian.core.job.ScanJobService;
 import com.vtb.guardian.core.model.dto.request.CreateScanRequest;
+import com.vtb.guardian.core.model.dto.response.CursorPageResponse;
+import com.vtb.guardian.core.model.dto.response.ScanProgressResponse;
 import com.vtb.guardian.core.model.dto.response.ScanResponse;
+import com.vtb.guardian.core.model.dto.response.ScanSummaryResponse;
+import com.vtb.guardian.core.model.dto.response.ScanTimelineResponse;
+import com.vtb.guardian.core.model.enums.ScanStatus;
+import com.vtb.guardian.core.service.ScanListingService;
+import com.vtb.guardian.core.service.ScanPurgeService;
 import com.vtb.guardian.core.service.ScanService;
+import com.vtb.guardian.core.service.ScanTimelineService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -10,8 +20,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.UUID;
 
@@ -22,11 +34,16 @@ import java.util.UUID;
 public class ScanController {
 
     private final ScanService scanService;
+    private final ScanJobService scanJobService;
+    private final ScanEventStreamService scanEventStreamService;
+    private final ScanListingService scanListingService;
+    private final ScanPurgeService scanPurgeService;
+    private final ScanTimelineService scanTimelineService;
 
     @PostMapping
-    @Operation(summary = "Create new scan", description = "Start a new API security scan")
+    @Operation(summary = "Create new scan", description = "Queue a new API security scan")
     public ResponseEntity<ScanResponse> createScan(@Valid @RequestBody CreateScanRequest request) {
-        ScanResponse response = scanService.createScan(request);
+        ScanResponse response = scanJobService.submit(request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
@@ -40,18 +57,61 @@ public class ScanController {
         return ResponseEntity.ok(scans);
     }
 
+    @GetMapping("/cursor")
+    @Operation(summary = "List scans by cursor",
+        description = "Keyset-paginated scan summaries, newest first; pass nextCursor to get the following page")
+    public ResponseEntity<CursorPageResponse<ScanSummaryResponse>> listScansByCursor(
+            @RequestParam(required = false) UUID projectId,
+            @RequestParam(required = false) ScanStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(scanListingService.listScans(projectId, status, cursor, limit));
+    }
+
     @GetMapping("/{id}")
-    @Operation(summary = "Get scan by ID", description = "Retrieve scan details")
+    @Operation(summary = "Get scan by ID",
+        description = "Retrieve scan details; time per phase is reported in the Server-Timing header")
     public ResponseEntity<ScanResponse> getScan(@PathVariable UUID id) {
         ScanResponse scan = scanService.getScan(id);
-        return ResponseEntity.ok(scan);
+        String serverTiming = scanTimelineService.serverTiming(id);
+        if (serverTiming == null) {
+            return ResponseEntity.ok(scan);
+        }
+        return ResponseEntity.ok().header("Server-Timing", serverTiming).body(scan);
+    }
+
+    @GetMapping("/{id}/timeline")
+    @Operation(summary = "Get scan timeline",
+        description = "Time spent per phase (parse, analysis, persist, dynamic), per shard and in total")
+    public ResponseEntity<ScanTimelineResponse> getTimeline(@PathVariable UUID id) {
+        return ResponseEntity.ok(scanTimelineService.getTimeline(id));
+    }
+
+    @GetMapping("/{id}/progress")
+    @Operation(summary = "Get scan progress", description = "Queue status and endpoints analyzed so far")
+    public ResponseEntity<ScanProgressResponse> getProgress(@PathVariable UUID id) {
+        return ResponseEntity.ok(scanJobService.getProgress(id));
+    }
+
+    @GetMapping(path = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream scan events",
+        description = "Server-sent events: progress, each finding as it is found, and a final finished event")
+    public SseEmitter streamEvents(@PathVariable UUID id) {
+        return scanEventStreamService.subscribe(id);
+    }
+
+    @PostMapping("/{id}/cancel")
+    @Operation(summary = "Cancel scan", description = "Cancel a queued or running scan")
+    public ResponseEntity<ScanProgressResponse> cancelScan(@PathVariable UUID id) {
+        return ResponseEntity.accepted().body(scanJobService.cancel(id));
     }
 
     @DeleteMapping("/{id}")
-    @Operation(summary = "Delete scan", description = "Delete a scan and its results")
+    @Operation(summary = "Delete scan",
+        description = "Accept deletion of a scan; the scan and its results are purged in the background")
     public ResponseEntity<Void> deleteScan(@PathVariable UUID id) {
-        scanService.deleteScan(id);
-        return ResponseEntity.noContent().build();
+        scanPurgeService.requestPurge(id);
+        return ResponseEntity.accepted().build();
     }
 }
 
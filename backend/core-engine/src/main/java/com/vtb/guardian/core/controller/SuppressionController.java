@@ -0,0 +1,46 @@
+package com.vtb.guardian.core.controller;
+
+import com.vtb.guardian.core.model.dto.request.CreateSuppressionRuleRequest;
+import com.vtb.guardian.core.model.dto.response.SuppressionRuleResponse;
+import com.vtb.guardian.core.service.SuppressionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/projects/{projectId}/suppressions")
+@RequiredArgsConstructor
+@Tag(name = "Suppressions", description = "Accepted-risk rules applied during analysis")
+public class SuppressionController {
+
+    private final SuppressionService suppressionService;
+
+    @GetMapping
+    @Operation(summary = "List suppression rules", description = "All rules of the project, including expired ones")
+    public ResponseEntity<List<SuppressionRuleResponse>> listRules(@PathVariable UUID projectId) {
+        return ResponseEntity.ok(suppressionService.listRules(projectId));
+    }
+
+    @PostMapping
+    @Operation(summary = "Create suppression rule",
+        description = "Matching findings are not reported by scans started after this call")
+    public ResponseEntity<SuppressionRuleResponse> createRule(
+            @PathVariable UUID projectId,
+            @Valid @RequestBody CreateSuppressionRuleRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(suppressionService.createRule(projectId, request));
+    }
+
+    @DeleteMapping("/{ruleId}")
+    @Operation(summary = "Delete suppression rule")
+    public ResponseEntity<Void> deleteRule(@PathVariable UUID projectId, @PathVariable UUID ruleId) {
+        suppressionService.deleteRule(projectId, ruleId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,73 @@
+package com.vtb.guardian.core.dynamic;
+
+import com.vtb.guardian.core.analyzer.visitor.EndpointFeatures;
+import com.vtb.guardian.core.model.domain.Endpoint;
+import com.vtb.guardian.core.model.domain.Vulnerability;
+import com.vtb.guardian.core.model.enums.SeverityLevel;
+import com.vtb.guardian.core.model.enums.VulnerabilityType;
+import org.springframework.stereotype.Component;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * API1 check: requests objects of another user by substituting foreign identifiers into the
+ * id path parameters. A successful response with a body means the object was served without
+ * an ownership check.
+ *
+ * Only safe methods are probed so that swapping identifiers never modifies foreign objects.
+ */
+@Component
+public class BolaIdSwapProbe implements DynamicProbe {
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD");
+    private static final String PLACEHOLDER_VALUE = "1";
+
+    @Override
+    public VulnerabilityType getType() {
+        return VulnerabilityType.BOLA;
+    }
+
+    @Override
+    public List<ProbeRequest> generate(Endpoint endpoint, EndpointFeatures features, DynamicTestOptions options) {
+        if (!features.hasIdParameters() || !SAFE_METHODS.contains(features.method())
+                || options.foreignIds().isEmpty()) {
+            return List.of();
+        }
+        List<ProbeRequest> requests = new ArrayList<>(options.foreignIds().size());
+        for (String foreignId : options.foreignIds()) {
+            String path = endpoint.getPath();
+            for (String parameter : features.pathParameters()) {
+                String value = features.idParameters().contains(parameter) ? foreignId : PLACEHOLDER_VALUE;
+                path = path.replace("{" + parameter + "}", URLEncoder.encode(value, StandardCharsets.UTF_8));
+            }
+            requests.add(new ProbeRequest(endpoint, features.method(), options.resolve(path),
+                options.headers(), null, foreignId));
+        }
+        return requests;
+    }
+
+    @Override
+    public Vulnerability evaluate(ProbeRequest request, ProbeResponse response) {
+        if (!response.isSuccessful() || response.body() == null || response.body().isBlank()) {
+            return null;
+        }
+        return Vulnerability.builder()
+            .type(VulnerabilityType.BOLA)
+            .severity(SeverityLevel.HIGH)
+            .title("Object of another user is accessible")
+            .description("Request with foreign identifier '" + request.detail() + "' returned HTTP "
+                + response.status() + " with a response body")
+            .endpoint(request.endpoint().getPath())
+            .method(request.method())
+            .recommendation("Check that the authenticated user owns or may access the requested object "
+                + "before returning it")
+            .exploitPoc("curl -X " + request.method() + " '" + request.uri() + "'")
+            .owaspCategory("API1:2023 Broken Object Level Authorization")
+            .references(List.of("https://owasp.org/API-Security/editions/2023/en/0xa1-broken-object-level-authorization/"))
+            .build();
+    }
+}
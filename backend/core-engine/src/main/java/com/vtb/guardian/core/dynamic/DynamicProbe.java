@@ -0,0 +1,24 @@
+package com.vtb.guardian.core.dynamic;
+
+import com.vtb.guardian.core.analyzer.visitor.EndpointFeatures;
+import com.vtb.guardian.core.model.domain.Endpoint;
+import com.vtb.guardian.core.model.domain.Vulnerability;
+import com.vtb.guardian.core.model.enums.VulnerabilityType;
+
+import java.util.List;
+
+/**
+ * Dynamic check for one vulnerability type: generates requests for an endpoint and judges
+ * each response on its own. Probes are called concurrently and must be stateless.
+ */
+public interface DynamicProbe {
+
+    VulnerabilityType getType();
+
+    List<ProbeRequest> generate(Endpoint endpoint, EndpointFeatures features, DynamicTestOptions options);
+
+    /**
+     * @return the finding proven by this response, or {@code null}
+     */
+    Vulnerability evaluate(ProbeRequest request, ProbeResponse response);
+}
@@ -0,0 +1,129 @@
+package com.vtb.guardian.core.dynamic;
+
+import com.vtb.guardian.core.analyzer.visitor.EndpointFeatures;
+import com.vtb.guardian.core.model.domain.ApiSpecification;
+import com.vtb.guardian.core.model.domain.Endpoint;
+import com.vtb.guardian.core.model.domain.Vulnerability;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * Sends the requests generated by all {@link DynamicProbe}s and evaluates the responses.
+ *
+ * Every request runs on its own virtual thread and blocks in the shared {@link ProbeTransport},
+ * which applies the per-host and requests-per-second limits. A global in-flight cap keeps
+ * request generation from running ahead of the network.
+ */
+@Component
+@Slf4j
+public class DynamicTestEngine {
+
+    private final List<DynamicProbe> probes;
+    private final ProbeTransport transport;
+    private final int maxInFlight;
+
+    @Autowired
+    public DynamicTestEngine(
+            ObjectProvider<DynamicProbe> probes,
+            ProbeTransport transport,
+            @Value("${app.scanner.dynamic.max-in-flight:1000}") int maxInFlight) {
+        this(probes.orderedStream().toList(), transport, maxInFlight);
+    }
+
+    public DynamicTestEngine(List<? extends DynamicProbe> probes, ProbeTransport transport, int maxInFlight) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("Max in-flight requests must be positive: " + maxInFlight);
+        }
+        this.probes = List.copyOf(probes);
+        this.transport = transport;
+        this.maxInFlight = maxInFlight;
+        log.info("Dynamic test engine initialized: {} probes, maxInFlight={}", this.probes.size(), maxInFlight);
+    }
+
+    public DynamicTestResult run(ApiSpecification specification, DynamicTestOptions options) {
+        return run(specification, options, findings -> { });
+    }
+
+    public DynamicTestResult run(ApiSpecification specification, DynamicTestOptions options,
+                                 Consumer<List<Vulnerability>> onFindings) {
+        return run(specification, options, onFindings, () -> false);
+    }
+
+    /**
+     * Probes every endpoint of the specification and blocks until all requests completed.
+     *
+     * @param onFindings    called from request threads as soon as a finding is confirmed
+     * @param stopRequested polled before every request; once it returns {@code true} no further
+     *                      requests are sent and the run returns after the in-flight ones
+     */
+    public DynamicTestResult run(ApiSpecification specification, DynamicTestOptions options,
+                                 Consumer<List<Vulnerability>> onFindings, BooleanSupplier stopRequested) {
+        ProbeTransport.Session session = transport.open(options);
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        List<Vulnerability> findings = Collections.synchronizedList(new ArrayList<>());
+        // One finding per probe type and endpoint, however many requests prove it
+        Set<String> reported = ConcurrentHashMap.newKeySet();
+        List<Endpoint> endpoints = specification.getEndpoints() != null ? specification.getEndpoints() : List.of();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            requests:
+            for (Endpoint endpoint : endpoints) {
+                EndpointFeatures features = EndpointFeatures.of(endpoint);
+                for (DynamicProbe probe : probes) {
+                    for (ProbeRequest request : probe.generate(endpoint, features, options)) {
+                        if (stopRequested.getAsBoolean()) {
+                            log.info("Dynamic test stopped on request after {} requests", session.requests());
+                            break requests;
+                        }
+                        inFlight.acquire();
+                        executor.execute(() -> {
+                            try {
+                                Vulnerability vulnerability = probe.evaluate(request, session.send(request));
+                                if (vulnerability != null && reported.add(
+                                        probe.getType() + " " + request.method() + " " + request.endpoint().getPath())) {
+                                    findings.add(vulnerability);
+                                    onFindings.accept(List.of(vulnerability));
+                                }
+                            } catch (IOException e) {
+                                // Counted by the session; an unreachable endpoint proves nothing
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            } finally {
+                                inFlight.release();
+                            }
+                        });
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            // Closing the executor above already waited for the submitted requests
+            Thread.currentThread().interrupt();
+            log.warn("Dynamic test interrupted after {} requests", session.requests());
+        }
+
+        DynamicTestStats stats = session.stats(findings.size());
+        log.info("Dynamic test finished: {} requests ({} errors) in {} ms, {} req/s, p50={} ms, p99={} ms, {} findings",
+            stats.requests(), stats.errors(), stats.durationMs(), Math.round(stats.requestsPerSecond()),
+            stats.p50Millis(), stats.p99Millis(), stats.findings());
+        return new DynamicTestResult(List.copyOf(findings), stats);
+    }
+
+    public List<DynamicProbe> getProbes() {
+        return probes;
+    }
+}
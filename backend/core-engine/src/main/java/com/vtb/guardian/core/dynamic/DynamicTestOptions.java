@@ -0,0 +1,51 @@
+package com.vtb.guardian.core.dynamic;
+
+import lombok.Builder;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Target and limits of one dynamic test run.
+ *
+ * @param headers               sent with every request, typically the credentials of a test user
+ * @param foreignIds            object identifiers that the test user must not be able to access
+ * @param maxRequestsPerSecond  global rate over all hosts, 0 for unlimited
+ * @param perHostConcurrency    requests in flight per host
+ * @param maxBodyBytes          response bytes read for evaluation; the rest is discarded
+ */
+@Builder
+public record DynamicTestOptions(
+    URI targetUrl,
+    Map<String, String> headers,
+    List<String> foreignIds,
+    int maxRequestsPerSecond,
+    int perHostConcurrency,
+    Duration requestTimeout,
+    int maxBodyBytes
+) {
+
+    public DynamicTestOptions {
+        if (targetUrl == null) {
+            throw new IllegalArgumentException("Target URL is required");
+        }
+        headers = headers != null ? Map.copyOf(headers) : Map.of();
+        foreignIds = foreignIds != null ? List.copyOf(foreignIds) : List.of();
+        perHostConcurrency = perHostConcurrency > 0 ? perHostConcurrency : 32;
+        requestTimeout = requestTimeout != null ? requestTimeout : Duration.ofSeconds(10);
+        maxBodyBytes = maxBodyBytes > 0 ? maxBodyBytes : 64 * 1024;
+    }
+
+    /**
+     * Target URL joined with an endpoint path; the target may carry a base path.
+     */
+    public URI resolve(String path) {
+        String base = targetUrl.toString();
+        if (base.endsWith("/")) {
+            base = base.substring(0, base.length() - 1);
+        }
+        return URI.create(base + (path.startsWith("/") ? path : "/" + path));
+    }
+}
@@ -0,0 +1,8 @@
+package com.vtb.guardian.core.dynamic;
+
+import com.vtb.guardian.core.model.domain.Vulnerability;
+
+import java.util.List;
+
+public record DynamicTestResult(List<Vulnerability> vulnerabilities, DynamicTestStats stats) {
+}
@@ -0,0 +1,326 @@
+package com.vtb.guardian.core.dynamic;
+
+import com.vtb.guardian.core.dynamic.fuzz.FuzzCorpus;
+import com.vtb.guardian.core.dynamic.fuzz.FuzzOptions;
+import com.vtb.guardian.core.dynamic.fuzz.FuzzResult;
+import com.vtb.guardian.core.dynamic.fuzz.FuzzTarget;
+import com.vtb.guardian.core.dynamic.fuzz.FuzzTargetLoader;
+import com.vtb.guardian.core.dynamic.fuzz.FuzzingEngine;
+import com.vtb.guardian.core.dynamic.load.LoadRampOptions;
+import com.vtb.guardian.core.dynamic.load.LoadRampProbe;
+import com.vtb.guardian.core.dynamic.load.LoadRampResult;
+import com.vtb.guardian.core.event.ScanEventPublisher;
+import com.vtb.guardian.core.metrics.ScanMetrics;
+import com.vtb.guardian.core.metrics.ScanPhase;
+import com.vtb.guardian.core.metrics.ScanTimeline;
+import com.vtb.guardian.core.model.domain.ApiSpecification;
+import com.vtb.guardian.core.model.domain.Vulnerability;
+import com.vtb.guardian.core.model.enums.FindingSource;
+import com.vtb.guardian.core.model.dto.request.StartDynamicTestRequest;
+import com.vtb.guardian.core.parser.SpecificationLoader;
+import com.vtb.guardian.core.repository.FindingRollupRepository;
+import com.vtb.guardian.core.repository.FuzzCorpusRepository;
+import com.vtb.guardian.core.repository.ScanJdbcRepository;
+import com.vtb.guardian.core.repository.ScanPurgeRepository;
+import com.vtb.guardian.core.repository.VulnerabilityBulkWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Runs dynamic tests for an existing scan in the background and adds the confirmed findings
+ * to it, so they appear in the scan's event stream, reports and counters.
+ *
+ * The probes are followed, when requested, by load ramps against the named endpoints and by a
+ * fuzzing run that starts from the project's stored corpus and stores the cases that reached
+ * new response classes. The whole run is added to the scan's timeline as one dynamic phase.
+ *
+ * A scan has at most one run at a time on this node, and scans waiting for purge are not
+ * tested. A purge requested during a run stops it and discards the findings not yet written. Runs against the same host share its limits through {@link ProbeTransport}.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "app.features.dynamic-testing", havingValue = "true")
+public class DynamicTestService {
+
+    private static final Duration PURGE_CHECK_INTERVAL = Duration.ofSeconds(1);
+
+    private final DynamicTestEngine engine;
+    private final FuzzingEngine fuzzingEngine;
+    private final LoadRampProbe loadRampProbe;
+    private final FuzzTargetLoader fuzzTargetLoader;
+    private final FuzzCorpusRepository corpusRepository;
+    private final SpecificationLoader specificationLoader;
+    private final ScanJdbcRepository scanRepository;
+    private final ScanPurgeRepository purgeRepository;
+    private final VulnerabilityBulkWriter bulkWriter;
+    private final FindingRollupRepository rollupRepository;
+    private final ScanEventPublisher eventPublisher;
+    private final ScanMetrics scanMetrics;
+    private final int maxRequestsPerSecond;
+    private final int perHostConcurrency;
+    private final Duration requestTimeout;
+    private final boolean fuzzingEnabled;
+    private final Duration fuzzingDuration;
+    private final int fuzzingWorkers;
+    private final int corpusLoadLimit;
+    private final LoadRampOptions loadRampOptions;
+    private final Set<UUID> runningScans = ConcurrentHashMap.newKeySet();
+
+    public DynamicTestService(DynamicTestEngine engine,
+                              FuzzingEngine fuzzingEngine,
+                              LoadRampProbe loadRampProbe,
+                              FuzzTargetLoader fuzzTargetLoader,
+                              FuzzCorpusRepository corpusRepository,
+                              SpecificationLoader specificationLoader,
+                              ScanJdbcRepository scanRepository,
+                              ScanPurgeRepository purgeRepository,
+                              VulnerabilityBulkWriter bulkWriter,
+                              FindingRollupRepository rollupRepository,
+                              ScanEventPublisher eventPublisher,
+                              ScanMetrics scanMetrics,
+                              @Value("${app.scanner.dynamic.max-rps:200}") int maxRequestsPerSecond,
+                              @Value("${app.scanner.dynamic.per-host-concurrency:32}") int perHostConcurrency,
+                              @Value("${app.scanner.dynamic.request-timeout-ms:10000}") long requestTimeoutMs,
+                              @Value("${app.features.fuzzing:false}") boolean fuzzingEnabled,
+                              @Value("${app.scanner.fuzzing.duration-seconds:60}") long fuzzingSeconds,
+                              @Value("${app.scanner.fuzzing.workers:64}") int fuzzingWorkers,
+                              @Value("${app.scanner.fuzzing.corpus-load-limit:20000}") int corpusLoadLimit,
+                              @Value("${app.scanner.load-probe.start-rps:5}") double loadStartRps,
+                              @Value("${app.scanner.load-probe.max-rps:200}") double loadMaxRps,
+                              @Value("${app.scanner.load-probe.step-seconds:5}") long loadStepSeconds,
+                              @Value("${app.scanner.load-probe.max-requests:2000}") int loadMaxRequests,
+                              @Value("${app.scanner.load-probe.max-duration-seconds:60}") long loadMaxSeconds) {
+        this.engine = engine;
+        this.fuzzingEngine = fuzzingEngine;
+        this.loadRampProbe = loadRampProbe;
+        this.fuzzTargetLoader = fuzzTargetLoader;
+        this.corpusRepository = corpusRepository;
+        this.specificationLoader = specificationLoader;
+        this.scanRepository = scanRepository;
+        this.purgeRepository = purgeRepository;
+        this.bulkWriter = bulkWriter;
+        this.rollupRepository = rollupRepository;
+        this.eventPublisher = eventPublisher;
+        this.scanMetrics = scanMetrics;
+        this.maxRequestsPerSecond = maxRequestsPerSecond;
+        this.perHostConcurrency = perHostConcurrency;
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMs);
+        this.fuzzingEnabled = fuzzingEnabled;
+        this.fuzzingDuration = Duration.ofSeconds(fuzzingSeconds);
+        this.fuzzingWorkers = fuzzingWorkers;
+        this.corpusLoadLimit = corpusLoadLimit;
+        this.loadRampOptions = LoadRampOptions.builder()
+            .startRps(loadStartRps)
+            .maxRps(loadMaxRps)
+            .stepDuration(Duration.ofSeconds(loadStepSeconds))
+            .maxRequests(loadMaxRequests)
+            .maxDuration(Duration.ofSeconds(loadMaxSeconds))
+            .build();
+    }
+
+    public void start(UUID scanId, StartDynamicTestRequest request) {
+        if (request.isFuzzing() && !fuzzingEnabled) {
+            throw new IllegalArgumentException("Fuzzing is disabled on this server");
+        }
+        ScanJdbcRepository.ScanSpecification stored = scanRepository.findSpecification(scanId)
+            .orElseThrow(() -> new NoSuchElementException("Scan not found: " + scanId));
+        if (purgeRepository.isPurgeRequested(scanId)) {
+            throw new IllegalStateException("Scan " + scanId + " is being deleted");
+        }
+        int rps = request.getMaxRequestsPerSecond() != null
+            ? Math.min(request.getMaxRequestsPerSecond(), maxRequestsPerSecond)
+            : maxRequestsPerSecond;
+        DynamicTestOptions options = DynamicTestOptions.builder()
+            .targetUrl(URI.create(request.getTargetUrl()))
+            .headers(request.getHeaders())
+            .foreignIds(request.getForeignIds())
+            .maxRequestsPerSecond(rps)
+            .perHostConcurrency(perHostConcurrency)
+            .requestTimeout(requestTimeout)
+            .build();
+        FuzzOptions fuzzOptions = request.isFuzzing()
+            ? FuzzOptions.builder()
+                .maxDuration(request.getFuzzingSeconds() != null
+                    ? Duration.ofSeconds(request.getFuzzingSeconds())
+                    : fuzzingDuration)
+                .workers(fuzzingWorkers)
+                .build()
+            : null;
+        // "post /login" and "POST /login" name the same operation
+        List<String> loadProbeEndpoints = request.getLoadProbeEndpoints() != null
+            ? request.getLoadProbeEndpoints().stream()
+                .map(endpoint -> endpoint.substring(0, endpoint.indexOf(' ')).toUpperCase(Locale.ROOT)
+                    + endpoint.substring(endpoint.indexOf(' ')))
+                .toList()
+            : List.of();
+        if (!runningScans.add(scanId)) {
+            throw new IllegalStateException("A dynamic test of scan " + scanId + " is already running");
+        }
+        try {
+            Thread.ofVirtual().name("dynamic-test-" + scanId).start(() -> {
+                try {
+                    run(scanId, stored, options, loadProbeEndpoints, fuzzOptions);
+                } finally {
+                    runningScans.remove(scanId);
+                }
+            });
+        } catch (RuntimeException e) {
+            runningScans.remove(scanId);
+            throw e;
+        }
+    }
+
+    private void run(UUID scanId, ScanJdbcRepository.ScanSpecification stored, DynamicTestOptions options,
+                     List<String> loadProbeEndpoints, FuzzOptions fuzzOptions) {
+        ScanTimeline timeline = new ScanTimeline();
+        try (ScanTimeline.Span ignored = timeline.start(ScanPhase.DYNAMIC);
+             VulnerabilityBulkWriter.Session findings = bulkWriter.open(scanId, FindingSource.DYNAMIC)) {
+            byte[] content = specificationLoader.fetch(stored.content(), stored.url());
+            ApiSpecification specification = specificationLoader.load(content);
+            // Sessions are single-threaded; a lock rather than a monitor so a flush does not pin a carrier
+            ReentrantLock sessionLock = new ReentrantLock();
+            PurgeCheck purgeRequested = new PurgeCheck(scanId);
+            // Findings of a scan being deleted are neither written nor published
+            Function<FindingSource, Consumer<List<Vulnerability>>> onFindings = source -> vulnerabilities -> {
+                if (purgeRequested.getAsBoolean()) {
+                    return;
+                }
+                sessionLock.lock();
+                try {
+                    findings.addAll(vulnerabilities, source);
+                } finally {
+                    sessionLock.unlock();
+                }
+                eventPublisher.findings(scanId, vulnerabilities);
+            };
+
+            DynamicTestResult result = engine.run(specification, options, onFindings.apply(FindingSource.DYNAMIC),
+                purgeRequested);
+            DynamicTestStats stats = result.stats();
+            log.info("Dynamic test of scan {} against {}: {} requests, {} req/s, p50={} ms, p99={} ms, "
+                    + "{} findings ({}/s)",
+                scanId, options.targetUrl(), stats.requests(), Math.round(stats.requestsPerSecond()),
+                stats.p50Millis(), stats.p99Millis(), stats.findings(), stats.findingsPerSecond());
+            int found = result.vulnerabilities().size();
+
+            if (purgeRepository.isPurgeRequested(scanId)) {
+                findings.discard();
+                log.info("Dynamic test of scan {} stopped after the probes: the scan is being deleted", scanId);
+                return;
+            }
+            if (!loadProbeEndpoints.isEmpty()) {
+                found += probeLoad(scanId, content, options, loadProbeEndpoints, onFindings.apply(FindingSource.LOAD));
+            }
+            if (fuzzOptions != null) {
+                found += fuzz(scanId, stored, content, options, fuzzOptions, onFindings.apply(FindingSource.FUZZ));
+            }
+
+            if (purgeRepository.isPurgeRequested(scanId)) {
+                findings.discard();
+                log.info("Dynamic test of scan {} discarded: the scan is being deleted", scanId);
+                return;
+            }
+            findings.flush();
+            if (found > 0) {
+                scanRepository.updateSeverityCounts(scanId, rollupRepository.severityCounts(scanId));
+            }
+        } catch (Exception e) {
+            log.error("Dynamic test of scan {} failed", scanId, e);
+        }
+        scanMetrics.record(timeline);
+        try {
+            scanRepository.appendTimeline(scanId, timeline.serialize());
+        } catch (RuntimeException e) {
+            log.warn("Could not store the dynamic test timeline of scan {}", scanId, e);
+        }
+    }
+
+    private int probeLoad(UUID scanId, byte[] content, DynamicTestOptions options, List<String> endpoints,
+                          Consumer<List<Vulnerability>> onFindings) throws Exception {
+        // The ramp sets its own pace; the global limit only guards against exceeding the ramp
+        DynamicTestOptions loadOptions = DynamicTestOptions.builder()
+            .targetUrl(options.targetUrl())
+            .headers(options.headers())
+            .maxRequestsPerSecond((int) Math.ceil(loadRampOptions.maxRps()))
+            .perHostConcurrency(loadRampOptions.maxInFlight())
+            .requestTimeout(options.requestTimeout())
+            .build();
+        List<FuzzTarget> targets = fuzzTargetLoader.loadAll(content);
+        int found = 0;
+        // One endpoint at a time, so ramps do not add up on a shared backend
+        for (String endpoint : endpoints) {
+            FuzzTarget target = targets.stream()
+                .filter(candidate -> (candidate.method() + " " + candidate.path()).equals(endpoint))
+                .findFirst()
+                .orElse(null);
+            if (target == null) {
+                log.warn("Load probe of scan {} skipped: {} is not in the specification", scanId, endpoint);
+                continue;
+            }
+            LoadRampResult result = loadRampProbe.run(target, loadOptions, loadRampOptions);
+            if (result.finding() != null) {
+                onFindings.accept(List.of(result.finding()));
+                found++;
+            }
+        }
+        return found;
+    }
+
+    private int fuzz(UUID scanId, ScanJdbcRepository.ScanSpecification stored, byte[] content,
+                     DynamicTestOptions options, FuzzOptions fuzzOptions,
+                     Consumer<List<Vulnerability>> onFindings) throws Exception {
+        FuzzCorpus corpus = new FuzzCorpus(fuzzTargetLoader.load(content));
+        if (stored.projectId() != null) {
+            int loaded = corpus.seed(corpusRepository.findByProjectId(stored.projectId(), corpusLoadLimit));
+            log.debug("Fuzzing scan {} from {} stored corpus cases", scanId, loaded);
+        }
+        FuzzResult result = fuzzingEngine.run(corpus, fuzzOptions, options, onFindings);
+        if (stored.projectId() != null) {
+            corpusRepository.saveAll(stored.projectId(), result.discovered());
+        }
+        DynamicTestStats stats = result.stats();
+        log.info("Fuzzing of scan {}: {} cases, {} cases/s, p99={} ms, {} response classes ({} new), {} findings",
+            scanId, stats.requests(), Math.round(stats.requestsPerSecond()), stats.p99Millis(),
+            result.coverage(), result.discovered().size(), stats.findings());
+        return result.vulnerabilities().size();
+    }
+
+    /**
+     * Asks the database at most once per {@link #PURGE_CHECK_INTERVAL} whether the scan is being
+     * deleted, so request loops can poll it. Once a purge is seen it stays seen.
+     */
+    private final class PurgeCheck implements BooleanSupplier {
+
+        private final UUID scanId;
+        private volatile boolean requested;
+        private volatile long nextCheck = System.nanoTime();
+
+        private PurgeCheck(UUID scanId) {
+            this.scanId = scanId;
+        }
+
+        @Override
+        public boolean getAsBoolean() {
+            if (!requested && System.nanoTime() - nextCheck >= 0) {
+                nextCheck = System.nanoTime() + PURGE_CHECK_INTERVAL.toNanos();
+                requested = purgeRepository.isPurgeRequested(scanId);
+            }
+            return requested;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.vtb.guardian.core.dynamic;
+
+/**
+ * Throughput and latency of one dynamic test run.
+ *
+ * @param errors requests that failed with an I/O error or timeout instead of a response
+ */
+public record DynamicTestStats(
+    long requests,
+    long errors,
+    long durationMs,
+    double requestsPerSecond,
+    double p50Millis,
+    double p99Millis,
+    int findings,
+    double findingsPerSecond
+) {
+}
@@ -0,0 +1,66 @@
+package com.vtb.guardian.core.dynamic;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free log-linear latency histogram in microseconds.
+ *
+ * Values below 64 µs are exact; above, each power of two is split into 32 buckets, so a
+ * reported percentile is within about 3% of the true value. Memory is fixed (~9 KB)
+ * regardless of the number of samples.
+ */
+public final class LatencyHistogram {
+
+    private static final int LINEAR = 64;
+    private static final int SUB_BUCKETS = 32;
+    private static final int SUB_BITS = 5;
+    private static final int MAX_EXPONENT = 40;
+
+    private final AtomicLongArray counts = new AtomicLongArray(LINEAR + (MAX_EXPONENT - 5) * SUB_BUCKETS);
+
+    public void recordNanos(long nanos) {
+        counts.incrementAndGet(index(Math.max(0, nanos / 1_000)));
+    }
+
+    /**
+     * @param percentile between 0 and 100
+     * @return latency in milliseconds, 0 without samples
+     */
+    public double percentileMillis(double percentile) {
+        long total = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            total += counts.get(i);
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return upperBoundMicros(i) / 1_000.0;
+            }
+        }
+        return upperBoundMicros(counts.length() - 1) / 1_000.0;
+    }
+
+    static int index(long micros) {
+        if (micros < LINEAR) {
+            return (int) micros;
+        }
+        micros = Math.min(micros, (1L << (MAX_EXPONENT + 1)) - 1);
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int sub = (int) (micros >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return LINEAR + (exponent - 6) * SUB_BUCKETS + sub;
+    }
+
+    static long upperBoundMicros(int index) {
+        if (index < LINEAR) {
+            return index;
+        }
+        int exponent = (index - LINEAR) / SUB_BUCKETS + 6;
+        int sub = (index - LINEAR) % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + sub + 1) << (exponent - SUB_BITS)) - 1;
+    }
+}
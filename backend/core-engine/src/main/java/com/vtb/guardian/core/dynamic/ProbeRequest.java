@@ -0,0 +1,21 @@
+package com.vtb.guardian.core.dynamic;
+
+import com.vtb.guardian.core.model.domain.Endpoint;
+
+import java.net.URI;
+import java.util.Map;
+
+/**
+ * One generated request against the target.
+ *
+ * @param detail what the probe varied, e.g. the swapped identifier; used in findings
+ */
+public record ProbeRequest(
+    Endpoint endpoint,
+    String method,
+    URI uri,
+    Map<String, String> headers,
+    String body,
+    String detail
+) {
+}
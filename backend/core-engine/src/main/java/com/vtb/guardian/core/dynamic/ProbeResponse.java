@@ -0,0 +1,11 @@
+package com.vtb.guardian.core.dynamic;
+
+/**
+ * @param body response body, truncated to the configured maximum
+ */
+public record ProbeResponse(int status, String body, long latencyNanos) {
+
+    public boolean isSuccessful() {
+        return status / 100 == 2;
+    }
+}
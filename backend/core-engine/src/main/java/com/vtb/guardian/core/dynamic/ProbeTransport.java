@@ -0,0 +1,179 @@
+package com.vtb.guardian.core.dynamic;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * HTTP side of dynamic testing, shared by the probe engine and the fuzzer.
+ *
+ * One {@link HttpClient} and its connection pool serve all runs. Each run opens a
+ * {@link Session} that applies the run's limits (a semaphore per host and a token bucket for
+ * requests per second) and records request counts and latencies. On top of that every target
+ * host has one in-flight cap and one rate limit for the whole server, so concurrent runs
+ * against the same host share them instead of adding up.
+ */
+@Component
+@Slf4j
+public class ProbeTransport {
+
+    private final HttpClient httpClient;
+    private final int hostRequestsPerSecond;
+    private final int hostConcurrency;
+    private final Map<String, HostLimits> hostLimits = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ProbeTransport(@Value("${app.scanner.dynamic.connect-timeout-ms:5000}") long connectTimeoutMs,
+                          @Value("${app.scanner.dynamic.max-rps:200}") int hostRequestsPerSecond,
+                          @Value("${app.scanner.dynamic.per-host-concurrency:32}") int hostConcurrency) {
+        this(Duration.ofMillis(connectTimeoutMs), hostRequestsPerSecond, hostConcurrency);
+    }
+
+    /**
+     * A transport without server-wide host limits; only the limits of each run apply.
+     */
+    public ProbeTransport(Duration connectTimeout) {
+        this(connectTimeout, 0, 0);
+    }
+
+    /**
+     * @param hostRequestsPerSecond requests per second to one host over all runs, {@code 0} for no limit
+     * @param hostConcurrency       requests in flight to one host over all runs, {@code 0} for no limit
+     */
+    public ProbeTransport(Duration connectTimeout, int hostRequestsPerSecond, int hostConcurrency) {
+        // HTTP/1.1 keeps per-host caps meaningful as connection counts
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(connectTimeout)
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .build();
+        this.hostRequestsPerSecond = hostRequestsPerSecond;
+        this.hostConcurrency = hostConcurrency;
+    }
+
+    public Session open(DynamicTestOptions options) {
+        return new Session(options);
+    }
+
+    public final class Session {
+
+        private final DynamicTestOptions options;
+        private final long startNanos = System.nanoTime();
+        private final Map<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+        private final TokenBucket rateLimiter;
+        private final LatencyHistogram latencies = new LatencyHistogram();
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+
+        private Session(DynamicTestOptions options) {
+            this.options = options;
+            int rps = options.maxRequestsPerSecond();
+            this.rateLimiter = rps > 0 ? new TokenBucket(rps, Math.max(1, rps / 10)) : null;
+        }
+
+        /**
+         * Sends the request once the run's limits allow it; blocks the calling (virtual) thread.
+         *
+         * @throws IOException when no response was received; counted as an error
+         */
+        public ProbeResponse send(ProbeRequest request) throws IOException, InterruptedException {
+            String authority = request.uri().getAuthority();
+            Semaphore host = hostPermits.computeIfAbsent(authority,
+                ignored -> new Semaphore(options.perHostConcurrency()));
+            HostLimits shared = hostLimits.computeIfAbsent(authority, ignored -> new HostLimits());
+            host.acquire();
+            try {
+                shared.acquire();
+            } catch (InterruptedException e) {
+                host.release();
+                throw e;
+            }
+            try {
+                if (rateLimiter != null) {
+                    rateLimiter.acquire();
+                }
+                if (shared.rateLimiter != null) {
+                    shared.rateLimiter.acquire();
+                }
+                long sent = System.nanoTime();
+                HttpResponse<InputStream> response = httpClient.send(toHttpRequest(request),
+                    HttpResponse.BodyHandlers.ofInputStream());
+                String body;
+                try (InputStream in = response.body()) {
+                    body = new String(in.readNBytes(options.maxBodyBytes()), StandardCharsets.UTF_8);
+                }
+                long latency = System.nanoTime() - sent;
+                latencies.recordNanos(latency);
+                requests.increment();
+                return new ProbeResponse(response.statusCode(), body, latency);
+            } catch (IOException e) {
+                requests.increment();
+                errors.increment();
+                log.debug("Dynamic request {} {} failed: {}", request.method(), request.uri(), e.toString());
+                throw e;
+            } finally {
+                shared.release();
+                host.release();
+            }
+        }
+
+        public long requests() {
+            return requests.sum();
+        }
+
+        public DynamicTestStats stats(int findings) {
+            long durationNanos = Math.max(1, System.nanoTime() - startNanos);
+            double seconds = durationNanos / 1e9;
+            long total = requests.sum();
+            return new DynamicTestStats(total, errors.sum(), durationNanos / 1_000_000,
+                total / seconds, latencies.percentileMillis(50), latencies.percentileMillis(99),
+                findings, findings / seconds);
+        }
+
+        private HttpRequest toHttpRequest(ProbeRequest request) {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(request.uri())
+                .timeout(options.requestTimeout())
+                .method(request.method(), request.body() != null
+                    ? HttpRequest.BodyPublishers.ofString(request.body())
+                    : HttpRequest.BodyPublishers.noBody());
+            request.headers().forEach(builder::header);
+            return builder.build();
+        }
+    }
+
+    /**
+     * Server-wide limits of one target host.
+     */
+    private final class HostLimits {
+
+        private final Semaphore permits = hostConcurrency > 0 ? new Semaphore(hostConcurrency) : null;
+        private final TokenBucket rateLimiter = hostRequestsPerSecond > 0
+            ? new TokenBucket(hostRequestsPerSecond, Math.max(1, hostRequestsPerSecond / 10))
+            : null;
+
+        void acquire() throws InterruptedException {
+            if (permits != null) {
+                permits.acquire();
+            }
+        }
+
+        void release() {
+            if (permits != null) {
+                permits.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.vtb.guardian.core.dynamic;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Blocking requests-per-second limiter shared by all request threads.
+ *
+ * Each caller reserves the next free slot under the lock and sleeps outside it, so waiting
+ * virtual threads do not hold the monitor. Idle time is credited up to {@code burst} permits.
+ */
+public final class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private long nextFreeNanos;
+
+    public TokenBucket(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("Rate must be positive: " + permitsPerSecond);
+        }
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        this.burstNanos = intervalNanos * (Math.max(1, burst) - 1);
+        this.nextFreeNanos = System.nanoTime();
+    }
+
+    public void acquire() throws InterruptedException {
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            nextFreeNanos = Math.max(nextFreeNanos, now - burstNanos);
+            waitNanos = nextFreeNanos - now;
+            nextFreeNanos += intervalNanos;
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.vtb.guardian.core.dynamic.fuzz;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.random.RandomGenerator;
+
+/**
+ * Interesting cases per target and the response classes seen so far.
+ *
+ * Reads (picking a parent) happen on every case, writes only on new coverage, so cases are
+ * kept in copy-on-write lists. Entries loaded from earlier scans count as covered, so only
+ * genuinely new classes are reported back for persistence.
+ */
+public final class FuzzCorpus {
+
+    public static final int MAX_CASES_PER_TARGET = 256;
+
+    private final List<FuzzTarget> targets;
+    private final List<List<String[]>> cases;
+    private final Set<Long> coverage = ConcurrentHashMap.newKeySet();
+    private final Queue<FuzzCorpusEntry> discovered = new ConcurrentLinkedQueue<>();
+
+    public FuzzCorpus(List<FuzzTarget> targets) {
+        this.targets = List.copyOf(targets);
+        this.cases = new ArrayList<>(targets.size());
+        for (int i = 0; i < targets.size(); i++) {
+            cases.add(new CopyOnWriteArrayList<>());
+        }
+    }
+
+    /**
+     * Loads stored entries; entries of removed operations or changed schemas are skipped.
+     *
+     * @return number of entries loaded
+     */
+    public int seed(List<FuzzCorpusEntry> entries) {
+        Map<String, Integer> positions = new HashMap<>();
+        for (int i = 0; i < targets.size(); i++) {
+            positions.put(targets.get(i).method() + " " + targets.get(i).path(), i);
+        }
+        int loaded = 0;
+        for (FuzzCorpusEntry entry : entries) {
+            Integer position = positions.get(entry.method() + " " + entry.path());
+            if (position == null) {
+                continue;
+            }
+            FuzzTarget target = targets.get(position);
+            if (target.layoutHash() != entry.layoutHash() || entry.values().size() != target.slotCount()) {
+                continue;
+            }
+            List<String[]> targetCases = cases.get(position);
+            if (coverage.add(key(position, entry.responseClass())) && targetCases.size() < MAX_CASES_PER_TARGET) {
+                targetCases.add(entry.values().toArray(String[]::new));
+                loaded++;
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * @return a random case of the target, or {@code null} while it has none
+     */
+    public String[] pick(int position, RandomGenerator random) {
+        List<String[]> targetCases = cases.get(position);
+        int size = targetCases.size();
+        return size == 0 ? null : targetCases.get(random.nextInt(size));
+    }
+
+    /**
+     * Keeps the case if its response class is new for the target.
+     *
+     * @return whether the case added coverage
+     */
+    public boolean offer(int position, String[] values, long responseClass) {
+        if (!coverage.add(key(position, responseClass))) {
+            return false;
+        }
+        List<String[]> targetCases = cases.get(position);
+        if (targetCases.size() < MAX_CASES_PER_TARGET) {
+            targetCases.add(values);
+        }
+        FuzzTarget target = targets.get(position);
+        discovered.add(new FuzzCorpusEntry(target.method(), target.path(), target.layoutHash(),
+            Arrays.asList(values), responseClass));
+        return true;
+    }
+
+    public List<FuzzTarget> targets() {
+        return targets;
+    }
+
+    public int size(int position) {
+        return cases.get(position).size();
+    }
+
+    public int coverage() {
+        return coverage.size();
+    }
+
+    /**
+     * Cases that reached a response class for the first time during this run.
+     */
+    public List<FuzzCorpusEntry> discovered() {
+        return List.copyOf(discovered);
+    }
+
+    private static long key(int position, long responseClass) {
+        return (long) position << 46 | responseClass;
+    }
+}
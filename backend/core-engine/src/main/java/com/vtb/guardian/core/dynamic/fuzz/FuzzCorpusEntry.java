@@ -0,0 +1,12 @@
+package com.vtb.guardian.core.dynamic.fuzz;
+
+import java.util.List;
+
+/**
+ * Persisted corpus case of a project.
+ *
+ * @param layoutHash    {@link FuzzTarget#layoutHash()} when the case was recorded
+ * @param responseClass {@link ResponseClassifier} class the case produced
+ */
+public record FuzzCorpusEntry(String method, String path, int layoutHash, List<String> values, long responseClass) {
+}
@@ -0,0 +1,142 @@
+package com.vtb.guardian.core.dynamic.fuzz;
+
+import java.util.Locale;
+import java.util.random.RandomGenerator;
+
+/**
+ * Generates and mutates value slots of a {@link FuzzTarget}.
+ *
+ * A mutation copies the parent's slot array (a shallow copy of references) and replaces one to
+ * three slots, mostly with dictionary constants; only character edits and arithmetic create
+ * new strings. Stateless and safe to share between workers, each using its own random source.
+ */
+public final class FuzzMutator {
+
+    private static final int MAX_MUTATIONS = 3;
+    private static final int MAX_VALUE_LENGTH = 8_192;
+
+    /**
+     * Schema-valid values for every slot, with an occasional mutation so fresh cases are not
+     * all identical.
+     */
+    public String[] generate(FuzzTarget target, RandomGenerator random) {
+        String[] values = target.seedValues();
+        if (values.length > 0 && random.nextInt(4) == 0) {
+            int slot = random.nextInt(values.length);
+            values[slot] = mutateValue(target, slot, values[slot], null, random);
+        }
+        return values;
+    }
+
+    /**
+     * @param donor another corpus entry of the same target used for splicing, or {@code null}
+     */
+    public String[] mutate(FuzzTarget target, String[] parent, String[] donor, RandomGenerator random) {
+        String[] values = parent.clone();
+        if (values.length == 0) {
+            return values;
+        }
+        int mutations = 1 + random.nextInt(Math.min(MAX_MUTATIONS, values.length));
+        for (int i = 0; i < mutations; i++) {
+            int slot = random.nextInt(values.length);
+            values[slot] = mutateValue(target, slot, values[slot], donor, random);
+        }
+        return values;
+    }
+
+    private String mutateValue(FuzzTarget target, int slot, String current, String[] donor, RandomGenerator random) {
+        FuzzSchema schema = target.schema(slot);
+        boolean json = target.isJson(slot);
+        return switch (random.nextInt(6)) {
+            case 0 -> boundary(schema, json, random);
+            case 1 -> pick(json ? FuzzValues.STRING_ATTACKS_JSON : FuzzValues.STRING_ATTACKS, random);
+            case 2 -> pick(json ? FuzzValues.TYPE_CONFUSION_JSON : FuzzValues.TYPE_CONFUSION_RAW, random);
+            case 3 -> editCharacters(current, json, random);
+            case 4 -> arithmetic(schema, current, json, random);
+            default -> donor != null && slot < donor.length ? donor[slot] : FuzzValues.seed(schema, json);
+        };
+    }
+
+    private static String boundary(FuzzSchema schema, boolean json, RandomGenerator random) {
+        return switch (schema.kind()) {
+            case INTEGER -> {
+                int choice = random.nextInt(FuzzValues.INTEGER_BOUNDARIES.length + 2);
+                if (choice == 0 && schema.minimum() != Long.MIN_VALUE) {
+                    yield Long.toString(schema.minimum() - 1);
+                }
+                if (choice == 1 && schema.maximum() != Long.MAX_VALUE) {
+                    yield Long.toString(schema.maximum() + 1);
+                }
+                yield FuzzValues.INTEGER_BOUNDARIES[Math.max(0, choice - 2)];
+            }
+            case NUMBER -> pick(FuzzValues.NUMBER_BOUNDARIES, random);
+            case BOOLEAN -> random.nextBoolean() ? "false" : json ? "\"false\"" : "0";
+            case STRING -> {
+                if (schema.maxLength() > 0 && random.nextBoolean()) {
+                    String tooLong = "x".repeat(Math.min(schema.maxLength() + 1, MAX_VALUE_LENGTH));
+                    yield json ? '"' + tooLong + '"' : tooLong;
+                }
+                if (!schema.enumValues().isEmpty()) {
+                    // A case variant of a valid enum value is a classic validation gap
+                    String variant = schema.enumValues().get(random.nextInt(schema.enumValues().size()))
+                        .toUpperCase(Locale.ROOT);
+                    yield json ? FuzzValues.jsonString(variant) : variant;
+                }
+                yield json ? "\"\"" : "";
+            }
+            default -> json ? "null" : "";
+        };
+    }
+
+    private static String editCharacters(String current, boolean json, RandomGenerator random) {
+        // Keep the quotes of a JSON string token so the edit stays inside the value
+        int from = json && current.length() >= 2 && current.charAt(0) == '"' ? 1 : 0;
+        int to = from == 1 ? current.length() - 1 : current.length();
+        int length = to - from;
+        switch (random.nextInt(4)) {
+            case 0 -> {
+                if (length == 0 || current.length() * 2 > MAX_VALUE_LENGTH) {
+                    break;
+                }
+                return current.substring(0, to) + current.substring(from, to) + current.substring(to);
+            }
+            case 1 -> {
+                if (length == 0) {
+                    break;
+                }
+                int at = from + random.nextInt(length);
+                return current.substring(0, at) + current.substring(at + 1);
+            }
+            default -> {
+                int at = from + (length > 0 ? random.nextInt(length + 1) : 0);
+                char inserted = FuzzValues.EDIT_CHARACTERS[random.nextInt(FuzzValues.EDIT_CHARACTERS.length)];
+                if (json && (inserted == '"' || inserted == '\\')) {
+                    return current.substring(0, at) + '\\' + inserted + current.substring(at);
+                }
+                return current.substring(0, at) + inserted + current.substring(at);
+            }
+        }
+        return pick(json ? FuzzValues.STRING_ATTACKS_JSON : FuzzValues.STRING_ATTACKS, random);
+    }
+
+    private static String arithmetic(FuzzSchema schema, String current, boolean json, RandomGenerator random) {
+        if (schema.kind() != FuzzSchema.Kind.INTEGER && schema.kind() != FuzzSchema.Kind.NUMBER) {
+            return boundary(schema, json, random);
+        }
+        long value;
+        try {
+            value = Long.parseLong(current);
+        } catch (NumberFormatException e) {
+            value = 0;
+        }
+        return switch (random.nextInt(3)) {
+            case 0 -> Long.toString(value + random.nextInt(-16, 17));
+            case 1 -> Long.toString(-value);
+            default -> Long.toString(value << (1 + random.nextInt(31)));
+        };
+    }
+
+    private static String pick(String[] dictionary, RandomGenerator random) {
+        return dictionary[random.nextInt(dictionary.length)];
+    }
+}
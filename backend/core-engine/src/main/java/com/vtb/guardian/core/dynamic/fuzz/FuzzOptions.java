@@ -0,0 +1,29 @@
+package com.vtb.guardian.core.dynamic.fuzz;
+
+import lombok.Builder;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Budget of one fuzzing run; the run stops at whichever limit is reached first.
+ *
+ * @param workers concurrent cases; the per-host cap of the transport still applies
+ * @param methods operations fuzzed; DELETE is excluded by default so a run cannot wipe test data
+ * @param seed    random seed for reproducible runs, {@code null} for a random one
+ */
+@Builder
+public record FuzzOptions(long maxCases, Duration maxDuration, int workers, Set<String> methods, Long seed) {
+
+    public static final Set<String> DEFAULT_METHODS = Set.of("GET", "HEAD", "POST", "PUT", "PATCH");
+
+    public FuzzOptions {
+        maxCases = maxCases > 0 ? maxCases : Long.MAX_VALUE;
+        maxDuration = maxDuration != null ? maxDuration : Duration.ofSeconds(60);
+        workers = workers > 0 ? workers : 64;
+        methods = methods != null && !methods.isEmpty()
+            ? Set.copyOf(methods.stream().map(method -> method.toUpperCase(Locale.ROOT)).toList())
+            : DEFAULT_METHODS;
+    }
+}
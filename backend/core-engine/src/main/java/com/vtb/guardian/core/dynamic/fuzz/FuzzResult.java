@@ -0,0 +1,18 @@
+package com.vtb.guardian.core.dynamic.fuzz;
+
+import com.vtb.guardian.core.dynamic.DynamicTestStats;
+import com.vtb.guardian.core.model.domain.Vulnerability;
+
+import java.util.List;
+
+/**
+ * @param coverage   response classes covered, including those of the loaded corpus
+ * @param discovered cases that reached a new response class, to be persisted
+ */
+public record FuzzResult(
+    List<Vulnerability> vulnerabilities,
+    DynamicTestStats stats,
+    int coverage,
+    List<FuzzCorpusEntry> discovered
+) {
+}
@@ -0,0 +1,212 @@
+package com.vtb.guardian.core.dynamic.fuzz;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * JSON schema compiled into the shape the fuzzer works with.
+ *
+ * Objects and arrays are containers; everything else is a leaf that occupies one value slot
+ * of a {@link FuzzCase}. Arrays are rendered with a single element, so the number of slots is
+ * fixed per schema and mutations never change the layout. References are resolved once at
+ * compile time; recursion deeper than {@link #MAX_DEPTH} degrades to a string leaf.
+ */
+public final class FuzzSchema {
+
+    public enum Kind { STRING, INTEGER, NUMBER, BOOLEAN, OBJECT, ARRAY }
+
+    static final int MAX_DEPTH = 6;
+
+    private static final FuzzSchema ANY_STRING = new FuzzSchema(Kind.STRING, null, List.of(),
+        Long.MIN_VALUE, Long.MAX_VALUE, 0, new String[0], new FuzzSchema[0], null);
+
+    private final Kind kind;
+    private final String format;
+    private final List<String> enumValues;
+    private final long minimum;
+    private final long maximum;
+    private final int maxLength;
+    // Pre-rendered {@code "name":} prefixes, so rendering a body does not escape names again
+    private final String[] propertyPrefixes;
+    private final FuzzSchema[] properties;
+    private final FuzzSchema items;
+    private final int leafCount;
+
+    private FuzzSchema(Kind kind, String format, List<String> enumValues, long minimum, long maximum,
+                       int maxLength, String[] propertyPrefixes, FuzzSchema[] properties, FuzzSchema items) {
+        this.kind = kind;
+        this.format = format;
+        this.enumValues = enumValues;
+        this.minimum = minimum;
+        this.maximum = maximum;
+        this.maxLength = maxLength;
+        this.propertyPrefixes = propertyPrefixes;
+        this.properties = properties;
+        this.items = items;
+        int leaves = 0;
+        for (FuzzSchema property : properties) {
+            leaves += property.leafCount;
+        }
+        if (items != null) {
+            leaves += items.leafCount;
+        }
+        this.leafCount = isLeaf() ? 1 : leaves;
+    }
+
+    /**
+     * @param dereference resolves a {@code $ref} node, returning other nodes unchanged
+     */
+    public static FuzzSchema compile(JsonNode schema, UnaryOperator<JsonNode> dereference) {
+        return compile(schema, dereference, 0);
+    }
+
+    private static FuzzSchema compile(JsonNode node, UnaryOperator<JsonNode> dereference, int depth) {
+        JsonNode schema = node != null ? dereference.apply(node) : null;
+        if (schema == null || schema.isMissingNode() || depth > MAX_DEPTH) {
+            return ANY_STRING;
+        }
+        // Composition keywords: fuzz the first alternative, merged into the parent by allOf
+        for (String keyword : List.of("allOf", "oneOf", "anyOf")) {
+            if (schema.path(keyword).isArray() && !schema.path(keyword).isEmpty()) {
+                return compile(schema.path(keyword).get(0), dereference, depth + 1);
+            }
+        }
+
+        Kind kind = kindOf(schema);
+        List<String> enumValues = new ArrayList<>();
+        for (JsonNode value : schema.path("enum")) {
+            enumValues.add(value.asText());
+        }
+        long minimum = schema.has("minimum") ? schema.path("minimum").asLong() : Long.MIN_VALUE;
+        long maximum = schema.has("maximum") ? schema.path("maximum").asLong() : Long.MAX_VALUE;
+
+        List<String> prefixes = new ArrayList<>();
+        List<FuzzSchema> properties = new ArrayList<>();
+        FuzzSchema items = null;
+        if (kind == Kind.OBJECT) {
+            Iterator<Map.Entry<String, JsonNode>> fields = schema.path("properties").fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                prefixes.add(FuzzValues.jsonString(field.getKey()) + ":");
+                properties.add(compile(field.getValue(), dereference, depth + 1));
+            }
+        } else if (kind == Kind.ARRAY) {
+            items = compile(schema.path("items"), dereference, depth + 1);
+        }
+
+        return new FuzzSchema(kind, schema.path("format").asText(null), List.copyOf(enumValues),
+            minimum, maximum, schema.path("maxLength").asInt(0),
+            prefixes.toArray(String[]::new), properties.toArray(FuzzSchema[]::new), items);
+    }
+
+    private static Kind kindOf(JsonNode schema) {
+        return switch (schema.path("type").asText("")) {
+            case "integer" -> Kind.INTEGER;
+            case "number" -> Kind.NUMBER;
+            case "boolean" -> Kind.BOOLEAN;
+            case "array" -> Kind.ARRAY;
+            case "object" -> Kind.OBJECT;
+            case "string" -> Kind.STRING;
+            default -> schema.has("properties") ? Kind.OBJECT : schema.has("items") ? Kind.ARRAY : Kind.STRING;
+        };
+    }
+
+    /**
+     * Objects without declared properties are opaque leaves rendered from their slot.
+     */
+    public boolean isLeaf() {
+        return kind != Kind.ARRAY && (kind != Kind.OBJECT || properties.length == 0);
+    }
+
+    /**
+     * Collects the leaves in slot order.
+     */
+    void leaves(List<FuzzSchema> sink) {
+        if (isLeaf()) {
+            sink.add(this);
+            return;
+        }
+        for (FuzzSchema property : properties) {
+            property.leaves(sink);
+        }
+        if (items != null) {
+            items.leaves(sink);
+        }
+    }
+
+    /**
+     * Writes the JSON value of this schema, taking leaf values from {@code values} from {@code slot} on.
+     *
+     * @return the next unused slot
+     */
+    int render(String[] values, int slot, StringBuilder out) {
+        if (isLeaf()) {
+            out.append(values[slot]);
+            return slot + 1;
+        }
+        if (kind == Kind.ARRAY) {
+            out.append('[');
+            slot = items.render(values, slot, out);
+            out.append(']');
+            return slot;
+        }
+        out.append('{');
+        for (int i = 0; i < properties.length; i++) {
+            if (i > 0) {
+                out.append(',');
+            }
+            out.append(propertyPrefixes[i]);
+            slot = properties[i].render(values, slot, out);
+        }
+        out.append('}');
+        return slot;
+    }
+
+    /**
+     * Structural hash; corpus entries recorded for a different layout are not reused.
+     */
+    int layoutHash() {
+        int hash = kind.ordinal();
+        for (int i = 0; i < properties.length; i++) {
+            hash = 31 * hash + propertyPrefixes[i].hashCode();
+            hash = 31 * hash + properties[i].layoutHash();
+        }
+        if (items != null) {
+            hash = 31 * hash + items.layoutHash();
+        }
+        return hash;
+    }
+
+    public Kind kind() {
+        return kind;
+    }
+
+    public String format() {
+        return format;
+    }
+
+    public List<String> enumValues() {
+        return enumValues;
+    }
+
+    public long minimum() {
+        return minimum;
+    }
+
+    public long maximum() {
+        return maximum;
+    }
+
+    public int maxLength() {
+        return maxLength;
+    }
+
+    public int leafCount() {
+        return leafCount;
+    }
+}
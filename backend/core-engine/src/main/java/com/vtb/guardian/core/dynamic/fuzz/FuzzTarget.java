@@ -0,0 +1,248 @@
+package com.vtb.guardian.core.dynamic.fuzz;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.vtb.guardian.core.dynamic.ProbeRequest;
+import com.vtb.guardian.core.model.domain.Endpoint;
+import com.vtb.guardian.core.parser.streaming.OperationRecord;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * One operation prepared for fuzzing: its parameters and the leaves of its JSON body laid out
+ * as a flat array of value slots, plus a pre-split path template.
+ */
+public final class FuzzTarget {
+
+    public enum Location { PATH, QUERY, HEADER, BODY }
+
+    private final Endpoint endpoint;
+    private final String method;
+    private final String path;
+    private final String[] names;
+    private final Location[] locations;
+    private final FuzzSchema[] schemas;
+    private final FuzzSchema body;
+    private final int bodyOffset;
+    private final String[] pathLiterals;
+    private final int[] pathSlots;
+    private final int[] querySlots;
+    private final int[] headerSlots;
+    private final int layoutHash;
+
+    private FuzzTarget(Endpoint endpoint, List<String> names, List<Location> locations,
+                       List<FuzzSchema> schemas, FuzzSchema body, int bodyOffset,
+                       List<String> pathLiterals, List<Integer> pathSlots) {
+        this.endpoint = endpoint;
+        this.method = endpoint.getMethod().toUpperCase(Locale.ROOT);
+        this.path = endpoint.getPath();
+        this.names = names.toArray(String[]::new);
+        this.locations = locations.toArray(Location[]::new);
+        this.schemas = schemas.toArray(FuzzSchema[]::new);
+        this.body = body;
+        this.bodyOffset = bodyOffset;
+        this.pathLiterals = pathLiterals.toArray(String[]::new);
+        this.pathSlots = pathSlots.stream().mapToInt(Integer::intValue).toArray();
+        this.querySlots = slotsAt(Location.QUERY);
+        this.headerSlots = slotsAt(Location.HEADER);
+
+        int hash = method.hashCode() * 31 + path.hashCode();
+        for (int i = 0; i < bodyOffset; i++) {
+            hash = 31 * (31 * hash + this.names[i].hashCode()) + this.locations[i].ordinal();
+            hash = 31 * hash + this.schemas[i].kind().ordinal();
+        }
+        this.layoutHash = body != null ? 31 * hash + body.layoutHash() : hash;
+    }
+
+    /**
+     * @param dereference resolves nested {@code $ref}s of parameter and body schemas
+     */
+    public static FuzzTarget of(OperationRecord operation, UnaryOperator<JsonNode> dereference) {
+        List<String> names = new ArrayList<>();
+        List<Location> locations = new ArrayList<>();
+        List<FuzzSchema> schemas = new ArrayList<>();
+        for (JsonNode parameter : operation.parameters()) {
+            Location location = switch (parameter.path("in").asText()) {
+                case "path" -> Location.PATH;
+                case "query" -> Location.QUERY;
+                case "header" -> Location.HEADER;
+                default -> null;
+            };
+            if (location != null) {
+                names.add(parameter.path("name").asText());
+                locations.add(location);
+                schemas.add(FuzzSchema.compile(parameter.path("schema"), dereference));
+            }
+        }
+
+        // Split the template so rendering appends literals and encoded values without searching
+        List<String> literals = new ArrayList<>();
+        List<Integer> pathSlots = new ArrayList<>();
+        String template = operation.path();
+        int start = 0;
+        for (int open = template.indexOf('{'); open >= 0; open = template.indexOf('{', start)) {
+            int close = template.indexOf('}', open);
+            if (close < 0) {
+                break;
+            }
+            literals.add(template.substring(start, open));
+            String name = template.substring(open + 1, close);
+            int slot = slotOf(names, locations, name);
+            if (slot < 0) {
+                slot = names.size();
+                names.add(name);
+                locations.add(Location.PATH);
+                schemas.add(FuzzSchema.compile(null, dereference));
+            }
+            pathSlots.add(slot);
+            start = close + 1;
+        }
+        literals.add(template.substring(start));
+
+        FuzzSchema body = null;
+        int bodyOffset = names.size();
+        JsonNode json = operation.requestBody() != null
+            ? operation.requestBody().path("content").path("application/json").path("schema")
+            : null;
+        if (json != null && !json.isMissingNode()) {
+            body = FuzzSchema.compile(json, dereference);
+            List<FuzzSchema> leaves = new ArrayList<>(body.leafCount());
+            body.leaves(leaves);
+            for (FuzzSchema leaf : leaves) {
+                names.add("body");
+                locations.add(Location.BODY);
+                schemas.add(leaf);
+            }
+        }
+        return new FuzzTarget(operation.toEndpoint(), names, locations, schemas, body, bodyOffset,
+            literals, pathSlots);
+    }
+
+    private static int slotOf(List<String> names, List<Location> locations, String name) {
+        for (int i = 0; i < names.size(); i++) {
+            if (locations.get(i) == Location.PATH && names.get(i).equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Schema-valid values for every slot.
+     */
+    public String[] seedValues() {
+        String[] values = new String[schemas.length];
+        for (int slot = 0; slot < values.length; slot++) {
+            values[slot] = FuzzValues.seed(schemas[slot], isJson(slot));
+        }
+        return values;
+    }
+
+    /**
+     * Renders a case into a request; {@code scratch} is reused by the calling worker.
+     */
+    public ProbeRequest render(String[] values, RenderContext context, StringBuilder scratch) {
+        scratch.setLength(0);
+        scratch.append(context.baseUrl());
+        for (int i = 0; i < pathLiterals.length; i++) {
+            scratch.append(pathLiterals[i]);
+            if (i < pathSlots.length) {
+                FuzzValues.appendEncoded(scratch, values[pathSlots[i]]);
+            }
+        }
+        for (int i = 0; i < querySlots.length; i++) {
+            scratch.append(i == 0 ? '?' : '&');
+            FuzzValues.appendEncoded(scratch, names[querySlots[i]]);
+            scratch.append('=');
+            FuzzValues.appendEncoded(scratch, values[querySlots[i]]);
+        }
+        URI uri = URI.create(scratch.toString());
+
+        Map<String, String> headers = body != null ? context.jsonHeaders() : context.headers();
+        if (headerSlots.length > 0) {
+            headers = new HashMap<>(headers);
+            for (int slot : headerSlots) {
+                headers.put(names[slot], FuzzValues.headerSafe(values[slot]));
+            }
+        }
+
+        String requestBody = null;
+        if (body != null) {
+            scratch.setLength(0);
+            body.render(values, bodyOffset, scratch);
+            requestBody = scratch.toString();
+        }
+        return new ProbeRequest(endpoint, method, uri, headers, requestBody, null);
+    }
+
+    private int[] slotsAt(Location location) {
+        int count = 0;
+        for (Location candidate : locations) {
+            if (candidate == location) {
+                count++;
+            }
+        }
+        int[] slots = new int[count];
+        for (int i = 0, j = 0; i < locations.length; i++) {
+            if (locations[i] == location) {
+                slots[j++] = i;
+            }
+        }
+        return slots;
+    }
+
+    public Endpoint endpoint() {
+        return endpoint;
+    }
+
+    public String method() {
+        return method;
+    }
+
+    public String path() {
+        return path;
+    }
+
+    public int slotCount() {
+        return schemas.length;
+    }
+
+    public FuzzSchema schema(int slot) {
+        return schemas[slot];
+    }
+
+    /**
+     * Body slots hold JSON tokens; all other slots hold raw strings.
+     */
+    public boolean isJson(int slot) {
+        return locations[slot] == Location.BODY;
+    }
+
+    public int layoutHash() {
+        return layoutHash;
+    }
+
+    /**
+     * Per-run rendering inputs.
+     *
+     * @param baseUrl     target URL without a trailing slash
+     * @param jsonHeaders {@code headers} plus the JSON content type, for targets with a body
+     */
+    public record RenderContext(String baseUrl, Map<String, String> headers, Map<String, String> jsonHeaders) {
+
+        public static RenderContext of(URI targetUrl, Map<String, String> headers) {
+            String base = targetUrl.toString();
+            if (base.endsWith("/")) {
+                base = base.substring(0, base.length() - 1);
+            }
+            Map<String, String> jsonHeaders = new HashMap<>(headers);
+            jsonHeaders.putIfAbsent("Content-Type", "application/json");
+            return new RenderContext(base, Map.copyOf(headers), Map.copyOf(jsonHeaders));
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.vtb.guardian.core.dynamic.fuzz;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vtb.guardian.core.parser.streaming.LazyRefResolver;
+import com.vtb.guardian.core.parser.streaming.SpecificationHeader;
+import com.vtb.guardian.core.parser.streaming.SpecificationSource;
+import com.vtb.guardian.core.parser.streaming.StreamingOpenApiParser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compiles the operations of a specification into fuzz targets, resolving the nested schema
+ * references that the streaming parser leaves in place.
+ */
+@Component
+@RequiredArgsConstructor
+public class FuzzTargetLoader {
+
+    private static final int RESOLVER_CACHE_SIZE = 256;
+
+    private final StreamingOpenApiParser parser;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Targets worth fuzzing: operations with at least one input.
+     */
+    public List<FuzzTarget> load(byte[] specification) throws IOException {
+        // Operations without inputs only ever produce one response class
+        return loadAll(specification).stream()
+            .filter(target -> target.slotCount() > 0)
+            .toList();
+    }
+
+    public List<FuzzTarget> loadAll(byte[] specification) throws IOException {
+        SpecificationSource json = parser.toStreamable(SpecificationSource.of(specification));
+        SpecificationHeader header = parser.readHeader(json);
+        LazyRefResolver resolver = new LazyRefResolver(json, header, objectMapper, RESOLVER_CACHE_SIZE);
+
+        List<FuzzTarget> targets = new ArrayList<>();
+        parser.streamOperations(json, header, operation -> targets.add(FuzzTarget.of(operation, resolver::dereference)));
+        return targets;
+    }
+}
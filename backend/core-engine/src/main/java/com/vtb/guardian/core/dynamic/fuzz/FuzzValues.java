@@ -0,0 +1,157 @@
+package com.vtb.guardian.core.dynamic.fuzz;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Value dictionaries and the encoding helpers used when rendering fuzz cases.
+ *
+ * Body slots hold JSON tokens, parameter slots hold raw strings. Every dictionary exists in
+ * both forms up front, so picking a value on the hot path never escapes or allocates.
+ */
+final class FuzzValues {
+
+    static final String[] STRING_ATTACKS = {
+        "",
+        "' OR '1'='1",
+        "1; DROP TABLE users--",
+        "\" OR \"\"=\"",
+        "<script>alert(1)</script>",
+        "{{7*7}}",
+        "${7*7}",
+        "../../../../etc/passwd",
+        "..%2f..%2f..%2fetc%2fpasswd",
+        "%00",
+        "\u0000",
+        "http://169.254.169.254/latest/meta-data/",
+        "file:///etc/passwd",
+        "admin",
+        "*",
+        "\uD83D\uDCA5\u202E\uFEFF",
+        "a".repeat(4_096),
+    };
+
+    static final String[] INTEGER_BOUNDARIES = {
+        "0", "-1", "1", "2147483647", "2147483648", "-2147483649",
+        "9223372036854775807", "9223372036854775808", "-9223372036854775809", "1e309", "0.5", "00",
+    };
+
+    static final String[] NUMBER_BOUNDARIES = {
+        "0", "-0.0", "1e308", "-1e308", "1e-324", "1e309", "0.1", "-1",
+    };
+
+    static final String[] TYPE_CONFUSION_JSON = {
+        "null", "true", "[]", "{}", "\"\"", "\"1\"", "[null]", "{\"$gt\":\"\"}", "-1",
+    };
+
+    static final String[] TYPE_CONFUSION_RAW = {
+        "null", "true", "[]", "{}", "undefined", "NaN", "-1", "%", "\\",
+    };
+
+    static final char[] EDIT_CHARACTERS = {
+        '\'', '"', '<', '>', '%', ';', '&', '|', '\\', '/', '.', '-', '0', '9', 'A', 'z', '{', '}', '$',
+    };
+
+    static final String[] STRING_ATTACKS_JSON = Arrays.stream(STRING_ATTACKS).map(FuzzValues::jsonString)
+        .toArray(String[]::new);
+
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    private FuzzValues() {
+    }
+
+    /**
+     * Valid value for a leaf, used for the first generation of a target.
+     */
+    static String seed(FuzzSchema schema, boolean json) {
+        String value = switch (schema.kind()) {
+            case INTEGER -> Long.toString(Math.max(schema.minimum(), Math.min(schema.maximum(), 1)));
+            case NUMBER -> "1.5";
+            case BOOLEAN -> "true";
+            case OBJECT -> "{}";
+            case ARRAY -> "[]";
+            case STRING -> !schema.enumValues().isEmpty() ? schema.enumValues().get(0) : stringSeed(schema.format());
+        };
+        return json && schema.kind() == FuzzSchema.Kind.STRING ? jsonString(value) : value;
+    }
+
+    private static String stringSeed(String format) {
+        if (format == null) {
+            return "test";
+        }
+        return switch (format) {
+            case "uuid" -> "00000000-0000-0000-0000-000000000001";
+            case "email" -> "user@example.com";
+            case "date" -> "2024-01-01";
+            case "date-time" -> "2024-01-01T00:00:00Z";
+            case "uri", "url" -> "https://example.com/";
+            case "ipv4" -> "127.0.0.1";
+            default -> "test";
+        };
+    }
+
+    static String jsonString(String value) {
+        StringBuilder out = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        return out.append('"').toString();
+    }
+
+    /**
+     * Percent-encodes {@code value} as a URL path segment or query component.
+     */
+    static void appendEncoded(StringBuilder out, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '.' || c == '_' || c == '~') {
+                out.append(c);
+            } else if (c < 0x80) {
+                appendEscaped(out, c);
+            } else {
+                int codePoint = value.codePointAt(i);
+                i += Character.charCount(codePoint) - 1;
+                for (byte b : new String(Character.toChars(codePoint)).getBytes(StandardCharsets.UTF_8)) {
+                    appendEscaped(out, b & 0xFF);
+                }
+            }
+        }
+    }
+
+    private static void appendEscaped(StringBuilder out, int b) {
+        out.append('%').append(HEX[b >> 4]).append(HEX[b & 0xF]);
+    }
+
+    /**
+     * Header values must be visible ASCII; anything else would be rejected by the client.
+     */
+    static String headerSafe(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x20 || c > 0x7E) {
+                StringBuilder out = new StringBuilder(value.length());
+                for (int j = 0; j < value.length(); j++) {
+                    char k = value.charAt(j);
+                    out.append(k < 0x20 || k > 0x7E ? '?' : k);
+                }
+                return out.toString();
+            }
+        }
+        return value;
+    }
+}
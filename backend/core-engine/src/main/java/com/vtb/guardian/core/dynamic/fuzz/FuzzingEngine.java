@@ -0,0 +1,167 @@
+package com.vtb.guardian.core.dynamic.fuzz;
+
+import com.vtb.guardian.core.dynamic.DynamicTestOptions;
+import com.vtb.guardian.core.dynamic.DynamicTestStats;
+import com.vtb.guardian.core.dynamic.ProbeRequest;
+import com.vtb.guardian.core.dynamic.ProbeResponse;
+import com.vtb.guardian.core.dynamic.ProbeTransport;
+import com.vtb.guardian.core.model.domain.Vulnerability;
+import com.vtb.guardian.core.model.enums.SeverityLevel;
+import com.vtb.guardian.core.model.enums.VulnerabilityType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Coverage-guided fuzzer over the operations of a specification.
+ *
+ * A fixed number of virtual-thread workers loop until the case or time budget is spent: pick
+ * a target, mutate one of its corpus cases (or generate a fresh one), send it through the
+ * {@link ProbeTransport} and keep the case if its response class is new for that target.
+ * Each worker owns its random source and rendering buffer, so the loop shares nothing but
+ * the corpus and the counters.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FuzzingEngine {
+
+    // Markers of framework error pages and stack traces leaking into responses
+    private static final String[] STACK_TRACE_MARKERS = {
+        "\tat java.", "\n\tat ", "Traceback (most recent call last)", "at System.", "Exception in thread",
+        "org.springframework.", "SQLSTATE", "PSQLException", "ORA-0",
+    };
+
+    private final ProbeTransport transport;
+    private final FuzzMutator mutator = new FuzzMutator();
+
+    public FuzzResult run(FuzzCorpus corpus, FuzzOptions fuzzOptions, DynamicTestOptions options) {
+        return run(corpus, fuzzOptions, options, findings -> { });
+    }
+
+    /**
+     * @param onFindings called from worker threads as soon as a finding is confirmed
+     */
+    public FuzzResult run(FuzzCorpus corpus, FuzzOptions fuzzOptions, DynamicTestOptions options,
+                          Consumer<List<Vulnerability>> onFindings) {
+        List<Integer> positions = new ArrayList<>();
+        for (int i = 0; i < corpus.targets().size(); i++) {
+            if (fuzzOptions.methods().contains(corpus.targets().get(i).method())) {
+                positions.add(i);
+            }
+        }
+        ProbeTransport.Session session = transport.open(options);
+        if (positions.isEmpty()) {
+            return new FuzzResult(List.of(), session.stats(0), corpus.coverage(), List.of());
+        }
+
+        int[] fuzzable = positions.stream().mapToInt(Integer::intValue).toArray();
+        FuzzTarget.RenderContext context = FuzzTarget.RenderContext.of(options.targetUrl(), options.headers());
+        long deadline = System.nanoTime() + fuzzOptions.maxDuration().toNanos();
+        AtomicLong cases = new AtomicLong();
+        List<Vulnerability> findings = Collections.synchronizedList(new ArrayList<>());
+        Set<String> reported = ConcurrentHashMap.newKeySet();
+        SplittableRandom root = fuzzOptions.seed() != null
+            ? new SplittableRandom(fuzzOptions.seed())
+            : new SplittableRandom();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int w = 0; w < fuzzOptions.workers(); w++) {
+                SplittableRandom random = root.split();
+                executor.execute(() -> {
+                    StringBuilder scratch = new StringBuilder(256);
+                    while (cases.incrementAndGet() <= fuzzOptions.maxCases() && System.nanoTime() < deadline
+                            && !Thread.currentThread().isInterrupted()) {
+                        int position = fuzzable[random.nextInt(fuzzable.length)];
+                        FuzzTarget target = corpus.targets().get(position);
+                        String[] parent = corpus.pick(position, random);
+                        // Fresh generations keep exploring while the corpus is dominated by a few classes
+                        String[] values = parent == null || random.nextInt(16) == 0
+                            ? mutator.generate(target, random)
+                            : mutator.mutate(target, parent, corpus.pick(position, random), random);
+
+                        ProbeRequest request = target.render(values, context, scratch);
+                        ProbeResponse response;
+                        try {
+                            response = session.send(request);
+                        } catch (IOException e) {
+                            continue;
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            break;
+                        }
+                        corpus.offer(position, values, ResponseClassifier.classify(response));
+
+                        Vulnerability vulnerability = evaluate(request, response);
+                        if (vulnerability != null && reported.add(
+                                vulnerability.getTitle() + " " + target.method() + " " + target.path())) {
+                            findings.add(vulnerability);
+                            onFindings.accept(List.of(vulnerability));
+                        }
+                    }
+                });
+            }
+        }
+
+        DynamicTestStats stats = session.stats(findings.size());
+        List<FuzzCorpusEntry> discovered = corpus.discovered();
+        log.info("Fuzzing finished: {} cases over {} targets in {} ms, {} cases/s, p99={} ms, "
+                + "{} response classes ({} new), {} findings",
+            stats.requests(), fuzzable.length, stats.durationMs(), Math.round(stats.requestsPerSecond()),
+            stats.p99Millis(), corpus.coverage(), discovered.size(), stats.findings());
+        return new FuzzResult(List.copyOf(findings), stats, corpus.coverage(), discovered);
+    }
+
+    /**
+     * A server error on generated input means the input reached code that does not validate
+     * it; a stack trace in the body additionally leaks internals.
+     */
+    static Vulnerability evaluate(ProbeRequest request, ProbeResponse response) {
+        if (response.status() < 500 || response.status() > 599) {
+            return null;
+        }
+        boolean stackTrace = containsStackTrace(response.body());
+        String curl = "curl -X " + request.method() + " '" + request.uri() + "'"
+            + (request.body() != null
+                ? " -H 'Content-Type: application/json' --data '" + request.body().replace("'", "'\\''") + "'"
+                : "");
+        return Vulnerability.builder()
+            .type(VulnerabilityType.MISCONFIGURATION)
+            .severity(stackTrace ? SeverityLevel.HIGH : SeverityLevel.MEDIUM)
+            .title(stackTrace ? "Stack trace disclosed on malformed input" : "Unhandled error on malformed input")
+            .description("Fuzzed request returned HTTP " + response.status()
+                + (stackTrace ? " with internal error details in the response body" : ""))
+            .endpoint(request.endpoint().getPath())
+            .method(request.method())
+            .recommendation("Validate request parameters and bodies against the specification and map "
+                + "validation failures to 4xx responses without internal details")
+            .exploitPoc(curl)
+            .owaspCategory("API8:2023 Security Misconfiguration")
+            .references(List.of("https://owasp.org/API-Security/editions/2023/en/0xa8-security-misconfiguration/"))
+            .build();
+    }
+
+    private static boolean containsStackTrace(String body) {
+        if (body == null) {
+            return false;
+        }
+        for (String marker : STACK_TRACE_MARKERS) {
+            if (body.contains(marker)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
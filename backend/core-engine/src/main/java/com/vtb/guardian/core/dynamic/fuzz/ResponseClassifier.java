@@ -0,0 +1,97 @@
+package com.vtb.guardian.core.dynamic.fuzz;
+
+import com.vtb.guardian.core.dynamic.ProbeResponse;
+
+/**
+ * Coverage signal of the fuzzer: reduces a response to a class made of its status code, a
+ * latency bucket and the shape of its body. A case whose response falls into a class not seen
+ * before for its target is kept in the corpus.
+ *
+ * The body shape of a JSON object is a hash of its top-level field names, so two validation
+ * errors with different messages share a class while a new error layout does not. Other
+ * bodies are classified by their first character and a length bucket.
+ */
+public final class ResponseClassifier {
+
+    private static final int MAX_LATENCY_BUCKET = 15;
+
+    private ResponseClassifier() {
+    }
+
+    /**
+     * @return status (bits 36-45), latency bucket (bits 32-35) and body shape (bits 0-31)
+     */
+    public static long classify(ProbeResponse response) {
+        long status = Math.min(Math.max(response.status(), 0), 1023);
+        long latencyBucket = latencyBucket(response.latencyNanos());
+        long shape = shape(response.body()) & 0xFFFF_FFFFL;
+        return status << 36 | latencyBucket << 32 | shape;
+    }
+
+    public static int status(long responseClass) {
+        return (int) (responseClass >>> 36);
+    }
+
+    /**
+     * log2 of the latency in milliseconds: 0 for under 2 ms, 10 for about a second.
+     */
+    static int latencyBucket(long latencyNanos) {
+        long millis = Math.max(1, latencyNanos / 1_000_000);
+        return Math.min(63 - Long.numberOfLeadingZeros(millis), MAX_LATENCY_BUCKET);
+    }
+
+    static int shape(String body) {
+        if (body == null || body.isEmpty()) {
+            return 0;
+        }
+        int start = 0;
+        while (start < body.length() && Character.isWhitespace(body.charAt(start))) {
+            start++;
+        }
+        if (start == body.length()) {
+            return 0;
+        }
+        char first = body.charAt(start);
+        if (first != '{') {
+            return 31 * first + (32 - Integer.numberOfLeadingZeros(body.length()));
+        }
+        return objectKeysHash(body, start);
+    }
+
+    /**
+     * Hashes the keys at depth 1 of a JSON object in one pass without parsing values.
+     */
+    private static int objectKeysHash(String body, int start) {
+        int hash = '{';
+        int depth = 0;
+        boolean expectKey = false;
+        for (int i = start; i < body.length(); i++) {
+            char c = body.charAt(i);
+            switch (c) {
+                case '{', '[' -> {
+                    depth++;
+                    expectKey = depth == 1 && c == '{';
+                }
+                case '}', ']' -> depth--;
+                case ',' -> expectKey = depth == 1;
+                case '"' -> {
+                    int end = i + 1;
+                    while (end < body.length() && body.charAt(end) != '"') {
+                        end += body.charAt(end) == '\\' ? 2 : 1;
+                    }
+                    if (expectKey) {
+                        for (int k = i + 1; k < end && k < body.length(); k++) {
+                            hash = 31 * hash + body.charAt(k);
+                        }
+                        hash = 31 * hash + ':';
+                        expectKey = false;
+                    }
+                    i = end;
+                }
+                default -> {
+                }
+            }
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,46 @@
+package com.vtb.guardian.core.dynamic.load;
+
+import lombok.Builder;
+
+import java.time.Duration;
+
+/**
+ * Ramp shape and safety budget of a load probe.
+ *
+ * The rate starts at {@code startRps} and is multiplied by {@code stepFactor} after every
+ * step of {@code stepDuration}. The probe stops at the first knee, at {@code maxRps}, or when
+ * {@code maxRequests} or {@code maxDuration} is spent, whichever comes first.
+ *
+ * @param throttleRatio  share of 429 responses in a step that counts as throttling
+ * @param latencyFactor  step p99 over baseline p99 that counts as a latency blow-up
+ * @param errorRatio     share of 5xx responses and failed requests that counts as degradation
+ * @param maxInFlight    outstanding requests; a slow target lowers the achieved rate instead
+ *                       of piling up connections
+ */
+@Builder
+public record LoadRampOptions(
+    double startRps,
+    double stepFactor,
+    double maxRps,
+    Duration stepDuration,
+    int maxRequests,
+    Duration maxDuration,
+    double throttleRatio,
+    double latencyFactor,
+    double errorRatio,
+    int maxInFlight
+) {
+
+    public LoadRampOptions {
+        startRps = startRps > 0 ? startRps : 5;
+        stepFactor = stepFactor > 1 ? stepFactor : 2;
+        maxRps = maxRps > 0 ? maxRps : 200;
+        stepDuration = stepDuration != null ? stepDuration : Duration.ofSeconds(5);
+        maxRequests = maxRequests > 0 ? maxRequests : 2_000;
+        maxDuration = maxDuration != null ? maxDuration : Duration.ofSeconds(60);
+        throttleRatio = throttleRatio > 0 ? throttleRatio : 0.05;
+        latencyFactor = latencyFactor > 1 ? latencyFactor : 4;
+        errorRatio = errorRatio > 0 ? errorRatio : 0.05;
+        maxInFlight = maxInFlight > 0 ? maxInFlight : 64;
+    }
+}
@@ -0,0 +1,188 @@
+package com.vtb.guardian.core.dynamic.load;
+
+import com.vtb.guardian.core.dynamic.DynamicTestOptions;
+import com.vtb.guardian.core.dynamic.LatencyHistogram;
+import com.vtb.guardian.core.dynamic.ProbeRequest;
+import com.vtb.guardian.core.dynamic.ProbeResponse;
+import com.vtb.guardian.core.dynamic.ProbeTransport;
+import com.vtb.guardian.core.dynamic.TokenBucket;
+import com.vtb.guardian.core.dynamic.fuzz.FuzzTarget;
+import com.vtb.guardian.core.model.domain.Vulnerability;
+import com.vtb.guardian.core.model.enums.SeverityLevel;
+import com.vtb.guardian.core.model.enums.VulnerabilityType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Opt-in API4 check: ramps the request rate against one endpoint in steps and looks for the
+ * knee where the target starts throttling (429) or degrading (latency or errors blow up).
+ *
+ * Requests are sent open-loop at the step's rate, one virtual thread each, with a valid
+ * request rendered once from the endpoint's schema. The request and duration budget is
+ * checked before every request, so the probe never exceeds it regardless of the ramp.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LoadRampProbe {
+
+    // Baseline latency is too small and noisy to multiply on its own
+    private static final double LATENCY_FLOOR_MILLIS = 25;
+
+    private final ProbeTransport transport;
+
+    public LoadRampResult run(FuzzTarget target, DynamicTestOptions options, LoadRampOptions ramp) {
+        ProbeRequest request = target.render(target.seedValues(),
+            FuzzTarget.RenderContext.of(options.targetUrl(), options.headers()), new StringBuilder());
+        ProbeTransport.Session session = transport.open(options);
+        long deadline = System.nanoTime() + ramp.maxDuration().toNanos();
+        AtomicInteger budget = new AtomicInteger(ramp.maxRequests());
+
+        List<LoadRampStep> steps = new ArrayList<>();
+        LoadRampStep baseline = null;
+        LoadRampResult.Outcome outcome = LoadRampResult.Outcome.UNTHROTTLED;
+        double sustainable = 0;
+
+        for (double rate = ramp.startRps(); rate <= ramp.maxRps() * 1.0001; rate *= ramp.stepFactor()) {
+            if (budget.get() <= 0 || System.nanoTime() >= deadline) {
+                break;
+            }
+            LoadRampStep step = runStep(session, request, rate, ramp, deadline, budget);
+            if (step == null) {
+                break;
+            }
+            steps.add(step);
+            log.debug("Load step {} {} at {} req/s: {} requests, {} throttled, {} errors, p99={} ms",
+                target.method(), target.path(), Math.round(rate), step.requests(), step.throttled(),
+                step.errors(), step.p99Millis());
+
+            if (step.throttledRatio() >= ramp.throttleRatio()) {
+                outcome = LoadRampResult.Outcome.THROTTLED;
+                // Rate the target accepted while throttling is the best estimate of its limit
+                sustainable = Math.max(sustainable, step.achievedRps());
+                break;
+            }
+            if (baseline == null) {
+                if (step.successful() * 2 < step.requests()) {
+                    outcome = LoadRampResult.Outcome.INCONCLUSIVE;
+                    break;
+                }
+                baseline = step;
+            } else if (step.errorRatio() >= ramp.errorRatio() || step.p99Millis()
+                    > Math.max(baseline.p99Millis(), LATENCY_FLOOR_MILLIS) * ramp.latencyFactor()) {
+                outcome = LoadRampResult.Outcome.DEGRADED;
+                break;
+            }
+            sustainable = step.achievedRps();
+        }
+
+        int requests = ramp.maxRequests() - Math.max(budget.get(), 0);
+        if (steps.isEmpty() || outcome == LoadRampResult.Outcome.UNTHROTTLED && steps.size() < 2) {
+            // A budget spent on the baseline alone says nothing about throttling
+            outcome = LoadRampResult.Outcome.INCONCLUSIVE;
+        }
+        Vulnerability finding = finding(target, request, outcome, sustainable, steps);
+        log.info("Load probe {} {}: {} after {} requests, sustainable {} req/s",
+            target.method(), target.path(), outcome, requests, Math.round(sustainable));
+        return new LoadRampResult(target.method(), target.path(), outcome, sustainable, List.copyOf(steps),
+            requests, finding);
+    }
+
+    /**
+     * @return the step's measurements, or {@code null} if the budget ran out before any request
+     */
+    private LoadRampStep runStep(ProbeTransport.Session session, ProbeRequest request, double rate,
+                                 LoadRampOptions ramp, long deadline, AtomicInteger budget) {
+        long start = System.nanoTime();
+        long end = Math.min(start + ramp.stepDuration().toNanos(), deadline);
+        TokenBucket bucket = new TokenBucket(rate, 1);
+        Semaphore inFlight = new Semaphore(ramp.maxInFlight());
+        LatencyHistogram latencies = new LatencyHistogram();
+        AtomicInteger requests = new AtomicInteger();
+        AtomicInteger throttled = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        AtomicInteger successful = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            while (true) {
+                bucket.acquire();
+                inFlight.acquire();
+                if (System.nanoTime() >= end || budget.getAndDecrement() <= 0) {
+                    inFlight.release();
+                    break;
+                }
+                requests.incrementAndGet();
+                executor.execute(() -> {
+                    try {
+                        ProbeResponse response = session.send(request);
+                        latencies.recordNanos(response.latencyNanos());
+                        if (response.status() == 429) {
+                            throttled.incrementAndGet();
+                        } else if (response.status() >= 500) {
+                            errors.incrementAndGet();
+                        } else if (response.status() < 400) {
+                            successful.incrementAndGet();
+                        }
+                    } catch (IOException e) {
+                        errors.incrementAndGet();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (requests.get() == 0) {
+            return null;
+        }
+        double seconds = Math.max(1, System.nanoTime() - start) / 1e9;
+        return new LoadRampStep(rate, (requests.get() - throttled.get()) / seconds, requests.get(),
+            throttled.get(), errors.get(), successful.get(),
+            latencies.percentileMillis(50), latencies.percentileMillis(99));
+    }
+
+    private static Vulnerability finding(FuzzTarget target, ProbeRequest request, LoadRampResult.Outcome outcome,
+                                         double sustainable, List<LoadRampStep> steps) {
+        if (outcome != LoadRampResult.Outcome.DEGRADED && outcome != LoadRampResult.Outcome.UNTHROTTLED) {
+            return null;
+        }
+        LoadRampStep last = steps.get(steps.size() - 1);
+        String measured = String.format(Locale.ROOT, "%.0f req/s", sustainable);
+        String description = outcome == LoadRampResult.Outcome.DEGRADED
+            ? String.format(Locale.ROOT, "The endpoint degraded without returning 429 when the rate was raised to "
+                + "%.0f req/s (p99 %.1f ms, %.0f%% errors). Measured sustainable throughput: %s.",
+                last.targetRps(), last.p99Millis(), last.errorRatio() * 100, measured)
+            : String.format(Locale.ROOT, "No 429 responses or degradation up to %.0f req/s, the end of the probe "
+                + "budget. Measured sustainable throughput: at least %s.", last.targetRps(), measured);
+        return Vulnerability.builder()
+            .type(VulnerabilityType.RATE_LIMITING)
+            .severity(outcome == LoadRampResult.Outcome.DEGRADED ? SeverityLevel.HIGH : SeverityLevel.MEDIUM)
+            .title(outcome == LoadRampResult.Outcome.DEGRADED
+                ? "Endpoint degrades under load without rate limiting"
+                : "No rate limiting observed")
+            .description(description)
+            .endpoint(target.path())
+            .method(target.method())
+            .recommendation("Enforce a per-client request rate limit below the sustainable throughput and "
+                + "answer excess requests with 429 and a Retry-After header")
+            .exploitPoc("for i in $(seq 1 1000); do curl -s -o /dev/null -X " + request.method()
+                + " '" + request.uri() + "' & done")
+            .owaspCategory("API4:2023 Unrestricted Resource Consumption")
+            .references(List.of("https://owasp.org/API-Security/editions/2023/en/0xa4-unrestricted-resource-consumption/"))
+            .build();
+    }
+}
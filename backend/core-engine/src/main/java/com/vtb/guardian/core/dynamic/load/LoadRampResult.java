@@ -0,0 +1,33 @@
+package com.vtb.guardian.core.dynamic.load;
+
+import com.vtb.guardian.core.model.domain.Vulnerability;
+
+import java.util.List;
+
+/**
+ * @param sustainableRps highest achieved rate of a step before the knee; for an unthrottled
+ *                       endpoint the highest rate measured within the budget
+ * @param finding        API4 finding, {@code null} when the endpoint is throttled or the
+ *                       result is inconclusive
+ */
+public record LoadRampResult(
+    String method,
+    String path,
+    Outcome outcome,
+    double sustainableRps,
+    List<LoadRampStep> steps,
+    int requests,
+    Vulnerability finding
+) {
+
+    public enum Outcome {
+        /** 429 responses appeared: the endpoint is rate limited. */
+        THROTTLED,
+        /** Latency or errors blew up before any throttling. */
+        DEGRADED,
+        /** Neither throttling nor degradation within the budget. */
+        UNTHROTTLED,
+        /** The baseline step did not succeed, e.g. because of missing credentials. */
+        INCONCLUSIVE
+    }
+}
@@ -0,0 +1,28 @@
+package com.vtb.guardian.core.dynamic.load;
+
+/**
+ * Measurements of one ramp step.
+ *
+ * @param targetRps   rate the step tried to send at
+ * @param achievedRps responses received per second, throttled ones excluded
+ * @param errors      5xx responses plus requests that got no response
+ */
+public record LoadRampStep(
+    double targetRps,
+    double achievedRps,
+    int requests,
+    int throttled,
+    int errors,
+    int successful,
+    double p50Millis,
+    double p99Millis
+) {
+
+    public double throttledRatio() {
+        return requests == 0 ? 0 : (double) throttled / requests;
+    }
+
+    public double errorRatio() {
+        return requests == 0 ? 0 : (double) errors / requests;
+    }
+}
@@ -0,0 +1,23 @@
+package com.vtb.guardian.core.event;
+
+import com.vtb.guardian.core.model.enums.ScanStatus;
+import com.vtb.guardian.core.model.enums.SeverityLevel;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Envelope of a scan event as published on Redis; {@code type} doubles as the SSE event name.
+ */
+public record ScanEvent(String type, UUID scanId, Object data) {
+
+    public static final String PROGRESS = "progress";
+    public static final String FINDING = "finding";
+    public static final String FINISHED = "finished";
+
+    public record Progress(int analyzedEndpoints, int totalEndpoints) {
+    }
+
+    public record Finished(ScanStatus status, Map<SeverityLevel, Integer> counts, String errorMessage) {
+    }
+}
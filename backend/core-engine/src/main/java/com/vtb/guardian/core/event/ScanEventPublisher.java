@@ -0,0 +1,69 @@
+package com.vtb.guardian.core.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vtb.guardian.core.model.domain.Vulnerability;
+import com.vtb.guardian.core.model.enums.ScanStatus;
+import com.vtb.guardian.core.model.enums.SeverityLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Publishes scan progress, findings and completion on a Redis channel, so that
+ * clients streaming a scan from any node see events produced on any other node.
+ *
+ * Inside a transaction, events are held back until commit. Publishing is best-effort:
+ * a Redis outage never fails a scan, clients then only get the final state.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ScanEventPublisher {
+
+    public static final String CHANNEL = "guardian:scan-events";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public void progress(UUID scanId, int analyzedEndpoints, int totalEndpoints) {
+        publish(new ScanEvent(ScanEvent.PROGRESS, scanId, new ScanEvent.Progress(analyzedEndpoints, totalEndpoints)));
+    }
+
+    public void findings(UUID scanId, List<Vulnerability> vulnerabilities) {
+        for (Vulnerability vulnerability : vulnerabilities) {
+            publish(new ScanEvent(ScanEvent.FINDING, scanId, vulnerability));
+        }
+    }
+
+    public void finished(UUID scanId, ScanStatus status, Map<SeverityLevel, Integer> counts, String errorMessage) {
+        publish(new ScanEvent(ScanEvent.FINISHED, scanId, new ScanEvent.Finished(status, counts, errorMessage)));
+    }
+
+    private void publish(ScanEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send(event);
+                }
+            });
+        } else {
+            send(event);
+        }
+    }
+
+    private void send(ScanEvent event) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(event));
+        } catch (Exception e) {
+            log.warn("Failed to publish {} event for scan {}: {}", event.type(), event.scanId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.vtb.guardian.core.event;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vtb.guardian.core.job.ScanJobService;
+import com.vtb.guardian.core.model.domain.Vulnerability;
+import com.vtb.guardian.core.model.dto.response.ScanProgressResponse;
+import com.vtb.guardian.core.model.enums.ScanStatus;
+import com.vtb.guardian.core.repository.ScanJdbcRepository;
+import com.vtb.guardian.core.repository.VulnerabilityJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+/**
+ * Server-sent event streams of running scans.
+ *
+ * A new stream first receives a snapshot (current progress and the findings already
+ * persisted, read through a cursor and sent from a separate thread), then live events relayed
+ * from Redis. Findings persisted while the snapshot is taken may be delivered twice; clients
+ * must tolerate duplicates.
+ */
+@Service
+@Slf4j
+public class ScanEventStreamService implements MessageListener {
+
+    private final ScanJobService scanJobService;
+    private final ScanJdbcRepository scanRepository;
+    private final VulnerabilityJdbcRepository vulnerabilityRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long timeoutMs;
+    private final int fetchSize;
+    private final Map<UUID, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    public ScanEventStreamService(ScanJobService scanJobService,
+                                  ScanJdbcRepository scanRepository,
+                                  VulnerabilityJdbcRepository vulnerabilityRepository,
+                                  ObjectMapper objectMapper,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${app.scan.events.timeout-ms:1800000}") long timeoutMs,
+                                  @Value("${app.scan.events.fetch-size:500}") int fetchSize) {
+        this.scanJobService = scanJobService;
+        this.scanRepository = scanRepository;
+        this.vulnerabilityRepository = vulnerabilityRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.timeoutMs = timeoutMs;
+        this.fetchSize = fetchSize;
+    }
+
+    public SseEmitter subscribe(UUID scanId) {
+        // Fails fast for unknown scans before a stream is opened
+        scanJobService.getProgress(scanId);
+
+        SseEmitter emitter = new SnapshotEmitter(timeoutMs, scanId);
+        Set<SseEmitter> scanEmitters = emitters.computeIfAbsent(scanId, id -> new CopyOnWriteArraySet<>());
+        scanEmitters.add(emitter);
+        Runnable remove = () -> remove(scanId, emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(error -> remove.run());
+        return emitter;
+    }
+
+    /**
+     * Sends progress, the persisted findings and, for finished scans, the final event.
+     * Runs on its own thread once the emitter is bound to the response, so every send
+     * writes through to the client instead of queueing in the emitter.
+     */
+    private void sendSnapshot(UUID scanId, SseEmitter emitter) {
+        try {
+            // Read after registering, so a scan finishing in between is seen either here or live
+            ScanProgressResponse progress = scanJobService.getProgress(scanId);
+            emitter.send(SseEmitter.event().name(ScanEvent.PROGRESS)
+                .data(new ScanEvent.Progress(progress.getEndpointsAnalyzed(), progress.getEndpointsTotal()),
+                    MediaType.APPLICATION_JSON));
+            readOnlyTransaction.executeWithoutResult(status ->
+                vulnerabilityRepository.streamByScanId(scanId, fetchSize, finding -> send(emitter, finding)));
+            if (isTerminal(progress.getStatus())) {
+                emitter.send(SseEmitter.event().name(ScanEvent.FINISHED)
+                    .data(new ScanEvent.Finished(progress.getStatus(), scanRepository.findSeverityCounts(scanId),
+                        progress.getErrorMessage()), MediaType.APPLICATION_JSON));
+                emitter.complete();
+            }
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        } catch (UncheckedIOException e) {
+            // Usually the client went away; the cursor is closed with the transaction
+            emitter.completeWithError(e.getCause());
+        } catch (NoSuchElementException e) {
+            // Purged between subscribing and the snapshot
+            emitter.completeWithError(e);
+        } catch (IllegalStateException e) {
+            // The emitter timed out or completed while the snapshot was sent
+            remove(scanId, emitter);
+        } catch (RuntimeException e) {
+            log.warn("Failed to send event snapshot of scan {}", scanId, e);
+            emitter.completeWithError(e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        JsonNode event;
+        try {
+            event = objectMapper.readTree(new String(message.getBody(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            log.warn("Ignoring malformed scan event: {}", e.getMessage());
+            return;
+        }
+        UUID scanId = UUID.fromString(event.path("scanId").asText());
+        Set<SseEmitter> scanEmitters = emitters.get(scanId);
+        if (scanEmitters == null) {
+            return;
+        }
+
+        String type = event.path("type").asText();
+        for (SseEmitter emitter : scanEmitters) {
+            try {
+                emitter.send(SseEmitter.event().name(type).data(event.path("data"), MediaType.APPLICATION_JSON));
+                if (ScanEvent.FINISHED.equals(type)) {
+                    emitter.complete();
+                }
+            } catch (IOException | IllegalStateException e) {
+                remove(scanId, emitter);
+            }
+        }
+    }
+
+    /**
+     * Comment lines keep idle streams open through proxies and load balancers.
+     */
+    @Scheduled(fixedDelayString = "${app.scan.events.heartbeat-ms:15000}")
+    public void heartbeat() {
+        emitters.forEach((scanId, scanEmitters) -> {
+            for (SseEmitter emitter : scanEmitters) {
+                try {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                } catch (IOException | IllegalStateException e) {
+                    remove(scanId, emitter);
+                }
+            }
+        });
+    }
+
+    private static void send(SseEmitter emitter, Vulnerability vulnerability) {
+        try {
+            emitter.send(SseEmitter.event().name(ScanEvent.FINDING).data(vulnerability, MediaType.APPLICATION_JSON));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void remove(UUID scanId, SseEmitter emitter) {
+        emitters.computeIfPresent(scanId, (id, scanEmitters) -> {
+            scanEmitters.remove(emitter);
+            return scanEmitters.isEmpty() ? null : scanEmitters;
+        });
+    }
+
+    private static boolean isTerminal(ScanStatus status) {
+        return status == ScanStatus.COMPLETED || status == ScanStatus.FAILED || status == ScanStatus.CANCELLED;
+    }
+
+    /**
+     * Starts the snapshot when Spring MVC binds the emitter to the response. Sends made
+     * before that are held in memory by the emitter, which a large snapshot must not do.
+     */
+    private final class SnapshotEmitter extends SseEmitter {
+
+        private final UUID scanId;
+
+        private SnapshotEmitter(long timeout, UUID scanId) {
+            super(timeout);
+            this.scanId = scanId;
+        }
+
+        @Override
+        protected void extendResponse(ServerHttpResponse outputMessage) {
+            super.extendResponse(outputMessage);
+            Thread.ofVirtual().name("scan-events-" + scanId).start(() -> sendSnapshot(scanId, this));
+        }
+    }
+}
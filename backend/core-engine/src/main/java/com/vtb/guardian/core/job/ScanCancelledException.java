@@ -0,0 +1,13 @@
+package com.vtb.guardian.core.job;
+
+import java.util.UUID;
+
+/**
+ * Thrown from progress callbacks to abort a scan whose cancellation was requested.
+ */
+public class ScanCancelledException extends RuntimeException {
+
+    public ScanCancelledException(UUID scanId) {
+        super("Scan " + scanId + " was cancelled");
+    }
+}
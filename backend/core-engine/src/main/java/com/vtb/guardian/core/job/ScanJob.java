@@ -0,0 +1,29 @@
+package com.vtb.guardian.core.job;
+
+import com.vtb.guardian.core.model.enums.ScanStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Row of the scan_jobs queue table.
+ */
+public record ScanJob(
+    UUID id,
+    UUID scanId,
+    UUID projectId,
+    int priority,
+    ScanStatus status,
+    int attempts,
+    int maxAttempts,
+    String workerId,
+    Instant leaseUntil,
+    boolean cancelRequested,
+    int endpointsTotal,
+    int endpointsAnalyzed,
+    String errorMessage,
+    Instant createdAt,
+    Instant startedAt,
+    Instant completedAt
+) {
+}
@@ -0,0 +1,194 @@
+package com.vtb.guardian.core.job;
+
+import com.vtb.guardian.core.analyzer.engine.AnalysisProgressListener;
+import com.vtb.guardian.core.analyzer.incremental.IncrementalAnalysisResult;
+import com.vtb.guardian.core.event.ScanEventPublisher;
+import com.vtb.guardian.core.metrics.ScanMetrics;
+import com.vtb.guardian.core.metrics.ScanPhase;
+import com.vtb.guardian.core.metrics.ScanTimeline;
+import com.vtb.guardian.core.model.domain.ApiSpecification;
+import com.vtb.guardian.core.model.domain.Vulnerability;
+import com.vtb.guardian.core.model.enums.ScanStatus;
+import com.vtb.guardian.core.model.enums.SeverityLevel;
+import com.vtb.guardian.core.parser.SpecificationLoader;
+import com.vtb.guardian.core.repository.FindingRollupRepository;
+import com.vtb.guardian.core.repository.ScanJdbcRepository;
+import com.vtb.guardian.core.repository.ScanJobRepository;
+import com.vtb.guardian.core.repository.VulnerabilityBulkWriter;
+import com.vtb.guardian.core.service.IncrementalAnalysisService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Executes one claimed scan job: load the specification, analyze it while reporting
+ * progress, persist the findings and close both the job and the scan. Specifications
+ * above the sharding threshold are split into shards instead. A worker that lost its lease
+ * stops without recording anything; the worker that took the job over owns its outcome.
+ *
+ * The time spent per phase is stored with the scan as its timeline and exported as metrics.
+ */
+@Component
+@Slf4j
+public class ScanJobRunner {
+
+    private final SpecificationLoader specificationLoader;
+    private final IncrementalAnalysisService analysisService;
+    private final FindingRollupRepository rollupRepository;
+    private final VulnerabilityBulkWriter bulkWriter;
+    private final ScanJdbcRepository scanRepository;
+    private final ScanJobRepository jobRepository;
+    private final ScanShardCoordinator shardCoordinator;
+    private final ScanEventPublisher eventPublisher;
+    private final ScanMetrics scanMetrics;
+    private final TransactionTemplate transactionTemplate;
+    private final int leaseSeconds;
+
+    public ScanJobRunner(SpecificationLoader specificationLoader,
+                         IncrementalAnalysisService analysisService,
+                         FindingRollupRepository rollupRepository,
+                         VulnerabilityBulkWriter bulkWriter,
+                         ScanJdbcRepository scanRepository,
+                         ScanJobRepository jobRepository,
+                         ScanShardCoordinator shardCoordinator,
+                         ScanEventPublisher eventPublisher,
+                         ScanMetrics scanMetrics,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${app.scan.queue.lease-seconds:60}") int leaseSeconds) {
+        this.specificationLoader = specificationLoader;
+        this.analysisService = analysisService;
+        this.rollupRepository = rollupRepository;
+        this.bulkWriter = bulkWriter;
+        this.scanRepository = scanRepository;
+        this.jobRepository = jobRepository;
+        this.shardCoordinator = shardCoordinator;
+        this.eventPublisher = eventPublisher;
+        this.scanMetrics = scanMetrics;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.leaseSeconds = leaseSeconds;
+    }
+
+    public void run(ScanJob job, String workerId) {
+        long start = System.currentTimeMillis();
+        log.info("Worker {} started scan {} (attempt {}/{})", workerId, job.scanId(), job.attempts(), job.maxAttempts());
+        scanRepository.markRunning(job.scanId());
+        ScanTimeline timeline = new ScanTimeline();
+
+        try {
+            ScanJdbcRepository.ScanSpecification stored;
+            ApiSpecification specification;
+            try (ScanTimeline.Span ignored = timeline.start(ScanPhase.PARSE)) {
+                stored = scanRepository.findSpecification(job.scanId())
+                    .orElseThrow(() -> new IllegalStateException("Scan " + job.scanId() + " no longer exists"));
+                specification = specificationLoader.load(specificationLoader.fetch(stored.content(), stored.url()));
+            }
+            int totalEndpoints = specification.getEndpoints() != null ? specification.getEndpoints().size() : 0;
+            if (shardCoordinator.shouldShard(totalEndpoints)) {
+                // Shards are picked up by any node's worker pool; the last one closes the scan
+                shardCoordinator.split(job, specification);
+                saveTimeline(job, timeline);
+                return;
+            }
+
+            // Findings are written in bounded chunks while the analysis is still running
+            VulnerabilityBulkWriter.Session findings = bulkWriter.open(job.scanId());
+            AnalysisProgressListener listener = new AnalysisProgressListener() {
+                @Override
+                public void onProgress(int analyzed, int total) {
+                    switch (jobRepository.reportProgress(job.id(), workerId, analyzed, total, leaseSeconds)) {
+                        case CANCEL_REQUESTED -> throw new ScanCancelledException(job.scanId());
+                        case LEASE_LOST -> throw new ScanLeaseLostException(job.scanId());
+                        case CONTINUE -> { }
+                    }
+                    eventPublisher.progress(job.scanId(), analyzed, total);
+                }
+
+                @Override
+                public void onFindings(List<Vulnerability> vulnerabilities) {
+                    try (ScanTimeline.Span ignored = timeline.start(ScanPhase.PERSIST)) {
+                        findings.addAll(vulnerabilities);
+                    }
+                    eventPublisher.findings(job.scanId(), vulnerabilities);
+                }
+            };
+            listener.onProgress(0, totalEndpoints);
+
+            IncrementalAnalysisResult result;
+            try (ScanTimeline.Span ignored = timeline.start(ScanPhase.ANALYSIS)) {
+                result = analysisService.analyze(stored.projectId(), job.scanId(), specification, listener);
+            }
+            // Rollups also cover findings persisted by an earlier attempt of a retried job
+            Map<SeverityLevel, Integer> counts;
+            try (ScanTimeline.Span ignored = timeline.start(ScanPhase.PERSIST)) {
+                findings.flush();
+                counts = rollupRepository.severityCounts(job.scanId());
+            }
+
+            saveTimeline(job, timeline);
+            long durationMs = System.currentTimeMillis() - start;
+            if (close(job, workerId, ScanStatus.COMPLETED, null, counts,
+                () -> scanRepository.markCompleted(job.scanId(), totalEndpoints, counts, durationMs))) {
+                scanMetrics.scanFinished(ScanStatus.COMPLETED, durationMs);
+                log.info("Scan {} completed: {} findings in {} ms ({})", job.scanId(),
+                    result.vulnerabilities().size(), durationMs, timeline.serialize());
+            }
+
+        } catch (ScanLeaseLostException e) {
+            log.warn("Worker {} stopped scan {}: lease lost to another worker", workerId, job.scanId());
+        } catch (ScanCancelledException e) {
+            log.info("Scan {} cancelled", job.scanId());
+            saveTimeline(job, timeline);
+            if (close(job, workerId, ScanStatus.CANCELLED, null, Map.of(),
+                () -> scanRepository.markFinished(job.scanId(), ScanStatus.CANCELLED, null))) {
+                scanMetrics.scanFinished(ScanStatus.CANCELLED, System.currentTimeMillis() - start);
+            }
+        } catch (Exception e) {
+            log.error("Scan {} failed", job.scanId(), e);
+            saveTimeline(job, timeline);
+            if (close(job, workerId, ScanStatus.FAILED, e.getMessage(), Map.of(),
+                () -> scanRepository.markFinished(job.scanId(), ScanStatus.FAILED, e.getMessage()))) {
+                scanMetrics.scanFinished(ScanStatus.FAILED, System.currentTimeMillis() - start);
+            }
+        }
+    }
+
+    /**
+     * Records the outcome of the job and its scan in one transaction, only while this worker
+     * still owns the job; the finished event is published on commit.
+     *
+     * @return {@code false} if the lease was lost and the outcome discarded
+     */
+    private boolean close(ScanJob job, String workerId, ScanStatus status, String errorMessage,
+                          Map<SeverityLevel, Integer> counts, Runnable markScan) {
+        boolean closed = Boolean.TRUE.equals(transactionTemplate.execute(tx -> {
+            if (!jobRepository.finish(job.id(), workerId, status, errorMessage)) {
+                return false;
+            }
+            markScan.run();
+            eventPublisher.finished(job.scanId(), status, counts, errorMessage);
+            return true;
+        }));
+        if (!closed) {
+            log.warn("Worker {} no longer owns scan {}; its {} outcome was discarded", workerId, job.scanId(), status);
+        }
+        return closed;
+    }
+
+    /**
+     * Stored before the scan is marked finished, so a client that sees the final status also
+     * sees the timeline. A failure here must not change the scan's outcome.
+     */
+    private void saveTimeline(ScanJob job, ScanTimeline timeline) {
+        scanMetrics.record(timeline);
+        try {
+            scanRepository.appendTimeline(job.scanId(), timeline.serialize());
+        } catch (RuntimeException e) {
+            log.warn("Could not store the timeline of scan {}", job.scanId(), e);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.vtb.guardian.core.job;
+
+import com.vtb.guardian.core.event.ScanEventPublisher;
+import com.vtb.guardian.core.model.dto.request.CreateScanRequest;
+import com.vtb.guardian.core.model.dto.response.ScanProgressResponse;
+import com.vtb.guardian.core.model.dto.response.ScanResponse;
+import com.vtb.guardian.core.model.enums.ScanStatus;
+import com.vtb.guardian.core.repository.ScanJdbcRepository;
+import com.vtb.guardian.core.repository.ScanJobRepository;
+import com.vtb.guardian.core.service.ScanService;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Entry point to the scan job queue for controllers and services.
+ */
+@Service
+@Slf4j
+public class ScanJobService {
+
+    private final ScanService scanService;
+    private final EntityManager entityManager;
+    private final ScanJobRepository jobRepository;
+    private final ScanJdbcRepository scanRepository;
+    private final ScanShardCoordinator shardCoordinator;
+    private final ScanEventPublisher eventPublisher;
+    private final int maxAttempts;
+
+    public ScanJobService(ScanService scanService,
+                          EntityManager entityManager,
+                          ScanJobRepository jobRepository,
+                          ScanJdbcRepository scanRepository,
+                          ScanShardCoordinator shardCoordinator,
+                          ScanEventPublisher eventPublisher,
+                          @Value("${app.scan.queue.max-attempts:3}") int maxAttempts) {
+        this.scanService = scanService;
+        this.entityManager = entityManager;
+        this.jobRepository = jobRepository;
+        this.scanRepository = scanRepository;
+        this.shardCoordinator = shardCoordinator;
+        this.eventPublisher = eventPublisher;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * Creates a scan and queues its job in one transaction, so no scan is left without a job.
+     */
+    @Transactional
+    public ScanResponse submit(CreateScanRequest request) {
+        ScanResponse scan = scanService.createScan(request);
+        // The job row references the scan row, which JPA may not have written yet
+        entityManager.flush();
+        enqueue(scan.getId(), request.getProjectId());
+        return scan;
+    }
+
+    @Transactional
+    public ScanJob enqueue(UUID scanId, UUID projectId) {
+        ScanJob job = jobRepository.enqueue(scanId, projectId, maxAttempts);
+        scanRepository.updateStatus(scanId, ScanStatus.QUEUED);
+        log.info("Scan {} queued with priority {}", scanId, job.priority());
+        return job;
+    }
+
+    /**
+     * Queued scans are cancelled immediately; running scans stop at their next progress report.
+     */
+    @Transactional
+    public ScanProgressResponse cancel(UUID scanId) {
+        jobRepository.requestCancel(scanId).ifPresent(status -> {
+            if (status == ScanStatus.CANCELLED) {
+                scanRepository.markFinished(scanId, ScanStatus.CANCELLED, null);
+                eventPublisher.finished(scanId, ScanStatus.CANCELLED, Map.of(), null);
+            } else {
+                shardCoordinator.cancel(scanId);
+            }
+            log.info("Cancellation requested for scan {} ({})", scanId, status);
+        });
+        return getProgress(scanId);
+    }
+
+    /**
+     * Re-queues jobs whose worker died and closes the scans of jobs without attempts left or
+     * with a pending cancellation, so clients following them see the outcome. Safe to run on
+     * every node concurrently.
+     *
+     * @return number of re-queued jobs
+     */
+    @Transactional
+    public int reapExpiredLeases() {
+        for (UUID scanId : jobRepository.cancelExpired()) {
+            scanRepository.markFinished(scanId, ScanStatus.CANCELLED, null);
+            eventPublisher.finished(scanId, ScanStatus.CANCELLED, Map.of(), null);
+            log.info("Scan {} cancelled after its worker stopped reporting", scanId);
+        }
+        for (UUID scanId : jobRepository.failExpired()) {
+            scanRepository.markFinished(scanId, ScanStatus.FAILED, ScanJobRepository.LEASE_EXPIRED_MESSAGE);
+            eventPublisher.finished(scanId, ScanStatus.FAILED, Map.of(), ScanJobRepository.LEASE_EXPIRED_MESSAGE);
+            log.warn("Scan {} failed: {}", scanId, ScanJobRepository.LEASE_EXPIRED_MESSAGE);
+        }
+        return jobRepository.requeueExpired();
+    }
+
+    public ScanProgressResponse getProgress(UUID scanId) {
+        return findProgress(scanId).orElseThrow(() -> new NoSuchElementException("Scan not found: " + scanId));
+    }
+
+    /**
+     * Progress of the scan's job; scans that never went through the queue report their
+     * own status without endpoint counts.
+     *
+     * @return empty if the scan does not exist
+     */
+    public Optional<ScanProgressResponse> findProgress(UUID scanId) {
+        Optional<ScanJob> job = jobRepository.findByScanId(scanId);
+        if (job.isPresent()) {
+            return Optional.of(toProgress(scanId, job.get()));
+        }
+        return scanRepository.findState(scanId).map(state -> ScanProgressResponse.builder()
+            .scanId(scanId)
+            .status(state.status())
+            .percent(state.status() == ScanStatus.COMPLETED ? 100.0 : 0.0)
+            .errorMessage(state.errorMessage())
+            .build());
+    }
+
+    private static ScanProgressResponse toProgress(UUID scanId, ScanJob job) {
+        double percent = switch (job.status()) {
+            case COMPLETED -> 100.0;
+            default -> job.endpointsTotal() > 0
+                ? Math.round(job.endpointsAnalyzed() * 1000.0 / job.endpointsTotal()) / 10.0
+                : 0.0;
+        };
+
+        return ScanProgressResponse.builder()
+            .scanId(scanId)
+            .status(job.status())
+            .priority(job.priority())
+            .attempts(job.attempts())
+            .endpointsAnalyzed(job.endpointsAnalyzed())
+            .endpointsTotal(job.endpointsTotal())
+            .percent(percent)
+            .cancelRequested(job.cancelRequested())
+            .errorMessage(job.errorMessage())
+            .createdAt(job.createdAt())
+            .startedAt(job.startedAt())
+            .completedAt(job.completedAt())
+            .build();
+    }
+}
@@ -0,0 +1,151 @@
+package com.vtb.guardian.core.job;
+
+import com.vtb.guardian.core.repository.ScanJobRepository;
+import com.vtb.guardian.core.repository.ScanShardRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Polls the scan job queue and runs claimed jobs on a fixed-size pool.
+ *
+ * Every core-engine node runs its own pool; nodes coordinate only through the
+ * scan_jobs table, so adding nodes adds scan capacity. Only as many jobs are
+ * claimed as there are idle workers, leaving the rest for other nodes.
+ */
+@Component
+@ConditionalOnProperty(name = "app.scan.queue.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class ScanJobWorkerPool {
+
+    private final ScanJobRepository jobRepository;
+    private final ScanJobService jobService;
+    private final ScanShardRepository shardRepository;
+    private final ScanJobRunner runner;
+    private final ScanShardRunner shardRunner;
+    private final ScanShardCoordinator shardCoordinator;
+    private final int poolSize;
+    private final int leaseSeconds;
+    private final String workerId;
+    private final ExecutorService executor;
+    private final AtomicInteger idle;
+    private final Set<UUID> activeJobs = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> activeShards = ConcurrentHashMap.newKeySet();
+
+    public ScanJobWorkerPool(ScanJobRepository jobRepository,
+                             ScanJobService jobService,
+                             ScanShardRepository shardRepository,
+                             ScanJobRunner runner,
+                             ScanShardRunner shardRunner,
+                             ScanShardCoordinator shardCoordinator,
+                             @Value("${app.scan.max-concurrent:5}") int poolSize,
+                             @Value("${app.scan.queue.lease-seconds:60}") int leaseSeconds) {
+        this.jobRepository = jobRepository;
+        this.jobService = jobService;
+        this.shardRepository = shardRepository;
+        this.runner = runner;
+        this.shardRunner = shardRunner;
+        this.shardCoordinator = shardCoordinator;
+        this.poolSize = poolSize;
+        this.leaseSeconds = leaseSeconds;
+        this.workerId = hostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+        this.idle = new AtomicInteger(poolSize);
+
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "scan-worker-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("Scan worker pool {} started with {} workers", workerId, poolSize);
+    }
+
+    @Scheduled(fixedDelayString = "${app.scan.queue.poll-interval-ms:1000}")
+    public void poll() {
+        if (idle.get() <= 0) {
+            return;
+        }
+        // Shards of scans already in progress go first, so started scans finish before new ones begin
+        for (ScanShard shard : shardRepository.claim(workerId, idle.get(), leaseSeconds)) {
+            submit(shard.id(), activeShards, () -> shardRunner.run(shard, workerId));
+        }
+        if (idle.get() <= 0) {
+            return;
+        }
+        for (ScanJob job : jobRepository.claim(workerId, idle.get(), leaseSeconds)) {
+            submit(job.id(), activeJobs, () -> runner.run(job, workerId));
+        }
+    }
+
+    private void submit(UUID id, Set<UUID> active, Runnable task) {
+        idle.decrementAndGet();
+        active.add(id);
+        executor.execute(() -> {
+            try {
+                task.run();
+            } finally {
+                active.remove(id);
+                idle.incrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * Keeps leases alive between progress reports, e.g. while a large specification is downloaded.
+     */
+    @Scheduled(fixedDelayString = "#{${app.scan.queue.lease-seconds:60} * 1000 / 3}")
+    public void heartbeat() {
+        jobRepository.renewLeases(workerId, activeJobs, leaseSeconds);
+        shardRepository.renewLeases(workerId, activeShards, leaseSeconds);
+    }
+
+    /**
+     * Re-queues jobs and shards whose worker died. Safe to run on every node concurrently.
+     */
+    @Scheduled(fixedDelayString = "#{${app.scan.queue.lease-seconds:60} * 1000}")
+    public void reapExpiredLeases() {
+        int requeued = jobService.reapExpiredLeases();
+        if (requeued > 0) {
+            log.warn("Re-queued {} scan jobs with expired leases", requeued);
+        }
+        shardCoordinator.reapExpiredLeases();
+    }
+
+    public String getWorkerId() {
+        return workerId;
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            // Leases of unfinished jobs expire and the jobs are picked up by another node
+            executor.shutdownNow();
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "core-engine";
+        }
+    }
+}
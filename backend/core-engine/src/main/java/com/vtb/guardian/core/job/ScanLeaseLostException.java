@@ -0,0 +1,14 @@
+package com.vtb.guardian.core.job;
+
+import java.util.UUID;
+
+/**
+ * Thrown from progress callbacks when the job's lease has passed to another worker,
+ * which now owns the scan; the current worker stops without recording an outcome.
+ */
+public class ScanLeaseLostException extends RuntimeException {
+
+    public ScanLeaseLostException(UUID scanId) {
+        super("Lease of scan " + scanId + " was lost to another worker");
+    }
+}
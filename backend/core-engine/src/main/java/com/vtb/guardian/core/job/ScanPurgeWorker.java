@@ -0,0 +1,135 @@
+package com.vtb.guardian.core.job;
+
+import com.vtb.guardian.core.repository.FindingRollupRepository;
+import com.vtb.guardian.core.repository.ScanJobRepository;
+import com.vtb.guardian.core.repository.ScanPurgeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+/**
+ * Background purge of deleted scans and retention compaction of old ones.
+ *
+ * Rows are deleted in small autocommitted chunks with a pause after each chunk,
+ * and a longer pause while scans are running, so the purge never competes with
+ * live scans for locks or I/O. Each run stops after a bounded number of chunks
+ * and resumes on the next tick.
+ */
+@Component
+@ConditionalOnProperty(name = "app.scan.purge.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class ScanPurgeWorker {
+
+    private final ScanPurgeRepository purgeRepository;
+    private final ScanJobRepository jobRepository;
+    private final FindingRollupRepository rollupRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+    private final long pauseMs;
+    private final long busyPauseMs;
+    private final int keepLast;
+
+    public ScanPurgeWorker(ScanPurgeRepository purgeRepository,
+                           ScanJobRepository jobRepository,
+                           FindingRollupRepository rollupRepository,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${app.scan.purge.chunk-size:1000}") int chunkSize,
+                           @Value("${app.scan.purge.max-chunks-per-run:200}") int maxChunksPerRun,
+                           @Value("${app.scan.purge.pause-ms:20}") long pauseMs,
+                           @Value("${app.scan.purge.busy-pause-ms:250}") long busyPauseMs,
+                           @Value("${app.scan.retention.keep-last:0}") int keepLast) {
+        this.purgeRepository = purgeRepository;
+        this.jobRepository = jobRepository;
+        this.rollupRepository = rollupRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.pauseMs = pauseMs;
+        this.busyPauseMs = busyPauseMs;
+        this.keepLast = keepLast;
+    }
+
+    @Scheduled(fixedDelayString = "${app.scan.purge.interval-ms:30000}")
+    public void run() {
+        Budget budget = new Budget(maxChunksPerRun);
+        try {
+            for (UUID scanId : purgeRepository.findPurgeRequested(10)) {
+                if (!deleteFindings(scanId, budget)) {
+                    return;
+                }
+                if (deleteScan(scanId)) {
+                    log.info("Purged scan {}", scanId);
+                }
+            }
+
+            if (keepLast > 0) {
+                for (UUID scanId : purgeRepository.findCompactionCandidates(keepLast, 10)) {
+                    if (!deleteFindings(scanId, budget)) {
+                        return;
+                    }
+                    purgeRepository.markCompacted(scanId);
+                    log.info("Compacted scan {}: findings removed, counters and rollups kept", scanId);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Subtracts the scan from the rollups and deletes its row in one transaction, holding
+     * the scan row lock so a second purging node can neither subtract it twice nor race
+     * a scan that started running again.
+     */
+    private boolean deleteScan(UUID scanId) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            if (!purgeRepository.lockForPurge(scanId)) {
+                return false;
+            }
+            rollupRepository.subtractScan(scanId);
+            purgeRepository.deleteScan(scanId);
+            return true;
+        }));
+    }
+
+    /**
+     * Fingerprints go first: a scan without them is never picked as an incremental baseline,
+     * so its half-deleted findings are never carried forward.
+     *
+     * @return {@code true} once all findings and fingerprints of the scan are gone,
+     *         {@code false} if the run's chunk budget ran out first
+     */
+    private boolean deleteFindings(UUID scanId, Budget budget) throws InterruptedException {
+        while (budget.take()) {
+            int deleted = purgeRepository.deleteFingerprintsChunk(scanId, chunkSize);
+            if (deleted == 0) {
+                deleted = purgeRepository.deleteFindingsChunk(scanId, chunkSize);
+            }
+            if (deleted == 0) {
+                return true;
+            }
+            Thread.sleep(jobRepository.countRunning() > 0 ? busyPauseMs : pauseMs);
+        }
+        return false;
+    }
+
+    private static final class Budget {
+
+        private int remaining;
+
+        Budget(int chunks) {
+            this.remaining = chunks;
+        }
+
+        boolean take() {
+            return remaining-- > 0;
+        }
+    }
+}
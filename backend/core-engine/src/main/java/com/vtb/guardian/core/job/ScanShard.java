@@ -0,0 +1,26 @@
+package com.vtb.guardian.core.job;
+
+import com.vtb.guardian.core.model.enums.ScanStatus;
+
+import java.util.UUID;
+
+/**
+ * Row of the scan_shards table: the endpoint range {@code [endpointFrom, endpointTo)}
+ * of one scan, in specification order.
+ */
+public record ScanShard(
+    UUID id,
+    UUID scanId,
+    int shardIndex,
+    int endpointFrom,
+    int endpointTo,
+    ScanStatus status,
+    int attempts,
+    int maxAttempts,
+    String workerId
+) {
+
+    public int size() {
+        return endpointTo - endpointFrom;
+    }
+}
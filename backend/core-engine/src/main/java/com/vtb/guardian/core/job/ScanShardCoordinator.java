@@ -0,0 +1,177 @@
+package com.vtb.guardian.core.job;
+
+import com.vtb.guardian.core.analyzer.engine.ParallelAnalysisEngine;
+import com.vtb.guardian.core.analyzer.incremental.EndpointFingerprinter;
+import com.vtb.guardian.core.event.ScanEventPublisher;
+import com.vtb.guardian.core.model.domain.ApiSpecification;
+import com.vtb.guardian.core.model.domain.Vulnerability;
+import com.vtb.guardian.core.model.enums.ScanStatus;
+import com.vtb.guardian.core.repository.EndpointFingerprintRepository;
+import com.vtb.guardian.core.repository.ScanJdbcRepository;
+import com.vtb.guardian.core.repository.ScanJobRepository;
+import com.vtb.guardian.core.repository.ScanShardRepository;
+import com.vtb.guardian.core.repository.VulnerabilityBulkWriter;
+import com.vtb.guardian.core.service.SuppressionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Splits large scans into endpoint shards and merges the shard results back into the scan.
+ *
+ * Merging is serialized on the scan's job row, so exactly one of the workers finishing
+ * the last shards closes the scan, with severity counters summed over all shards.
+ */
+@Service
+@Slf4j
+public class ScanShardCoordinator {
+
+    private final ScanShardRepository shardRepository;
+    private final ScanJobRepository jobRepository;
+    private final ScanJdbcRepository scanRepository;
+    private final VulnerabilityBulkWriter bulkWriter;
+    private final EndpointFingerprintRepository fingerprintRepository;
+    private final EndpointFingerprinter fingerprinter;
+    private final ParallelAnalysisEngine analysisEngine;
+    private final SuppressionService suppressionService;
+    private final ScanEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int threshold;
+    private final int shardSize;
+    private final int maxAttempts;
+
+    public ScanShardCoordinator(ScanShardRepository shardRepository,
+                                ScanJobRepository jobRepository,
+                                ScanJdbcRepository scanRepository,
+                                VulnerabilityBulkWriter bulkWriter,
+                                EndpointFingerprintRepository fingerprintRepository,
+                                EndpointFingerprinter fingerprinter,
+                                ParallelAnalysisEngine analysisEngine,
+                                SuppressionService suppressionService,
+                                ScanEventPublisher eventPublisher,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${app.scan.sharding.enabled:true}") boolean enabled,
+                                @Value("${app.scan.sharding.threshold:2000}") int threshold,
+                                @Value("${app.scan.sharding.shard-size:1000}") int shardSize,
+                                @Value("${app.scan.queue.max-attempts:3}") int maxAttempts) {
+        this.shardRepository = shardRepository;
+        this.jobRepository = jobRepository;
+        this.scanRepository = scanRepository;
+        this.bulkWriter = bulkWriter;
+        this.fingerprintRepository = fingerprintRepository;
+        this.fingerprinter = fingerprinter;
+        this.analysisEngine = analysisEngine;
+        this.suppressionService = suppressionService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.threshold = threshold;
+        this.shardSize = shardSize;
+        this.maxAttempts = maxAttempts;
+    }
+
+    public boolean shouldShard(int totalEndpoints) {
+        return enabled && totalEndpoints > threshold;
+    }
+
+    @Transactional
+    public void split(ScanJob job, ApiSpecification specification) {
+        int totalEndpoints = specification.getEndpoints().size();
+        shardRepository.createShards(job.scanId(), totalEndpoints, shardSize, maxAttempts);
+        fingerprintRepository.saveAll(job.scanId(), Map.of(EndpointFingerprinter.SPECIFICATION_KEY,
+            fingerprinter.fingerprint(specification, analysisEngine.getAnalyzers(),
+                suppressionService.indexFor(job.projectId()))));
+        jobRepository.handOffToShards(job.id(), totalEndpoints);
+        log.info("Scan {} split into {} shards of up to {} endpoints",
+            job.scanId(), (totalEndpoints + shardSize - 1) / shardSize, shardSize);
+    }
+
+    /**
+     * Stores the shard's findings and fingerprints and marks it completed in one transaction,
+     * so a shard re-leased after a worker died never leaves partial results behind.
+     */
+    @Transactional
+    public void completeShard(ScanShard shard, String workerId, List<Vulnerability> vulnerabilities,
+                              Map<String, String> fingerprints) {
+        VulnerabilityBulkWriter.WriteResult written = bulkWriter.writeAll(shard.scanId(), vulnerabilities);
+        if (!shardRepository.complete(shard, workerId, written.countsBySeverity())) {
+            // Rolls the findings back; the worker now holding the lease writes its own
+            throw new IllegalStateException("Shard %s#%d lost its lease to another worker"
+                .formatted(shard.scanId(), shard.shardIndex()));
+        }
+        fingerprintRepository.saveAll(shard.scanId(), fingerprints);
+        eventPublisher.findings(shard.scanId(), vulnerabilities);
+        mergeIfDone(shard.scanId());
+    }
+
+    @Transactional
+    public void releaseShard(ScanShard shard, String workerId, ScanStatus status, String errorMessage) {
+        if (shardRepository.release(shard, workerId, status, errorMessage)) {
+            mergeIfDone(shard.scanId());
+        }
+    }
+
+    /**
+     * Cancels shards nobody has started; running shards stop at their next progress report.
+     */
+    @Transactional
+    public void cancel(UUID scanId) {
+        if (shardRepository.cancelQueued(scanId) > 0) {
+            mergeIfDone(scanId);
+        }
+    }
+
+    /**
+     * Re-queues shards whose lease expired and merges every affected scan in its own
+     * transaction, so the job row lock is held for one scan at a time.
+     */
+    public void reapExpiredLeases() {
+        for (UUID scanId : shardRepository.requeueExpired()) {
+            transactionTemplate.executeWithoutResult(status -> mergeIfDone(scanId));
+        }
+    }
+
+    private void mergeIfDone(UUID scanId) {
+        ScanJob job = jobRepository.lockByScanId(scanId).orElse(null);
+        if (job == null || job.status() != ScanStatus.RUNNING) {
+            return;
+        }
+        ScanShardRepository.ShardSummary summary = shardRepository.summarize(scanId);
+        if (summary.shards() == 0) {
+            return;
+        }
+        if (!summary.isDone()) {
+            eventPublisher.progress(scanId, summary.endpointsAnalyzed(), job.endpointsTotal());
+            return;
+        }
+
+        long durationMs = job.startedAt() != null
+            ? Duration.between(job.startedAt(), Instant.now()).toMillis()
+            : 0;
+        if (summary.failed() > 0) {
+            String message = "%d of %d shards failed: %s".formatted(summary.failed(), summary.shards(), summary.firstError());
+            scanRepository.markFinished(scanId, ScanStatus.FAILED, message);
+            jobRepository.finish(job.id(), null, ScanStatus.FAILED, message);
+            eventPublisher.finished(scanId, ScanStatus.FAILED, summary.counts(), message);
+        } else if (summary.cancelled() > 0) {
+            scanRepository.markFinished(scanId, ScanStatus.CANCELLED, null);
+            jobRepository.finish(job.id(), null, ScanStatus.CANCELLED, null);
+            eventPublisher.finished(scanId, ScanStatus.CANCELLED, summary.counts(), null);
+        } else {
+            scanRepository.markCompleted(scanId, job.endpointsTotal(), summary.counts(), durationMs);
+            jobRepository.finish(job.id(), null, ScanStatus.COMPLETED, null);
+            eventPublisher.finished(scanId, ScanStatus.COMPLETED, summary.counts(), null);
+        }
+        log.info("Merged {} shards of scan {} in {} ms", summary.shards(), scanId, durationMs);
+    }
+}
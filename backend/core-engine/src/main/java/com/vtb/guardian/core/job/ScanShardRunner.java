@@ -0,0 +1,132 @@
+package com.vtb.guardian.core.job;
+
+import com.vtb.guardian.core.analyzer.engine.AnalysisProgressListener;
+import com.vtb.guardian.core.analyzer.engine.ParallelAnalysisEngine;
+import com.vtb.guardian.core.analyzer.incremental.EndpointFingerprinter;
+import com.vtb.guardian.core.analyzer.suppression.SuppressionIndex;
+import com.vtb.guardian.core.metrics.ScanMetrics;
+import com.vtb.guardian.core.metrics.ScanPhase;
+import com.vtb.guardian.core.metrics.ScanTimeline;
+import com.vtb.guardian.core.model.domain.ApiSpecification;
+import com.vtb.guardian.core.model.domain.Endpoint;
+import com.vtb.guardian.core.model.domain.Vulnerability;
+import com.vtb.guardian.core.model.enums.ScanStatus;
+import com.vtb.guardian.core.parser.SpecificationLoader;
+import com.vtb.guardian.core.repository.ScanJdbcRepository;
+import com.vtb.guardian.core.repository.ScanShardRepository;
+import com.vtb.guardian.core.service.SuppressionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Analyzes one shard: only the shard's endpoint range is materialized from the
+ * stored specification, analyzed and handed to the coordinator.
+ */
+@Component
+@Slf4j
+public class ScanShardRunner {
+
+    private final SpecificationLoader specificationLoader;
+    private final ParallelAnalysisEngine analysisEngine;
+    private final EndpointFingerprinter fingerprinter;
+    private final ScanJdbcRepository scanRepository;
+    private final ScanShardRepository shardRepository;
+    private final ScanShardCoordinator coordinator;
+    private final SuppressionService suppressionService;
+    private final ScanMetrics scanMetrics;
+    private final int progressInterval;
+    private final int leaseSeconds;
+
+    public ScanShardRunner(SpecificationLoader specificationLoader,
+                           ParallelAnalysisEngine analysisEngine,
+                           EndpointFingerprinter fingerprinter,
+                           ScanJdbcRepository scanRepository,
+                           ScanShardRepository shardRepository,
+                           ScanShardCoordinator coordinator,
+                           SuppressionService suppressionService,
+                           ScanMetrics scanMetrics,
+                           @Value("${app.scan.analysis.progress-interval:500}") int progressInterval,
+                           @Value("${app.scan.queue.lease-seconds:60}") int leaseSeconds) {
+        this.specificationLoader = specificationLoader;
+        this.analysisEngine = analysisEngine;
+        this.fingerprinter = fingerprinter;
+        this.scanRepository = scanRepository;
+        this.shardRepository = shardRepository;
+        this.coordinator = coordinator;
+        this.suppressionService = suppressionService;
+        this.scanMetrics = scanMetrics;
+        this.progressInterval = progressInterval;
+        this.leaseSeconds = leaseSeconds;
+    }
+
+    public void run(ScanShard shard, String workerId) {
+        log.debug("Worker {} started shard {}#{} [{}, {})",
+            workerId, shard.scanId(), shard.shardIndex(), shard.endpointFrom(), shard.endpointTo());
+        ScanTimeline timeline = new ScanTimeline(shard.shardIndex());
+        try {
+            ScanJdbcRepository.ScanSpecification stored;
+            ApiSpecification specification;
+            try (ScanTimeline.Span ignored = timeline.start(ScanPhase.PARSE)) {
+                stored = scanRepository.findSpecification(shard.scanId())
+                    .orElseThrow(() -> new IllegalStateException("Scan " + shard.scanId() + " no longer exists"));
+                specification = specificationLoader.load(specificationLoader.fetch(stored.content(), stored.url()),
+                    shard.endpointFrom(), shard.endpointTo());
+            }
+
+            SuppressionIndex suppressions = suppressionService.indexFor(stored.projectId());
+
+            AnalysisProgressListener listener = (analyzed, total) -> {
+                if (shardRepository.reportProgress(shard, workerId, analyzed, leaseSeconds)) {
+                    throw new ScanCancelledException(shard.scanId());
+                }
+            };
+            List<Vulnerability> vulnerabilities = new ArrayList<>();
+            try (ScanTimeline.Span ignored = timeline.start(ScanPhase.ANALYSIS)) {
+                for (Vulnerability vulnerability
+                    : analysisEngine.analyze(specification, progressInterval, listener, suppressions)) {
+                    // Specification-level findings are reported by the first shard only
+                    if (shard.shardIndex() == 0 || vulnerability.getEndpoint() != null) {
+                        vulnerabilities.add(vulnerability);
+                    }
+                }
+            }
+
+            Map<String, String> fingerprints = new LinkedHashMap<>();
+            for (Endpoint endpoint : specification.getEndpoints()) {
+                fingerprints.put(EndpointFingerprinter.keyOf(endpoint), fingerprinter.fingerprint(endpoint));
+            }
+            try (ScanTimeline.Span ignored = timeline.start(ScanPhase.PERSIST)) {
+                coordinator.completeShard(shard, workerId, vulnerabilities, fingerprints);
+            }
+
+        } catch (ScanCancelledException e) {
+            log.info("Shard {}#{} stopped: scan cancelled", shard.scanId(), shard.shardIndex());
+            coordinator.releaseShard(shard, workerId, ScanStatus.CANCELLED, null);
+        } catch (Exception e) {
+            log.error("Shard {}#{} failed (attempt {}/{})",
+                shard.scanId(), shard.shardIndex(), shard.attempts(), shard.maxAttempts(), e);
+            coordinator.releaseShard(shard, workerId, ScanStatus.FAILED, e.getMessage());
+        } finally {
+            saveTimeline(shard, timeline);
+        }
+    }
+
+    /**
+     * The last shard closes the scan inside {@code completeShard}, so its own entries may land
+     * just after the scan is reported finished.
+     */
+    private void saveTimeline(ScanShard shard, ScanTimeline timeline) {
+        scanMetrics.record(timeline);
+        try {
+            scanRepository.appendTimeline(shard.scanId(), timeline.serialize());
+        } catch (RuntimeException e) {
+            log.warn("Could not store the timeline of shard {}#{}", shard.scanId(), shard.shardIndex(), e);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.vtb.guardian.core.metrics;
+
+import com.vtb.guardian.core.analyzer.engine.AnalyzerMetrics;
+import com.vtb.guardian.core.model.enums.ScanStatus;
+import com.vtb.guardian.core.model.enums.VulnerabilityType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scan, phase and per-analyzer meters, exported through actuator ({@code /actuator/prometheus}).
+ *
+ * Meters for every phase and analyzer are registered up front, so recording on the analysis
+ * path is a map lookup and an atomic add.
+ */
+@Component
+public class ScanMetrics implements AnalyzerMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<ScanPhase, Timer> phaseTimers = new EnumMap<>(ScanPhase.class);
+    private final Map<VulnerabilityType, Timer> analyzerTimers = new EnumMap<>(VulnerabilityType.class);
+    private final Map<VulnerabilityType, Counter> analyzerEndpoints = new EnumMap<>(VulnerabilityType.class);
+    private final Map<VulnerabilityType, Counter> analyzerFindings = new EnumMap<>(VulnerabilityType.class);
+
+    public ScanMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        for (ScanPhase phase : ScanPhase.values()) {
+            phaseTimers.put(phase, Timer.builder("scan.phase.duration")
+                .description("Time a scan spent in one phase")
+                .tag("phase", phase.name().toLowerCase(Locale.ROOT))
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry));
+        }
+        for (VulnerabilityType type : VulnerabilityType.values()) {
+            String analyzer = type.name().toLowerCase(Locale.ROOT);
+            analyzerTimers.put(type, Timer.builder("scan.analyzer.duration")
+                .description("Time an analyzer spent on one chunk of endpoints")
+                .tag("analyzer", analyzer)
+                .register(meterRegistry));
+            analyzerEndpoints.put(type, meterRegistry.counter("scan.analyzer.endpoints", "analyzer", analyzer));
+            analyzerFindings.put(type, meterRegistry.counter("scan.analyzer.findings", "analyzer", analyzer));
+        }
+    }
+
+    @Override
+    public void record(VulnerabilityType type, long nanos, int endpoints, int findings) {
+        analyzerTimers.get(type).record(nanos, TimeUnit.NANOSECONDS);
+        analyzerEndpoints.get(type).increment(endpoints);
+        analyzerFindings.get(type).increment(findings);
+    }
+
+    public void record(ScanTimeline timeline) {
+        timeline.durations().forEach((phase, nanos) -> recordPhase(phase, nanos));
+    }
+
+    public void recordPhase(ScanPhase phase, long nanos) {
+        phaseTimers.get(phase).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void scanFinished(ScanStatus status, long durationMs) {
+        Timer.builder("scan.duration")
+            .description("Wall-clock time of a scan job, from claim to completion")
+            .tag("status", status.name().toLowerCase(Locale.ROOT))
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry)
+            .record(durationMs, TimeUnit.MILLISECONDS);
+    }
+}
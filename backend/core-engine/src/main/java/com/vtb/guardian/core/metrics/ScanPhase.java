@@ -0,0 +1,12 @@
+package com.vtb.guardian.core.metrics;
+
+/**
+ * Phases a scan spends its time in. LLM calls are measured by llm-service itself.
+ */
+public enum ScanPhase {
+    PARSE,      // fetch and parse the specification
+    ANALYSIS,   // static analyzers, without the time spent persisting their findings
+    PERSIST,    // writing findings, rollups and fingerprints
+    DYNAMIC,    // dynamic tests, fuzzing and load probes against the target
+    REPORT      // report generation, measured as a metric only
+}
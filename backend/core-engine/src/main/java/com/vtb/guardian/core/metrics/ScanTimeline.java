@@ -0,0 +1,172 @@
+package com.vtb.guardian.core.metrics;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Where one scan (or one shard of it) spent its time, per {@link ScanPhase}.
+ *
+ * Phases may nest - findings are persisted while the analysis is still running - and a nested
+ * phase's time is attributed to it, not to the enclosing phase. Repeated spans of a phase add
+ * up. Not thread-safe: spans are opened and closed by the thread that drives the scan.
+ *
+ * Stored with the scan in a compact text form, one {@code PHASE,startedAtMillis,durationMillis[,shard]}
+ * entry per phase separated by {@code ;}, so entries of shards and later dynamic tests can be
+ * appended with plain string concatenation.
+ */
+public final class ScanTimeline {
+
+    /**
+     * @param startedAt epoch millis when the phase was first entered
+     * @param shard     shard index, {@code null} for unsharded scans and scan-level phases
+     */
+    public record Entry(ScanPhase phase, long startedAt, long durationMs, Integer shard) {
+    }
+
+    private final Integer shard;
+    private final LongSupplier nanoClock;
+    private final LongSupplier millisClock;
+    private final Map<ScanPhase, long[]> phases = new EnumMap<>(ScanPhase.class);
+    private final Deque<Span> open = new ArrayDeque<>();
+
+    public ScanTimeline() {
+        this(null);
+    }
+
+    public ScanTimeline(Integer shard) {
+        this(shard, System::nanoTime, System::currentTimeMillis);
+    }
+
+    ScanTimeline(Integer shard, LongSupplier nanoClock, LongSupplier millisClock) {
+        this.shard = shard;
+        this.nanoClock = nanoClock;
+        this.millisClock = millisClock;
+    }
+
+    /**
+     * Opens a span of {@code phase}; close it with try-with-resources.
+     */
+    public Span start(ScanPhase phase) {
+        Span span = new Span(phase, nanoClock.getAsLong());
+        phases.computeIfAbsent(phase, ignored -> new long[] {millisClock.getAsLong(), 0});
+        open.push(span);
+        return span;
+    }
+
+    public final class Span implements AutoCloseable {
+
+        private final ScanPhase phase;
+        private final long start;
+        private long nested;
+        private boolean closed;
+
+        private Span(ScanPhase phase, long start) {
+            this.phase = phase;
+            this.start = start;
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            long elapsed = nanoClock.getAsLong() - start;
+            open.remove(this);
+            Span parent = open.peek();
+            if (parent != null) {
+                parent.nested += elapsed;
+            }
+            phases.get(phase)[1] += elapsed - nested;
+        }
+    }
+
+    /**
+     * @return nanoseconds spent in each phase so far, in phase order
+     */
+    public Map<ScanPhase, Long> durations() {
+        Map<ScanPhase, Long> durations = new EnumMap<>(ScanPhase.class);
+        phases.forEach((phase, state) -> durations.put(phase, state[1]));
+        return durations;
+    }
+
+    public List<Entry> entries() {
+        List<Entry> entries = new ArrayList<>(phases.size());
+        phases.forEach((phase, state) -> entries.add(new Entry(phase, state[0], state[1] / 1_000_000, shard)));
+        return entries;
+    }
+
+    public String serialize() {
+        return format(entries());
+    }
+
+    public static String format(List<Entry> entries) {
+        StringBuilder out = new StringBuilder(entries.size() * 32);
+        for (Entry entry : entries) {
+            if (!out.isEmpty()) {
+                out.append(';');
+            }
+            out.append(entry.phase().name())
+                .append(',').append(entry.startedAt())
+                .append(',').append(entry.durationMs());
+            if (entry.shard() != null) {
+                out.append(',').append(entry.shard());
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Reads the stored form; entries that cannot be read (e.g. a phase removed since) are skipped.
+     */
+    public static List<Entry> parse(String stored) {
+        List<Entry> entries = new ArrayList<>();
+        if (stored == null || stored.isBlank()) {
+            return entries;
+        }
+        for (String part : stored.split(";")) {
+            String[] fields = part.split(",");
+            if (fields.length < 3) {
+                continue;
+            }
+            try {
+                entries.add(new Entry(ScanPhase.valueOf(fields[0].trim()), Long.parseLong(fields[1].trim()),
+                    Long.parseLong(fields[2].trim()), fields.length > 3 ? Integer.valueOf(fields[3].trim()) : null));
+            } catch (IllegalArgumentException e) {
+                // Unknown phase or malformed number: keep the rest of the timeline readable
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * {@code Server-Timing} header value with the total time per phase, e.g.
+     * {@code parse;dur=120, analysis;dur=3400;desc="4 runs"}; durations of several entries add up.
+     */
+    public static String serverTiming(List<Entry> entries) {
+        Map<ScanPhase, long[]> totals = new EnumMap<>(ScanPhase.class);
+        for (Entry entry : entries) {
+            long[] total = totals.computeIfAbsent(entry.phase(), ignored -> new long[2]);
+            total[0] += entry.durationMs();
+            total[1]++;
+        }
+        StringBuilder out = new StringBuilder();
+        totals.forEach((phase, total) -> {
+            if (!out.isEmpty()) {
+                out.append(", ");
+            }
+            out.append(phase.name().toLowerCase(Locale.ROOT)).append(";dur=").append(total[0]);
+            if (total[1] > 1) {
+                // Shards, retried attempts or repeated dynamic tests
+                out.append(";desc=\"").append(total[1]).append(" runs\"");
+            }
+        });
+        return out.toString();
+    }
+}
@@ -0,0 +1,39 @@
+package com.vtb.guardian.core.model.dto.request;
+
+import com.vtb.guardian.core.model.enums.VulnerabilityType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateSuppressionRuleRequest {
+
+    /** HTTP method; omit to match any method. */
+    @Pattern(regexp = "(?i)GET|POST|PUT|PATCH|DELETE|HEAD|OPTIONS|TRACE")
+    private String method;
+
+    /** Path template, e.g. {@code /users/{id}} or {@code /internal/**}. */
+    @NotBlank
+    @Size(max = 500)
+    @Pattern(regexp = "/.*", message = "must start with /")
+    private String pathPattern;
+
+    /** Omit to suppress every vulnerability type on the matching endpoints. */
+    private VulnerabilityType type;
+
+    @NotBlank
+    private String reason;
+
+    private String createdBy;
+
+    private Instant expiresAt;
+}
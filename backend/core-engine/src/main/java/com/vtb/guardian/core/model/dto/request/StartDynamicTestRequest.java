@@ -0,0 +1,52 @@
+package com.vtb.guardian.core.model.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StartDynamicTestRequest {
+
+    /** Base URL of the deployed API; endpoint paths are appended to it. */
+    @NotBlank
+    @Pattern(regexp = "https?://.+", message = "must be an http or https URL")
+    private String targetUrl;
+
+    /** Sent with every request, e.g. the Authorization header of a test user. */
+    private Map<String, String> headers;
+
+    /** Identifiers of objects owned by another user, used for BOLA id swapping. */
+    private List<String> foreignIds;
+
+    /** Overrides the configured requests-per-second limit; cannot exceed it. */
+    @Min(1)
+    @Max(10_000)
+    private Integer maxRequestsPerSecond;
+
+    /** Also fuzz parameters and bodies, continuing from the project's stored corpus. */
+    private boolean fuzzing;
+
+    /** Fuzzing time budget; defaults to the configured duration. */
+    @Min(1)
+    @Max(3_600)
+    private Integer fuzzingSeconds;
+
+    /**
+     * Operations to ramp load against for the rate limiting check, e.g. {@code POST /auth/login}.
+     * Each one receives up to the configured request budget, so only a few may be named.
+     */
+    @Size(max = 5)
+    private List<@Pattern(regexp = "(?i)(GET|POST|PUT|PATCH|DELETE|HEAD|OPTIONS) /.*") String> loadProbeEndpoints;
+}
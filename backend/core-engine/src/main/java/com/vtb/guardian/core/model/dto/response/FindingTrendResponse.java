@@ -0,0 +1,39 @@
+package com.vtb.guardian.core.model.dto.response;
+
+import com.vtb.guardian.core.model.enums.SeverityLevel;
+import com.vtb.guardian.core.model.enums.VulnerabilityType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FindingTrendResponse {
+
+    private UUID projectId;
+    private String granularity;
+    private LocalDate from;
+    private LocalDate to;
+    private List<Point> points;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Point {
+
+        /** First day of the period. */
+        private LocalDate period;
+        private long total;
+        private Map<SeverityLevel, Long> bySeverity;
+        private Map<VulnerabilityType, Long> byType;
+    }
+}
@@ -0,0 +1,30 @@
+package com.vtb.guardian.core.model.dto.response;
+
+import com.vtb.guardian.core.model.enums.ScanStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScanProgressResponse {
+
+    private UUID scanId;
+    private ScanStatus status;
+    private int priority;
+    private int attempts;
+    private int endpointsAnalyzed;
+    private int endpointsTotal;
+    private double percent;
+    private boolean cancelRequested;
+    private String errorMessage;
+    private Instant createdAt;
+    private Instant startedAt;
+    private Instant completedAt;
+}
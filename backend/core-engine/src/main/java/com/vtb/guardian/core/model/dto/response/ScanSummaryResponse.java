@@ -0,0 +1,36 @@
+package com.vtb.guardian.core.model.dto.response;
+
+import com.vtb.guardian.core.model.enums.ScanStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Lightweight projection of a scan for listings; no specification content or findings.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScanSummaryResponse {
+
+    private UUID id;
+    private UUID projectId;
+    private String name;
+    private ScanStatus status;
+    private Integer totalEndpoints;
+    private int criticalFindings;
+    private int highFindings;
+    private int mediumFindings;
+    private int lowFindings;
+    private int infoFindings;
+    private Long durationMs;
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+    /** Set when retention removed the findings; severity counters are still accurate. */
+    private LocalDateTime compactedAt;
+}
@@ -0,0 +1,24 @@
+package com.vtb.guardian.core.model.dto.response;
+
+import com.vtb.guardian.core.metrics.ScanPhase;
+import com.vtb.guardian.core.metrics.ScanTimeline;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScanTimelineResponse {
+
+    private UUID scanId;
+    // Milliseconds per phase, summed over shards, retried attempts and dynamic test runs
+    private Map<ScanPhase, Long> totalMs;
+    private List<ScanTimeline.Entry> entries;
+}
@@ -0,0 +1,42 @@
+package com.vtb.guardian.core.model.dto.response;
+
+import com.vtb.guardian.core.analyzer.suppression.SuppressionRule;
+import com.vtb.guardian.core.model.enums.VulnerabilityType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SuppressionRuleResponse {
+
+    private UUID id;
+    private UUID projectId;
+    private String method;
+    private String pathPattern;
+    private VulnerabilityType type;
+    private String reason;
+    private String createdBy;
+    private Instant createdAt;
+    private Instant expiresAt;
+
+    public static SuppressionRuleResponse from(SuppressionRule rule) {
+        return SuppressionRuleResponse.builder()
+            .id(rule.id())
+            .projectId(rule.projectId())
+            .method(rule.method())
+            .pathPattern(rule.pathPattern())
+            .type(rule.type())
+            .reason(rule.reason())
+            .createdBy(rule.createdBy())
+            .createdAt(rule.createdAt())
+            .expiresAt(rule.expiresAt())
+            .build();
+    }
+}
@@ -0,0 +1,11 @@
+package com.vtb.guardian.core.model.enums;
+
+/**
+ * Which part of the scanner reported a finding; part of the finding's identity within a scan.
+ */
+public enum FindingSource {
+    STATIC,
+    DYNAMIC,
+    FUZZ,
+    LOAD
+}
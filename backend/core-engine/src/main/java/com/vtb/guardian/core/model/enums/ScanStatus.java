@@ -2,8 +2,9 @@ package com.vtb.guardian.core.model.enums;
 
 public enum ScanStatus {
     PENDING,
+    QUEUED,
     RUNNING,
     COMPLETED,
-    FAILED
+    FAILED,
+    CANCELLED
 }
-
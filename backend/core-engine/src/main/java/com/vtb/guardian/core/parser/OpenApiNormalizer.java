@@ -0,0 +1,35 @@
+package com.vtb.guardian.core.parser;
+
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Resolves a specification with swagger-parser and writes it back as one OpenAPI 3 JSON document.
+ *
+ * Swagger 2.0 documents are converted ({@code definitions}, {@code host}/{@code basePath} become
+ * components and servers) and external {@code $ref}s are bundled into {@code components}, so the
+ * result can be read by {@link com.vtb.guardian.core.parser.streaming.StreamingOpenApiParser}.
+ */
+@Component
+public class OpenApiNormalizer {
+
+    public byte[] normalize(byte[] specification) throws IOException {
+        ParseOptions options = new ParseOptions();
+        options.setResolve(true);
+
+        SwaggerParseResult result = new OpenAPIParser()
+            .readContents(new String(specification, StandardCharsets.UTF_8), null, options);
+        OpenAPI openApi = result.getOpenAPI();
+        if (openApi == null) {
+            throw new IOException("Invalid specification: " + result.getMessages());
+        }
+        return Json.mapper().writeValueAsBytes(openApi);
+    }
+}
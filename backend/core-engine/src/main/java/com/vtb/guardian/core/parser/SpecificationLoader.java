@@ -0,0 +1,114 @@
+package com.vtb.guardian.core.parser;
+
+import com.vtb.guardian.core.model.domain.ApiSpecification;
+import com.vtb.guardian.core.model.domain.Endpoint;
+import com.vtb.guardian.core.parser.streaming.SpecificationHeader;
+import com.vtb.guardian.core.parser.streaming.SpecificationSource;
+import com.vtb.guardian.core.parser.streaming.StreamingOpenApiParser;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Turns a stored scan specification (inline content or URL) into an {@link ApiSpecification}.
+ *
+ * Specifications below {@code app.scan.streaming.threshold-bytes}, and any document that is not
+ * OpenAPI 3, are resolved by swagger-parser first. Only large OpenAPI 3 documents are read by the
+ * token-stream parser directly; external {@code $ref}s in those are not followed.
+ */
+@Component
+@Slf4j
+public class SpecificationLoader {
+
+    public static final long DEFAULT_STREAMING_THRESHOLD_BYTES = 5L * 1024 * 1024;
+
+    private static final Duration DOWNLOAD_TIMEOUT = Duration.ofSeconds(60);
+
+    private final StreamingOpenApiParser parser;
+    private final OpenApiNormalizer normalizer;
+    private final long streamingThresholdBytes;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(10))
+        .followRedirects(HttpClient.Redirect.NORMAL)
+        .build();
+
+    public SpecificationLoader(StreamingOpenApiParser parser,
+                               OpenApiNormalizer normalizer,
+                               @Value("${app.scan.streaming.threshold-bytes:5242880}") long streamingThresholdBytes) {
+        this.parser = parser;
+        this.normalizer = normalizer;
+        this.streamingThresholdBytes = streamingThresholdBytes;
+    }
+
+    public byte[] fetch(String content, String url) throws IOException {
+        if (content != null && !content.isBlank()) {
+            return content.getBytes(StandardCharsets.UTF_8);
+        }
+        if (url == null || url.isBlank()) {
+            throw new IOException("Scan has neither specification content nor URL");
+        }
+
+        log.debug("Downloading specification from {}", url);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url)).timeout(DOWNLOAD_TIMEOUT).GET().build();
+        try {
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() / 100 != 2) {
+                throw new IOException("Failed to download specification: HTTP " + response.statusCode());
+            }
+            return response.body();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Specification download interrupted", e);
+        }
+    }
+
+    public ApiSpecification load(byte[] specification) throws IOException {
+        return load(specification, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Loads only the endpoints at positions {@code [from, to)} in specification order;
+     * other operations are skipped without being converted.
+     */
+    public ApiSpecification load(byte[] specification, int from, int to) throws IOException {
+        List<Endpoint> endpoints = new ArrayList<>();
+        int[] position = {0};
+        SpecificationHeader header = parser.parse(open(specification), operation -> {
+            int index = position[0]++;
+            if (index >= from && index < to) {
+                endpoints.add(operation.toEndpoint());
+            }
+        });
+
+        return ApiSpecification.builder()
+            .title(header.title())
+            .version(header.version())
+            .baseUrl(header.baseUrl())
+            .endpoints(endpoints)
+            .build();
+    }
+
+    private SpecificationSource open(byte[] specification) throws IOException {
+        if (specification.length < streamingThresholdBytes) {
+            return SpecificationSource.of(normalizer.normalize(specification));
+        }
+        SpecificationSource json = parser.toStreamable(SpecificationSource.of(specification));
+        if (!parser.isOpenApi3(json)) {
+            log.debug("Specification of {} bytes is not OpenAPI 3, resolving it with swagger-parser",
+                specification.length);
+            return SpecificationSource.of(normalizer.normalize(specification));
+        }
+        return json;
+    }
+}
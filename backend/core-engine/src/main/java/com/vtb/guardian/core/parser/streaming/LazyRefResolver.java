@@ -0,0 +1,146 @@
+package com.vtb.guardian.core.parser.streaming;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Resolves local {@code #/components/...} references by re-reading only the referenced
+ * subtree from the source. Resolved nodes are memoised in a small LRU so shared schemas
+ * are parsed once per hot streak rather than kept for the whole document.
+ */
+public class LazyRefResolver {
+
+    private static final int MAX_INLINE_DEPTH = 32;
+
+    private final SpecificationSource source;
+    private final Map<String, Long> offsets;
+    private final ObjectMapper objectMapper;
+    private final Map<String, JsonNode> cache;
+
+    public LazyRefResolver(SpecificationSource source, SpecificationHeader header,
+                           ObjectMapper objectMapper, int cacheSize) {
+        this.source = source;
+        this.offsets = header.componentOffsets();
+        this.objectMapper = objectMapper;
+        this.cache = new LinkedHashMap<>(cacheSize * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, JsonNode> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * @return the referenced node, or {@code null} for external or unknown references
+     */
+    public JsonNode resolve(String ref) {
+        JsonNode cached = cache.get(ref);
+        if (cached != null) {
+            return cached;
+        }
+        Long offset = offsets.get(ref);
+        if (offset == null) {
+            return null;
+        }
+        try (InputStream in = source.openAt(offset);
+             JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            parser.nextToken();
+            JsonNode node = objectMapper.readTree(parser);
+            cache.put(ref, node);
+            return node;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to resolve " + ref, e);
+        }
+    }
+
+    /**
+     * Follows a chain of {@code $ref}s on {@code node} itself (not on its children).
+     */
+    public JsonNode dereference(JsonNode node) {
+        JsonNode current = node;
+        for (int depth = 0; current != null && current.has("$ref") && depth < 16; depth++) {
+            JsonNode resolved = resolve(current.get("$ref").asText());
+            if (resolved == null) {
+                return current;
+            }
+            current = resolved;
+        }
+        return current;
+    }
+
+    /**
+     * Returns {@code node} with every local {@code $ref} in its subtree replaced by the
+     * referenced node. A reference back into a schema that is already being inlined
+     * (a recursive schema) stays a {@code $ref} node, as do external references.
+     * Unchanged subtrees are shared with the input rather than copied.
+     */
+    public JsonNode inline(JsonNode node) {
+        return inline(node, new ArrayDeque<>(), new HashMap<>(), 0);
+    }
+
+    private JsonNode inline(JsonNode node, Deque<String> stack, Map<String, JsonNode> inlined, int depth) {
+        if (node == null || !node.isContainerNode() || depth > MAX_INLINE_DEPTH) {
+            return node;
+        }
+        if (node.has("$ref")) {
+            String ref = node.get("$ref").asText();
+            JsonNode done = inlined.get(ref);
+            if (done != null) {
+                return done;
+            }
+            JsonNode target = stack.contains(ref) ? null : resolve(ref);
+            if (target == null) {
+                return node;
+            }
+            stack.push(ref);
+            try {
+                JsonNode result = inline(target, stack, inlined, depth + 1);
+                inlined.put(ref, result);
+                return result;
+            } finally {
+                stack.pop();
+            }
+        }
+        if (node.isArray()) {
+            ArrayNode copy = null;
+            for (int i = 0; i < node.size(); i++) {
+                JsonNode child = node.get(i);
+                JsonNode resolved = inline(child, stack, inlined, depth + 1);
+                if (resolved != child && copy == null) {
+                    copy = objectMapper.createArrayNode().addAll((ArrayNode) node);
+                }
+                if (copy != null) {
+                    copy.set(i, resolved);
+                }
+            }
+            return copy != null ? copy : node;
+        }
+        ObjectNode copy = null;
+        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode resolved = inline(field.getValue(), stack, inlined, depth + 1);
+            if (resolved != field.getValue()) {
+                if (copy == null) {
+                    copy = objectMapper.createObjectNode();
+                    copy.setAll((ObjectNode) node);
+                }
+                copy.set(field.getKey(), resolved);
+            }
+        }
+        return copy != null ? copy : node;
+    }
+}
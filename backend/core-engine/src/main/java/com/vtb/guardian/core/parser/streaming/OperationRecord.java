@@ -0,0 +1,64 @@
+package com.vtb.guardian.core.parser.streaming;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.vtb.guardian.core.model.domain.Endpoint;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * One parsed operation with its local {@code $ref}s inlined by {@link LazyRefResolver#inline}.
+ * Only references into recursive schemas are left as {@code $ref} nodes.
+ */
+public record OperationRecord(
+    String path,
+    String method,
+    String operationId,
+    String summary,
+    String description,
+    List<String> securitySchemes,
+    List<JsonNode> parameters,
+    JsonNode requestBody,
+    JsonNode responses,
+    boolean deprecated,
+    String baseUrl
+) {
+
+    private static final ObjectMapper ENDPOINT_MAPPER = JsonMapper.builder()
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+        .build();
+
+    /**
+     * Builds the domain endpoint. Parameters, request body and responses are bound from
+     * the resolved nodes into the endpoint's own model types, so analyzers and fingerprints
+     * see the same schemas the eager parser would have produced.
+     */
+    public Endpoint toEndpoint() {
+        Endpoint endpoint = Endpoint.builder()
+            .path(path)
+            .method(method)
+            .description(description != null ? description : summary)
+            .securitySchemes(securitySchemes)
+            .baseUrl(baseUrl)
+            .build();
+
+        ObjectNode details = ENDPOINT_MAPPER.createObjectNode();
+        details.set("parameters", ENDPOINT_MAPPER.createArrayNode().addAll(parameters));
+        if (requestBody != null) {
+            details.set("requestBody", requestBody);
+        }
+        if (responses != null) {
+            details.set("responses", responses);
+        }
+        try {
+            return ENDPOINT_MAPPER.readerForUpdating(endpoint).readValue(details);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to bind operation " + method + " " + path, e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.vtb.guardian.core.parser.streaming;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Document-level data collected by the header pass, before any path is parsed.
+ *
+ * @param componentOffsets JSON pointer ({@code #/components/schemas/User}) to byte offset of its value
+ */
+public record SpecificationHeader(
+    String title,
+    String version,
+    String baseUrl,
+    List<String> globalSecurity,
+    Map<String, Long> componentOffsets
+) {
+}
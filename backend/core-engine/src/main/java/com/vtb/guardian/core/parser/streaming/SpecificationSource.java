@@ -0,0 +1,65 @@
+package com.vtb.guardian.core.parser.streaming;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Re-readable JSON document that can be opened at an arbitrary byte offset.
+ *
+ * The streaming parser reads the document more than once (header pass, path pass,
+ * lazy {@code $ref} lookups) instead of keeping it in memory.
+ */
+public interface SpecificationSource {
+
+    InputStream open() throws IOException;
+
+    InputStream openAt(long offset) throws IOException;
+
+    long size() throws IOException;
+
+    static SpecificationSource of(Path file) {
+        return new SpecificationSource() {
+            @Override
+            public InputStream open() throws IOException {
+                return openAt(0);
+            }
+
+            @Override
+            public InputStream openAt(long offset) throws IOException {
+                FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+                channel.position(offset);
+                return Channels.newInputStream(channel);
+            }
+
+            @Override
+            public long size() throws IOException {
+                return Files.size(file);
+            }
+        };
+    }
+
+    static SpecificationSource of(byte[] content) {
+        return new SpecificationSource() {
+            @Override
+            public InputStream open() {
+                return new ByteArrayInputStream(content);
+            }
+
+            @Override
+            public InputStream openAt(long offset) {
+                return new ByteArrayInputStream(content, (int) offset, content.length - (int) offset);
+            }
+
+            @Override
+            public long size() {
+                return content.length;
+            }
+        };
+    }
+}
@@ -0,0 +1,261 @@
+package com.vtb.guardian.core.parser.streaming;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * OpenAPI 3 parser built on Jackson's token stream.
+ *
+ * Unlike swagger-parser it never materialises the whole document: a header pass
+ * collects {@code info}, {@code servers}, global {@code security} and the byte offsets
+ * of all components (skipping their bodies), then a second pass walks {@code paths}
+ * and emits one {@link OperationRecord} per operation. Peak memory is bounded by the
+ * largest path item plus the resolver cache.
+ */
+@Component
+@Slf4j
+public class StreamingOpenApiParser {
+
+    private static final Set<String> HTTP_METHODS =
+        Set.of("get", "put", "post", "delete", "options", "head", "patch", "trace");
+
+    private static final int RESOLVER_CACHE_SIZE = 256;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final YAMLFactory yamlFactory = new YAMLFactory();
+
+    /**
+     * Parses the document and streams its operations to {@code consumer} in document order.
+     */
+    public SpecificationHeader parse(SpecificationSource source, Consumer<OperationRecord> consumer)
+            throws IOException {
+        SpecificationSource json = toStreamable(source);
+        SpecificationHeader header = readHeader(json);
+        streamOperations(json, header, consumer);
+        return header;
+    }
+
+    /**
+     * Whether the JSON document declares {@code openapi: 3.x}. Reads top-level fields only,
+     * skipping the bodies of any that come before {@code openapi}.
+     */
+    public boolean isOpenApi3(SpecificationSource json) throws IOException {
+        try (InputStream in = json.open(); JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            expect(parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("openapi".equals(field)) {
+                    return parser.getValueAsString("").startsWith("3.");
+                }
+                parser.skipChildren();
+            }
+        }
+        return false;
+    }
+
+    public SpecificationHeader readHeader(SpecificationSource source) throws IOException {
+        String title = null;
+        String version = null;
+        String baseUrl = null;
+        List<String> globalSecurity = List.of();
+        Map<String, Long> componentOffsets = new HashMap<>();
+
+        try (InputStream in = source.open(); JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            expect(parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "info" -> {
+                        JsonNode info = objectMapper.readTree(parser);
+                        title = info.path("title").asText(null);
+                        version = info.path("version").asText(null);
+                    }
+                    case "servers" -> {
+                        JsonNode servers = objectMapper.readTree(parser);
+                        baseUrl = servers.path(0).path("url").asText(null);
+                    }
+                    case "security" -> globalSecurity = securityNames(objectMapper.readTree(parser));
+                    case "components" -> indexComponents(parser, componentOffsets);
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+
+        log.debug("Indexed {} components of '{}'", componentOffsets.size(), title);
+        return new SpecificationHeader(title, version, baseUrl, globalSecurity, Map.copyOf(componentOffsets));
+    }
+
+    public void streamOperations(SpecificationSource source, SpecificationHeader header,
+                                 Consumer<OperationRecord> consumer) throws IOException {
+        LazyRefResolver resolver = new LazyRefResolver(source, header, objectMapper, RESOLVER_CACHE_SIZE);
+
+        try (InputStream in = source.open(); JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            expect(parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if (!"paths".equals(field)) {
+                    parser.skipChildren();
+                    continue;
+                }
+                expect(parser.currentToken(), JsonToken.START_OBJECT);
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String path = parser.currentName();
+                    parser.nextToken();
+                    JsonNode pathItem = resolver.dereference(objectMapper.readTree(parser));
+                    emitOperations(path, pathItem, header, resolver, consumer);
+                }
+            }
+        }
+    }
+
+    private void emitOperations(String path, JsonNode pathItem, SpecificationHeader header,
+                                LazyRefResolver resolver, Consumer<OperationRecord> consumer) {
+        List<JsonNode> sharedParameters = resolveAll(pathItem.path("parameters"), resolver);
+
+        Iterator<Map.Entry<String, JsonNode>> fields = pathItem.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> entry = fields.next();
+            if (!HTTP_METHODS.contains(entry.getKey())) {
+                continue;
+            }
+            JsonNode operation = entry.getValue();
+
+            List<JsonNode> parameters = mergeParameters(sharedParameters,
+                resolveAll(operation.path("parameters"), resolver));
+            List<String> security = operation.has("security")
+                ? securityNames(operation.get("security"))
+                : header.globalSecurity();
+            JsonNode requestBody = resolver.inline(operation.get("requestBody"));
+
+            consumer.accept(new OperationRecord(
+                path,
+                entry.getKey().toUpperCase(Locale.ROOT),
+                operation.path("operationId").asText(null),
+                operation.path("summary").asText(null),
+                operation.path("description").asText(null),
+                security,
+                parameters,
+                requestBody,
+                resolver.inline(operation.get("responses")),
+                operation.path("deprecated").asBoolean(false),
+                header.baseUrl()
+            ));
+        }
+    }
+
+    private void indexComponents(JsonParser parser, Map<String, Long> offsets) throws IOException {
+        expect(parser.currentToken(), JsonToken.START_OBJECT);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String kind = parser.currentName();
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                parser.nextToken();
+                offsets.put("#/components/" + kind + "/" + escapePointer(name),
+                    parser.currentTokenLocation().getByteOffset());
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private static List<JsonNode> resolveAll(JsonNode array, LazyRefResolver resolver) {
+        if (!array.isArray() || array.isEmpty()) {
+            return List.of();
+        }
+        List<JsonNode> resolved = new ArrayList<>(array.size());
+        for (JsonNode item : array) {
+            resolved.add(resolver.inline(item));
+        }
+        return resolved;
+    }
+
+    /**
+     * Operation-level parameters override path-level ones with the same name and location.
+     */
+    private static List<JsonNode> mergeParameters(List<JsonNode> shared, List<JsonNode> own) {
+        if (shared.isEmpty()) {
+            return own;
+        }
+        Set<String> overridden = new LinkedHashSet<>();
+        for (JsonNode parameter : own) {
+            overridden.add(parameter.path("in").asText() + ":" + parameter.path("name").asText());
+        }
+        List<JsonNode> merged = new ArrayList<>(shared.size() + own.size());
+        for (JsonNode parameter : shared) {
+            if (!overridden.contains(parameter.path("in").asText() + ":" + parameter.path("name").asText())) {
+                merged.add(parameter);
+            }
+        }
+        merged.addAll(own);
+        return merged;
+    }
+
+    private static List<String> securityNames(JsonNode requirements) {
+        Set<String> names = new LinkedHashSet<>();
+        for (JsonNode requirement : requirements) {
+            requirement.fieldNames().forEachRemaining(names::add);
+        }
+        return List.copyOf(names);
+    }
+
+    private static String escapePointer(String name) {
+        return name.replace("~", "~0").replace("/", "~1");
+    }
+
+    private static void expect(JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new IOException("Malformed OpenAPI document: expected " + expected + " but got " + actual);
+        }
+    }
+
+    /**
+     * Returns a JSON view of the source. YAML has no byte-addressable token stream,
+     * so YAML documents are transcoded to JSON once, token by token, without building a tree.
+     */
+    public SpecificationSource toStreamable(SpecificationSource source) throws IOException {
+        try (InputStream in = source.open()) {
+            int c;
+            do {
+                c = in.read();
+            } while (c == ' ' || c == '\n' || c == '\r' || c == '\t' || c == 0xEF || c == 0xBB || c == 0xBF);
+            if (c == '{') {
+                return source;
+            }
+        }
+        log.debug("Transcoding YAML specification to JSON for streaming");
+        ByteArrayOutputStream json = new ByteArrayOutputStream((int) Math.min(source.size(), Integer.MAX_VALUE - 8));
+        try (InputStream in = source.open();
+             JsonParser yaml = yamlFactory.createParser(in);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(json)) {
+            if (yaml.nextToken() != null) {
+                generator.copyCurrentStructure(yaml);
+            }
+        }
+        return SpecificationSource.of(json.toByteArray());
+    }
+}
@@ -0,0 +1,111 @@
+package com.vtb.guardian.core.report;
+
+import com.vtb.guardian.core.model.domain.Vulnerability;
+import com.vtb.guardian.core.model.dto.response.ScanSummaryResponse;
+import com.vtb.guardian.core.model.enums.ScanStatus;
+import com.vtb.guardian.core.model.enums.SeverityLevel;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compact binary export of a scan's findings (Guardian Scan Findings, {@code .gsf}) for CI caching and diffing.
+ *
+ * <pre>
+ * header      magic "GSF\0" | version u16 | flags u16 | scan id (16 bytes)             24 bytes
+ * records     type u8 | severity u8 | reserved u16 | method i32 | endpoint i32 | title i32   16 bytes each
+ * dictionary  length i32 | UTF-8 bytes, referenced by index from records
+ * footer      records u32 | dictionary entries u32 | dictionary offset u64 |
+ *             count per severity 5 x u32 | magic "GSF\0"                                  40 bytes
+ * </pre>
+ *
+ * All numbers are big-endian; a missing string is reference -1. Type and severity are ordinals of
+ * {@code VulnerabilityType} and {@code SeverityLevel}, so those enums may only be appended to;
+ * reordering them requires a new version. The footer carries the counts so the file can be written
+ * in one pass and readers can answer "fail on HIGH?" without touching the records.
+ */
+public class GsfReportWriter implements ReportWriter {
+
+    public static final byte[] MAGIC = {'G', 'S', 'F', 0};
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 24;
+    public static final int RECORD_SIZE = 16;
+    public static final int FOOTER_SIZE = 40;
+
+    /** The scan was in a terminal state when exported, so the file can be cached. */
+    public static final int FLAG_FINAL = 1;
+
+    private static final Set<ScanStatus> FINAL_STATUSES =
+        EnumSet.of(ScanStatus.COMPLETED, ScanStatus.FAILED, ScanStatus.CANCELLED);
+
+    private final DataOutputStream out;
+    private final Map<String, Integer> dictionaryIndex = new HashMap<>();
+    private final List<String> dictionary = new ArrayList<>();
+    private final int[] severityCounts = new int[SeverityLevel.values().length];
+    private long offset;
+    private int records;
+
+    public GsfReportWriter(OutputStream out) {
+        this.out = new DataOutputStream(new BufferedOutputStream(out, 64 * 1024));
+    }
+
+    @Override
+    public void begin(ScanSummaryResponse scan) throws IOException {
+        out.write(MAGIC);
+        out.writeShort(VERSION);
+        out.writeShort(FINAL_STATUSES.contains(scan.getStatus()) ? FLAG_FINAL : 0);
+        out.writeLong(scan.getId().getMostSignificantBits());
+        out.writeLong(scan.getId().getLeastSignificantBits());
+        offset = HEADER_SIZE;
+    }
+
+    @Override
+    public void finding(Vulnerability v) throws IOException {
+        out.writeByte(v.getType().ordinal());
+        out.writeByte(v.getSeverity().ordinal());
+        out.writeShort(0);
+        out.writeInt(intern(v.getMethod()));
+        out.writeInt(intern(v.getEndpoint()));
+        out.writeInt(intern(v.getTitle()));
+        severityCounts[v.getSeverity().ordinal()]++;
+        records++;
+        offset += RECORD_SIZE;
+    }
+
+    @Override
+    public void end() throws IOException {
+        long dictionaryOffset = offset;
+        for (String value : dictionary) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+        out.writeInt(records);
+        out.writeInt(dictionary.size());
+        out.writeLong(dictionaryOffset);
+        for (int count : severityCounts) {
+            out.writeInt(count);
+        }
+        out.write(MAGIC);
+        out.flush();
+    }
+
+    private int intern(String value) {
+        if (value == null) {
+            return -1;
+        }
+        return dictionaryIndex.computeIfAbsent(value, key -> {
+            dictionary.add(key);
+            return dictionary.size() - 1;
+        });
+    }
+}
@@ -0,0 +1,126 @@
+package com.vtb.guardian.core.report;
+
+import com.vtb.guardian.core.model.domain.Vulnerability;
+import com.vtb.guardian.core.model.dto.response.ScanSummaryResponse;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Self-contained HTML report: a summary table followed by one section per finding.
+ */
+public class HtmlReportWriter implements ReportWriter {
+
+    private static final String STYLE = """
+        body{font-family:sans-serif;margin:2em;color:#222}
+        table{border-collapse:collapse}td,th{border:1px solid #ccc;padding:4px 8px}
+        .finding{border-left:4px solid #999;padding:0 1em;margin:1em 0}
+        .critical{border-color:#b00020}.high{border-color:#e65100}.medium{border-color:#f9a825}
+        .low{border-color:#1565c0}.info{border-color:#9e9e9e}
+        pre{background:#f5f5f5;padding:.5em;overflow:auto}
+        """;
+
+    private final Writer out;
+
+    public HtmlReportWriter(OutputStream out) {
+        this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void begin(ScanSummaryResponse scan) throws IOException {
+        String name = scan.getName() != null ? scan.getName() : scan.getId().toString();
+        out.write("<!DOCTYPE html>\n<html><head><meta charset=\"utf-8\"><title>");
+        text("Scan report: " + name);
+        out.write("</title><style>");
+        out.write(STYLE);
+        out.write("</style></head><body>\n<h1>");
+        text(name);
+        out.write("</h1>\n<table><tr><th>Status</th><th>Critical</th><th>High</th><th>Medium</th>"
+            + "<th>Low</th><th>Info</th></tr>\n<tr>");
+        cell(scan.getStatus().name());
+        cell(String.valueOf(scan.getCriticalFindings()));
+        cell(String.valueOf(scan.getHighFindings()));
+        cell(String.valueOf(scan.getMediumFindings()));
+        cell(String.valueOf(scan.getLowFindings()));
+        cell(String.valueOf(scan.getInfoFindings()));
+        out.write("</tr></table>\n<h2>Findings</h2>\n");
+    }
+
+    @Override
+    public void finding(Vulnerability v) throws IOException {
+        out.write("<section class=\"finding ");
+        out.write(v.getSeverity().name().toLowerCase(Locale.ROOT));
+        out.write("\"><h3>");
+        text("[" + v.getSeverity() + "] " + v.getTitle());
+        out.write("</h3>\n<p><code>");
+        text(v.getMethod() != null ? v.getMethod() + " " + nullToEmpty(v.getEndpoint()) : nullToEmpty(v.getEndpoint()));
+        out.write("</code> &middot; ");
+        text(v.getType().name() + (v.getOwaspCategory() != null ? " / " + v.getOwaspCategory() : ""));
+        out.write("</p>\n");
+        paragraph(v.getDescription());
+        if (v.getRecommendation() != null) {
+            out.write("<h4>Recommendation</h4>");
+            paragraph(v.getRecommendation());
+        }
+        if (v.getCodeExample() != null) {
+            out.write("<pre>");
+            text(v.getCodeExample());
+            out.write("</pre>\n");
+        }
+        List<String> references = v.getReferences();
+        if (references != null && !references.isEmpty()) {
+            out.write("<ul>");
+            for (String reference : references) {
+                out.write("<li>");
+                text(reference);
+                out.write("</li>");
+            }
+            out.write("</ul>\n");
+        }
+        out.write("</section>\n");
+    }
+
+    @Override
+    public void end() throws IOException {
+        out.write("</body></html>\n");
+        out.flush();
+    }
+
+    private void cell(String value) throws IOException {
+        out.write("<td>");
+        text(value);
+        out.write("</td>");
+    }
+
+    private void paragraph(String value) throws IOException {
+        if (value != null) {
+            out.write("<p>");
+            text(value);
+            out.write("</p>\n");
+        }
+    }
+
+    private void text(String value) throws IOException {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '<' -> out.write("&lt;");
+                case '>' -> out.write("&gt;");
+                case '&' -> out.write("&amp;");
+                case '"' -> out.write("&quot;");
+                case '\'' -> out.write("&#39;");
+                default -> out.write(c);
+            }
+        }
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
@@ -0,0 +1,90 @@
+package com.vtb.guardian.core.report;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.vtb.guardian.core.model.domain.Vulnerability;
+import com.vtb.guardian.core.model.dto.response.ScanSummaryResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Plain JSON report: the scan summary followed by a {@code findings} array.
+ */
+public class JsonReportWriter implements ReportWriter {
+
+    private final JsonGenerator json;
+
+    public JsonReportWriter(JsonFactory factory, OutputStream out) throws IOException {
+        this.json = factory.createGenerator(out, JsonEncoding.UTF8)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Override
+    public void begin(ScanSummaryResponse scan) throws IOException {
+        json.writeStartObject();
+        json.writeObjectFieldStart("scan");
+        json.writeStringField("id", scan.getId().toString());
+        writeString("projectId", scan.getProjectId() != null ? scan.getProjectId().toString() : null);
+        writeString("name", scan.getName());
+        json.writeStringField("status", scan.getStatus().name());
+        if (scan.getTotalEndpoints() != null) {
+            json.writeNumberField("totalEndpoints", scan.getTotalEndpoints());
+        }
+        writeString("createdAt", scan.getCreatedAt() != null ? scan.getCreatedAt().toString() : null);
+        writeString("completedAt", scan.getCompletedAt() != null ? scan.getCompletedAt().toString() : null);
+        json.writeObjectFieldStart("summary");
+        json.writeNumberField("critical", scan.getCriticalFindings());
+        json.writeNumberField("high", scan.getHighFindings());
+        json.writeNumberField("medium", scan.getMediumFindings());
+        json.writeNumberField("low", scan.getLowFindings());
+        json.writeNumberField("info", scan.getInfoFindings());
+        json.writeEndObject();
+        json.writeEndObject();
+        json.writeArrayFieldStart("findings");
+    }
+
+    @Override
+    public void finding(Vulnerability v) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("type", v.getType().name());
+        json.writeStringField("severity", v.getSeverity().name());
+        writeString("title", v.getTitle());
+        writeString("description", v.getDescription());
+        writeString("method", v.getMethod());
+        writeString("endpoint", v.getEndpoint());
+        writeString("affectedParameter", v.getAffectedParameter());
+        writeString("owaspCategory", v.getOwaspCategory());
+        if (v.getCvssScore() != null) {
+            json.writeNumberField("cvssScore", v.getCvssScore());
+        }
+        writeString("recommendation", v.getRecommendation());
+        writeString("codeExample", v.getCodeExample());
+        writeString("exploitPoc", v.getExploitPoc());
+        List<String> references = v.getReferences();
+        if (references != null && !references.isEmpty()) {
+            json.writeArrayFieldStart("references");
+            for (String reference : references) {
+                json.writeString(reference);
+            }
+            json.writeEndArray();
+        }
+        writeString("detectedAt", v.getDetectedAt() != null ? v.getDetectedAt().toString() : null);
+        json.writeEndObject();
+    }
+
+    @Override
+    public void end() throws IOException {
+        json.writeEndArray();
+        json.writeEndObject();
+        json.close();
+    }
+
+    private void writeString(String field, String value) throws IOException {
+        if (value != null) {
+            json.writeStringField(field, value);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.vtb.guardian.core.report;
+
+import com.fasterxml.jackson.core.JsonFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+
+/**
+ * Report formats that are rendered as a stream, one finding at a time.
+ */
+public enum ReportFormat {
+    JSON("application/json", "json"),
+    SARIF("application/sarif+json", "sarif"),
+    HTML("text/html;charset=UTF-8", "html"),
+    GSF("application/vnd.guardian.gsf", "gsf");
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final String contentType;
+    private final String extension;
+
+    ReportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    /**
+     * Creates a writer that renders this format into {@code out}.
+     */
+    public ReportWriter newWriter(OutputStream out, String toolVersion) throws IOException {
+        return switch (this) {
+            case JSON -> new JsonReportWriter(JSON_FACTORY, out);
+            case SARIF -> new SarifReportWriter(JSON_FACTORY, out, toolVersion);
+            case HTML -> new HtmlReportWriter(out);
+            case GSF -> new GsfReportWriter(out);
+        };
+    }
+
+    public static ReportFormat parse(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported report format: " + value
+                + " (expected json, sarif, html or gsf)");
+        }
+    }
+}
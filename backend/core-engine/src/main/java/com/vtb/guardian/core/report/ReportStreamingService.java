@@ -0,0 +1,84 @@
+package com.vtb.guardian.core.report;
+
+import com.vtb.guardian.core.metrics.ScanMetrics;
+import com.vtb.guardian.core.metrics.ScanPhase;
+import com.vtb.guardian.core.model.dto.response.ScanSummaryResponse;
+import com.vtb.guardian.core.repository.ScanSummaryRepository;
+import com.vtb.guardian.core.repository.VulnerabilityJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+/**
+ * Renders scan reports straight from a findings cursor into an output stream.
+ *
+ * At most one fetch batch of findings is in memory at any time, whatever the size of the scan.
+ */
+@Service
+@Slf4j
+public class ReportStreamingService {
+
+    private final ScanSummaryRepository summaryRepository;
+    private final VulnerabilityJdbcRepository vulnerabilityRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ScanMetrics scanMetrics;
+    private final int fetchSize;
+    private final String toolVersion;
+
+    public ReportStreamingService(ScanSummaryRepository summaryRepository,
+                                  VulnerabilityJdbcRepository vulnerabilityRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  ScanMetrics scanMetrics,
+                                  @Value("${app.report.fetch-size:500}") int fetchSize,
+                                  @Value("${app.version:1.0.0}") String toolVersion) {
+        this.summaryRepository = summaryRepository;
+        this.vulnerabilityRepository = vulnerabilityRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.scanMetrics = scanMetrics;
+        this.fetchSize = fetchSize;
+        this.toolVersion = toolVersion;
+    }
+
+    /**
+     * Looks the scan up before any output is produced, so a missing scan can still become a 404.
+     */
+    public ScanSummaryResponse findScan(UUID scanId) {
+        return summaryRepository.findById(scanId)
+            .orElseThrow(() -> new NoSuchElementException("Scan not found: " + scanId));
+    }
+
+    /**
+     * Report time goes to the {@code report} phase metric only: reports are rendered on demand,
+     * any number of times, and are not part of the scan's stored timeline.
+     */
+    public void write(ScanSummaryResponse scan, ReportFormat format, OutputStream out) throws IOException {
+        long start = System.nanoTime();
+        ReportWriter writer = format.newWriter(out, toolVersion);
+        writer.begin(scan);
+        try {
+            readOnlyTransaction.executeWithoutResult(status ->
+                vulnerabilityRepository.streamByScanId(scan.getId(), fetchSize, vulnerability -> {
+                    try {
+                        writer.finding(vulnerability);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }));
+        } catch (UncheckedIOException e) {
+            // Usually the client went away; the cursor is closed with the transaction
+            log.debug("Report stream for scan {} aborted: {}", scan.getId(), e.getCause().getMessage());
+            throw e.getCause();
+        }
+        writer.end();
+        scanMetrics.recordPhase(ScanPhase.REPORT, System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,22 @@
+package com.vtb.guardian.core.report;
+
+import com.vtb.guardian.core.model.domain.Vulnerability;
+import com.vtb.guardian.core.model.dto.response.ScanSummaryResponse;
+
+import java.io.IOException;
+
+/**
+ * Renders a report incrementally: a header, then one finding at a time, then a footer.
+ * Implementations hold no findings, so memory use does not depend on the report size.
+ */
+public interface ReportWriter {
+
+    void begin(ScanSummaryResponse scan) throws IOException;
+
+    void finding(Vulnerability vulnerability) throws IOException;
+
+    /**
+     * Writes the footer and flushes; the underlying stream is left open.
+     */
+    void end() throws IOException;
+}
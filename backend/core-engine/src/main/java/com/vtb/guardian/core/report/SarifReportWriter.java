@@ -0,0 +1,116 @@
+package com.vtb.guardian.core.report;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.vtb.guardian.core.model.domain.Vulnerability;
+import com.vtb.guardian.core.model.dto.response.ScanSummaryResponse;
+import com.vtb.guardian.core.model.enums.SeverityLevel;
+import com.vtb.guardian.core.model.enums.VulnerabilityType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * SARIF 2.1.0 report with a single run.
+ *
+ * The rule table is the fixed set of {@link VulnerabilityType}s, so it can be written before
+ * the first result and results need no lookahead. Findings are located by their endpoint as
+ * a logical location; the specification file is not known to the engine.
+ */
+public class SarifReportWriter implements ReportWriter {
+
+    private static final String SCHEMA = "https://json.schemastore.org/sarif-2.1.0.json";
+
+    private final JsonGenerator json;
+    private final String toolVersion;
+
+    public SarifReportWriter(JsonFactory factory, OutputStream out, String toolVersion) throws IOException {
+        this.json = factory.createGenerator(out, JsonEncoding.UTF8)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.toolVersion = toolVersion;
+    }
+
+    @Override
+    public void begin(ScanSummaryResponse scan) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("$schema", SCHEMA);
+        json.writeStringField("version", "2.1.0");
+        json.writeArrayFieldStart("runs");
+        json.writeStartObject();
+
+        json.writeObjectFieldStart("tool");
+        json.writeObjectFieldStart("driver");
+        json.writeStringField("name", "API Security Guardian");
+        json.writeStringField("version", toolVersion);
+        json.writeArrayFieldStart("rules");
+        for (VulnerabilityType type : VulnerabilityType.values()) {
+            json.writeStartObject();
+            json.writeStringField("id", type.name());
+            json.writeObjectFieldStart("shortDescription");
+            json.writeStringField("text", type.name().replace('_', ' '));
+            json.writeEndObject();
+            json.writeEndObject();
+        }
+        json.writeEndArray();
+        json.writeEndObject();
+        json.writeEndObject();
+
+        json.writeObjectFieldStart("automationDetails");
+        json.writeStringField("id", "guardian/" + scan.getId());
+        json.writeEndObject();
+
+        json.writeArrayFieldStart("results");
+    }
+
+    @Override
+    public void finding(Vulnerability v) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("ruleId", v.getType().name());
+        json.writeNumberField("ruleIndex", v.getType().ordinal());
+        json.writeStringField("level", level(v.getSeverity()));
+        json.writeObjectFieldStart("message");
+        json.writeStringField("text", v.getDescription() != null ? v.getTitle() + ": " + v.getDescription() : v.getTitle());
+        json.writeEndObject();
+        if (v.getEndpoint() != null) {
+            String name = v.getMethod() != null ? v.getMethod() + " " + v.getEndpoint() : v.getEndpoint();
+            json.writeArrayFieldStart("locations");
+            json.writeStartObject();
+            json.writeArrayFieldStart("logicalLocations");
+            json.writeStartObject();
+            json.writeStringField("fullyQualifiedName", name);
+            json.writeStringField("kind", "function");
+            json.writeEndObject();
+            json.writeEndArray();
+            json.writeEndObject();
+            json.writeEndArray();
+        }
+        json.writeObjectFieldStart("properties");
+        json.writeStringField("severity", v.getSeverity().name());
+        if (v.getOwaspCategory() != null) {
+            json.writeStringField("owaspCategory", v.getOwaspCategory());
+        }
+        if (v.getCvssScore() != null) {
+            json.writeNumberField("cvssScore", v.getCvssScore());
+        }
+        json.writeEndObject();
+        json.writeEndObject();
+    }
+
+    @Override
+    public void end() throws IOException {
+        json.writeEndArray();
+        json.writeEndObject();
+        json.writeEndArray();
+        json.writeEndObject();
+        json.close();
+    }
+
+    static String level(SeverityLevel severity) {
+        return switch (severity) {
+            case CRITICAL, HIGH -> "error";
+            case MEDIUM -> "warning";
+            case LOW, INFO -> "note";
+        };
+    }
+}
@@ -0,0 +1,63 @@
+package com.vtb.guardian.core.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Endpoint fingerprints stored per scan for incremental re-scans.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EndpointFingerprintRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void saveAll(UUID scanId, Map<String, String> fingerprints) {
+        List<Object[]> rows = new ArrayList<>(fingerprints.size());
+        fingerprints.forEach((key, fingerprint) -> rows.add(new Object[]{scanId, key, fingerprint}));
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(
+                "INSERT INTO scan_endpoint_fingerprints (scan_id, endpoint_key, fingerprint) VALUES (?, ?, ?) "
+                    + "ON CONFLICT (scan_id, endpoint_key) DO UPDATE SET fingerprint = EXCLUDED.fingerprint",
+                rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+    }
+
+    public Map<String, String> findByScanId(UUID scanId) {
+        Map<String, String> fingerprints = new HashMap<>();
+        jdbcTemplate.query(
+            "SELECT endpoint_key, fingerprint FROM scan_endpoint_fingerprints WHERE scan_id = ?",
+            rs -> {
+                fingerprints.put(rs.getString("endpoint_key"), rs.getString("fingerprint"));
+            },
+            scanId);
+        return fingerprints;
+    }
+
+    /**
+     * Latest completed scan of the project that has fingerprints and is not being purged,
+     * other than {@code excludedScanId}.
+     */
+    public Optional<UUID> findBaselineScanId(UUID projectId, UUID excludedScanId) {
+        List<UUID> ids = jdbcTemplate.queryForList("""
+                SELECT s.id FROM scans s
+                WHERE s.project_id = ? AND s.id <> ? AND s.status = 'COMPLETED'
+                  AND s.purge_requested_at IS NULL
+                  AND EXISTS (SELECT 1 FROM scan_endpoint_fingerprints f WHERE f.scan_id = s.id)
+                ORDER BY s.created_at DESC
+                LIMIT 1
+                """,
+            UUID.class, projectId, excludedScanId);
+        return ids.stream().findFirst();
+    }
+}
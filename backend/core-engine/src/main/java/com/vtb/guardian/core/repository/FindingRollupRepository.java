@@ -0,0 +1,88 @@
+package com.vtb.guardian.core.repository;
+
+import com.vtb.guardian.core.model.enums.SeverityLevel;
+import com.vtb.guardian.core.model.enums.VulnerabilityType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Reads of the finding rollups maintained by {@link VulnerabilityBulkWriter}.
+ *
+ * Both tables hold at most one row per type and severity per scan or per project
+ * and day, so every read here is bounded by buckets, not by findings.
+ */
+@Repository
+@RequiredArgsConstructor
+public class FindingRollupRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * One aggregated row of a trend query.
+     */
+    public record TrendRow(LocalDate period, VulnerabilityType type, SeverityLevel severity, long findings) {
+    }
+
+    public Map<SeverityLevel, Integer> severityCounts(UUID scanId) {
+        Map<SeverityLevel, Integer> counts = new EnumMap<>(SeverityLevel.class);
+        jdbcTemplate.query(
+            "SELECT severity, sum(findings) AS findings FROM scan_finding_rollups WHERE scan_id = ? GROUP BY severity",
+            rs -> {
+                counts.put(SeverityLevel.valueOf(rs.getString("severity")), rs.getInt("findings"));
+            },
+            scanId);
+        return counts;
+    }
+
+    /**
+     * @param granularity {@code day}, {@code week} or {@code month}
+     * @param projectId   {@code null} aggregates over all projects
+     */
+    public List<TrendRow> trend(UUID projectId, LocalDate from, LocalDate to, String granularity) {
+        StringBuilder sql = new StringBuilder("""
+            SELECT CAST(date_trunc(?, bucket) AS date) AS period, type, severity, sum(findings) AS findings
+            FROM project_daily_rollups
+            WHERE bucket BETWEEN ? AND ?
+            """);
+        List<Object> args = new ArrayList<>(List.of(granularity, Date.valueOf(from), Date.valueOf(to)));
+        if (projectId != null) {
+            sql.append(" AND project_id = ?");
+            args.add(projectId);
+        }
+        sql.append(" GROUP BY period, type, severity ORDER BY period");
+        return jdbcTemplate.query(sql.toString(),
+            (rs, rowNum) -> new TrendRow(
+                rs.getDate("period").toLocalDate(),
+                VulnerabilityType.valueOf(rs.getString("type")),
+                SeverityLevel.valueOf(rs.getString("severity")),
+                rs.getLong("findings")),
+            args.toArray());
+    }
+
+    /**
+     * Removes a purged scan's contribution from its project's buckets.
+     */
+    public void subtractScan(UUID scanId) {
+        jdbcTemplate.update("""
+                UPDATE project_daily_rollups p
+                SET findings = p.findings - r.findings
+                FROM scan_finding_rollups r
+                JOIN scans s ON s.id = r.scan_id
+                WHERE r.scan_id = ?
+                  AND p.project_id = s.project_id
+                  AND p.bucket = CAST(s.created_at AS date)
+                  AND p.type = r.type
+                  AND p.severity = r.severity
+                """,
+            scanId);
+    }
+}
@@ -0,0 +1,67 @@
+package com.vtb.guardian.core.repository;
+
+import com.vtb.guardian.core.dynamic.fuzz.FuzzCorpusEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class FuzzCorpusRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Most recently reached cases first, so a capped load keeps the freshest coverage.
+     */
+    public List<FuzzCorpusEntry> findByProjectId(UUID projectId, int limit) {
+        return jdbcTemplate.query("""
+                SELECT method, path, layout_hash, response_class, input_values FROM fuzz_corpus
+                WHERE project_id = ?
+                ORDER BY updated_at DESC
+                LIMIT ?
+                """,
+            (rs, rowNum) -> {
+                Array values = rs.getArray("input_values");
+                return new FuzzCorpusEntry(rs.getString("method"), rs.getString("path"), rs.getInt("layout_hash"),
+                    Arrays.asList((String[]) values.getArray()), rs.getLong("response_class"));
+            },
+            projectId, limit);
+    }
+
+    /**
+     * Stores one case per response class; a later case for the same class replaces the earlier one.
+     *
+     * @return number of entries written
+     */
+    public int saveAll(UUID projectId, List<FuzzCorpusEntry> entries) {
+        // PostgreSQL text cannot hold NUL characters
+        List<FuzzCorpusEntry> storable = entries.stream()
+            .filter(entry -> entry.values().stream().noneMatch(value -> value.indexOf('\0') >= 0))
+            .toList();
+        if (storable.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO fuzz_corpus (project_id, method, path, layout_hash, response_class, input_values)
+                VALUES (?, ?, ?, ?, ?, ?)
+                ON CONFLICT (project_id, method, path, response_class)
+                DO UPDATE SET layout_hash = EXCLUDED.layout_hash, input_values = EXCLUDED.input_values,
+                    updated_at = now()
+                """,
+            storable, 500, (ps, entry) -> {
+                ps.setObject(1, projectId);
+                ps.setString(2, entry.method());
+                ps.setString(3, entry.path());
+                ps.setInt(4, entry.layoutHash());
+                ps.setLong(5, entry.responseClass());
+                ps.setArray(6, ps.getConnection().createArrayOf("text", entry.values().toArray()));
+            });
+        return storable.size();
+    }
+}
@@ -0,0 +1,139 @@
+package com.vtb.guardian.core.repository;
+
+import com.vtb.guardian.core.model.enums.ScanStatus;
+import com.vtb.guardian.core.model.enums.SeverityLevel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Status and counter updates on the scans table issued by background workers.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScanJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record ScanSpecification(UUID projectId, String content, String url) {
+    }
+
+    public record ScanState(ScanStatus status, String errorMessage) {
+    }
+
+    public Optional<ScanSpecification> findSpecification(UUID scanId) {
+        List<ScanSpecification> rows = jdbcTemplate.query(
+            "SELECT project_id, specification_content, specification_url FROM scans WHERE id = ?",
+            (rs, rowNum) -> new ScanSpecification(
+                rs.getObject("project_id", UUID.class),
+                rs.getString("specification_content"),
+                rs.getString("specification_url")),
+            scanId);
+        return rows.stream().findFirst();
+    }
+
+    public Optional<ScanState> findState(UUID scanId) {
+        List<ScanState> rows = jdbcTemplate.query(
+            "SELECT status, error_message FROM scans WHERE id = ?",
+            (rs, rowNum) -> new ScanState(ScanStatus.valueOf(rs.getString("status")), rs.getString("error_message")),
+            scanId);
+        return rows.stream().findFirst();
+    }
+
+    public Map<SeverityLevel, Integer> findSeverityCounts(UUID scanId) {
+        List<Map<SeverityLevel, Integer>> rows = jdbcTemplate.query(
+            "SELECT critical_findings, high_findings, medium_findings, low_findings, info_findings FROM scans WHERE id = ?",
+            (rs, rowNum) -> {
+                Map<SeverityLevel, Integer> counts = new EnumMap<>(SeverityLevel.class);
+                counts.put(SeverityLevel.CRITICAL, rs.getInt("critical_findings"));
+                counts.put(SeverityLevel.HIGH, rs.getInt("high_findings"));
+                counts.put(SeverityLevel.MEDIUM, rs.getInt("medium_findings"));
+                counts.put(SeverityLevel.LOW, rs.getInt("low_findings"));
+                counts.put(SeverityLevel.INFO, rs.getInt("info_findings"));
+                return counts;
+            },
+            scanId);
+        return rows.isEmpty() ? Map.of() : rows.get(0);
+    }
+
+    public void updateStatus(UUID scanId, ScanStatus status) {
+        jdbcTemplate.update("UPDATE scans SET status = ?, updated_at = now() WHERE id = ?", status.name(), scanId);
+    }
+
+    public void markRunning(UUID scanId) {
+        jdbcTemplate.update(
+            "UPDATE scans SET status = ?, started_at = COALESCE(started_at, now()), updated_at = now() WHERE id = ?",
+            ScanStatus.RUNNING.name(), scanId);
+    }
+
+    public void markCompleted(UUID scanId, int totalEndpoints, Map<SeverityLevel, Integer> counts, long durationMs) {
+        jdbcTemplate.update("""
+                UPDATE scans SET status = ?, total_endpoints = ?,
+                    critical_findings = ?, high_findings = ?, medium_findings = ?, low_findings = ?, info_findings = ?,
+                    duration_ms = ?, completed_at = now(), error_message = NULL, updated_at = now()
+                WHERE id = ?
+                """,
+            ScanStatus.COMPLETED.name(), totalEndpoints,
+            counts.getOrDefault(SeverityLevel.CRITICAL, 0),
+            counts.getOrDefault(SeverityLevel.HIGH, 0),
+            counts.getOrDefault(SeverityLevel.MEDIUM, 0),
+            counts.getOrDefault(SeverityLevel.LOW, 0),
+            counts.getOrDefault(SeverityLevel.INFO, 0),
+            durationMs, scanId);
+    }
+
+    /**
+     * Refreshes the severity counters of a finished scan after findings were added to it later.
+     */
+    public void updateSeverityCounts(UUID scanId, Map<SeverityLevel, Integer> counts) {
+        jdbcTemplate.update("""
+                UPDATE scans SET critical_findings = ?, high_findings = ?, medium_findings = ?, low_findings = ?,
+                    info_findings = ?, updated_at = now()
+                WHERE id = ?
+                """,
+            counts.getOrDefault(SeverityLevel.CRITICAL, 0),
+            counts.getOrDefault(SeverityLevel.HIGH, 0),
+            counts.getOrDefault(SeverityLevel.MEDIUM, 0),
+            counts.getOrDefault(SeverityLevel.LOW, 0),
+            counts.getOrDefault(SeverityLevel.INFO, 0),
+            scanId);
+    }
+
+    public void markFinished(UUID scanId, ScanStatus status, String errorMessage) {
+        jdbcTemplate.update(
+            "UPDATE scans SET status = ?, error_message = ?, completed_at = now(), updated_at = now() WHERE id = ?",
+            status.name(), errorMessage, scanId);
+    }
+
+    /**
+     * Appends entries in the {@code ScanTimeline} text form; shards and dynamic tests of the same
+     * scan append their own.
+     */
+    public void appendTimeline(UUID scanId, String entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update("""
+                UPDATE scans SET phase_timeline = CASE
+                    WHEN phase_timeline IS NULL OR phase_timeline = '' THEN ? ELSE phase_timeline || ';' || ? END
+                WHERE id = ?
+                """,
+            entries, entries, scanId);
+    }
+
+    /**
+     * @return the stored timeline, empty if the scan does not exist or has none yet
+     */
+    public Optional<String> findTimeline(UUID scanId) {
+        List<String> rows = jdbcTemplate.query(
+            "SELECT phase_timeline FROM scans WHERE id = ?", (rs, rowNum) -> rs.getString("phase_timeline"), scanId);
+        return rows.stream().filter(Objects::nonNull).findFirst();
+    }
+}
@@ -0,0 +1,237 @@
+package com.vtb.guardian.core.repository;
+
+import com.vtb.guardian.core.job.ScanJob;
+import com.vtb.guardian.core.model.enums.ScanStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * PostgreSQL-backed scan job queue.
+ *
+ * Workers on any core-engine node claim jobs with {@code FOR UPDATE SKIP LOCKED}, so
+ * concurrent pollers never block on or double-claim the same row. A claimed job holds
+ * a lease that the owning worker renews; expired leases are returned to the queue.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScanJobRepository {
+
+    public static final String LEASE_EXPIRED_MESSAGE = "Worker lease expired too many times";
+
+    /**
+     * Outcome of a progress report.
+     */
+    public enum Progress {
+        CONTINUE,
+        CANCEL_REQUESTED,
+        // Another worker owns the job now, or it was re-queued: stop without touching it
+        LEASE_LOST
+    }
+
+    private static final RowMapper<ScanJob> ROW_MAPPER = (rs, rowNum) -> new ScanJob(
+        rs.getObject("id", UUID.class),
+        rs.getObject("scan_id", UUID.class),
+        rs.getObject("project_id", UUID.class),
+        rs.getInt("priority"),
+        ScanStatus.valueOf(rs.getString("status")),
+        rs.getInt("attempts"),
+        rs.getInt("max_attempts"),
+        rs.getString("worker_id"),
+        toInstant(rs.getTimestamp("lease_until")),
+        rs.getBoolean("cancel_requested"),
+        rs.getInt("endpoints_total"),
+        rs.getInt("endpoints_analyzed"),
+        rs.getString("error_message"),
+        toInstant(rs.getTimestamp("created_at")),
+        toInstant(rs.getTimestamp("started_at")),
+        toInstant(rs.getTimestamp("completed_at"))
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Queues a scan; the priority is taken from the scan's project.
+     */
+    public ScanJob enqueue(UUID scanId, UUID projectId, int maxAttempts) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO scan_jobs (scan_id, project_id, priority, status, max_attempts)
+                VALUES (?, ?, COALESCE((SELECT scan_priority FROM projects WHERE id = ?), 0), 'QUEUED', ?)
+                RETURNING *
+                """,
+            ROW_MAPPER, scanId, projectId, projectId, maxAttempts);
+    }
+
+    /**
+     * Atomically moves up to {@code limit} queued jobs to RUNNING under a lease owned by {@code workerId}.
+     */
+    public List<ScanJob> claim(String workerId, int limit, int leaseSeconds) {
+        return jdbcTemplate.query("""
+                UPDATE scan_jobs j
+                SET status = 'RUNNING', worker_id = ?, lease_until = now() + make_interval(secs => ?),
+                    attempts = j.attempts + 1, started_at = COALESCE(j.started_at, now()), updated_at = now()
+                WHERE j.id IN (
+                    SELECT id FROM scan_jobs
+                    WHERE status = 'QUEUED' AND cancel_requested = false
+                    ORDER BY priority DESC, created_at
+                    LIMIT ?
+                    FOR UPDATE SKIP LOCKED)
+                RETURNING j.*
+                """,
+            ROW_MAPPER, workerId, leaseSeconds, limit);
+    }
+
+    /**
+     * Stores progress and extends the lease in one round trip.
+     */
+    public Progress reportProgress(UUID jobId, String workerId, int analyzed, int total, int leaseSeconds) {
+        List<Boolean> cancel = jdbcTemplate.queryForList("""
+                UPDATE scan_jobs
+                SET endpoints_analyzed = ?, endpoints_total = ?,
+                    lease_until = now() + make_interval(secs => ?), updated_at = now()
+                WHERE id = ? AND worker_id = ? AND status = 'RUNNING'
+                RETURNING cancel_requested
+                """,
+            Boolean.class, analyzed, total, leaseSeconds, jobId, workerId);
+        if (cancel.isEmpty()) {
+            return Progress.LEASE_LOST;
+        }
+        return cancel.get(0) ? Progress.CANCEL_REQUESTED : Progress.CONTINUE;
+    }
+
+    /**
+     * Releases the job's lease after it was split into shards; the job stays RUNNING
+     * until its last shard finishes, and the shards carry their own leases.
+     */
+    public void handOffToShards(UUID jobId, int totalEndpoints) {
+        jdbcTemplate.update("""
+                UPDATE scan_jobs
+                SET worker_id = NULL, lease_until = NULL, endpoints_total = ?, endpoints_analyzed = 0, updated_at = now()
+                WHERE id = ?
+                """,
+            totalEndpoints, jobId);
+    }
+
+    /**
+     * Locks the job row of a scan for the rest of the transaction.
+     */
+    public Optional<ScanJob> lockByScanId(UUID scanId) {
+        return jdbcTemplate.query("SELECT * FROM scan_jobs WHERE scan_id = ? FOR UPDATE", ROW_MAPPER, scanId)
+            .stream().findFirst();
+    }
+
+    public void renewLeases(String workerId, Collection<UUID> jobIds, int leaseSeconds) {
+        if (jobIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(
+            "UPDATE scan_jobs SET lease_until = now() + make_interval(secs => ?) "
+                + "WHERE worker_id = ? AND status = 'RUNNING' AND id = ANY(?)",
+            leaseSeconds, workerId, jobIds.toArray(UUID[]::new));
+    }
+
+    /**
+     * Closes a running job owned by {@code workerId}; jobs handed off to shards have no owner
+     * and are closed with a {@code null} worker.
+     *
+     * @return {@code false} if the job is no longer running under that owner
+     */
+    public boolean finish(UUID jobId, String workerId, ScanStatus status, String errorMessage) {
+        return jdbcTemplate.update("""
+                UPDATE scan_jobs
+                SET status = ?, error_message = ?, lease_until = NULL, completed_at = now(), updated_at = now()
+                WHERE id = ? AND worker_id IS NOT DISTINCT FROM ? AND status = 'RUNNING'
+                """,
+            status.name(), errorMessage, jobId, workerId) == 1;
+    }
+
+    /**
+     * Cancels jobs whose worker died after cancellation was requested; re-queueing them would
+     * leave them in the queue forever, since {@link #claim} skips cancelled jobs.
+     *
+     * @return the scans of the cancelled jobs, which still have to be closed
+     */
+    public List<UUID> cancelExpired() {
+        return jdbcTemplate.queryForList("""
+                UPDATE scan_jobs
+                SET status = 'CANCELLED', worker_id = NULL,
+                    lease_until = NULL, completed_at = now(), updated_at = now()
+                WHERE status = 'RUNNING' AND lease_until < now() AND cancel_requested = true
+                RETURNING scan_id
+                """,
+            UUID.class);
+    }
+
+    /**
+     * Fails jobs whose lease expired with no attempts left.
+     *
+     * @return the scans of the failed jobs, which still have to be closed
+     */
+    public List<UUID> failExpired() {
+        return jdbcTemplate.queryForList("""
+                UPDATE scan_jobs
+                SET status = 'FAILED', error_message = ?, worker_id = NULL,
+                    lease_until = NULL, completed_at = now(), updated_at = now()
+                WHERE status = 'RUNNING' AND lease_until < now() AND cancel_requested = false
+                  AND attempts >= max_attempts
+                RETURNING scan_id
+                """,
+            UUID.class, LEASE_EXPIRED_MESSAGE);
+    }
+
+    /**
+     * Returns jobs with expired leases and attempts left to the queue.
+     *
+     * @return number of re-queued jobs
+     */
+    public int requeueExpired() {
+        return jdbcTemplate.update("""
+                UPDATE scan_jobs
+                SET status = 'QUEUED', worker_id = NULL, lease_until = NULL, updated_at = now()
+                WHERE status = 'RUNNING' AND lease_until < now() AND cancel_requested = false
+                  AND attempts < max_attempts
+                """);
+    }
+
+    /**
+     * Cancels a queued job immediately or flags a running one for cooperative cancellation.
+     *
+     * @return the job's status after the request
+     */
+    public Optional<ScanStatus> requestCancel(UUID scanId) {
+        List<String> status = jdbcTemplate.queryForList("""
+                UPDATE scan_jobs
+                SET cancel_requested = true,
+                    status = CASE WHEN status = 'QUEUED' THEN 'CANCELLED' ELSE status END,
+                    completed_at = CASE WHEN status = 'QUEUED' THEN now() ELSE completed_at END,
+                    updated_at = now()
+                WHERE scan_id = ? AND status IN ('QUEUED', 'RUNNING')
+                RETURNING status
+                """,
+            String.class, scanId);
+        return status.stream().findFirst().map(ScanStatus::valueOf);
+    }
+
+    public Optional<ScanJob> findByScanId(UUID scanId) {
+        return jdbcTemplate.query("SELECT * FROM scan_jobs WHERE scan_id = ?", ROW_MAPPER, scanId)
+            .stream().findFirst();
+    }
+
+    public int countRunning() {
+        Integer count = jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM scan_jobs WHERE status = 'RUNNING'", Integer.class);
+        return count != null ? count : 0;
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+}
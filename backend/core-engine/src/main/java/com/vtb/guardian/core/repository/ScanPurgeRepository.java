@@ -0,0 +1,127 @@
+package com.vtb.guardian.core.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Chunked deletion of scans and their findings.
+ *
+ * Every statement touches at most one chunk of rows, so no transaction holds
+ * locks on a large part of the findings table. Chunks are selected with
+ * {@code SKIP LOCKED}, letting several nodes purge side by side.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScanPurgeRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return {@code false} if the scan does not exist or is already being purged
+     */
+    public boolean requestPurge(UUID scanId) {
+        return jdbcTemplate.update(
+            "UPDATE scans SET purge_requested_at = now(), updated_at = now() WHERE id = ? AND purge_requested_at IS NULL",
+            scanId) == 1;
+    }
+
+    public boolean isPurgeRequested(UUID scanId) {
+        Integer count = jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM scans WHERE id = ? AND purge_requested_at IS NOT NULL", Integer.class, scanId);
+        return count != null && count > 0;
+    }
+
+    public boolean exists(UUID scanId) {
+        Integer count = jdbcTemplate.queryForObject("SELECT count(*) FROM scans WHERE id = ?", Integer.class, scanId);
+        return count != null && count > 0;
+    }
+
+    /**
+     * Scans waiting for purge with neither their job nor any of their shards running.
+     */
+    public List<UUID> findPurgeRequested(int limit) {
+        return jdbcTemplate.queryForList("""
+                SELECT s.id FROM scans s
+                WHERE s.purge_requested_at IS NOT NULL
+                  AND NOT EXISTS (SELECT 1 FROM scan_jobs j WHERE j.scan_id = s.id AND j.status = 'RUNNING')
+                  AND NOT EXISTS (SELECT 1 FROM scan_shards sh WHERE sh.scan_id = s.id AND sh.status = 'RUNNING')
+                ORDER BY s.purge_requested_at
+                LIMIT ?
+                """,
+            UUID.class, limit);
+    }
+
+    /**
+     * Locks a scan that is due for purge for the rest of the transaction.
+     *
+     * @return {@code false} if the scan is gone, locked by another purging node, or
+     *         running again, in which case it must be left alone
+     */
+    public boolean lockForPurge(UUID scanId) {
+        return !jdbcTemplate.queryForList("""
+                SELECT s.id FROM scans s
+                WHERE s.id = ? AND s.purge_requested_at IS NOT NULL
+                  AND NOT EXISTS (SELECT 1 FROM scan_jobs j WHERE j.scan_id = s.id AND j.status = 'RUNNING')
+                  AND NOT EXISTS (SELECT 1 FROM scan_shards sh WHERE sh.scan_id = s.id AND sh.status = 'RUNNING')
+                FOR UPDATE OF s SKIP LOCKED
+                """,
+            UUID.class, scanId).isEmpty();
+    }
+
+    /**
+     * Finished scans beyond the newest {@code keepLast} of their project that still have findings.
+     */
+    public List<UUID> findCompactionCandidates(int keepLast, int limit) {
+        return jdbcTemplate.queryForList("""
+                SELECT id FROM (
+                    SELECT id, status, compacted_at, purge_requested_at,
+                           row_number() OVER (PARTITION BY project_id ORDER BY created_at DESC, id DESC) AS position
+                    FROM scans
+                    WHERE project_id IS NOT NULL
+                ) ranked
+                WHERE position > ?
+                  AND compacted_at IS NULL AND purge_requested_at IS NULL
+                  AND status IN ('COMPLETED', 'FAILED', 'CANCELLED')
+                LIMIT ?
+                """,
+            UUID.class, keepLast, limit);
+    }
+
+    /**
+     * Deletes one chunk of findings; references go with them through the cascade.
+     *
+     * @return number of deleted findings, {@code 0} once none are left
+     */
+    public int deleteFindingsChunk(UUID scanId, int chunkSize) {
+        return jdbcTemplate.update("""
+                DELETE FROM vulnerabilities
+                WHERE id IN (SELECT id FROM vulnerabilities WHERE scan_id = ? LIMIT ? FOR UPDATE SKIP LOCKED)
+                """,
+            scanId, chunkSize);
+    }
+
+    public int deleteFingerprintsChunk(UUID scanId, int chunkSize) {
+        return jdbcTemplate.update("""
+                DELETE FROM scan_endpoint_fingerprints
+                WHERE scan_id = ? AND endpoint_key IN (
+                    SELECT endpoint_key FROM scan_endpoint_fingerprints WHERE scan_id = ? LIMIT ? FOR UPDATE SKIP LOCKED)
+                """,
+            scanId, scanId, chunkSize);
+    }
+
+    /**
+     * Removes the scan row itself once its findings are gone; jobs and shards cascade.
+     * Call it in the transaction that took {@link #lockForPurge}.
+     */
+    public void deleteScan(UUID scanId) {
+        jdbcTemplate.update("DELETE FROM scans WHERE id = ?", scanId);
+    }
+
+    public void markCompacted(UUID scanId) {
+        jdbcTemplate.update("UPDATE scans SET compacted_at = now(), updated_at = now() WHERE id = ?", scanId);
+    }
+}
@@ -0,0 +1,209 @@
+package com.vtb.guardian.core.repository;
+
+import com.vtb.guardian.core.job.ScanShard;
+import com.vtb.guardian.core.model.enums.ScanStatus;
+import com.vtb.guardian.core.model.enums.SeverityLevel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Endpoint shards of large scans. Claimed and leased like scan jobs so that any
+ * core-engine node can pick up any shard, and shards of a dead worker are re-leased.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScanShardRepository {
+
+    private static final RowMapper<ScanShard> ROW_MAPPER = (rs, rowNum) -> new ScanShard(
+        rs.getObject("id", UUID.class),
+        rs.getObject("scan_id", UUID.class),
+        rs.getInt("shard_index"),
+        rs.getInt("endpoint_from"),
+        rs.getInt("endpoint_to"),
+        ScanStatus.valueOf(rs.getString("status")),
+        rs.getInt("attempts"),
+        rs.getInt("max_attempts"),
+        rs.getString("worker_id")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Totals over all shards of a scan.
+     */
+    public record ShardSummary(int shards, int completed, int failed, int cancelled,
+                               int endpointsAnalyzed, Map<SeverityLevel, Integer> counts, String firstError) {
+
+        public boolean isDone() {
+            return completed + failed + cancelled == shards;
+        }
+    }
+
+    public void createShards(UUID scanId, int totalEndpoints, int shardSize, int maxAttempts) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int from = 0, index = 0; from < totalEndpoints; from += shardSize, index++) {
+            rows.add(new Object[]{scanId, index, from, Math.min(from + shardSize, totalEndpoints), maxAttempts});
+        }
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO scan_shards (scan_id, shard_index, endpoint_from, endpoint_to, status, max_attempts) "
+                + "VALUES (?, ?, ?, ?, 'QUEUED', ?)",
+            rows);
+    }
+
+    public List<ScanShard> claim(String workerId, int limit, int leaseSeconds) {
+        return jdbcTemplate.query("""
+                UPDATE scan_shards s
+                SET status = 'RUNNING', worker_id = ?, lease_until = now() + make_interval(secs => ?),
+                    attempts = s.attempts + 1
+                WHERE s.id IN (
+                    SELECT id FROM scan_shards
+                    WHERE status = 'QUEUED'
+                    ORDER BY created_at, shard_index
+                    LIMIT ?
+                    FOR UPDATE SKIP LOCKED)
+                RETURNING s.*
+                """,
+            ROW_MAPPER, workerId, leaseSeconds, limit);
+    }
+
+    /**
+     * Stores shard progress, extends its lease and rolls the progress up into the scan job.
+     *
+     * @return {@code true} if the scan was cancelled or the lease was lost
+     */
+    public boolean reportProgress(ScanShard shard, String workerId, int analyzed, int leaseSeconds) {
+        int updated = jdbcTemplate.update("""
+                UPDATE scan_shards SET endpoints_analyzed = ?, lease_until = now() + make_interval(secs => ?)
+                WHERE id = ? AND worker_id = ? AND status = 'RUNNING'
+                """,
+            analyzed, leaseSeconds, shard.id(), workerId);
+        if (updated == 0) {
+            return true;
+        }
+        List<Boolean> cancel = jdbcTemplate.queryForList("""
+                UPDATE scan_jobs
+                SET endpoints_analyzed = (SELECT COALESCE(sum(endpoints_analyzed), 0) FROM scan_shards WHERE scan_id = ?),
+                    updated_at = now()
+                WHERE scan_id = ?
+                RETURNING cancel_requested
+                """,
+            Boolean.class, shard.scanId(), shard.scanId());
+        return cancel.isEmpty() || cancel.get(0);
+    }
+
+    public void renewLeases(String workerId, Collection<UUID> shardIds, int leaseSeconds) {
+        if (shardIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(
+            "UPDATE scan_shards SET lease_until = now() + make_interval(secs => ?) "
+                + "WHERE worker_id = ? AND status = 'RUNNING' AND id = ANY(?)",
+            leaseSeconds, workerId, shardIds.toArray(UUID[]::new));
+    }
+
+    /**
+     * Completes a shard still leased by {@code workerId}.
+     *
+     * @return {@code false} if the lease was lost meanwhile and the shard belongs to another worker
+     */
+    public boolean complete(ScanShard shard, String workerId, Map<SeverityLevel, Integer> counts) {
+        return jdbcTemplate.update("""
+                UPDATE scan_shards
+                SET status = 'COMPLETED', endpoints_analyzed = endpoint_to - endpoint_from, lease_until = NULL,
+                    critical_findings = ?, high_findings = ?, medium_findings = ?, low_findings = ?, info_findings = ?,
+                    completed_at = now()
+                WHERE id = ? AND worker_id = ? AND status = 'RUNNING'
+                """,
+            counts.getOrDefault(SeverityLevel.CRITICAL, 0),
+            counts.getOrDefault(SeverityLevel.HIGH, 0),
+            counts.getOrDefault(SeverityLevel.MEDIUM, 0),
+            counts.getOrDefault(SeverityLevel.LOW, 0),
+            counts.getOrDefault(SeverityLevel.INFO, 0),
+            shard.id(), workerId) == 1;
+    }
+
+    /**
+     * Returns a failed shard to the queue while it has attempts left, otherwise marks it as {@code status}.
+     *
+     * @return {@code true} if the shard reached a terminal status
+     */
+    public boolean release(ScanShard shard, String workerId, ScanStatus status, String errorMessage) {
+        List<String> result = jdbcTemplate.queryForList("""
+                UPDATE scan_shards
+                SET status = CASE WHEN ? = 'FAILED' AND attempts < max_attempts THEN 'QUEUED' ELSE ? END,
+                    worker_id = NULL, lease_until = NULL, error_message = ?,
+                    completed_at = CASE WHEN ? = 'FAILED' AND attempts < max_attempts THEN NULL ELSE now() END
+                WHERE id = ? AND worker_id = ? AND status = 'RUNNING'
+                RETURNING status
+                """,
+            String.class, status.name(), status.name(), errorMessage, status.name(), shard.id(), workerId);
+        return !result.isEmpty() && !ScanStatus.QUEUED.name().equals(result.get(0));
+    }
+
+    /**
+     * Cancels the shards of a scan that no worker has picked up yet.
+     */
+    public int cancelQueued(UUID scanId) {
+        return jdbcTemplate.update(
+            "UPDATE scan_shards SET status = 'CANCELLED', completed_at = now() WHERE scan_id = ? AND status = 'QUEUED'",
+            scanId);
+    }
+
+    /**
+     * Re-queues shards with expired leases, failing those without attempts left.
+     *
+     * @return scans that had shards fail, which may now be complete
+     */
+    public List<UUID> requeueExpired() {
+        List<UUID> failedScans = jdbcTemplate.queryForList("""
+                UPDATE scan_shards
+                SET status = 'FAILED', error_message = 'Worker lease expired too many times',
+                    worker_id = NULL, lease_until = NULL, completed_at = now()
+                WHERE status = 'RUNNING' AND lease_until < now() AND attempts >= max_attempts
+                RETURNING scan_id
+                """,
+            UUID.class);
+        jdbcTemplate.update("""
+                UPDATE scan_shards SET status = 'QUEUED', worker_id = NULL, lease_until = NULL
+                WHERE status = 'RUNNING' AND lease_until < now() AND attempts < max_attempts
+                """);
+        return failedScans.stream().distinct().toList();
+    }
+
+    public ShardSummary summarize(UUID scanId) {
+        return jdbcTemplate.queryForObject("""
+                SELECT count(*) AS shards,
+                       count(*) FILTER (WHERE status = 'COMPLETED') AS completed,
+                       count(*) FILTER (WHERE status = 'FAILED') AS failed,
+                       count(*) FILTER (WHERE status = 'CANCELLED') AS cancelled,
+                       COALESCE(sum(endpoints_analyzed), 0) AS endpoints_analyzed,
+                       COALESCE(sum(critical_findings), 0) AS critical,
+                       COALESCE(sum(high_findings), 0) AS high,
+                       COALESCE(sum(medium_findings), 0) AS medium,
+                       COALESCE(sum(low_findings), 0) AS low,
+                       COALESCE(sum(info_findings), 0) AS info,
+                       min(error_message) FILTER (WHERE status = 'FAILED') AS first_error
+                FROM scan_shards WHERE scan_id = ?
+                """,
+            (rs, rowNum) -> {
+                Map<SeverityLevel, Integer> counts = new EnumMap<>(SeverityLevel.class);
+                counts.put(SeverityLevel.CRITICAL, rs.getInt("critical"));
+                counts.put(SeverityLevel.HIGH, rs.getInt("high"));
+                counts.put(SeverityLevel.MEDIUM, rs.getInt("medium"));
+                counts.put(SeverityLevel.LOW, rs.getInt("low"));
+                counts.put(SeverityLevel.INFO, rs.getInt("info"));
+                return new ShardSummary(rs.getInt("shards"), rs.getInt("completed"), rs.getInt("failed"),
+                    rs.getInt("cancelled"), rs.getInt("endpoints_analyzed"), counts, rs.getString("first_error"));
+            },
+            scanId);
+    }
+}
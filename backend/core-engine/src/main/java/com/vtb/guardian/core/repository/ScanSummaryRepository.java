@@ -0,0 +1,93 @@
+package com.vtb.guardian.core.repository;
+
+import com.vtb.guardian.core.model.dto.response.ScanSummaryResponse;
+import com.vtb.guardian.core.model.enums.ScanStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Keyset-paginated scan listing on {@code (created_at, id)}, newest first.
+ *
+ * Each page is a single index range scan continuing after the last row of the
+ * previous page; there is no OFFSET and no total count.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScanSummaryRepository {
+
+    private static final RowMapper<ScanSummaryResponse> ROW_MAPPER = (rs, rowNum) -> ScanSummaryResponse.builder()
+        .id(rs.getObject("id", UUID.class))
+        .projectId(rs.getObject("project_id", UUID.class))
+        .name(rs.getString("name"))
+        .status(ScanStatus.valueOf(rs.getString("status")))
+        .totalEndpoints((Integer) rs.getObject("total_endpoints"))
+        .criticalFindings(rs.getInt("critical_findings"))
+        .highFindings(rs.getInt("high_findings"))
+        .mediumFindings(rs.getInt("medium_findings"))
+        .lowFindings(rs.getInt("low_findings"))
+        .infoFindings(rs.getInt("info_findings"))
+        .durationMs((Long) rs.getObject("duration_ms"))
+        .createdAt(toLocalDateTime(rs.getTimestamp("created_at")))
+        .completedAt(toLocalDateTime(rs.getTimestamp("completed_at")))
+        .compactedAt(toLocalDateTime(rs.getTimestamp("compacted_at")))
+        .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param afterCreatedAt creation time of the last row of the previous page, {@code null} for the first page
+     * @param afterId        id of the last row of the previous page
+     */
+    public List<ScanSummaryResponse> findPage(UUID projectId, ScanStatus status,
+                                              LocalDateTime afterCreatedAt, UUID afterId, int limit) {
+        StringBuilder sql = new StringBuilder("""
+            SELECT id, project_id, name, status, total_endpoints,
+                   critical_findings, high_findings, medium_findings, low_findings, info_findings,
+                   duration_ms, created_at, completed_at, compacted_at
+            FROM scans
+            WHERE purge_requested_at IS NULL
+            """);
+        List<Object> args = new ArrayList<>();
+        if (projectId != null) {
+            sql.append(" AND project_id = ?");
+            args.add(projectId);
+        }
+        if (status != null) {
+            sql.append(" AND status = ?");
+            args.add(status.name());
+        }
+        if (afterCreatedAt != null) {
+            // Row comparison matches the (created_at DESC, id DESC) index order
+            sql.append(" AND (created_at, id) < (?, ?)");
+            args.add(Timestamp.valueOf(afterCreatedAt));
+            args.add(afterId);
+        }
+        sql.append(" ORDER BY created_at DESC, id DESC LIMIT ?");
+        args.add(limit);
+        return jdbcTemplate.query(sql.toString(), ROW_MAPPER, args.toArray());
+    }
+
+    public Optional<ScanSummaryResponse> findById(UUID id) {
+        return jdbcTemplate.query("""
+                SELECT id, project_id, name, status, total_endpoints,
+                       critical_findings, high_findings, medium_findings, low_findings, info_findings,
+                       duration_ms, created_at, completed_at, compacted_at
+                FROM scans
+                WHERE id = ? AND purge_requested_at IS NULL
+                """,
+            ROW_MAPPER, id).stream().findFirst();
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
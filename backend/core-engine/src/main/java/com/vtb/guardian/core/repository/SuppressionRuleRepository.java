@@ -0,0 +1,68 @@
+package com.vtb.guardian.core.repository;
+
+import com.vtb.guardian.core.analyzer.suppression.SuppressionRule;
+import com.vtb.guardian.core.model.enums.VulnerabilityType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class SuppressionRuleRepository {
+
+    private static final RowMapper<SuppressionRule> ROW_MAPPER = (rs, rowNum) -> new SuppressionRule(
+        rs.getObject("id", UUID.class),
+        rs.getObject("project_id", UUID.class),
+        rs.getString("method"),
+        rs.getString("path_pattern"),
+        rs.getString("vulnerability_type") != null ? VulnerabilityType.valueOf(rs.getString("vulnerability_type")) : null,
+        rs.getString("reason"),
+        rs.getString("created_by"),
+        toInstant(rs.getTimestamp("created_at")),
+        toInstant(rs.getTimestamp("expires_at"))
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SuppressionRule insert(UUID projectId, String method, String pathPattern, VulnerabilityType type,
+                                  String reason, String createdBy, Instant expiresAt) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO suppression_rules
+                    (project_id, method, path_pattern, vulnerability_type, reason, created_by, expires_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?)
+                RETURNING *
+                """,
+            ROW_MAPPER, projectId, method, pathPattern, type != null ? type.name() : null, reason, createdBy,
+            expiresAt != null ? Timestamp.from(expiresAt) : null);
+    }
+
+    public List<SuppressionRule> findByProjectId(UUID projectId) {
+        return jdbcTemplate.query(
+            "SELECT * FROM suppression_rules WHERE project_id = ? ORDER BY created_at, id",
+            ROW_MAPPER, projectId);
+    }
+
+    /**
+     * Rules that apply to a scan started now: expired acceptances are ignored.
+     */
+    public List<SuppressionRule> findActiveByProjectId(UUID projectId) {
+        return jdbcTemplate.query(
+            "SELECT * FROM suppression_rules WHERE project_id = ? AND (expires_at IS NULL OR expires_at > now())",
+            ROW_MAPPER, projectId);
+    }
+
+    public boolean delete(UUID projectId, UUID ruleId) {
+        return jdbcTemplate.update(
+            "DELETE FROM suppression_rules WHERE id = ? AND project_id = ?", ruleId, projectId) > 0;
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+}
@@ -0,0 +1,314 @@
+package com.vtb.guardian.core.repository;
+
+import com.vtb.guardian.core.model.domain.Vulnerability;
+import com.vtb.guardian.core.model.enums.FindingSource;
+import com.vtb.guardian.core.model.enums.SeverityLevel;
+import com.vtb.guardian.core.model.enums.VulnerabilityType;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Bulk write path for findings based on PostgreSQL {@code COPY}.
+ *
+ * Findings are buffered and flushed in chunks: each chunk is copied into session-local
+ * staging tables and moved into {@code vulnerabilities} by a single statement that skips
+ * duplicates of (scan, source, finding key), where the key hashes type, method, endpoint,
+ * affected parameter and title. It adds the rows actually written to the scan and project rollups, and returns them per type and severity. Inside a
+ * transaction all chunks join it.
+ */
+@Repository
+@Slf4j
+public class VulnerabilityBulkWriter {
+
+    private static final String CREATE_STAGING = """
+        CREATE TEMP TABLE IF NOT EXISTS vulnerability_staging (LIKE vulnerabilities INCLUDING DEFAULTS);
+        CREATE TEMP TABLE IF NOT EXISTS vulnerability_reference_staging (vulnerability_id uuid, reference_url text);
+        TRUNCATE vulnerability_staging, vulnerability_reference_staging
+        """;
+
+    private static final String COPY_FINDINGS = """
+        COPY vulnerability_staging (id, scan_id, source, type, severity, title, description, endpoint, method,
+            recommendation, code_example, exploit_poc, owasp_category, affected_parameter,
+            cvss_score, ai_generated, ai_confidence, detected_at) FROM STDIN
+        """;
+
+    private static final String COPY_REFERENCES =
+        "COPY vulnerability_reference_staging (vulnerability_id, reference_url) FROM STDIN";
+
+    private static final String MERGE = """
+        WITH inserted AS (
+            INSERT INTO vulnerabilities (id, scan_id, source, type, severity, title, description, endpoint, method,
+                recommendation, code_example, exploit_poc, owasp_category, affected_parameter,
+                cvss_score, ai_generated, ai_confidence, detected_at, finding_key)
+            SELECT id, scan_id, source, type, severity, title, description, endpoint, method,
+                recommendation, code_example, exploit_poc, owasp_category, affected_parameter,
+                cvss_score, ai_generated, ai_confidence, detected_at,
+                md5(concat_ws(chr(31), type, COALESCE(method, ''), COALESCE(endpoint, ''),
+                    COALESCE(affected_parameter, ''), title))
+            FROM vulnerability_staging
+            ON CONFLICT (scan_id, source, finding_key) DO NOTHING
+            RETURNING id, type, severity
+        ), referenced AS (
+            INSERT INTO vulnerability_references (vulnerability_id, reference_url)
+            SELECT r.vulnerability_id, r.reference_url
+            FROM vulnerability_reference_staging r
+            JOIN inserted i ON i.id = r.vulnerability_id
+        ), counted AS (
+            SELECT type, severity, count(*) AS written FROM inserted GROUP BY type, severity
+        ), scan_rollup AS (
+            INSERT INTO scan_finding_rollups (scan_id, type, severity, findings)
+            SELECT ?, type, severity, written FROM counted
+            ON CONFLICT (scan_id, type, severity)
+            DO UPDATE SET findings = scan_finding_rollups.findings + EXCLUDED.findings
+        ), project_rollup AS (
+            INSERT INTO project_daily_rollups (project_id, bucket, type, severity, findings)
+            SELECT s.project_id, CAST(s.created_at AS date), c.type, c.severity, c.written
+            FROM counted c JOIN scans s ON s.id = ?
+            WHERE s.project_id IS NOT NULL
+            ON CONFLICT (project_id, bucket, type, severity)
+            DO UPDATE SET findings = project_daily_rollups.findings + EXCLUDED.findings
+        )
+        SELECT type, severity, written FROM counted
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int chunkSize;
+
+    public VulnerabilityBulkWriter(JdbcTemplate jdbcTemplate,
+                                   @Value("${app.scan.persistence.chunk-size:1000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Totals of a write: {@code counts} only covers rows that were new, not skipped duplicates.
+     */
+    public record WriteResult(int submitted, int written, Map<VulnerabilityType, Map<SeverityLevel, Integer>> counts) {
+
+        public int duplicates() {
+            return submitted - written;
+        }
+
+        public Map<SeverityLevel, Integer> countsBySeverity() {
+            Map<SeverityLevel, Integer> bySeverity = new EnumMap<>(SeverityLevel.class);
+            counts.values().forEach(perType -> perType.forEach((severity, count) ->
+                bySeverity.merge(severity, count, Integer::sum)));
+            return bySeverity;
+        }
+    }
+
+    /**
+     * Opens a session for static-analysis findings.
+     */
+    public Session open(UUID scanId) {
+        return open(scanId, FindingSource.STATIC);
+    }
+
+    /**
+     * @param source source of the findings passed to {@link Session#add}
+     */
+    public Session open(UUID scanId, FindingSource source) {
+        return new Session(scanId, source);
+    }
+
+    public WriteResult writeAll(UUID scanId, Collection<Vulnerability> vulnerabilities) {
+        try (Session session = open(scanId)) {
+            session.addAll(vulnerabilities);
+            session.flush();
+            return session.result();
+        }
+    }
+
+    /**
+     * Buffers the findings of one scan and flushes every {@code chunkSize} findings.
+     * Not thread-safe; callers serialize access.
+     */
+    public final class Session implements AutoCloseable {
+
+        private final UUID scanId;
+        private final FindingSource source;
+        private final List<Pending> buffer = new ArrayList<>(chunkSize);
+        private final Map<VulnerabilityType, Map<SeverityLevel, Integer>> counts = new EnumMap<>(VulnerabilityType.class);
+        private int submitted;
+        private int written;
+        private boolean discarded;
+
+        private Session(UUID scanId, FindingSource source) {
+            this.scanId = scanId;
+            this.source = source;
+        }
+
+        public void add(Vulnerability vulnerability) {
+            add(vulnerability, source);
+        }
+
+        /**
+         * Adds a finding of another source than the session's, e.g. fuzzing findings of a dynamic test run.
+         */
+        public void add(Vulnerability vulnerability, FindingSource findingSource) {
+            if (discarded) {
+                return;
+            }
+            buffer.add(new Pending(vulnerability, findingSource));
+            if (buffer.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        public void addAll(Collection<Vulnerability> vulnerabilities) {
+            addAll(vulnerabilities, source);
+        }
+
+        public void addAll(Collection<Vulnerability> vulnerabilities, FindingSource findingSource) {
+            vulnerabilities.forEach(vulnerability -> add(vulnerability, findingSource));
+        }
+
+        public void flush() {
+            if (discarded || buffer.isEmpty()) {
+                return;
+            }
+            long start = System.nanoTime();
+            int chunk = buffer.size();
+            int chunkWritten = jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> copyChunk(connection));
+            submitted += chunk;
+            written += chunkWritten;
+            buffer.clear();
+            log.debug("Flushed {} findings of scan {} ({} duplicates) in {} ms",
+                chunk, scanId, chunk - chunkWritten, (System.nanoTime() - start) / 1_000_000);
+        }
+
+        public WriteResult result() {
+            Map<VulnerabilityType, Map<SeverityLevel, Integer>> snapshot = new EnumMap<>(VulnerabilityType.class);
+            counts.forEach((type, perType) -> snapshot.put(type, new EnumMap<>(perType)));
+            return new WriteResult(submitted, written, snapshot);
+        }
+
+        /**
+         * Drops the buffered findings and ignores further ones, so {@link #close()} writes nothing.
+         * Chunks flushed before stay written.
+         */
+        public void discard() {
+            buffer.clear();
+            discarded = true;
+        }
+
+        /**
+         * Flushes the remaining buffer, unless the session was discarded.
+         */
+        @Override
+        public void close() {
+            flush();
+        }
+
+        private int copyChunk(Connection connection) throws SQLException {
+            StringBuilder findings = new StringBuilder(buffer.size() * 512);
+            StringBuilder references = new StringBuilder();
+            for (Pending pending : buffer) {
+                Vulnerability vulnerability = pending.vulnerability();
+                UUID id = UUID.randomUUID();
+                appendRow(findings, id, scanId,
+                    pending.source().name(),
+                    vulnerability.getType().name(),
+                    vulnerability.getSeverity().name(),
+                    vulnerability.getTitle(),
+                    vulnerability.getDescription(),
+                    vulnerability.getEndpoint(),
+                    vulnerability.getMethod(),
+                    vulnerability.getRecommendation(),
+                    vulnerability.getCodeExample(),
+                    vulnerability.getExploitPoc(),
+                    vulnerability.getOwaspCategory(),
+                    vulnerability.getAffectedParameter(),
+                    vulnerability.getCvssScore(),
+                    Boolean.TRUE.equals(vulnerability.getAiGenerated()),
+                    vulnerability.getAiConfidence(),
+                    vulnerability.getDetectedAt() != null ? vulnerability.getDetectedAt() : LocalDateTime.now());
+                if (vulnerability.getReferences() != null) {
+                    for (String reference : vulnerability.getReferences()) {
+                        appendRow(references, id, reference);
+                    }
+                }
+            }
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_STAGING);
+            }
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            try {
+                copyManager.copyIn(COPY_FINDINGS, new StringReader(findings.toString()));
+                if (!references.isEmpty()) {
+                    copyManager.copyIn(COPY_REFERENCES, new StringReader(references.toString()));
+                }
+            } catch (IOException e) {
+                throw new SQLException("COPY of findings failed", e);
+            }
+
+            int chunkWritten = 0;
+            try (PreparedStatement statement = connection.prepareStatement(MERGE)) {
+                statement.setObject(1, scanId);
+                statement.setObject(2, scanId);
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        int count = rs.getInt("written");
+                        counts.computeIfAbsent(VulnerabilityType.valueOf(rs.getString("type")),
+                                type -> new EnumMap<>(SeverityLevel.class))
+                            .merge(SeverityLevel.valueOf(rs.getString("severity")), count, Integer::sum);
+                        chunkWritten += count;
+                    }
+                }
+            }
+            return chunkWritten;
+        }
+    }
+
+    private record Pending(Vulnerability vulnerability, FindingSource source) {
+    }
+
+    /**
+     * Appends one row in COPY text format: tab-separated, {@code \N} for null, backslash escapes.
+     */
+    static void appendRow(StringBuilder out, Object... values) {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.append('\t');
+            }
+            Object value = values[i];
+            if (value == null) {
+                out.append("\\N");
+                continue;
+            }
+            String text = value.toString();
+            for (int j = 0; j < text.length(); j++) {
+                char c = text.charAt(j);
+                switch (c) {
+                    case '\\' -> out.append("\\\\");
+                    case '\t' -> out.append("\\t");
+                    case '\n' -> out.append("\\n");
+                    case '\r' -> out.append("\\r");
+                    default -> out.append(c);
+                }
+            }
+        }
+        out.append('\n');
+    }
+}
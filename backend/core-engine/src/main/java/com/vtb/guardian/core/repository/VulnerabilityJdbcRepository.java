@@ -0,0 +1,121 @@
+package com.vtb.guardian.core.repository;
+
+import com.vtb.guardian.core.model.domain.Vulnerability;
+import com.vtb.guardian.core.model.enums.FindingSource;
+import com.vtb.guardian.core.model.enums.SeverityLevel;
+import com.vtb.guardian.core.model.enums.VulnerabilityType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Plain JDBC access to the vulnerabilities table for engine-internal bulk paths.
+ */
+@Repository
+@RequiredArgsConstructor
+public class VulnerabilityJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<Vulnerability> findByScanId(UUID scanId) {
+        Map<UUID, List<String>> references = findReferences(scanId);
+        return jdbcTemplate.query(
+            "SELECT * FROM vulnerabilities WHERE scan_id = ? ORDER BY detected_at, id",
+            (rs, rowNum) -> mapRow(rs, references.getOrDefault(rs.getObject("id", UUID.class), List.of())),
+            scanId);
+    }
+
+    /**
+     * Findings of one source only, e.g. the static-analysis findings an incremental scan reuses.
+     */
+    public List<Vulnerability> findByScanId(UUID scanId, FindingSource source) {
+        Map<UUID, List<String>> references = findReferences(scanId);
+        return jdbcTemplate.query(
+            "SELECT * FROM vulnerabilities WHERE scan_id = ? AND source = ? ORDER BY detected_at, id",
+            (rs, rowNum) -> mapRow(rs, references.getOrDefault(rs.getObject("id", UUID.class), List.of())),
+            scanId, source.name());
+    }
+
+    /**
+     * Streams a scan's findings in detection order through a server-side cursor, so memory
+     * use does not depend on the number of findings. Must be called inside a transaction:
+     * PostgreSQL only honours the fetch size with auto-commit off.
+     */
+    public void streamByScanId(UUID scanId, int fetchSize, Consumer<Vulnerability> consumer) {
+        jdbcTemplate.query(
+            connection -> {
+                PreparedStatement statement = connection.prepareStatement("""
+                        SELECT v.*,
+                               ARRAY(SELECT r.reference_url FROM vulnerability_references r
+                                     WHERE r.vulnerability_id = v.id) AS reference_urls
+                        FROM vulnerabilities v
+                        WHERE v.scan_id = ?
+                        ORDER BY v.detected_at, v.id
+                        """,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                statement.setObject(1, scanId);
+                return statement;
+            },
+            (RowCallbackHandler) rs -> {
+                Array urls = rs.getArray("reference_urls");
+                consumer.accept(mapRow(rs, urls != null ? List.of((String[]) urls.getArray()) : List.of()));
+            });
+    }
+
+    private Map<UUID, List<String>> findReferences(UUID scanId) {
+        Map<UUID, List<String>> references = new HashMap<>();
+        jdbcTemplate.query("""
+                SELECT r.vulnerability_id, r.reference_url
+                FROM vulnerability_references r
+                JOIN vulnerabilities v ON v.id = r.vulnerability_id
+                WHERE v.scan_id = ?
+                """,
+            rs -> {
+                references.computeIfAbsent(rs.getObject("vulnerability_id", UUID.class), id -> new ArrayList<>())
+                    .add(rs.getString("reference_url"));
+            },
+            scanId);
+        return references;
+    }
+
+    private static Vulnerability mapRow(ResultSet rs, List<String> references) throws SQLException {
+        Timestamp detectedAt = rs.getTimestamp("detected_at");
+        return Vulnerability.builder()
+            .type(VulnerabilityType.valueOf(rs.getString("type")))
+            .severity(SeverityLevel.valueOf(rs.getString("severity")))
+            .title(rs.getString("title"))
+            .description(rs.getString("description"))
+            .endpoint(rs.getString("endpoint"))
+            .method(rs.getString("method"))
+            .recommendation(rs.getString("recommendation"))
+            .codeExample(rs.getString("code_example"))
+            .exploitPoc(rs.getString("exploit_poc"))
+            .owaspCategory(rs.getString("owasp_category"))
+            .affectedParameter(rs.getString("affected_parameter"))
+            .cvssScore(toDouble(rs.getBigDecimal("cvss_score")))
+            .aiGenerated(rs.getBoolean("ai_generated"))
+            .aiConfidence(toDouble(rs.getBigDecimal("ai_confidence")))
+            .references(references)
+            .detectedAt(detectedAt != null ? detectedAt.toLocalDateTime() : null)
+            .build();
+    }
+
+    private static Double toDouble(BigDecimal value) {
+        return value != null ? value.doubleValue() : null;
+    }
+}
@@ -0,0 +1,59 @@
+package com.vtb.guardian.core.service;
+
+import com.vtb.guardian.core.model.dto.response.FindingTrendResponse;
+import com.vtb.guardian.core.model.enums.SeverityLevel;
+import com.vtb.guardian.core.model.enums.VulnerabilityType;
+import com.vtb.guardian.core.repository.FindingRollupRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Finding trends over time from the daily project rollups.
+ */
+@Service
+@RequiredArgsConstructor
+public class FindingTrendService {
+
+    private static final Set<String> GRANULARITIES = Set.of("day", "week", "month");
+
+    private final FindingRollupRepository rollupRepository;
+
+    public FindingTrendResponse trend(UUID projectId, LocalDate from, LocalDate to, String granularity) {
+        String unit = granularity.toLowerCase();
+        if (!GRANULARITIES.contains(unit)) {
+            throw new IllegalArgumentException("Unsupported granularity: " + granularity);
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+
+        Map<LocalDate, FindingTrendResponse.Point> points = new LinkedHashMap<>();
+        for (FindingRollupRepository.TrendRow row : rollupRepository.trend(projectId, from, to, unit)) {
+            FindingTrendResponse.Point point = points.computeIfAbsent(row.period(), period ->
+                FindingTrendResponse.Point.builder()
+                    .period(period)
+                    .bySeverity(new EnumMap<>(SeverityLevel.class))
+                    .byType(new EnumMap<>(VulnerabilityType.class))
+                    .build());
+            point.setTotal(point.getTotal() + row.findings());
+            point.getBySeverity().merge(row.severity(), row.findings(), Long::sum);
+            point.getByType().merge(row.type(), row.findings(), Long::sum);
+        }
+
+        return FindingTrendResponse.builder()
+            .projectId(projectId)
+            .granularity(unit)
+            .from(from)
+            .to(to)
+            .points(List.copyOf(points.values()))
+            .build();
+    }
+}
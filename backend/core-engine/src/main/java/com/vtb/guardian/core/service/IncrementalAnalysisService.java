@@ -0,0 +1,187 @@
+package com.vtb.guardian.core.service;
+
+import com.vtb.guardian.core.analyzer.engine.AnalysisProgressListener;
+import com.vtb.guardian.core.analyzer.engine.ParallelAnalysisEngine;
+import com.vtb.guardian.core.analyzer.incremental.EndpointFingerprinter;
+import com.vtb.guardian.core.analyzer.incremental.IncrementalAnalysisResult;
+import com.vtb.guardian.core.analyzer.suppression.SuppressionIndex;
+import com.vtb.guardian.core.model.domain.ApiSpecification;
+import com.vtb.guardian.core.model.domain.Endpoint;
+import com.vtb.guardian.core.model.domain.Vulnerability;
+import com.vtb.guardian.core.model.enums.FindingSource;
+import com.vtb.guardian.core.repository.EndpointFingerprintRepository;
+import com.vtb.guardian.core.repository.VulnerabilityJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Re-analyzes only the endpoints that changed since the project's previous scan.
+ *
+ * Every endpoint is fingerprinted; endpoints whose fingerprint matches the baseline
+ * scan keep their findings, all others go through the analysis engine. A full analysis
+ * runs when the specification header (title, version, base URL), the analyzer set or the
+ * project's suppression rules changed, or when endpoints were added or removed, since specification-level findings
+ * may depend on the set of endpoints. Otherwise the specification-level findings are
+ * carried forward. Only static-analysis findings are carried forward: dynamic, fuzzing
+ * and load findings belong to the test run that produced them.
+ *
+ * The project's suppression rules apply to both: analyzers skip suppressed checks, and
+ * carried-forward findings that a rule covers are dropped. Since the rules are part of the
+ * specification fingerprint, findings of a deleted or expired rule come back on the next scan.
+ */
+@Service
+@Slf4j
+public class IncrementalAnalysisService {
+
+    private final ParallelAnalysisEngine analysisEngine;
+    private final EndpointFingerprinter fingerprinter;
+    private final EndpointFingerprintRepository fingerprintRepository;
+    private final VulnerabilityJdbcRepository vulnerabilityRepository;
+    private final SuppressionService suppressionService;
+    private final int progressInterval;
+
+    public IncrementalAnalysisService(
+            ParallelAnalysisEngine analysisEngine,
+            EndpointFingerprinter fingerprinter,
+            EndpointFingerprintRepository fingerprintRepository,
+            VulnerabilityJdbcRepository vulnerabilityRepository,
+            SuppressionService suppressionService,
+            @Value("${app.scan.analysis.progress-interval:500}") int progressInterval) {
+        this.analysisEngine = analysisEngine;
+        this.fingerprinter = fingerprinter;
+        this.fingerprintRepository = fingerprintRepository;
+        this.vulnerabilityRepository = vulnerabilityRepository;
+        this.suppressionService = suppressionService;
+        this.progressInterval = progressInterval;
+    }
+
+    public IncrementalAnalysisResult analyze(UUID projectId, UUID scanId, ApiSpecification specification) {
+        return analyze(projectId, scanId, specification, AnalysisProgressListener.NONE);
+    }
+
+    /**
+     * @param listener receives progress in terms of the endpoints that are actually re-analyzed
+     */
+    public IncrementalAnalysisResult analyze(UUID projectId, UUID scanId, ApiSpecification specification,
+                                             AnalysisProgressListener listener) {
+        List<Endpoint> endpoints = specification.getEndpoints() != null ? specification.getEndpoints() : List.of();
+        SuppressionIndex suppressions = suppressionService.indexFor(projectId);
+        Map<String, String> fingerprints = fingerprint(specification, endpoints, suppressions);
+
+        Optional<UUID> baseline = projectId != null
+            ? fingerprintRepository.findBaselineScanId(projectId, scanId)
+            : Optional.empty();
+        Map<String, String> previous = baseline.map(fingerprintRepository::findByScanId).orElse(Map.of());
+
+        String specificationKey = EndpointFingerprinter.SPECIFICATION_KEY;
+        if (baseline.isEmpty()
+                || !fingerprints.get(specificationKey).equals(previous.get(specificationKey))
+                || !fingerprints.keySet().equals(previous.keySet())) {
+            log.info("Full analysis for scan {}: {} endpoints", scanId, endpoints.size());
+            List<Vulnerability> vulnerabilities = analysisEngine.analyze(specification, progressInterval, listener, suppressions);
+            fingerprintRepository.saveAll(scanId, fingerprints);
+            return new IncrementalAnalysisResult(vulnerabilities, fingerprints, null, endpoints.size(), 0);
+        }
+
+        List<Endpoint> changed = new ArrayList<>();
+        Set<String> unchangedKeys = new HashSet<>();
+        for (Endpoint endpoint : endpoints) {
+            String key = EndpointFingerprinter.keyOf(endpoint);
+            if (fingerprints.get(key).equals(previous.get(key))) {
+                unchangedKeys.add(key);
+            } else {
+                changed.add(endpoint);
+            }
+        }
+
+        List<Vulnerability> vulnerabilities = new ArrayList<>();
+        if (!changed.isEmpty()) {
+            vulnerabilities.addAll(endpointFindings(analysisEngine.analyze(
+                sliceOf(specification, changed), progressInterval, endpointFindingsOnly(listener), suppressions)));
+        } else {
+            listener.onProgress(0, 0);
+        }
+        List<Vulnerability> carriedForward = new ArrayList<>();
+        for (Vulnerability carried : vulnerabilityRepository.findByScanId(baseline.get(), FindingSource.STATIC)) {
+            boolean unchanged = carried.getEndpoint() == null
+                || unchangedKeys.contains(EndpointFingerprinter.keyOf(carried.getMethod(), carried.getEndpoint()));
+            if (unchanged && !suppressions.isSuppressed(carried)) {
+                carriedForward.add(carried);
+            }
+        }
+        listener.onFindings(carriedForward);
+        vulnerabilities.addAll(carriedForward);
+        sortInSpecificationOrder(vulnerabilities, endpoints);
+
+        fingerprintRepository.saveAll(scanId, fingerprints);
+        log.info("Incremental analysis for scan {} against {}: {} changed, {} reused endpoints",
+            scanId, baseline.get(), changed.size(), unchangedKeys.size());
+        return new IncrementalAnalysisResult(
+            vulnerabilities, fingerprints, baseline.get(), changed.size(), unchangedKeys.size());
+    }
+
+    private Map<String, String> fingerprint(ApiSpecification specification, List<Endpoint> endpoints,
+                                            SuppressionIndex suppressions) {
+        Map<String, String> fingerprints = new LinkedHashMap<>();
+        fingerprints.put(EndpointFingerprinter.SPECIFICATION_KEY,
+            fingerprinter.fingerprint(specification, analysisEngine.getAnalyzers(), suppressions));
+        for (Endpoint endpoint : endpoints) {
+            fingerprints.put(EndpointFingerprinter.keyOf(endpoint), fingerprinter.fingerprint(endpoint));
+        }
+        return fingerprints;
+    }
+
+    private static ApiSpecification sliceOf(ApiSpecification specification, List<Endpoint> endpoints) {
+        return ApiSpecification.builder()
+            .title(specification.getTitle())
+            .version(specification.getVersion())
+            .baseUrl(specification.getBaseUrl())
+            .endpoints(endpoints)
+            .build();
+    }
+
+    private static AnalysisProgressListener endpointFindingsOnly(AnalysisProgressListener listener) {
+        return new AnalysisProgressListener() {
+            @Override
+            public void onProgress(int analyzedEndpoints, int totalEndpoints) {
+                listener.onProgress(analyzedEndpoints, totalEndpoints);
+            }
+
+            @Override
+            public void onFindings(List<Vulnerability> vulnerabilities) {
+                listener.onFindings(endpointFindings(vulnerabilities));
+            }
+        };
+    }
+
+    private static List<Vulnerability> endpointFindings(List<Vulnerability> vulnerabilities) {
+        return vulnerabilities.stream().filter(vulnerability -> vulnerability.getEndpoint() != null).toList();
+    }
+
+    /**
+     * Orders findings like a full run would: specification-level first, then by endpoint position and type.
+     */
+    private static void sortInSpecificationOrder(List<Vulnerability> vulnerabilities, List<Endpoint> endpoints) {
+        Map<String, Integer> positions = new HashMap<>(endpoints.size() * 2);
+        for (int i = 0; i < endpoints.size(); i++) {
+            positions.putIfAbsent(EndpointFingerprinter.keyOf(endpoints.get(i)), i);
+        }
+        vulnerabilities.sort(Comparator
+            .comparingInt((Vulnerability v) -> v.getEndpoint() == null
+                ? -1
+                : positions.getOrDefault(EndpointFingerprinter.keyOf(v.getMethod(), v.getEndpoint()), endpoints.size()))
+            .thenComparingInt(v -> v.getType().ordinal()));
+    }
+}
@@ -0,0 +1,66 @@
+package com.vtb.guardian.core.service;
+
+import com.vtb.guardian.core.model.dto.response.CursorPageResponse;
+import com.vtb.guardian.core.model.dto.response.ScanSummaryResponse;
+import com.vtb.guardian.core.model.enums.ScanStatus;
+import com.vtb.guardian.core.repository.ScanSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Cursor-based scan listing. The cursor is an opaque URL-safe encoding of the
+ * {@code (createdAt, id)} key of the last returned scan.
+ */
+@Service
+@RequiredArgsConstructor
+public class ScanListingService {
+
+    public static final int MAX_LIMIT = 200;
+
+    private final ScanSummaryRepository summaryRepository;
+
+    public CursorPageResponse<ScanSummaryResponse> listScans(UUID projectId, ScanStatus status, String cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_LIMIT));
+        Cursor after = cursor != null && !cursor.isBlank() ? Cursor.decode(cursor) : null;
+
+        // One extra row tells whether another page exists without counting
+        List<ScanSummaryResponse> rows = summaryRepository.findPage(projectId, status,
+            after != null ? after.createdAt() : null, after != null ? after.id() : null, pageSize + 1);
+
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            ScanSummaryResponse last = rows.get(pageSize - 1);
+            nextCursor = new Cursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return CursorPageResponse.<ScanSummaryResponse>builder()
+            .items(List.copyOf(rows))
+            .nextCursor(nextCursor)
+            .build();
+    }
+
+    record Cursor(LocalDateTime createdAt, UUID id) {
+
+        String encode() {
+            String raw = createdAt + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.indexOf('|');
+                return new Cursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.vtb.guardian.core.service;
+
+import com.vtb.guardian.core.repository.ScanJobRepository;
+import com.vtb.guardian.core.repository.ScanPurgeRepository;
+import com.vtb.guardian.core.repository.ScanShardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+/**
+ * Accepts scan deletions; the data itself is removed later by the purge worker.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ScanPurgeService {
+
+    private final ScanPurgeRepository purgeRepository;
+    private final ScanJobRepository jobRepository;
+    private final ScanShardRepository shardRepository;
+
+    /**
+     * Marks the scan for purge and stops its analysis. The scan disappears from
+     * listings immediately; the purge starts once no worker is running it.
+     */
+    @Transactional
+    public void requestPurge(UUID scanId) {
+        if (!purgeRepository.requestPurge(scanId)) {
+            if (!purgeRepository.exists(scanId)) {
+                throw new NoSuchElementException("Scan not found: " + scanId);
+            }
+            return;
+        }
+        jobRepository.requestCancel(scanId);
+        shardRepository.cancelQueued(scanId);
+        log.info("Scan {} marked for purge", scanId);
+    }
+}
@@ -0,0 +1,51 @@
+package com.vtb.guardian.core.service;
+
+import com.vtb.guardian.core.metrics.ScanPhase;
+import com.vtb.guardian.core.metrics.ScanTimeline;
+import com.vtb.guardian.core.model.dto.response.ScanTimelineResponse;
+import com.vtb.guardian.core.repository.ScanJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Reads the per-phase timeline that scan workers, shards and dynamic tests store with a scan.
+ */
+@Service
+@RequiredArgsConstructor
+public class ScanTimelineService {
+
+    private final ScanJdbcRepository scanRepository;
+
+    /**
+     * @return the timeline entries in the order they were stored, empty while the scan has not run
+     */
+    public List<ScanTimeline.Entry> entries(UUID scanId) {
+        return scanRepository.findTimeline(scanId).map(ScanTimeline::parse).orElse(List.of());
+    }
+
+    public ScanTimelineResponse getTimeline(UUID scanId) {
+        List<ScanTimeline.Entry> entries = entries(scanId);
+        Map<ScanPhase, Long> totals = new EnumMap<>(ScanPhase.class);
+        for (ScanTimeline.Entry entry : entries) {
+            totals.merge(entry.phase(), entry.durationMs(), Long::sum);
+        }
+        return ScanTimelineResponse.builder()
+            .scanId(scanId)
+            .totalMs(totals)
+            .entries(entries)
+            .build();
+    }
+
+    /**
+     * @return a {@code Server-Timing} header value, {@code null} if there is nothing to report
+     */
+    public String serverTiming(UUID scanId) {
+        List<ScanTimeline.Entry> entries = entries(scanId);
+        return entries.isEmpty() ? null : ScanTimeline.serverTiming(entries);
+    }
+}
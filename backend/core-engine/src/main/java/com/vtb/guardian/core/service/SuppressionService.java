@@ -0,0 +1,57 @@
+package com.vtb.guardian.core.service;
+
+import com.vtb.guardian.core.analyzer.suppression.SuppressionIndex;
+import com.vtb.guardian.core.model.dto.request.CreateSuppressionRuleRequest;
+import com.vtb.guardian.core.model.dto.response.SuppressionRuleResponse;
+import com.vtb.guardian.core.repository.SuppressionRuleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+/**
+ * Manages accepted-risk rules and builds the suppression index used by the analysis.
+ *
+ * The index is rebuilt from the database for every scan or shard rather than cached, so
+ * rule changes take effect on the next scan on every node without cache invalidation.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SuppressionService {
+
+    private final SuppressionRuleRepository ruleRepository;
+
+    public SuppressionIndex indexFor(UUID projectId) {
+        if (projectId == null) {
+            return SuppressionIndex.EMPTY;
+        }
+        SuppressionIndex index = SuppressionIndex.of(ruleRepository.findActiveByProjectId(projectId));
+        if (!index.isEmpty()) {
+            log.debug("Loaded {} suppression rules for project {}", index.size(), projectId);
+        }
+        return index;
+    }
+
+    public List<SuppressionRuleResponse> listRules(UUID projectId) {
+        return ruleRepository.findByProjectId(projectId).stream()
+            .map(SuppressionRuleResponse::from)
+            .toList();
+    }
+
+    public SuppressionRuleResponse createRule(UUID projectId, CreateSuppressionRuleRequest request) {
+        String method = request.getMethod() != null ? request.getMethod().toUpperCase(Locale.ROOT) : null;
+        return SuppressionRuleResponse.from(ruleRepository.insert(projectId, method, request.getPathPattern().trim(),
+            request.getType(), request.getReason(), request.getCreatedBy(), request.getExpiresAt()));
+    }
+
+    public void deleteRule(UUID projectId, UUID ruleId) {
+        if (!ruleRepository.delete(projectId, ruleId)) {
+            throw new NoSuchElementException("Suppression rule not found: " + ruleId);
+        }
+    }
+}
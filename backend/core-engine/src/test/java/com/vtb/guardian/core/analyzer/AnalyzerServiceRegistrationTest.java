@@ -0,0 +1,59 @@
+package com.vtb.guardian.core.analyzer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the ServiceLoader registration used by the CLI offline mode lists every analyzer bean
+ */
+class AnalyzerServiceRegistrationTest {
+
+    private static final String SERVICES_FILE = "META-INF/services/" + VulnerabilityAnalyzer.class.getName();
+
+    @Test
+    @DisplayName("Should register every @Component analyzer for ServiceLoader")
+    void shouldRegisterAllAnalyzerComponents() throws IOException {
+        // Given
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AssignableTypeFilter(VulnerabilityAnalyzer.class));
+        Set<String> components = scanner.findCandidateComponents("com.vtb.guardian.core.analyzer").stream()
+            .map(BeanDefinition::getBeanClassName)
+            .filter(AnalyzerServiceRegistrationTest::isComponent)
+            .collect(Collectors.toSet());
+
+        // When
+        Set<String> registered;
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream(SERVICES_FILE)) {
+            assertThat(in).as(SERVICES_FILE).isNotNull();
+            registered = new String(in.readAllBytes(), StandardCharsets.UTF_8).lines()
+                .map(String::trim)
+                .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                .collect(Collectors.toSet());
+        }
+
+        // Then
+        assertThat(registered).containsExactlyInAnyOrderElementsOf(components);
+        assertThat(ServiceLoader.load(VulnerabilityAnalyzer.class).stream()).hasSameSizeAs(registered);
+    }
+
+    private static boolean isComponent(String className) {
+        try {
+            return Class.forName(className).isAnnotationPresent(Component.class);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,320 @@
+package com.vtb.guardian.core.analyzer.engine;
+
+import com.vtb.guardian.core.analyzer.VulnerabilityAnalyzer;
+import com.vtb.guardian.core.analyzer.suppression.SuppressionIndex;
+import com.vtb.guardian.core.analyzer.suppression.SuppressionRule;
+import com.vtb.guardian.core.analyzer.visitor.AbstractEndpointAnalyzer;
+import com.vtb.guardian.core.analyzer.visitor.EndpointFeatures;
+import com.vtb.guardian.core.model.domain.ApiSpecification;
+import com.vtb.guardian.core.model.domain.Endpoint;
+import com.vtb.guardian.core.model.domain.Vulnerability;
+import com.vtb.guardian.core.model.enums.SeverityLevel;
+import com.vtb.guardian.core.model.enums.VulnerabilityType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the fork-join analysis engine
+ */
+class ParallelAnalysisEngineTest {
+
+    private final List<VulnerabilityAnalyzer> analyzers = List.of(
+        new PathParameterAnalyzer(VulnerabilityType.MISCONFIGURATION),
+        new PathParameterAnalyzer(VulnerabilityType.BOLA),
+        new PathParameterAnalyzer(VulnerabilityType.BROKEN_AUTH)
+    );
+
+    private ParallelAnalysisEngine engine;
+
+    @AfterEach
+    void tearDown() {
+        if (engine != null) {
+            engine.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should produce the same ordered output as the sequential path")
+    void shouldMatchSequentialOrder() {
+        // Given
+        engine = new ParallelAnalysisEngine(analyzers, 4, 7);
+        ApiSpecification apiSpec = createApiSpecification(1_000);
+
+        // When
+        List<Vulnerability> parallel = engine.analyze(apiSpec);
+        List<Vulnerability> sequential = engine.analyzeSequentially(apiSpec, analyzers);
+
+        // Then
+        assertThat(parallel)
+            .hasSize(sequential.size())
+            .extracting(v -> v.getType() + " " + v.getEndpoint())
+            .containsExactlyElementsOf(sequential.stream().map(v -> v.getType() + " " + v.getEndpoint()).toList());
+    }
+
+    @Test
+    @DisplayName("Should order results by vulnerability type, then by endpoint")
+    void shouldOrderByTypeThenEndpoint() {
+        // Given
+        engine = new ParallelAnalysisEngine(analyzers, 2, 1);
+        ApiSpecification apiSpec = createApiSpecification(4);
+
+        // When
+        List<Vulnerability> vulnerabilities = engine.analyze(apiSpec);
+
+        // Then
+        assertThat(vulnerabilities).extracting(Vulnerability::getType)
+            .startsWith(VulnerabilityType.BOLA)
+            .endsWith(VulnerabilityType.MISCONFIGURATION);
+        assertThat(vulnerabilities.subList(0, 2)).extracting(Vulnerability::getEndpoint)
+            .containsExactly("/resources/0/{id}", "/resources/2/{id}");
+    }
+
+    @Test
+    @DisplayName("Should fall back to sequential analysis when parallelism is 1")
+    void shouldRunSequentiallyWithSingleThread() {
+        // Given
+        engine = new ParallelAnalysisEngine(analyzers, 1, 16);
+        ApiSpecification apiSpec = createApiSpecification(100);
+
+        // When
+        List<Vulnerability> vulnerabilities = engine.analyze(apiSpec);
+
+        // Then
+        assertThat(engine.getParallelism()).isEqualTo(1);
+        assertThat(vulnerabilities).hasSize(150);
+    }
+
+    @Test
+    @DisplayName("Should not report suppressed findings on either execution path")
+    void shouldDropSuppressedFindings() {
+        // Given
+        engine = new ParallelAnalysisEngine(analyzers, 4, 7);
+        ApiSpecification apiSpec = createApiSpecification(100);
+        SuppressionIndex suppressions = SuppressionIndex.of(List.of(
+            rule(null, "/resources/**", VulnerabilityType.BOLA),
+            rule("GET", "/resources/0/{id}", null)));
+
+        // When
+        List<Vulnerability> vulnerabilities = engine.analyze(apiSpec, analyzers, suppressions);
+
+        // Then: 50 endpoints with parameters, minus one for every type; no BOLA at all
+        assertThat(vulnerabilities).hasSize(2 * 49);
+        assertThat(vulnerabilities).extracting(Vulnerability::getType).doesNotContain(VulnerabilityType.BOLA);
+        assertThat(vulnerabilities).extracting(Vulnerability::getEndpoint).doesNotContain("/resources/0/{id}");
+    }
+
+    @Test
+    @DisplayName("Should report endpoints and findings of every analyzer to the metrics")
+    void shouldRecordPerAnalyzerMetrics() {
+        // Given
+        Map<VulnerabilityType, AtomicLong> endpoints = new ConcurrentHashMap<>();
+        Map<VulnerabilityType, AtomicLong> findings = new ConcurrentHashMap<>();
+        AnalyzerMetrics metrics = (type, nanos, endpointCount, findingCount) -> {
+            endpoints.computeIfAbsent(type, ignored -> new AtomicLong()).addAndGet(endpointCount);
+            findings.computeIfAbsent(type, ignored -> new AtomicLong()).addAndGet(findingCount);
+        };
+        engine = new ParallelAnalysisEngine(analyzers, 4, 7, metrics);
+
+        // When
+        engine.analyze(createApiSpecification(100));
+
+        // Then: every chunk is reported once per analyzer
+        assertThat(endpoints).containsOnlyKeys(
+            VulnerabilityType.MISCONFIGURATION, VulnerabilityType.BOLA, VulnerabilityType.BROKEN_AUTH);
+        assertThat(endpoints.values()).allSatisfy(count -> assertThat(count).hasValue(100));
+        assertThat(findings.values()).allSatisfy(count -> assertThat(count).hasValue(50));
+    }
+
+    @Test
+    @DisplayName("Should report specification-level findings once however the endpoints are chunked")
+    void shouldReportSpecificationFindingsOnce() {
+        // Given
+        VulnerabilityAnalyzer specLevel = new SpecificationLevelAnalyzer();
+        engine = new ParallelAnalysisEngine(List.of(specLevel), 4, 7);
+        ApiSpecification apiSpec = createApiSpecification(100);
+
+        // When
+        List<Vulnerability> parallel = engine.analyze(apiSpec);
+        List<Vulnerability> sequential = engine.analyzeSequentially(apiSpec, List.of(specLevel));
+
+        // Then
+        assertThat(parallel).filteredOn(v -> v.getEndpoint() == null).hasSize(1);
+        assertThat(parallel).hasSize(sequential.size()).hasSize(1 + 50);
+        assertThat(parallel.get(0).getEndpoint()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should merge visitor findings across chunks in type and endpoint order")
+    void shouldMergeVisitorChunks() {
+        // Given: two visitors sharing one traversal, between and after plain analyzers
+        PathParameterVisitor bola = new PathParameterVisitor(VulnerabilityType.BOLA);
+        PathParameterVisitor ssrf = new PathParameterVisitor(VulnerabilityType.SSRF);
+        List<VulnerabilityAnalyzer> mixed = List.of(ssrf,
+            new PathParameterAnalyzer(VulnerabilityType.MISCONFIGURATION),
+            bola,
+            new PathParameterAnalyzer(VulnerabilityType.BROKEN_AUTH));
+        engine = new ParallelAnalysisEngine(mixed, 4, 7);
+        ApiSpecification apiSpec = createApiSpecification(100);
+
+        // When
+        List<Vulnerability> parallel = engine.analyze(apiSpec);
+        int bolaVisits = bola.visits.get();
+        int ssrfVisits = ssrf.visits.get();
+        List<Vulnerability> sequential = engine.analyzeSequentially(apiSpec, mixed);
+
+        // Then: every endpoint visited once per visitor, whatever the chunking
+        assertThat(bolaVisits).isEqualTo(100);
+        assertThat(ssrfVisits).isEqualTo(100);
+        assertThat(parallel).extracting(v -> v.getType() + " " + v.getEndpoint())
+            .containsExactlyElementsOf(sequential.stream().map(v -> v.getType() + " " + v.getEndpoint()).toList());
+        assertThat(parallel).extracting(Vulnerability::getType).containsSubsequence(
+            VulnerabilityType.BOLA, VulnerabilityType.BROKEN_AUTH,
+            VulnerabilityType.SSRF, VulnerabilityType.MISCONFIGURATION);
+        assertThat(parallel).filteredOn(v -> v.getType() == VulnerabilityType.SSRF)
+            .extracting(Vulnerability::getEndpoint)
+            .hasSize(50)
+            .startsWith("/resources/0/{id}", "/resources/2/{id}")
+            .endsWith("/resources/98/{id}");
+    }
+
+    @Test
+    @DisplayName("Should not call visitors for endpoints where their type is suppressed")
+    void shouldSkipSuppressedVisitors() {
+        // Given
+        PathParameterVisitor bola = new PathParameterVisitor(VulnerabilityType.BOLA);
+        PathParameterVisitor ssrf = new PathParameterVisitor(VulnerabilityType.SSRF);
+        engine = new ParallelAnalysisEngine(List.of(bola, ssrf), 4, 7);
+        SuppressionIndex suppressions = SuppressionIndex.of(List.of(
+            rule(null, "/resources/**", VulnerabilityType.BOLA)));
+
+        // When
+        List<Vulnerability> vulnerabilities = engine.analyze(createApiSpecification(100), List.of(bola, ssrf),
+            suppressions);
+
+        // Then
+        assertThat(bola.visits).hasValue(0);
+        assertThat(ssrf.visits).hasValue(100);
+        assertThat(vulnerabilities).hasSize(50)
+            .extracting(Vulnerability::getType).containsOnly(VulnerabilityType.SSRF);
+    }
+
+    private ApiSpecification createApiSpecification(int endpointCount) {
+        List<Endpoint> endpoints = new ArrayList<>(endpointCount);
+        for (int i = 0; i < endpointCount; i++) {
+            endpoints.add(Endpoint.builder()
+                .path(i % 2 == 0 ? "/resources/" + i + "/{id}" : "/resources/" + i)
+                .method("GET")
+                .securitySchemes(List.of())
+                .build());
+        }
+        return ApiSpecification.builder()
+            .title("Test API")
+            .version("1.0.0")
+            .baseUrl("https://api.example.com")
+            .endpoints(endpoints)
+            .build();
+    }
+
+    private static SuppressionRule rule(String method, String pathPattern, VulnerabilityType type) {
+        return new SuppressionRule(UUID.randomUUID(), UUID.randomUUID(), method, pathPattern, type,
+            "Accepted risk", null, null, null);
+    }
+
+    /**
+     * Reports every endpoint with a path parameter under the given type.
+     */
+    private record PathParameterAnalyzer(VulnerabilityType type) implements VulnerabilityAnalyzer {
+
+        @Override
+        public VulnerabilityType getType() {
+            return type;
+        }
+
+        @Override
+        public List<Vulnerability> analyze(ApiSpecification specification) {
+            List<Vulnerability> result = new ArrayList<>();
+            for (Endpoint endpoint : specification.getEndpoints()) {
+                if (endpoint.getPath().contains("{")) {
+                    result.add(Vulnerability.builder()
+                        .type(type)
+                        .severity(SeverityLevel.LOW)
+                        .title(type + " finding")
+                        .endpoint(endpoint.getPath())
+                        .method(endpoint.getMethod())
+                        .build());
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Reports one finding for the specification as a whole plus one per endpoint with a path parameter.
+     */
+    private static final class SpecificationLevelAnalyzer implements VulnerabilityAnalyzer {
+
+        private final PathParameterAnalyzer endpoints = new PathParameterAnalyzer(VulnerabilityType.MISCONFIGURATION);
+
+        @Override
+        public VulnerabilityType getType() {
+            return VulnerabilityType.MISCONFIGURATION;
+        }
+
+        @Override
+        public List<Vulnerability> analyze(ApiSpecification specification) {
+            List<Vulnerability> result = new ArrayList<>();
+            result.add(Vulnerability.builder()
+                .type(VulnerabilityType.MISCONFIGURATION)
+                .severity(SeverityLevel.MEDIUM)
+                .title("No global security requirement")
+                .build());
+            result.addAll(endpoints.analyze(specification));
+            return result;
+        }
+    }
+
+    /**
+     * Visitor counterpart of {@link PathParameterAnalyzer} that counts its visits.
+     */
+    private static final class PathParameterVisitor extends AbstractEndpointAnalyzer {
+
+        private final VulnerabilityType type;
+        private final AtomicInteger visits = new AtomicInteger();
+
+        PathParameterVisitor(VulnerabilityType type) {
+            this.type = type;
+        }
+
+        @Override
+        public VulnerabilityType getType() {
+            return type;
+        }
+
+        @Override
+        public void visit(ApiSpecification specification, Endpoint endpoint, EndpointFeatures features,
+                          Consumer<Vulnerability> findings) {
+            visits.incrementAndGet();
+            if (endpoint.getPath().contains("{")) {
+                findings.accept(Vulnerability.builder()
+                    .type(type)
+                    .severity(SeverityLevel.LOW)
+                    .title(type + " finding")
+                    .endpoint(endpoint.getPath())
+                    .method(endpoint.getMethod())
+                    .build());
+            }
+        }
+    }
+}
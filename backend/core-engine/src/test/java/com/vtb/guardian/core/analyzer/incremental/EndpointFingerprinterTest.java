@@ -0,0 +1,130 @@
+package com.vtb.guardian.core.analyzer.incremental;
+
+import com.vtb.guardian.core.analyzer.VulnerabilityAnalyzer;
+import com.vtb.guardian.core.analyzer.suppression.SuppressionIndex;
+import com.vtb.guardian.core.analyzer.suppression.SuppressionRule;
+import com.vtb.guardian.core.model.domain.ApiSpecification;
+import com.vtb.guardian.core.model.domain.Endpoint;
+import com.vtb.guardian.core.model.domain.Vulnerability;
+import com.vtb.guardian.core.model.enums.VulnerabilityType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for endpoint fingerprinting
+ */
+class EndpointFingerprinterTest {
+
+    private final EndpointFingerprinter fingerprinter = new EndpointFingerprinter();
+
+    @Test
+    @DisplayName("Should produce identical fingerprints for identical endpoints")
+    void shouldBeStableForEqualEndpoints() {
+        // Given
+        Endpoint first = endpoint("/users/{id}", "GET", List.of("bearerAuth"));
+        Endpoint second = endpoint("/users/{id}", "GET", List.of("bearerAuth"));
+
+        // When / Then
+        assertThat(fingerprinter.fingerprint(first))
+            .hasSize(64)
+            .isEqualTo(fingerprinter.fingerprint(second));
+    }
+
+    @Test
+    @DisplayName("Should change fingerprint when security requirements change")
+    void shouldDetectSecurityChange() {
+        // Given
+        Endpoint secured = endpoint("/users/{id}", "GET", List.of("bearerAuth"));
+        Endpoint open = endpoint("/users/{id}", "GET", List.of());
+
+        // When / Then
+        assertThat(fingerprinter.fingerprint(secured)).isNotEqualTo(fingerprinter.fingerprint(open));
+    }
+
+    @Test
+    @DisplayName("Should build endpoint keys from upper-cased method and path")
+    void shouldBuildEndpointKey() {
+        assertThat(EndpointFingerprinter.keyOf(endpoint("/orders", "post", List.of())))
+            .isEqualTo("POST /orders");
+    }
+
+    @Test
+    @DisplayName("Should change the specification fingerprint when an analyzer is added or upgraded")
+    void shouldCoverAnalyzerSet() {
+        // Given
+        ApiSpecification specification = ApiSpecification.builder()
+            .title("Bank API").version("1").baseUrl("https://api.bank.example").endpoints(List.of()).build();
+        StubAnalyzer bola = new StubAnalyzer(VulnerabilityType.BOLA, 1);
+        StubAnalyzer auth = new StubAnalyzer(VulnerabilityType.BROKEN_AUTH, 1);
+
+        // When
+        String before = fingerprinter.fingerprint(specification, List.of(bola), SuppressionIndex.EMPTY);
+
+        // Then
+        assertThat(fingerprinter.fingerprint(specification, List.of(bola), SuppressionIndex.EMPTY)).isEqualTo(before);
+        assertThat(fingerprinter.fingerprint(specification, List.of(auth, bola), SuppressionIndex.EMPTY))
+            .isEqualTo(fingerprinter.fingerprint(specification, List.of(bola, auth), SuppressionIndex.EMPTY))
+            .isNotEqualTo(before);
+        StubAnalyzer upgraded = new StubAnalyzer(VulnerabilityType.BOLA, 2);
+        assertThat(fingerprinter.fingerprint(specification, List.of(upgraded), SuppressionIndex.EMPTY))
+            .isNotEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("Should change the specification fingerprint when a suppression rule is removed")
+    void shouldCoverSuppressionRules() {
+        // Given
+        ApiSpecification specification = ApiSpecification.builder()
+            .title("Bank API").version("1").baseUrl("https://api.bank.example").endpoints(List.of()).build();
+        List<StubAnalyzer> analyzers = List.of(new StubAnalyzer(VulnerabilityType.BOLA, 1));
+        SuppressionRule internal = rule("/internal/**", VulnerabilityType.BOLA);
+        SuppressionRule health = rule("/health", null);
+
+        // When
+        String withRules = fingerprinter.fingerprint(
+            specification, analyzers, SuppressionIndex.of(List.of(internal, health)));
+
+        // Then
+        assertThat(fingerprinter.fingerprint(specification, analyzers, SuppressionIndex.of(List.of(health, internal))))
+            .isEqualTo(withRules);
+        assertThat(fingerprinter.fingerprint(specification, analyzers, SuppressionIndex.of(List.of(health))))
+            .isNotEqualTo(withRules);
+    }
+
+    private static SuppressionRule rule(String pathPattern, VulnerabilityType type) {
+        return new SuppressionRule(UUID.randomUUID(), UUID.randomUUID(), null, pathPattern, type,
+            "accepted", "tester", Instant.now(), null);
+    }
+
+    private record StubAnalyzer(VulnerabilityType type, int version) implements VulnerabilityAnalyzer {
+
+        @Override
+        public VulnerabilityType getType() {
+            return type;
+        }
+
+        @Override
+        public int getVersion() {
+            return version;
+        }
+
+        @Override
+        public List<Vulnerability> analyze(ApiSpecification specification) {
+            return List.of();
+        }
+    }
+
+    private Endpoint endpoint(String path, String method, List<String> securitySchemes) {
+        return Endpoint.builder()
+            .path(path)
+            .method(method)
+            .securitySchemes(securitySchemes)
+            .build();
+    }
+}
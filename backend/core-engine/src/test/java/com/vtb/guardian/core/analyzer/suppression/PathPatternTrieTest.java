@@ -0,0 +1,95 @@
+package com.vtb.guardian.core.analyzer.suppression;
+
+import com.vtb.guardian.core.model.enums.VulnerabilityType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the path pattern trie
+ */
+class PathPatternTrieTest {
+
+    @Test
+    @DisplayName("Should match templated segments by any parameter name")
+    void shouldMatchTemplates() {
+        // Given
+        PathPatternTrie<String> trie = new PathPatternTrie<>();
+        trie.insert("/users/{id}", "users");
+        trie.insert("/users/me", "me");
+
+        // When / Then
+        assertThat(matches(trie, "/users/{userId}")).containsExactly("users");
+        assertThat(matches(trie, "/users/me")).containsExactlyInAnyOrder("users", "me");
+        assertThat(matches(trie, "/users/{id}/orders")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not let a literal pattern match a templated path segment")
+    void shouldNotMatchLiteralAgainstTemplate() {
+        // Given
+        PathPatternTrie<String> trie = new PathPatternTrie<>();
+        trie.insert("/users/me", "me");
+
+        // When / Then
+        assertThat(matches(trie, "/users/{id}")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should match ** against any number of segments, including none")
+    void shouldMatchGlobstar() {
+        // Given
+        PathPatternTrie<String> trie = new PathPatternTrie<>();
+        trie.insert("/internal/**", "internal");
+        trie.insert("/**/health", "health");
+
+        // When / Then
+        assertThat(matches(trie, "/internal")).containsExactly("internal");
+        assertThat(matches(trie, "/internal/jobs/{id}/retry")).containsExactly("internal");
+        assertThat(matches(trie, "/health")).containsExactly("health");
+        assertThat(matches(trie, "/v2/payments/health")).containsExactly("health");
+        assertThat(matches(trie, "/public/status")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should ignore trailing slashes and query strings")
+    void shouldNormalizePaths() {
+        // Given
+        PathPatternTrie<String> trie = new PathPatternTrie<>();
+        trie.insert("/orders/*/items", "items");
+
+        // When / Then
+        assertThat(matches(trie, "/orders/{orderId}/items/")).containsExactly("items");
+        assertThat(matches(trie, "/orders/42/items?page=2")).containsExactly("items");
+    }
+
+    @Test
+    @DisplayName("Should combine method and type masks of all matching rules")
+    void shouldCombineSuppressedTypes() {
+        // Given
+        SuppressionIndex index = SuppressionIndex.of(List.of(
+            new SuppressionRule(null, null, "GET", "/users/{id}",
+                VulnerabilityType.BOLA, "Accepted", null, null, null),
+            new SuppressionRule(null, null, null, "/users/**",
+                VulnerabilityType.RATE_LIMITING, "Accepted", null, null, null)));
+
+        // When
+        int get = index.suppressedTypes("GET", "/users/{id}");
+        int delete = index.suppressedTypes("DELETE", "/users/{id}");
+
+        // Then
+        assertThat(Integer.bitCount(get)).isEqualTo(2);
+        assertThat(Integer.bitCount(delete)).isEqualTo(1);
+        assertThat(index.suppressedTypes("GET", "/orders/{id}")).isZero();
+    }
+
+    private static List<String> matches(PathPatternTrie<String> trie, String path) {
+        List<String> result = new ArrayList<>();
+        trie.match(path, result::add);
+        return result;
+    }
+}
@@ -0,0 +1,76 @@
+package com.vtb.guardian.core.analyzer.visitor;
+
+import com.vtb.guardian.core.model.domain.Endpoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for per-endpoint feature extraction
+ */
+class EndpointFeaturesTest {
+
+    @Test
+    @DisplayName("Should extract path and ID parameters in path order")
+    void shouldExtractPathParameters() {
+        // Given
+        Endpoint endpoint = Endpoint.builder()
+            .path("/v1/users/{userId}/documents/{docId}/pages/{page}")
+            .method("get")
+            .securitySchemes(List.of("bearerAuth"))
+            .build();
+
+        // When
+        EndpointFeatures features = EndpointFeatures.of(endpoint);
+
+        // Then
+        assertThat(features.method()).isEqualTo("GET");
+        assertThat(features.pathParameters()).containsExactly("userId", "docId", "page");
+        assertThat(features.idParameters()).containsExactly("userId", "docId");
+        assertThat(features.pathDepth()).isEqualTo(7);
+        assertThat(features.versioned()).isTrue();
+        assertThat(features.authenticated()).isTrue();
+        assertThat(features.mutating()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should flag unauthenticated mutating admin endpoints")
+    void shouldDetectMutatingPrivilegedEndpoint() {
+        // Given
+        Endpoint endpoint = Endpoint.builder()
+            .path("/admin/users/{id}")
+            .method("DELETE")
+            .securitySchemes(List.of())
+            .build();
+
+        // When
+        EndpointFeatures features = EndpointFeatures.of(endpoint);
+
+        // Then
+        assertThat(features.hasIdParameters()).isTrue();
+        assertThat(features.authenticated()).isFalse();
+        assertThat(features.mutating()).isTrue();
+        assertThat(features.privileged()).isTrue();
+        assertThat(features.versioned()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should NOT treat words ending with 'id' as identifiers")
+    void shouldNotTreatPlainWordsAsIds() {
+        // Given
+        Endpoint endpoint = Endpoint.builder()
+            .path("/payments/{paid}/{valid}")
+            .method("GET")
+            .build();
+
+        // When
+        EndpointFeatures features = EndpointFeatures.of(endpoint);
+
+        // Then
+        assertThat(features.idParameters()).isEmpty();
+        assertThat(features.authenticated()).isFalse();
+    }
+}
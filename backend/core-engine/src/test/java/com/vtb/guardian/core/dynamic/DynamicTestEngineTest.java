@@ -0,0 +1,204 @@
+package com.vtb.guardian.core.dynamic;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.vtb.guardian.core.model.domain.ApiSpecification;
+import com.vtb.guardian.core.model.domain.Endpoint;
+import com.vtb.guardian.core.model.domain.Vulnerability;
+import com.vtb.guardian.core.model.enums.VulnerabilityType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the dynamic test engine against a local stub server
+ */
+class DynamicTestEngineTest {
+
+    private static final String OWNED_BY_OTHER_USER = "42";
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxObservedInFlight = new AtomicInteger();
+    private final AtomicInteger received = new AtomicInteger();
+    private final ProbeTransport transport = new ProbeTransport(Duration.ofSeconds(2));
+    private HttpServer server;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        // /public/{id} leaks foreign objects, /private/{id} rejects them
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("Should report BOLA only on endpoints that serve foreign objects")
+    void shouldDetectIdSwapOnLeakingEndpoints() {
+        // Given
+        DynamicTestEngine engine = new DynamicTestEngine(List.of(new BolaIdSwapProbe()), transport, 100);
+        List<Vulnerability> streamed = new CopyOnWriteArrayList<>();
+
+        // When
+        DynamicTestResult result = engine.run(createApiSpecification(50), options(0, 16), streamed::addAll);
+
+        // Then
+        assertThat(result.vulnerabilities())
+            .hasSize(25)
+            .allMatch(v -> v.getType() == VulnerabilityType.BOLA)
+            .allMatch(v -> v.getEndpoint().startsWith("/public/"));
+        assertThat(streamed).hasSameSizeAs(result.vulnerabilities());
+        assertThat(result.stats().requests()).isEqualTo(100).isEqualTo(received.get());
+        assertThat(result.stats().errors()).isZero();
+        assertThat(result.stats().p99Millis()).isGreaterThanOrEqualTo(result.stats().p50Millis());
+        assertThat(result.stats().findingsPerSecond()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should not exceed the per-host concurrency cap")
+    void shouldCapConcurrencyPerHost() {
+        // Given
+        DynamicTestEngine engine = new DynamicTestEngine(List.of(new BolaIdSwapProbe()), transport, 1_000);
+
+        // When
+        DynamicTestResult result = engine.run(createApiSpecification(200), options(0, 4));
+
+        // Then
+        assertThat(result.stats().requests()).isEqualTo(400);
+        assertThat(maxObservedInFlight.get()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should send no further requests once a stop is requested")
+    void shouldStopWhenRequested() {
+        // Given: the run is stopped after its tenth request was generated
+        DynamicTestEngine engine = new DynamicTestEngine(List.of(new BolaIdSwapProbe()), transport, 1);
+        AtomicInteger polls = new AtomicInteger();
+
+        // When
+        DynamicTestResult result = engine.run(createApiSpecification(50), options(0, 1), findings -> { },
+            () -> polls.incrementAndGet() > 10);
+
+        // Then
+        assertThat(result.stats().requests()).isEqualTo(10).isEqualTo(received.get());
+    }
+
+    @Test
+    @DisplayName("Should hold the global requests-per-second limit")
+    void shouldLimitRequestRate() {
+        // Given
+        DynamicTestEngine engine = new DynamicTestEngine(List.of(new BolaIdSwapProbe()), transport, 100);
+
+        // When
+        DynamicTestResult result = engine.run(createApiSpecification(30), options(100, 32));
+
+        // Then: 60 requests at 100/s with a burst of 10 take at least half a second
+        assertThat(result.stats().requests()).isEqualTo(60);
+        assertThat(result.stats().durationMs()).isGreaterThanOrEqualTo(450);
+    }
+
+    @Test
+    @DisplayName("Should skip unsafe methods and endpoints without identifiers")
+    void shouldOnlyProbeSafeMethodsWithIds() {
+        // Given
+        DynamicTestEngine engine = new DynamicTestEngine(List.of(new BolaIdSwapProbe()), transport, 100);
+        ApiSpecification apiSpec = ApiSpecification.builder()
+            .title("Test API")
+            .endpoints(List.of(
+                endpoint("/public/{id}", "DELETE"),
+                endpoint("/public", "GET")))
+            .build();
+
+        // When
+        DynamicTestResult result = engine.run(apiSpec, options(0, 4));
+
+        // Then
+        assertThat(result.stats().requests()).isZero();
+        assertThat(received.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should report percentiles within the histogram's precision")
+    void shouldComputePercentiles() {
+        // Given
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int millis = 1; millis <= 100; millis++) {
+            histogram.recordNanos(millis * 1_000_000L);
+        }
+
+        // Then
+        assertThat(histogram.percentileMillis(50)).isBetween(50.0, 52.0);
+        assertThat(histogram.percentileMillis(99)).isBetween(99.0, 102.5);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        received.incrementAndGet();
+        maxObservedInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(2);
+            String path = exchange.getRequestURI().getPath();
+            boolean leaks = path.startsWith("/public/") && path.endsWith("/" + OWNED_BY_OTHER_USER);
+            byte[] body = (leaks ? "{\"id\":\"" + OWNED_BY_OTHER_USER + "\"}" : "").getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(leaks ? 200 : 403, body.length == 0 ? -1 : body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private DynamicTestOptions options(int maxRequestsPerSecond, int perHostConcurrency) {
+        return DynamicTestOptions.builder()
+            .targetUrl(URI.create("http://127.0.0.1:" + server.getAddress().getPort()))
+            .headers(Map.of("Authorization", "Bearer user-a"))
+            .foreignIds(List.of(OWNED_BY_OTHER_USER, "43"))
+            .maxRequestsPerSecond(maxRequestsPerSecond)
+            .perHostConcurrency(perHostConcurrency)
+            .requestTimeout(Duration.ofSeconds(5))
+            .build();
+    }
+
+    private ApiSpecification createApiSpecification(int endpointCount) {
+        List<Endpoint> endpoints = new ArrayList<>(endpointCount);
+        for (int i = 0; i < endpointCount; i++) {
+            endpoints.add(endpoint((i % 2 == 0 ? "/public/" : "/private/") + i + "/{id}", "GET"));
+        }
+        return ApiSpecification.builder()
+            .title("Test API")
+            .version("1.0.0")
+            .endpoints(endpoints)
+            .build();
+    }
+
+    private static Endpoint endpoint(String path, String method) {
+        return Endpoint.builder()
+            .path(path)
+            .method(method)
+            .securitySchemes(List.of())
+            .build();
+    }
+}
@@ -0,0 +1,217 @@
+package com.vtb.guardian.core.dynamic.fuzz;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.vtb.guardian.core.dynamic.DynamicTestOptions;
+import com.vtb.guardian.core.dynamic.ProbeResponse;
+import com.vtb.guardian.core.dynamic.ProbeTransport;
+import com.vtb.guardian.core.model.enums.SeverityLevel;
+import com.vtb.guardian.core.model.enums.VulnerabilityType;
+import com.vtb.guardian.core.parser.streaming.StreamingOpenApiParser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the fuzzer against a local stub server that validates only part of its input
+ */
+class FuzzingEngineTest {
+
+    private static final String SPEC = """
+        {
+          "openapi": "3.0.0",
+          "info": {"title": "Orders", "version": "1.0.0"},
+          "paths": {
+            "/orders/{orderId}": {
+              "put": {
+                "parameters": [
+                  {"name": "orderId", "in": "path", "required": true, "schema": {"type": "integer"}},
+                  {"name": "dryRun", "in": "query", "schema": {"type": "boolean"}}
+                ],
+                "requestBody": {
+                  "content": {"application/json": {"schema": {"$ref": "#/components/schemas/Order"}}}
+                }
+              },
+              "delete": {
+                "parameters": [{"name": "orderId", "in": "path", "required": true, "schema": {"type": "integer"}}]
+              }
+            },
+            "/health": {"get": {}}
+          },
+          "components": {
+            "schemas": {
+              "Order": {
+                "type": "object",
+                "properties": {
+                  "quantity": {"type": "integer", "minimum": 1, "maximum": 100},
+                  "note": {"type": "string", "maxLength": 20},
+                  "tags": {"type": "array", "items": {"type": "string"}}
+                }
+              }
+            }
+          }
+        }
+        """;
+
+    private final ProbeTransport transport = new ProbeTransport(Duration.ofSeconds(2));
+    private HttpServer server;
+    private List<FuzzTarget> targets;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/", this::handle);
+        server.start();
+        targets = new FuzzTargetLoader(new StreamingOpenApiParser()).load(SPEC.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("Should lay out path, query and body leaves as slots and skip operations without inputs")
+    void shouldCompileTargets() {
+        // Then
+        assertThat(targets).extracting(target -> target.method() + " " + target.path())
+            .containsExactly("PUT /orders/{orderId}", "DELETE /orders/{orderId}");
+        FuzzTarget put = targets.get(0);
+        assertThat(put.slotCount()).isEqualTo(5);
+        assertThat(put.isJson(0)).isFalse();
+        assertThat(put.isJson(2)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should find the unhandled input and grow the corpus with new response classes")
+    void shouldFindUnhandledInput() {
+        // Given
+        FuzzingEngine engine = new FuzzingEngine(transport);
+        FuzzCorpus corpus = new FuzzCorpus(targets);
+
+        // When
+        FuzzResult result = engine.run(corpus, fuzzOptions(3_000), options());
+
+        // Then
+        assertThat(result.vulnerabilities()).singleElement().satisfies(finding -> {
+            assertThat(finding.getType()).isEqualTo(VulnerabilityType.MISCONFIGURATION);
+            assertThat(finding.getSeverity()).isEqualTo(SeverityLevel.HIGH);
+            assertThat(finding.getEndpoint()).isEqualTo("/orders/{orderId}");
+        });
+        assertThat(result.coverage()).isGreaterThanOrEqualTo(3);
+        assertThat(result.discovered()).hasSize(result.coverage())
+            .allMatch(entry -> entry.method().equals("PUT"));
+        assertThat(result.stats().requests()).isEqualTo(3_000);
+        assertThat(result.stats().requestsPerSecond()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should start from a stored corpus and report only classes not covered before")
+    void shouldResumeFromStoredCorpus() {
+        // Given
+        FuzzingEngine engine = new FuzzingEngine(transport);
+        FuzzResult first = engine.run(new FuzzCorpus(targets), fuzzOptions(2_000), options());
+        FuzzCorpus resumed = new FuzzCorpus(targets);
+
+        // When
+        int loaded = resumed.seed(first.discovered());
+        FuzzResult second = engine.run(resumed, fuzzOptions(500), options());
+
+        // Then
+        assertThat(loaded).isEqualTo(first.discovered().size());
+        assertThat(second.discovered()).extracting(FuzzCorpusEntry::responseClass)
+            .doesNotContainAnyElementsOf(first.discovered().stream().map(FuzzCorpusEntry::responseClass).toList());
+    }
+
+    @Test
+    @DisplayName("Should ignore stored cases recorded for a different input layout")
+    void shouldIgnoreStaleCorpusEntries() {
+        // Given
+        FuzzCorpus corpus = new FuzzCorpus(targets);
+        FuzzTarget put = targets.get(0);
+        List<String> values = List.of("1", "true", "1", "\"a\"", "\"b\"");
+
+        // When
+        int loaded = corpus.seed(List.of(
+            new FuzzCorpusEntry("PUT", "/orders/{orderId}", put.layoutHash() + 1, values, 1L),
+            new FuzzCorpusEntry("PUT", "/orders/{orderId}", put.layoutHash(), values, 2L)));
+
+        // Then
+        assertThat(loaded).isEqualTo(1);
+        assertThat(corpus.size(0)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should classify error bodies by their field names rather than their messages")
+    void shouldClassifyByBodyShape() {
+        // Given
+        ProbeResponse first = new ProbeResponse(400,
+            "{\"error\":\"quantity too large\",\"field\":\"quantity\"}", 1_000_000);
+        ProbeResponse second = new ProbeResponse(400, "{\"error\":\"bad note\",\"field\":\"note\"}", 1_000_000);
+        ProbeResponse other = new ProbeResponse(400, "{\"message\":\"bad note\"}", 1_000_000);
+
+        // Then
+        assertThat(ResponseClassifier.classify(first)).isEqualTo(ResponseClassifier.classify(second));
+        assertThat(ResponseClassifier.classify(first)).isNotEqualTo(ResponseClassifier.classify(other));
+        assertThat(ResponseClassifier.status(ResponseClassifier.classify(first))).isEqualTo(400);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        int status;
+        String response;
+        if (exchange.getRequestMethod().equals("DELETE")) {
+            status = 204;
+            response = "";
+        } else if (body.contains("\"quantity\":-") || body.contains("\"quantity\":0")) {
+            status = 500;
+            response = "java.lang.IllegalStateException: negative stock\n\tat com.example.Orders.reserve(Orders.java:42)";
+        } else if (!body.contains("\"quantity\":")
+                || body.contains("\"quantity\":null") || body.contains("\"quantity\":\"")) {
+            status = 400;
+            response = "{\"error\":\"quantity is required\",\"field\":\"quantity\"}";
+        } else if (body.contains("'")) {
+            status = 422;
+            response = "{\"message\":\"invalid characters\"}";
+        } else {
+            status = 200;
+            response = "{\"id\":1,\"status\":\"UPDATED\"}";
+        }
+        byte[] bytes = response.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static FuzzOptions fuzzOptions(long maxCases) {
+        return FuzzOptions.builder()
+            .maxCases(maxCases)
+            .maxDuration(Duration.ofSeconds(30))
+            .workers(16)
+            .methods(Set.of("PUT", "POST"))
+            .seed(42L)
+            .build();
+    }
+
+    private DynamicTestOptions options() {
+        return DynamicTestOptions.builder()
+            .targetUrl(URI.create("http://127.0.0.1:" + server.getAddress().getPort()))
+            .perHostConcurrency(16)
+            .build();
+    }
+}
@@ -0,0 +1,228 @@
+package com.vtb.guardian.core.dynamic.load;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.vtb.guardian.core.dynamic.DynamicTestOptions;
+import com.vtb.guardian.core.dynamic.ProbeTransport;
+import com.vtb.guardian.core.dynamic.fuzz.FuzzTarget;
+import com.vtb.guardian.core.dynamic.fuzz.FuzzTargetLoader;
+import com.vtb.guardian.core.model.enums.SeverityLevel;
+import com.vtb.guardian.core.model.enums.VulnerabilityType;
+import com.vtb.guardian.core.parser.streaming.StreamingOpenApiParser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Ramps load against a local stand-in server with configurable throttling behaviour
+ */
+class LoadRampProbeTest {
+
+    private static final String SPEC = """
+        {
+          "openapi": "3.0.0",
+          "info": {"title": "Auth", "version": "1.0.0"},
+          "paths": {
+            "/auth/login": {
+              "post": {
+                "requestBody": {"content": {"application/json": {"schema": {
+                  "type": "object",
+                  "properties": {"username": {"type": "string"}, "password": {"type": "string"}}
+                }}}}
+              }
+            }
+          }
+        }
+        """;
+
+    // Requests per 100 ms window above which the stand-in throttles or slows down (50 req/s)
+    private static final int WINDOW_LIMIT = 5;
+
+    private enum Behaviour { UNLIMITED, THROTTLE, DEGRADE, DENY }
+
+    private final LoadRampProbe probe = new LoadRampProbe(new ProbeTransport(Duration.ofSeconds(2)));
+    private final AtomicInteger received = new AtomicInteger();
+    private volatile Behaviour behaviour = Behaviour.UNLIMITED;
+    private long windowStart;
+    private int windowCount;
+    private HttpServer server;
+    private FuzzTarget login;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/", this::handle);
+        server.start();
+        login = new FuzzTargetLoader(new StreamingOpenApiParser())
+            .loadAll(SPEC.getBytes(StandardCharsets.UTF_8)).get(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("Should report the limit without a finding when the endpoint answers 429")
+    void shouldDetectThrottling() {
+        // Given
+        behaviour = Behaviour.THROTTLE;
+
+        // When
+        LoadRampResult result = probe.run(login, options(), ramp(10_000));
+
+        // Then
+        assertThat(result.outcome()).isEqualTo(LoadRampResult.Outcome.THROTTLED);
+        assertThat(result.finding()).isNull();
+        assertThat(result.sustainableRps()).isBetween(5.0, 80.0);
+    }
+
+    @Test
+    @DisplayName("Should report an unthrottled endpoint with the measured throughput")
+    void shouldReportMissingRateLimit() {
+        // Given
+        behaviour = Behaviour.UNLIMITED;
+
+        // When
+        LoadRampResult result = probe.run(login, options(), ramp(10_000));
+
+        // Then
+        assertThat(result.outcome()).isEqualTo(LoadRampResult.Outcome.UNTHROTTLED);
+        assertThat(result.steps()).extracting(LoadRampStep::targetRps).containsExactly(10.0, 20.0, 40.0, 80.0);
+        assertThat(result.finding()).isNotNull().satisfies(finding -> {
+            assertThat(finding.getType()).isEqualTo(VulnerabilityType.RATE_LIMITING);
+            assertThat(finding.getSeverity()).isEqualTo(SeverityLevel.MEDIUM);
+            assertThat(finding.getMethod()).isEqualTo("POST");
+            assertThat(finding.getDescription()).contains("sustainable throughput");
+        });
+    }
+
+    @Test
+    @DisplayName("Should report degradation when latency blows up before any throttling")
+    void shouldDetectDegradation() {
+        // Given
+        behaviour = Behaviour.DEGRADE;
+
+        // When
+        LoadRampResult result = probe.run(login, options(), ramp(10_000));
+
+        // Then
+        assertThat(result.outcome()).isEqualTo(LoadRampResult.Outcome.DEGRADED);
+        assertThat(result.finding()).isNotNull();
+        assertThat(result.finding().getSeverity()).isEqualTo(SeverityLevel.HIGH);
+    }
+
+    @Test
+    @DisplayName("Should never send more requests than the budget allows")
+    void shouldRespectRequestBudget() {
+        // Given
+        behaviour = Behaviour.UNLIMITED;
+
+        // When
+        LoadRampResult result = probe.run(login, options(), ramp(15));
+
+        // Then
+        assertThat(result.requests()).isEqualTo(15);
+        assertThat(received.get()).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("Should stop at the duration budget")
+    void shouldRespectDurationBudget() {
+        // Given
+        behaviour = Behaviour.UNLIMITED;
+        LoadRampOptions ramp = LoadRampOptions.builder()
+            .startRps(10)
+            .maxRps(80)
+            .stepDuration(Duration.ofMillis(400))
+            .maxDuration(Duration.ofMillis(300))
+            .build();
+
+        // When
+        long start = System.nanoTime();
+        LoadRampResult result = probe.run(login, options(), ramp);
+
+        // Then
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+        assertThat(result.steps()).hasSize(1);
+        assertThat(result.requests()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should be inconclusive when the baseline requests are rejected")
+    void shouldBeInconclusiveWithoutAccess() {
+        // Given
+        behaviour = Behaviour.DENY;
+
+        // When
+        LoadRampResult result = probe.run(login, options(), ramp(10_000));
+
+        // Then
+        assertThat(result.outcome()).isEqualTo(LoadRampResult.Outcome.INCONCLUSIVE);
+        assertThat(result.steps()).hasSize(1);
+        assertThat(result.finding()).isNull();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        received.incrementAndGet();
+        exchange.getRequestBody().readAllBytes();
+        boolean overLimit = countInWindow() > WINDOW_LIMIT;
+        int status = switch (behaviour) {
+            case THROTTLE -> overLimit ? 429 : 200;
+            case DENY -> 401;
+            default -> 200;
+        };
+        if (behaviour == Behaviour.DEGRADE && overLimit) {
+            try {
+                Thread.sleep(300);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        byte[] body = "{\"token\":\"t\"}".getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private synchronized int countInWindow() {
+        long window = System.nanoTime() / 100_000_000L;
+        if (window != windowStart) {
+            windowStart = window;
+            windowCount = 0;
+        }
+        return ++windowCount;
+    }
+
+    private DynamicTestOptions options() {
+        return DynamicTestOptions.builder()
+            .targetUrl(URI.create("http://127.0.0.1:" + server.getAddress().getPort()))
+            .perHostConcurrency(64)
+            .build();
+    }
+
+    private static LoadRampOptions ramp(int maxRequests) {
+        return LoadRampOptions.builder()
+            .startRps(10)
+            .stepFactor(2)
+            .maxRps(80)
+            .stepDuration(Duration.ofMillis(400))
+            .maxRequests(maxRequests)
+            .maxDuration(Duration.ofSeconds(10))
+            .build();
+    }
+}
@@ -0,0 +1,87 @@
+package com.vtb.guardian.core.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for per-phase scan timelines
+ */
+class ScanTimelineTest {
+
+    private static final long MS = 1_000_000;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicLong millis = new AtomicLong(1_700_000_000_000L);
+
+    @Test
+    @DisplayName("Should attribute nested spans to the inner phase only")
+    void shouldSubtractNestedTimeFromEnclosingPhase() {
+        // Given
+        ScanTimeline timeline = new ScanTimeline(null, nanos::get, millis::get);
+
+        // When: 100 ms of analysis, with two 10 ms persists in between
+        try (ScanTimeline.Span analysis = timeline.start(ScanPhase.ANALYSIS)) {
+            advance(40);
+            try (ScanTimeline.Span persist = timeline.start(ScanPhase.PERSIST)) {
+                advance(10);
+            }
+            advance(30);
+            try (ScanTimeline.Span persist = timeline.start(ScanPhase.PERSIST)) {
+                advance(10);
+            }
+            advance(10);
+        }
+
+        // Then
+        assertThat(timeline.durations())
+            .containsEntry(ScanPhase.ANALYSIS, 80 * MS)
+            .containsEntry(ScanPhase.PERSIST, 20 * MS)
+            .doesNotContainKey(ScanPhase.PARSE);
+    }
+
+    @Test
+    @DisplayName("Should round-trip entries through the stored text form")
+    void shouldFormatAndParse() {
+        // Given
+        ScanTimeline timeline = new ScanTimeline(3, nanos::get, millis::get);
+        try (ScanTimeline.Span parse = timeline.start(ScanPhase.PARSE)) {
+            advance(12);
+        }
+        try (ScanTimeline.Span analysis = timeline.start(ScanPhase.ANALYSIS)) {
+            advance(340);
+        }
+
+        // When
+        String stored = timeline.serialize();
+        List<ScanTimeline.Entry> parsed = ScanTimeline.parse(stored);
+
+        // Then
+        assertThat(stored).isEqualTo("PARSE,1700000000000,12,3;ANALYSIS,1700000000012,340,3");
+        assertThat(parsed).containsExactlyElementsOf(timeline.entries());
+    }
+
+    @Test
+    @DisplayName("Should skip unreadable entries and add up repeated phases in Server-Timing")
+    void shouldSummarizeAsServerTiming() {
+        // Given: two shards, an entry of an unknown phase and a dynamic test run
+        String stored = "PARSE,1,10,0;ANALYSIS,2,300,0;PARSE,1,15,1;ANALYSIS,2,200,1;COMPILE,3,5;DYNAMIC,9,42";
+
+        // When
+        List<ScanTimeline.Entry> entries = ScanTimeline.parse(stored);
+
+        // Then
+        assertThat(entries).hasSize(5);
+        assertThat(ScanTimeline.serverTiming(entries))
+            .isEqualTo("parse;dur=25;desc=\"2 runs\", analysis;dur=500;desc=\"2 runs\", dynamic;dur=42");
+    }
+
+    private void advance(long ms) {
+        nanos.addAndGet(ms * MS);
+        millis.addAndGet(ms);
+    }
+}
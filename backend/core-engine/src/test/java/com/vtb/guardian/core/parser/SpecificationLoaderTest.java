@@ -0,0 +1,101 @@
+package com.vtb.guardian.core.parser;
+
+import com.vtb.guardian.core.model.domain.ApiSpecification;
+import com.vtb.guardian.core.model.domain.Endpoint;
+import com.vtb.guardian.core.parser.streaming.SpecificationSource;
+import com.vtb.guardian.core.parser.streaming.StreamingOpenApiParser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Tests for choosing between swagger-parser and the streaming parser by size and OpenAPI version
+ */
+class SpecificationLoaderTest {
+
+    private static final String SWAGGER_2 = """
+        {
+          "swagger": "2.0",
+          "info": { "title": "Legacy API", "version": "1" },
+          "host": "api.bank.example",
+          "basePath": "/v1",
+          "schemes": [ "https" ],
+          "paths": {
+            "/accounts/{id}": {
+              "get": {
+                "parameters": [ { "name": "id", "in": "path", "required": true, "type": "string" } ],
+                "responses": { "200": { "description": "ok", "schema": { "$ref": "#/definitions/Account" } } }
+              }
+            }
+          },
+          "definitions": {
+            "Account": { "type": "object", "properties": { "iban": { "type": "string" } } }
+          }
+        }
+        """;
+
+    private static final String OPENAPI_3 = """
+        openapi: 3.0.1
+        info:
+          title: Streamed API
+          version: "1"
+        servers:
+          - url: https://api.bank.example
+        paths:
+          /health:
+            get:
+              summary: Health
+        """;
+
+    private final StreamingOpenApiParser parser = new StreamingOpenApiParser();
+
+    @Test
+    @DisplayName("Should convert Swagger 2.0 documents even above the streaming threshold")
+    void shouldConvertSwagger2() throws Exception {
+        // Given
+        SpecificationLoader loader = new SpecificationLoader(parser, new OpenApiNormalizer(), 0);
+
+        // When
+        ApiSpecification specification = loader.load(SWAGGER_2.getBytes(StandardCharsets.UTF_8));
+
+        // Then
+        assertThat(specification.getTitle()).isEqualTo("Legacy API");
+        assertThat(specification.getBaseUrl()).isEqualTo("https://api.bank.example/v1");
+        assertThat(specification.getEndpoints()).singleElement()
+            .extracting(Endpoint::getPath).isEqualTo("/accounts/{id}");
+    }
+
+    @Test
+    @DisplayName("Should give the same endpoints through swagger-parser and the streaming parser")
+    void shouldMatchAcrossThreshold() throws Exception {
+        // Given
+        byte[] document = OPENAPI_3.getBytes(StandardCharsets.UTF_8);
+        SpecificationLoader resolving = new SpecificationLoader(parser, new OpenApiNormalizer(), Long.MAX_VALUE);
+        SpecificationLoader streaming = new SpecificationLoader(parser, new OpenApiNormalizer(), 0);
+
+        // When
+        ApiSpecification resolved = resolving.load(document);
+        ApiSpecification streamed = streaming.load(document);
+
+        // Then
+        assertThat(streamed.getBaseUrl()).isEqualTo(resolved.getBaseUrl()).isEqualTo("https://api.bank.example");
+        assertThat(resolved.getEndpoints()).extracting(Endpoint::getPath, Endpoint::getMethod)
+            .containsExactly(tuple("/health", "GET"));
+        assertThat(streamed.getEndpoints()).extracting(Endpoint::getPath, Endpoint::getMethod)
+            .containsExactly(tuple("/health", "GET"));
+    }
+
+    @Test
+    @DisplayName("Should only report OpenAPI 3 documents as streamable")
+    void shouldDetectOpenApi3() throws Exception {
+        // When / Then
+        assertThat(parser.isOpenApi3(parser.toStreamable(
+            SpecificationSource.of(OPENAPI_3.getBytes(StandardCharsets.UTF_8))))).isTrue();
+        assertThat(parser.isOpenApi3(
+            SpecificationSource.of(SWAGGER_2.getBytes(StandardCharsets.UTF_8)))).isFalse();
+    }
+}
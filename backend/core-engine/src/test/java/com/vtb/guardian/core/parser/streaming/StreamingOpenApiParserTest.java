@@ -0,0 +1,161 @@
+package com.vtb.guardian.core.parser.streaming;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the token-stream OpenAPI parser
+ */
+class StreamingOpenApiParserTest {
+
+    private static final String SPEC = """
+        {
+          "openapi": "3.0.1",
+          "paths": {
+            "/users/{id}": {
+              "parameters": [ { "$ref": "#/components/parameters/UserId" } ],
+              "get": { "operationId": "getUser", "summary": "Get user" },
+              "delete": { "operationId": "deleteUser", "security": [] }
+            },
+            "/health": {
+              "get": { "summary": "Health", "security": [ { "apiKey": [] } ] }
+            }
+          },
+          "info": { "title": "Bank API", "version": "2.0" },
+          "servers": [ { "url": "https://api.bank.example" } ],
+          "security": [ { "bearerAuth": [] } ],
+          "components": {
+            "parameters": {
+              "UserId": { "name": "id", "in": "path", "required": true, "schema": { "type": "string" } }
+            },
+            "schemas": {
+              "User": { "type": "object" }
+            }
+          }
+        }
+        """;
+
+    private final StreamingOpenApiParser parser = new StreamingOpenApiParser();
+
+    @Test
+    @DisplayName("Should stream operations in document order with header data declared after paths")
+    void shouldStreamOperations() throws Exception {
+        // Given
+        SpecificationSource source = SpecificationSource.of(SPEC.getBytes(StandardCharsets.UTF_8));
+        List<OperationRecord> operations = new ArrayList<>();
+
+        // When
+        SpecificationHeader header = parser.parse(source, operations::add);
+
+        // Then
+        assertThat(header.title()).isEqualTo("Bank API");
+        assertThat(header.componentOffsets()).containsKeys(
+            "#/components/parameters/UserId", "#/components/schemas/User");
+        assertThat(operations)
+            .extracting(op -> op.method() + " " + op.path())
+            .containsExactly("GET /users/{id}", "DELETE /users/{id}", "GET /health");
+        assertThat(operations.get(0).securitySchemes()).containsExactly("bearerAuth");
+        assertThat(operations.get(1).securitySchemes()).isEmpty();
+        assertThat(operations.get(2).securitySchemes()).containsExactly("apiKey");
+        assertThat(operations.get(0).baseUrl()).isEqualTo("https://api.bank.example");
+    }
+
+    @Test
+    @DisplayName("Should lazily resolve referenced path-level parameters")
+    void shouldResolveParameterReferences() throws Exception {
+        // Given
+        SpecificationSource source = SpecificationSource.of(SPEC.getBytes(StandardCharsets.UTF_8));
+        List<OperationRecord> operations = new ArrayList<>();
+
+        // When
+        parser.parse(source, operations::add);
+
+        // Then
+        assertThat(operations.get(0).parameters()).hasSize(1);
+        assertThat(operations.get(0).parameters().get(0).path("name").asText()).isEqualTo("id");
+        assertThat(operations.get(0).parameters().get(0).path("in").asText()).isEqualTo("path");
+    }
+
+    @Test
+    @DisplayName("Should inline nested schema references and keep recursive ones as references")
+    void shouldInlineNestedReferences() throws Exception {
+        // Given
+        String spec = """
+            {
+              "openapi": "3.0.1",
+              "paths": {
+                "/accounts": {
+                  "post": {
+                    "requestBody": { "$ref": "#/components/requestBodies/NewAccount" },
+                    "responses": {
+                      "201": { "content": { "application/json": {
+                        "schema": { "$ref": "#/components/schemas/Account" } } } }
+                    }
+                  }
+                }
+              },
+              "components": {
+                "requestBodies": {
+                  "NewAccount": { "content": { "application/json": {
+                    "schema": { "$ref": "#/components/schemas/Account" } } } }
+                },
+                "schemas": {
+                  "Account": {
+                    "type": "object",
+                    "properties": {
+                      "owner": { "$ref": "#/components/schemas/Owner" },
+                      "parent": { "$ref": "#/components/schemas/Account" }
+                    }
+                  },
+                  "Owner": { "type": "object", "properties": { "email": { "type": "string" } } }
+                }
+              }
+            }
+            """;
+        List<OperationRecord> operations = new ArrayList<>();
+
+        // When
+        parser.parse(SpecificationSource.of(spec.getBytes(StandardCharsets.UTF_8)), operations::add);
+
+        // Then
+        OperationRecord operation = operations.get(0);
+        JsonNode body = operation.requestBody().at("/content/application~1json/schema");
+        assertThat(body.at("/properties/owner/properties/email/type").asText()).isEqualTo("string");
+        assertThat(body.at("/properties/parent/$ref").asText()).isEqualTo("#/components/schemas/Account");
+        assertThat(operation.responses().at("/201/content/application~1json/schema/properties/owner/type").asText())
+            .isEqualTo("object");
+    }
+
+    @Test
+    @DisplayName("Should transcode YAML documents before streaming")
+    void shouldParseYaml() throws Exception {
+        // Given
+        String yaml = """
+            openapi: 3.0.1
+            info:
+              title: YAML API
+              version: "1"
+            paths:
+              /orders/{orderId}:
+                post:
+                  summary: Update order
+            """;
+        List<OperationRecord> operations = new ArrayList<>();
+
+        // When
+        SpecificationHeader header = parser.parse(
+            SpecificationSource.of(yaml.getBytes(StandardCharsets.UTF_8)), operations::add);
+
+        // Then
+        assertThat(header.title()).isEqualTo("YAML API");
+        assertThat(operations).singleElement()
+            .satisfies(op -> assertThat(op.toEndpoint().getPath()).isEqualTo("/orders/{orderId}"));
+    }
+}
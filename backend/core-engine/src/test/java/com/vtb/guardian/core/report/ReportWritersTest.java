@@ -0,0 +1,140 @@
+package com.vtb.guardian.core.report;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vtb.guardian.core.model.domain.Vulnerability;
+import com.vtb.guardian.core.model.dto.response.ScanSummaryResponse;
+import com.vtb.guardian.core.model.enums.ScanStatus;
+import com.vtb.guardian.core.model.enums.SeverityLevel;
+import com.vtb.guardian.core.model.enums.VulnerabilityType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the streaming report writers
+ */
+class ReportWritersTest {
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Should write a valid SARIF 2.1.0 log with one result per finding")
+    void shouldWriteSarif() throws Exception {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ReportWriter writer = new SarifReportWriter(jsonFactory, out, "1.0.0");
+
+        // When
+        writer.begin(scan());
+        writer.finding(finding(SeverityLevel.CRITICAL, "/users/{id}"));
+        writer.finding(finding(SeverityLevel.MEDIUM, "/orders"));
+        writer.end();
+
+        // Then
+        JsonNode run = objectMapper.readTree(out.toByteArray()).path("runs").get(0);
+        assertThat(run.path("tool").path("driver").path("rules")).hasSize(VulnerabilityType.values().length);
+        assertThat(run.path("results")).hasSize(2);
+        assertThat(run.path("results").get(0).path("level").asText()).isEqualTo("error");
+        assertThat(run.path("results").get(1).path("level").asText()).isEqualTo("warning");
+        assertThat(run.path("results").get(0).path("locations").get(0).path("logicalLocations").get(0)
+            .path("fullyQualifiedName").asText()).isEqualTo("GET /users/{id}");
+    }
+
+    @Test
+    @DisplayName("Should write an empty findings array for a scan without findings")
+    void shouldWriteEmptyJson() throws Exception {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ReportWriter writer = new JsonReportWriter(jsonFactory, out);
+
+        // When
+        writer.begin(scan());
+        writer.end();
+
+        // Then
+        JsonNode report = objectMapper.readTree(out.toByteArray());
+        assertThat(report.path("findings").isArray()).isTrue();
+        assertThat(report.path("findings")).isEmpty();
+        assertThat(report.path("scan").path("summary").path("critical").asInt()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should escape markup from findings in HTML reports")
+    void shouldEscapeHtml() throws Exception {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ReportWriter writer = new HtmlReportWriter(out);
+
+        // When
+        writer.begin(scan());
+        writer.finding(finding(SeverityLevel.HIGH, "/search?q=<script>alert('x')</script>"));
+        writer.end();
+
+        // Then
+        String html = out.toString(StandardCharsets.UTF_8);
+        assertThat(html).doesNotContain("<script>");
+        assertThat(html).contains("&lt;script&gt;alert(&#39;x&#39;)&lt;/script&gt;");
+        assertThat(html).endsWith("</body></html>\n");
+    }
+
+    @Test
+    @DisplayName("Should dictionary-encode repeated strings and record counts in the GSF footer")
+    void shouldWriteGsf() throws Exception {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ReportWriter writer = new GsfReportWriter(out);
+
+        // When
+        writer.begin(scan());
+        writer.finding(finding(SeverityLevel.CRITICAL, "/users/{id}"));
+        writer.finding(finding(SeverityLevel.LOW, "/users/{id}"));
+        writer.finding(finding(SeverityLevel.LOW, "/orders"));
+        writer.end();
+
+        // Then
+        ByteBuffer gsf = ByteBuffer.wrap(out.toByteArray());
+        int footer = gsf.limit() - GsfReportWriter.FOOTER_SIZE;
+        assertThat(gsf.getShort(6) & GsfReportWriter.FLAG_FINAL).isEqualTo(GsfReportWriter.FLAG_FINAL);
+        assertThat(gsf.getInt(footer)).isEqualTo(3);
+        // GET, two endpoints and one shared title
+        assertThat(gsf.getInt(footer + 4)).isEqualTo(4);
+        assertThat(gsf.getLong(footer + 8))
+            .isEqualTo(GsfReportWriter.HEADER_SIZE + 3L * GsfReportWriter.RECORD_SIZE);
+        assertThat(gsf.getInt(footer + 16 + SeverityLevel.LOW.ordinal() * 4)).isEqualTo(2);
+        int second = GsfReportWriter.HEADER_SIZE + GsfReportWriter.RECORD_SIZE;
+        assertThat(gsf.get(second + 1)).isEqualTo((byte) SeverityLevel.LOW.ordinal());
+        assertThat(gsf.getInt(second + 8)).isEqualTo(gsf.getInt(GsfReportWriter.HEADER_SIZE + 8));
+    }
+
+    private static ScanSummaryResponse scan() {
+        return ScanSummaryResponse.builder()
+            .id(UUID.randomUUID())
+            .name("Petstore")
+            .status(ScanStatus.COMPLETED)
+            .criticalFindings(1)
+            .mediumFindings(1)
+            .build();
+    }
+
+    private static Vulnerability finding(SeverityLevel severity, String endpoint) {
+        return Vulnerability.builder()
+            .type(VulnerabilityType.BOLA)
+            .severity(severity)
+            .title("Object level authorization missing")
+            .description("Identifier is not checked against the caller")
+            .endpoint(endpoint)
+            .method("GET")
+            .references(List.of("https://owasp.org/API-Security/"))
+            .build();
+    }
+}
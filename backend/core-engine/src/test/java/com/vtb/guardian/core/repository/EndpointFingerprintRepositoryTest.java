@@ -0,0 +1,63 @@
+package com.vtb.guardian.core.repository;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for picking the baseline of an incremental scan, against a real PostgreSQL.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class EndpointFingerprintRepositoryTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private static JdbcTemplate jdbcTemplate;
+    private static EndpointFingerprintRepository repository;
+
+    @BeforeAll
+    static void createSchema() {
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(
+            POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword(), true);
+        new ResourceDatabasePopulator(new ClassPathResource("db/findings-schema.sql")).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        repository = new EndpointFingerprintRepository(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should skip scans that are being purged when picking the baseline")
+    void shouldSkipPurgeRequestedBaseline() {
+        // Given: the newest completed scan is being purged
+        UUID projectId = jdbcTemplate.queryForObject(
+            "INSERT INTO projects (name) VALUES ('baseline') RETURNING id", UUID.class);
+        UUID older = completedScan(projectId, "2026-01-01");
+        UUID purged = completedScan(projectId, "2026-02-01");
+        UUID current = completedScan(projectId, "2026-03-01");
+        jdbcTemplate.update("UPDATE scans SET purge_requested_at = now() WHERE id = ?", purged);
+
+        // When / Then
+        assertThat(repository.findBaselineScanId(projectId, current)).contains(older);
+    }
+
+    private static UUID completedScan(UUID projectId, String createdAt) {
+        UUID scanId = jdbcTemplate.queryForObject(
+            "INSERT INTO scans (project_id, name, status, created_at) "
+                + "VALUES (?, 'scan', 'COMPLETED', CAST(? AS timestamp)) RETURNING id",
+            UUID.class, projectId, createdAt);
+        repository.saveAll(scanId, Map.of("GET /users", "0".repeat(64)));
+        return scanId;
+    }
+}
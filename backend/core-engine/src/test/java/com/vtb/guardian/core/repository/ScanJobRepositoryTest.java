@@ -0,0 +1,179 @@
+package com.vtb.guardian.core.repository;
+
+import com.vtb.guardian.core.job.ScanJob;
+import com.vtb.guardian.core.model.enums.ScanStatus;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the scan job queue: claiming, lease ownership and re-queueing, against a real PostgreSQL.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ScanJobRepositoryTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private static JdbcTemplate jdbcTemplate;
+    private static ScanJobRepository repository;
+
+    @BeforeAll
+    static void createSchema() {
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(
+            POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword(), true);
+        new ResourceDatabasePopulator(new ClassPathResource("db/findings-schema.sql")).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        repository = new ScanJobRepository(jdbcTemplate);
+    }
+
+    @BeforeEach
+    void clearQueue() {
+        jdbcTemplate.update("DELETE FROM scan_jobs");
+    }
+
+    @Test
+    @DisplayName("Should claim jobs by project priority and never hand one job to two workers")
+    void shouldClaimByPriorityOnce() {
+        // Given
+        UUID low = enqueue(0);
+        UUID high = enqueue(5);
+
+        // When
+        List<ScanJob> first = repository.claim("worker-a", 1, 60);
+        List<ScanJob> second = repository.claim("worker-b", 5, 60);
+        List<ScanJob> third = repository.claim("worker-c", 5, 60);
+
+        // Then
+        assertThat(first).extracting(ScanJob::scanId).containsExactly(high);
+        assertThat(first.get(0).status()).isEqualTo(ScanStatus.RUNNING);
+        assertThat(first.get(0).attempts()).isEqualTo(1);
+        assertThat(second).extracting(ScanJob::scanId).containsExactly(low);
+        assertThat(third).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should report a lost lease and refuse to finish a job for its former owner")
+    void shouldDetectLostLease() {
+        // Given: worker-a's lease expired and worker-b took the job over
+        enqueue(0);
+        ScanJob job = repository.claim("worker-a", 1, 60).get(0);
+        expireLeases();
+        repository.requeueExpired();
+        repository.claim("worker-b", 1, 60);
+
+        // When
+        ScanJobRepository.Progress stale = repository.reportProgress(job.id(), "worker-a", 10, 100, 60);
+        boolean staleFinish = repository.finish(job.id(), "worker-a", ScanStatus.CANCELLED, null);
+        ScanJobRepository.Progress owner = repository.reportProgress(job.id(), "worker-b", 10, 100, 60);
+        boolean ownerFinish = repository.finish(job.id(), "worker-b", ScanStatus.COMPLETED, null);
+
+        // Then
+        assertThat(stale).isEqualTo(ScanJobRepository.Progress.LEASE_LOST);
+        assertThat(staleFinish).isFalse();
+        assertThat(owner).isEqualTo(ScanJobRepository.Progress.CONTINUE);
+        assertThat(ownerFinish).isTrue();
+        assertThat(repository.findByScanId(job.scanId()).orElseThrow().status()).isEqualTo(ScanStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("Should tell a running worker that cancellation was requested")
+    void shouldReportCancellation() {
+        // Given
+        UUID scanId = enqueue(0);
+        ScanJob job = repository.claim("worker-a", 1, 60).get(0);
+        repository.requestCancel(scanId);
+
+        // When
+        ScanJobRepository.Progress progress = repository.reportProgress(job.id(), "worker-a", 1, 2, 60);
+
+        // Then
+        assertThat(progress).isEqualTo(ScanJobRepository.Progress.CANCEL_REQUESTED);
+    }
+
+    @Test
+    @DisplayName("Should re-queue expired jobs with attempts left and fail the others")
+    void shouldRequeueOrFailExpiredJobs() {
+        // Given: one job on its last attempt, one with attempts left
+        UUID exhausted = enqueue(1);
+        UUID retried = enqueue(0);
+        repository.claim("worker-a", 2, 60);
+        jdbcTemplate.update("UPDATE scan_jobs SET max_attempts = 1 WHERE scan_id = ?", exhausted);
+        expireLeases();
+
+        // When
+        List<UUID> failed = repository.failExpired();
+        int requeued = repository.requeueExpired();
+
+        // Then
+        assertThat(failed).containsExactly(exhausted);
+        assertThat(requeued).isEqualTo(1);
+        ScanJob failedJob = repository.findByScanId(exhausted).orElseThrow();
+        assertThat(failedJob.status()).isEqualTo(ScanStatus.FAILED);
+        assertThat(failedJob.errorMessage()).isEqualTo(ScanJobRepository.LEASE_EXPIRED_MESSAGE);
+        assertThat(repository.findByScanId(retried).orElseThrow().status()).isEqualTo(ScanStatus.QUEUED);
+        assertThat(repository.claim("worker-b", 5, 60)).extracting(ScanJob::scanId).containsExactly(retried);
+    }
+
+    @Test
+    @DisplayName("Should cancel an expired job whose cancellation was requested instead of re-queueing it")
+    void shouldCancelExpiredJobWithPendingCancellation() {
+        // Given: cancellation was requested, then the worker died before it saw the flag
+        UUID scanId = enqueue(0);
+        repository.claim("worker-a", 1, 60);
+        repository.requestCancel(scanId);
+        expireLeases();
+
+        // When
+        List<UUID> cancelled = repository.cancelExpired();
+        List<UUID> failed = repository.failExpired();
+        int requeued = repository.requeueExpired();
+
+        // Then
+        assertThat(cancelled).containsExactly(scanId);
+        assertThat(failed).isEmpty();
+        assertThat(requeued).isZero();
+        assertThat(repository.findByScanId(scanId).orElseThrow().status()).isEqualTo(ScanStatus.CANCELLED);
+        assertThat(repository.claim("worker-b", 5, 60)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should leave jobs with live leases alone")
+    void shouldNotReapLiveLeases() {
+        // Given
+        enqueue(0);
+        repository.claim("worker-a", 1, 60);
+
+        // When / Then
+        assertThat(repository.cancelExpired()).isEmpty();
+        assertThat(repository.failExpired()).isEmpty();
+        assertThat(repository.requeueExpired()).isZero();
+    }
+
+    private UUID enqueue(int priority) {
+        UUID projectId = jdbcTemplate.queryForObject(
+            "INSERT INTO projects (name, scan_priority) VALUES ('queue', ?) RETURNING id", UUID.class, priority);
+        UUID scanId = jdbcTemplate.queryForObject(
+            "INSERT INTO scans (project_id, name, status) VALUES (?, 'queue', 'QUEUED') RETURNING id",
+            UUID.class, projectId);
+        repository.enqueue(scanId, projectId, 3);
+        return scanId;
+    }
+
+    private static void expireLeases() {
+        jdbcTemplate.update("UPDATE scan_jobs SET lease_until = now() - interval '1 second' WHERE status = 'RUNNING'");
+    }
+}
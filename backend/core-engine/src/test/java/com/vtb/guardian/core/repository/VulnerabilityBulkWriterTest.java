@@ -0,0 +1,271 @@
+package com.vtb.guardian.core.repository;
+
+import com.vtb.guardian.core.model.domain.Vulnerability;
+import com.vtb.guardian.core.model.enums.FindingSource;
+import com.vtb.guardian.core.model.enums.SeverityLevel;
+import com.vtb.guardian.core.model.enums.VulnerabilityType;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the COPY-based findings writer against a real PostgreSQL.
+ *
+ * The throughput comparison runs with {@code -Dbenchmark=true}.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class VulnerabilityBulkWriterTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private static JdbcTemplate jdbcTemplate;
+
+    private UUID scanId;
+
+    @BeforeAll
+    static void createSchema() {
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(
+            POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword(), true);
+        new ResourceDatabasePopulator(new ClassPathResource("db/findings-schema.sql")).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @BeforeEach
+    void createScan() {
+        scanId = jdbcTemplate.queryForObject(
+            "INSERT INTO scans (name, status) VALUES ('bulk', 'RUNNING') RETURNING id", UUID.class);
+    }
+
+    @Test
+    @DisplayName("Should skip repeated findings and count written rows only")
+    void shouldDeduplicateFindings() {
+        // Given
+        VulnerabilityBulkWriter writer = new VulnerabilityBulkWriter(jdbcTemplate, 2);
+        List<Vulnerability> findings = List.of(
+            finding("/users/{id}", "GET", VulnerabilityType.BOLA, SeverityLevel.HIGH),
+            finding("/users/{id}", "GET", VulnerabilityType.BOLA, SeverityLevel.HIGH),
+            finding("/users/{id}", "DELETE", VulnerabilityType.BOLA, SeverityLevel.CRITICAL),
+            finding(null, null, VulnerabilityType.BROKEN_AUTH, SeverityLevel.MEDIUM),
+            finding(null, null, VulnerabilityType.BROKEN_AUTH, SeverityLevel.MEDIUM));
+
+        // When
+        VulnerabilityBulkWriter.WriteResult result = writer.writeAll(scanId, findings);
+
+        // Then
+        assertThat(result.submitted()).isEqualTo(5);
+        assertThat(result.written()).isEqualTo(3);
+        assertThat(result.countsBySeverity())
+            .containsEntry(SeverityLevel.HIGH, 1)
+            .containsEntry(SeverityLevel.CRITICAL, 1)
+            .containsEntry(SeverityLevel.MEDIUM, 1);
+        assertThat(countRows("vulnerabilities")).isEqualTo(3);
+        assertThat(countRows("vulnerability_references")).isEqualTo(3);
+        assertThat(new FindingRollupRepository(jdbcTemplate).severityCounts(scanId))
+            .isEqualTo(result.countsBySeverity());
+    }
+
+    @Test
+    @DisplayName("Should keep distinct findings of one type on the same endpoint or specification")
+    void shouldKeepDistinctFindingsOfOneType() {
+        // Given
+        VulnerabilityBulkWriter writer = new VulnerabilityBulkWriter(jdbcTemplate, 100);
+        List<Vulnerability> findings = List.of(
+            finding("/users", "GET", VulnerabilityType.BOLA, "Object ID in query", "id"),
+            finding("/users", "GET", VulnerabilityType.BOLA, "Object ID in query", "ownerId"),
+            finding(null, null, VulnerabilityType.BROKEN_AUTH, "Server URL is not HTTPS", null),
+            finding(null, null, VulnerabilityType.BROKEN_AUTH, "No security schemes defined", null));
+
+        // When
+        VulnerabilityBulkWriter.WriteResult result = writer.writeAll(scanId, findings);
+
+        // Then
+        assertThat(result.written()).isEqualTo(4);
+        assertThat(countRows("vulnerabilities")).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should keep a dynamic finding that matches a static one on the same endpoint")
+    void shouldKeepFindingsOfDifferentSources() {
+        // Given
+        VulnerabilityBulkWriter writer = new VulnerabilityBulkWriter(jdbcTemplate, 100);
+        writer.writeAll(scanId, List.of(finding("/users/{id}", "GET", VulnerabilityType.BOLA, SeverityLevel.HIGH)));
+
+        // When
+        VulnerabilityBulkWriter.WriteResult result;
+        try (VulnerabilityBulkWriter.Session session = writer.open(scanId, FindingSource.DYNAMIC)) {
+            session.add(finding("/users/{id}", "GET", VulnerabilityType.BOLA, SeverityLevel.HIGH));
+            session.add(finding("/users/{id}", "GET", VulnerabilityType.BOLA, SeverityLevel.HIGH));
+            session.add(finding("/users/{id}", "GET", VulnerabilityType.BOLA, SeverityLevel.HIGH), FindingSource.FUZZ);
+            session.flush();
+            result = session.result();
+        }
+
+        // Then
+        assertThat(result.written()).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForList(
+            "SELECT source FROM vulnerabilities WHERE scan_id = ? ORDER BY source", String.class, scanId))
+            .containsExactly("DYNAMIC", "FUZZ", "STATIC");
+    }
+
+    @Test
+    @DisplayName("Should write nothing on close after the session was discarded")
+    void shouldNotFlushDiscardedSession() {
+        // Given
+        VulnerabilityBulkWriter writer = new VulnerabilityBulkWriter(jdbcTemplate, 100);
+
+        // When
+        try (VulnerabilityBulkWriter.Session session = writer.open(scanId, FindingSource.DYNAMIC)) {
+            session.add(finding("/users/{id}", "GET", VulnerabilityType.BOLA, SeverityLevel.HIGH));
+            session.discard();
+            session.add(finding("/users/{id}", "DELETE", VulnerabilityType.BOLA, SeverityLevel.HIGH));
+        }
+
+        // Then
+        assertThat(countRows("vulnerabilities")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should round-trip text with tabs, newlines and backslashes")
+    void shouldEscapeCopyText() {
+        // Given
+        String poc = "curl -H 'X:\\t1'\n\tcat C:\\\\temp\r\n";
+        Vulnerability vulnerability = finding("/files", "GET", VulnerabilityType.BOLA, SeverityLevel.LOW, null, poc);
+
+        // When
+        new VulnerabilityBulkWriter(jdbcTemplate, 100).writeAll(scanId, List.of(vulnerability));
+
+        // Then
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT exploit_poc FROM vulnerabilities WHERE scan_id = ?", String.class, scanId)).isEqualTo(poc);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    @DisplayName("Benchmark: rows per second of COPY vs JDBC batch vs per-entity inserts")
+    void benchmarkWritePaths() {
+        int rows = 20_000;
+        List<Vulnerability> findings = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            findings.add(finding("/resources/" + i + "/{id}", "GET",
+                VulnerabilityType.values()[i % VulnerabilityType.values().length], SeverityLevel.values()[i % 5],
+                "Validate object ownership on every request. ".repeat(40),
+                "curl -X GET https://api.example.com/resources/" + i + "\n".repeat(20)));
+        }
+
+        // Warm up connections and statement caches
+        perEntity(createScanId(), findings.subList(0, 500));
+        new VulnerabilityBulkWriter(jdbcTemplate, 1000).writeAll(createScanId(), findings.subList(0, 500));
+
+        double perEntity = rowsPerSecond(rows, () -> perEntity(createScanId(), findings));
+        double batch = rowsPerSecond(rows, () -> jdbcBatch(createScanId(), findings));
+        double copy = rowsPerSecond(rows, () -> new VulnerabilityBulkWriter(jdbcTemplate, 1000)
+            .writeAll(createScanId(), findings));
+
+        System.out.printf("Findings write throughput (%d rows):%n", rows);
+        System.out.printf("  per-entity INSERT (JPA save() path): %,10.0f rows/s%n", perEntity);
+        System.out.printf("  JDBC batch INSERT:                   %,10.0f rows/s%n", batch);
+        System.out.printf("  COPY + staged merge:                 %,10.0f rows/s%n", copy);
+        assertThat(copy).isGreaterThan(perEntity);
+    }
+
+    /**
+     * What {@code repository.save(entity)} per finding issues: one INSERT per row, plus one per reference.
+     */
+    private void perEntity(UUID scan, List<Vulnerability> findings) {
+        for (Vulnerability vulnerability : findings) {
+            UUID id = UUID.randomUUID();
+            jdbcTemplate.update(INSERT, row(id, scan, vulnerability));
+            for (String reference : vulnerability.getReferences()) {
+                jdbcTemplate.update("INSERT INTO vulnerability_references VALUES (?, ?)", id, reference);
+            }
+        }
+    }
+
+    private void jdbcBatch(UUID scan, List<Vulnerability> findings) {
+        List<Object[]> rows = new ArrayList<>(findings.size());
+        List<Object[]> references = new ArrayList<>();
+        for (Vulnerability vulnerability : findings) {
+            UUID id = UUID.randomUUID();
+            rows.add(row(id, scan, vulnerability));
+            vulnerability.getReferences().forEach(reference -> references.add(new Object[]{id, reference}));
+        }
+        jdbcTemplate.batchUpdate(INSERT, rows);
+        jdbcTemplate.batchUpdate("INSERT INTO vulnerability_references VALUES (?, ?)", references);
+    }
+
+    private static final String INSERT = """
+        INSERT INTO vulnerabilities (id, scan_id, type, severity, title, endpoint, method, recommendation, exploit_poc)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private static Object[] row(UUID id, UUID scan, Vulnerability vulnerability) {
+        return new Object[]{id, scan, vulnerability.getType().name(), vulnerability.getSeverity().name(),
+            vulnerability.getTitle(), vulnerability.getEndpoint(), vulnerability.getMethod(),
+            vulnerability.getRecommendation(), vulnerability.getExploitPoc()};
+    }
+
+    private static double rowsPerSecond(int rows, Runnable write) {
+        long start = System.nanoTime();
+        write.run();
+        return rows / ((System.nanoTime() - start) / 1e9);
+    }
+
+    private UUID createScanId() {
+        return jdbcTemplate.queryForObject(
+            "INSERT INTO scans (name, status) VALUES ('benchmark', 'RUNNING') RETURNING id", UUID.class);
+    }
+
+    private int countRows(String table) {
+        String sql = table.equals("vulnerabilities")
+            ? "SELECT count(*) FROM vulnerabilities WHERE scan_id = ?"
+            : "SELECT count(*) FROM vulnerability_references r JOIN vulnerabilities v ON v.id = r.vulnerability_id "
+                + "WHERE v.scan_id = ?";
+        return jdbcTemplate.queryForObject(sql, Integer.class, scanId);
+    }
+
+    private static Vulnerability finding(String endpoint, String method, VulnerabilityType type, SeverityLevel severity) {
+        return finding(endpoint, method, type, severity, null, null);
+    }
+
+    private static Vulnerability finding(String endpoint, String method, VulnerabilityType type,
+                                         String title, String affectedParameter) {
+        return Vulnerability.builder()
+            .type(type)
+            .severity(SeverityLevel.MEDIUM)
+            .title(title)
+            .endpoint(endpoint)
+            .method(method)
+            .affectedParameter(affectedParameter)
+            .build();
+    }
+
+    private static Vulnerability finding(String endpoint, String method, VulnerabilityType type, SeverityLevel severity,
+                                         String recommendation, String exploitPoc) {
+        return Vulnerability.builder()
+            .type(type)
+            .severity(severity)
+            .title(type + " on " + endpoint)
+            .endpoint(endpoint)
+            .method(method)
+            .recommendation(recommendation)
+            .exploitPoc(exploitPoc)
+            .references(List.of("https://owasp.org/API-Security/"))
+            .build();
+    }
+}
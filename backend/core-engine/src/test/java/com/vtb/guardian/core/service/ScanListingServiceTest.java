@@ -0,0 +1,105 @@
+package com.vtb.guardian.core.service;
+
+import com.vtb.guardian.core.model.dto.response.CursorPageResponse;
+import com.vtb.guardian.core.model.dto.response.ScanSummaryResponse;
+import com.vtb.guardian.core.model.enums.ScanStatus;
+import com.vtb.guardian.core.repository.ScanSummaryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for cursor-based scan listing
+ */
+class ScanListingServiceTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 12, 0, 0, 123_456_000);
+
+    @Test
+    @DisplayName("Should walk all scans page by page without gaps or duplicates")
+    void shouldPageThroughAllScans() {
+        // Given: 7 scans, two of them created at the same instant
+        List<ScanSummaryResponse> scans = IntStream.range(0, 7)
+            .mapToObj(i -> scan(i == 3 ? BASE.plusSeconds(4) : BASE.plusSeconds(i)))
+            .sorted(Comparator.comparing(ScanSummaryResponse::getCreatedAt)
+                .thenComparing(ScanSummaryResponse::getId).reversed())
+            .toList();
+        ScanListingService service = new ScanListingService(new InMemorySummaryRepository(scans));
+
+        // When
+        List<UUID> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPageResponse<ScanSummaryResponse> page = service.listScans(null, null, cursor, 3);
+            page.getItems().forEach(item -> seen.add(item.getId()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // Then
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).containsExactlyElementsOf(scans.stream().map(ScanSummaryResponse::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Should round-trip cursors including sub-second precision")
+    void shouldRoundTripCursor() {
+        // Given
+        ScanListingService.Cursor cursor = new ScanListingService.Cursor(BASE, UUID.randomUUID());
+
+        // When / Then
+        assertThat(ScanListingService.Cursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("Should reject malformed cursors")
+    void shouldRejectMalformedCursor() {
+        ScanListingService service = new ScanListingService(new InMemorySummaryRepository(List.of()));
+
+        assertThatThrownBy(() -> service.listScans(null, null, "not-a-cursor", 10))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ScanSummaryResponse scan(LocalDateTime createdAt) {
+        return ScanSummaryResponse.builder()
+            .id(UUID.randomUUID())
+            .name("scan")
+            .status(ScanStatus.COMPLETED)
+            .createdAt(createdAt)
+            .build();
+    }
+
+    /**
+     * Applies the repository's keyset predicate to a list sorted newest first.
+     */
+    private static class InMemorySummaryRepository extends ScanSummaryRepository {
+
+        private final List<ScanSummaryResponse> scans;
+
+        InMemorySummaryRepository(List<ScanSummaryResponse> scans) {
+            super(null);
+            this.scans = scans;
+        }
+
+        @Override
+        public List<ScanSummaryResponse> findPage(UUID projectId, ScanStatus status,
+                                                  LocalDateTime afterCreatedAt, UUID afterId, int limit) {
+            return scans.stream()
+                .filter(scan -> afterCreatedAt == null
+                    || scan.getCreatedAt().isBefore(afterCreatedAt)
+                    || scan.getCreatedAt().isEqual(afterCreatedAt) && scan.getId().compareTo(afterId) < 0)
+                .limit(limit)
+                .toList();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+-- Subset of the Liquibase schema needed by repository tests (changesets 001, 002, 003, 006, 007, 010, 011, 012 and 016)
+CREATE TABLE projects (
+    id uuid PRIMARY KEY DEFAULT gen_random_uuid(),
+    name varchar(255) NOT NULL,
+    scan_priority integer NOT NULL DEFAULT 0
+);
+
+CREATE TABLE scans (
+    id uuid PRIMARY KEY DEFAULT gen_random_uuid(),
+    project_id uuid,
+    name varchar(255) NOT NULL,
+    status varchar(50) NOT NULL,
+    created_at timestamp NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    purge_requested_at timestamp
+);
+
+-- Changeset 006
+CREATE TABLE scan_endpoint_fingerprints (
+    scan_id uuid NOT NULL REFERENCES scans (id) ON DELETE CASCADE,
+    endpoint_key varchar(520) NOT NULL,
+    fingerprint char(64) NOT NULL,
+    PRIMARY KEY (scan_id, endpoint_key)
+);
+
+-- Changeset 007
+CREATE TABLE scan_jobs (
+    id uuid PRIMARY KEY DEFAULT gen_random_uuid(),
+    scan_id uuid NOT NULL UNIQUE REFERENCES scans (id) ON DELETE CASCADE,
+    project_id uuid,
+    priority integer NOT NULL DEFAULT 0,
+    status varchar(50) NOT NULL,
+    attempts integer NOT NULL DEFAULT 0,
+    max_attempts integer NOT NULL DEFAULT 3,
+    worker_id varchar(255),
+    lease_until timestamp,
+    cancel_requested boolean NOT NULL DEFAULT false,
+    endpoints_total integer NOT NULL DEFAULT 0,
+    endpoints_analyzed integer NOT NULL DEFAULT 0,
+    error_message text,
+    created_at timestamp NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    started_at timestamp,
+    completed_at timestamp,
+    updated_at timestamp NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE vulnerabilities (
+    id uuid PRIMARY KEY DEFAULT gen_random_uuid(),
+    scan_id uuid NOT NULL REFERENCES scans (id) ON DELETE CASCADE,
+    source varchar(16) NOT NULL DEFAULT 'STATIC',
+    type varchar(100) NOT NULL,
+    severity varchar(50) NOT NULL,
+    title varchar(500) NOT NULL,
+    description text,
+    endpoint varchar(500),
+    method varchar(10),
+    recommendation text,
+    code_example text,
+    exploit_poc text,
+    owasp_category varchar(50),
+    affected_parameter text,
+    cvss_score decimal(3, 1),
+    ai_generated boolean DEFAULT false,
+    ai_confidence decimal(3, 2),
+    detected_at timestamp NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    finding_key varchar(32)
+);
+
+CREATE TABLE vulnerability_references (
+    vulnerability_id uuid NOT NULL REFERENCES vulnerabilities (id) ON DELETE CASCADE,
+    reference_url text NOT NULL
+);
+
+CREATE UNIQUE INDEX uq_vulnerabilities_source_finding
+    ON vulnerabilities (scan_id, source, finding_key);
+
+-- Changeset 012
+CREATE TABLE scan_finding_rollups (
+    scan_id uuid NOT NULL REFERENCES scans (id) ON DELETE CASCADE,
+    type varchar(100) NOT NULL,
+    severity varchar(50) NOT NULL,
+    findings integer NOT NULL DEFAULT 0,
+    PRIMARY KEY (scan_id, type, severity)
+);
+
+CREATE TABLE project_daily_rollups (
+    project_id uuid NOT NULL,
+    bucket date NOT NULL,
+    type varchar(100) NOT NULL,
+    severity varchar(50) NOT NULL,
+    findings bigint NOT NULL DEFAULT 0,
+    PRIMARY KEY (project_id, bucket, type, severity)
+);
@@ -0,0 +1,11 @@
+package com.vtb.guardian.llm.batch;
+
+/**
+ * Single analysis request submitted to the batch executor.
+ *
+ * @param id           caller-chosen identifier; not sent to the model
+ * @param systemPrompt prompts with the same system prompt can share one completion
+ * @param userPrompt   endpoint-specific part of the prompt
+ */
+public record AnalysisPrompt(String id, String systemPrompt, String userPrompt) {
+}
@@ -0,0 +1,9 @@
+package com.vtb.guardian.llm.batch;
+
+import com.vtb.guardian.llm.model.LlmAnalysisResult;
+
+/**
+ * Result of one prompt from a batch request; {@code error} is set when it failed.
+ */
+public record BatchAnalysisResponse(String id, LlmAnalysisResult result, String error) {
+}
@@ -0,0 +1,306 @@
+package com.vtb.guardian.llm.batch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vtb.guardian.llm.cache.LlmResultCache;
+import com.vtb.guardian.llm.client.impl.NvidiaLlmClient;
+import com.vtb.guardian.llm.model.LlmAnalysisResult;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Asynchronous executor for LLM analysis prompts.
+ *
+ * Prompts are queued (bounded, submitters block up to {@code submit-timeout-ms} when
+ * it is full), packed into one chat completion while they share a system prompt and
+ * fit into the token budget, and sent with at most {@code max-concurrent} requests in
+ * flight. Prompts missing from a batched answer are retried one by one under the same
+ * limit. Cached results are returned without queueing.
+ *
+ * Batches mix prompts of different callers, so items are labelled with executor-wide
+ * sequence numbers rather than the callers' ids.
+ */
+@Component
+@Slf4j
+public class LlmBatchExecutor {
+
+    private static final String BATCH_INSTRUCTIONS = """
+
+        You will receive several API endpoints, each introduced by a line "### ITEM <id>".
+        Analyze every item independently and respond with JSON only, in the form
+        {"results": [{"id": "<id>", "result": <analysis object as described above>}]}
+        with exactly one entry per item.
+        """;
+
+    private final NvidiaLlmClient client;
+    private final LlmResultCache cache;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final int maxBatchSize;
+    private final int tokenBudget;
+    private final int responseTokensPerItem;
+    private final long lingerMillis;
+    private final long submitTimeoutMillis;
+
+    private final BlockingQueue<PendingPrompt> queue;
+    private final Semaphore inFlight;
+    private final AtomicLong itemSequence = new AtomicLong();
+    private final ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+    private final Timer batchLatency;
+    private final DistributionSummary batchSize;
+    private Thread dispatcher;
+    private volatile boolean running = true;
+
+    public LlmBatchExecutor(
+            NvidiaLlmClient client,
+            LlmResultCache cache,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${llm.batch.max-concurrent:5}") int maxConcurrent,
+            @Value("${llm.batch.queue-capacity:1000}") int queueCapacity,
+            @Value("${llm.batch.max-batch-size:8}") int maxBatchSize,
+            @Value("${llm.batch.token-budget:6000}") int tokenBudget,
+            @Value("${llm.batch.response-tokens-per-item:512}") int responseTokensPerItem,
+            @Value("${llm.batch.linger-ms:50}") long lingerMillis,
+            @Value("${llm.batch.submit-timeout-ms:30000}") long submitTimeoutMillis) {
+        this.client = client;
+        this.cache = cache;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.maxBatchSize = maxBatchSize;
+        this.tokenBudget = tokenBudget;
+        this.responseTokensPerItem = responseTokensPerItem;
+        this.lingerMillis = lingerMillis;
+        this.submitTimeoutMillis = submitTimeoutMillis;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.inFlight = new Semaphore(maxConcurrent);
+        this.batchLatency = Timer.builder("llm.batch.latency")
+            .description("Latency of one (possibly batched) chat completion")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("llm.batch.size")
+            .description("Number of prompts packed into one chat completion")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        dispatcher = Thread.ofPlatform().name("llm-batch-dispatcher").daemon().start(this::dispatchLoop);
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        dispatcher.interrupt();
+        workers.shutdown();
+        PendingPrompt pending;
+        while ((pending = queue.poll()) != null) {
+            pending.future.completeExceptionally(stopped());
+        }
+    }
+
+    /**
+     * Queues a prompt. Blocks while the queue is full; the returned future fails with
+     * {@link RejectedExecutionException} if no slot frees up within the submit timeout.
+     */
+    public CompletableFuture<LlmAnalysisResult> submit(AnalysisPrompt prompt) {
+        AnalysisPrompt normalized = prompt.id() != null
+            ? prompt
+            : new AnalysisPrompt(UUID.randomUUID().toString(), prompt.systemPrompt(), prompt.userPrompt());
+        Optional<LlmAnalysisResult> cached = cache.get(
+            client.analysisCacheKey(normalized.systemPrompt(), normalized.userPrompt()));
+        if (cached.isPresent()) {
+            return CompletableFuture.completedFuture(cached.get());
+        }
+
+        PendingPrompt pending = new PendingPrompt(Long.toString(itemSequence.incrementAndGet()), normalized,
+            estimateTokens(normalized.userPrompt()), new CompletableFuture<>());
+        try {
+            if (!running || !queue.offer(pending, submitTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                pending.future.completeExceptionally(
+                    new RejectedExecutionException("LLM request queue is full"));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pending.future.completeExceptionally(e);
+        }
+        return pending.future;
+    }
+
+    public List<CompletableFuture<LlmAnalysisResult>> submitAll(List<AnalysisPrompt> prompts) {
+        List<CompletableFuture<LlmAnalysisResult>> futures = new ArrayList<>(prompts.size());
+        for (AnalysisPrompt prompt : prompts) {
+            futures.add(submit(prompt));
+        }
+        return futures;
+    }
+
+    public int getQueuedCount() {
+        return queue.size();
+    }
+
+    private void dispatchLoop() {
+        PendingPrompt carry = null;
+        List<PendingPrompt> batch = List.of();
+        try {
+            while (running) {
+                batch = new ArrayList<>(maxBatchSize);
+                PendingPrompt first = carry != null ? carry : queue.take();
+                carry = null;
+                batch.add(first);
+                int tokens = estimateTokens(first.prompt.systemPrompt()) + first.tokens + responseTokensPerItem;
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingPrompt next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    boolean compatible = Objects.equals(next.prompt.systemPrompt(), first.prompt.systemPrompt());
+                    if (!compatible || tokens + next.tokens + responseTokensPerItem > tokenBudget) {
+                        carry = next;
+                        break;
+                    }
+                    batch.add(next);
+                    tokens += next.tokens + responseTokensPerItem;
+                }
+
+                // Blocks the dispatcher while max-concurrent calls are in flight, so the
+                // queue fills up and submitters feel the backpressure
+                inFlight.acquire();
+                List<PendingPrompt> dispatched = batch;
+                try {
+                    workers.execute(() -> {
+                        try {
+                            execute(dispatched);
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    inFlight.release();
+                    return;
+                }
+                batch = List.of();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // Prompts already taken off the queue are not drained by stop()
+            batch.forEach(pending -> pending.future.completeExceptionally(stopped()));
+            if (carry != null) {
+                carry.future.completeExceptionally(stopped());
+            }
+        }
+    }
+
+    private void execute(List<PendingPrompt> batch) {
+        long start = System.nanoTime();
+        try {
+            if (batch.size() == 1) {
+                PendingPrompt single = batch.get(0);
+                single.future.complete(client.analyze(single.prompt.systemPrompt(), single.prompt.userPrompt()));
+            } else {
+                executeBatched(batch);
+            }
+        } catch (Exception e) {
+            log.warn("LLM batch of {} prompts failed: {}", batch.size(), e.getMessage());
+            batch.forEach(pending -> pending.future.completeExceptionally(e));
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            batchLatency.record(elapsed, TimeUnit.NANOSECONDS);
+            batchSize.record(batch.size());
+            log.debug("LLM batch of {} prompts completed in {} ms", batch.size(),
+                TimeUnit.NANOSECONDS.toMillis(elapsed));
+        }
+    }
+
+    private void executeBatched(List<PendingPrompt> batch) throws Exception {
+        StringBuilder userPrompt = new StringBuilder();
+        for (PendingPrompt pending : batch) {
+            userPrompt.append("### ITEM ").append(pending.itemId).append('\n')
+                .append(pending.prompt.userPrompt()).append("\n\n");
+        }
+        String content = client.complete(
+            batch.get(0).prompt.systemPrompt() + BATCH_INSTRUCTIONS,
+            userPrompt.toString(),
+            responseTokensPerItem * batch.size());
+
+        Map<String, JsonNode> results = new HashMap<>();
+        for (JsonNode item : objectMapper.readTree(content).path("results")) {
+            results.put(item.path("id").asText(), item.get("result"));
+        }
+
+        for (PendingPrompt pending : batch) {
+            JsonNode result = results.get(pending.itemId);
+            if (result != null && result.isObject()) {
+                LlmAnalysisResult analysis = objectMapper.treeToValue(result, LlmAnalysisResult.class);
+                cache.put(client.analysisCacheKey(pending.prompt.systemPrompt(), pending.prompt.userPrompt()), analysis);
+                pending.future.complete(analysis);
+            } else {
+                meterRegistry.counter("llm.batch.fallbacks").increment();
+                workers.execute(() -> retrySingle(pending));
+            }
+        }
+    }
+
+    private void retrySingle(PendingPrompt pending) {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pending.future.completeExceptionally(e);
+            return;
+        }
+        try {
+            pending.future.complete(client.analyze(pending.prompt.systemPrompt(), pending.prompt.userPrompt()));
+        } catch (Exception e) {
+            pending.future.completeExceptionally(e);
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    private static RejectedExecutionException stopped() {
+        return new RejectedExecutionException("LLM batch executor stopped");
+    }
+
+    /**
+     * Rough token estimate (about four characters per token for mixed English/JSON text).
+     */
+    static int estimateTokens(String text) {
+        return text == null ? 0 : text.length() / 4 + 1;
+    }
+
+    /**
+     * @param itemId label of the prompt inside a batched completion, unique per executor
+     */
+    private record PendingPrompt(String itemId, AnalysisPrompt prompt, int tokens,
+                                 CompletableFuture<LlmAnalysisResult> future) {
+    }
+}
@@ -0,0 +1,45 @@
+package com.vtb.guardian.llm.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Content address of an LLM call: SHA-256 over model, prompts and sampling parameters.
+ * Every field is length-prefixed, so different field splits never produce the same input.
+ */
+public final class LlmCacheKey {
+
+    private LlmCacheKey() {
+    }
+
+    public static String of(String model, String systemPrompt, String userPrompt,
+                            double temperature, double topP, int maxTokens) {
+        MessageDigest digest = sha256();
+        update(digest, model);
+        update(digest, systemPrompt);
+        update(digest, userPrompt);
+        update(digest, Double.toString(temperature));
+        update(digest, Double.toString(topP));
+        update(digest, Integer.toString(maxTokens));
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        byte[] bytes = value != null ? value.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        int length = value != null ? bytes.length : -1;
+        digest.update(new byte[]{
+            (byte) (length >>> 24), (byte) (length >>> 16), (byte) (length >>> 8), (byte) length
+        });
+        digest.update(bytes);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.vtb.guardian.llm.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.vtb.guardian.llm.model.LlmAnalysisResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Two-tier cache for LLM analysis results.
+ *
+ * A bounded in-process Caffeine tier (size and TTL eviction) sits in front of Redis,
+ * which is shared between llm-service instances. Redis failures degrade to a miss
+ * instead of failing the analysis. Hits, misses and evictions are exported as
+ * {@code llm.cache.*} meters.
+ */
+@Component
+@Slf4j
+public class LlmResultCache {
+
+    private static final String REDIS_PREFIX = "llm-analysis:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Duration redisTtl;
+    private final Cache<String, LlmAnalysisResult> memory;
+
+    private final Counter memoryHits;
+    private final Counter memoryMisses;
+    private final Counter redisHits;
+    private final Counter redisMisses;
+    private final Counter redisErrors;
+
+    public LlmResultCache(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${llm.cache.enabled:true}") boolean enabled,
+            @Value("${llm.cache.ttl:86400}") long redisTtlSeconds,
+            @Value("${llm.cache.memory.max-entries:10000}") long maxEntries,
+            @Value("${llm.cache.memory.ttl:3600}") long memoryTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+        this.memory = Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfterWrite(Duration.ofSeconds(memoryTtlSeconds))
+            .removalListener((String key, LlmAnalysisResult value, RemovalCause cause) -> {
+                if (cause.wasEvicted()) {
+                    meterRegistry.counter("llm.cache.evictions", "cause", cause.name().toLowerCase()).increment();
+                }
+            })
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, memory, "llm-analysis-memory");
+
+        this.memoryHits = meterRegistry.counter("llm.cache.requests", "tier", "memory", "result", "hit");
+        this.memoryMisses = meterRegistry.counter("llm.cache.requests", "tier", "memory", "result", "miss");
+        this.redisHits = meterRegistry.counter("llm.cache.requests", "tier", "redis", "result", "hit");
+        this.redisMisses = meterRegistry.counter("llm.cache.requests", "tier", "redis", "result", "miss");
+        this.redisErrors = meterRegistry.counter("llm.cache.errors", "tier", "redis");
+    }
+
+    public Optional<LlmAnalysisResult> get(String key) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        LlmAnalysisResult cached = memory.getIfPresent(key);
+        if (cached != null) {
+            memoryHits.increment();
+            return Optional.of(cached);
+        }
+        memoryMisses.increment();
+
+        try {
+            String json = redisTemplate.opsForValue().get(REDIS_PREFIX + key);
+            if (json == null) {
+                redisMisses.increment();
+                return Optional.empty();
+            }
+            redisHits.increment();
+            LlmAnalysisResult result = objectMapper.readValue(json, LlmAnalysisResult.class);
+            memory.put(key, result);
+            return Optional.of(result);
+        } catch (Exception e) {
+            redisErrors.increment();
+            log.warn("LLM cache lookup in Redis failed: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void put(String key, LlmAnalysisResult result) {
+        if (!enabled || result == null) {
+            return;
+        }
+
+        memory.put(key, result);
+        try {
+            redisTemplate.opsForValue().set(REDIS_PREFIX + key, objectMapper.writeValueAsString(result), redisTtl);
+        } catch (Exception e) {
+            redisErrors.increment();
+            log.warn("LLM cache write to Redis failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the cached result or computes, caches and returns a fresh one.
+     */
+    public LlmAnalysisResult getOrCompute(String key, Supplier<LlmAnalysisResult> loader) {
+        Optional<LlmAnalysisResult> cached = get(key);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        LlmAnalysisResult result = loader.get();
+        put(key, result);
+        return result;
+    }
+}
@@ -0,0 +1,58 @@
+package com.vtb.guardian.llm.client.impl;
+
+/**
+ * Accumulates streamed completion text and detects when the first top-level JSON
+ * object is complete. Text before the opening brace (e.g. a Markdown code fence)
+ * is dropped; braces inside string literals are ignored.
+ */
+final class IncrementalJsonTracker {
+
+    private final StringBuilder json = new StringBuilder();
+    private int depth;
+    private boolean started;
+    private boolean inString;
+    private boolean escaped;
+    private boolean complete;
+
+    /**
+     * @return {@code true} once the top-level object has been closed
+     */
+    boolean append(CharSequence delta) {
+        for (int i = 0; i < delta.length() && !complete; i++) {
+            char c = delta.charAt(i);
+            if (!started) {
+                if (c != '{') {
+                    continue;
+                }
+                started = true;
+            }
+            json.append(c);
+
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (c == '\\') {
+                    escaped = true;
+                } else if (c == '"') {
+                    inString = false;
+                }
+            } else if (c == '"') {
+                inString = true;
+            } else if (c == '{' || c == '[') {
+                depth++;
+            } else if (c == '}' || c == ']') {
+                depth--;
+                complete = depth == 0;
+            }
+        }
+        return complete;
+    }
+
+    boolean isComplete() {
+        return complete;
+    }
+
+    String json() {
+        return json.toString();
+    }
+}
@@ -1,24 +1,36 @@
 package com.vtb.guardian.llm.client.impl;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vtb.guardian.llm.cache.LlmCacheKey;
+import com.vtb.guardian.llm.cache.LlmResultCache;
 import com.vtb.guardian.llm.client.LlmClient;
 import com.vtb.guardian.llm.config.LlmConfig;
 import com.vtb.guardian.llm.model.LlmAnalysisResult;
+import com.vtb.guardian.llm.model.completion.ChatCompletionDecoder;
+import com.vtb.guardian.llm.model.completion.ChatCompletionRequest;
+import com.vtb.guardian.llm.model.completion.ChatMessage;
+import com.vtb.guardian.llm.model.completion.ChatCompletionResponse;
+import com.vtb.guardian.llm.model.completion.DecodedCompletion;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import okhttp3.*;
-import org.springframework.cache.annotation.Cacheable;
+import okio.BufferedSource;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * Nvidia API LLM Client
  * Uses Qwen/qwen3-next-80b-a3b-instruct model
+ *
+ * Every call is timed ({@code llm.request.latency}, plus {@code llm.request.first-content} for
+ * streams) and the tokens the provider reports are counted ({@code llm.tokens}).
  */
 @Component
 @RequiredArgsConstructor
@@ -27,9 +39,18 @@ public class NvidiaLlmClient implements LlmClient {
     
     private static final String NVIDIA_API_URL = "https://integrate.api.nvidia.com/v1/chat/completions";
     private static final String MODEL = "qwen/qwen3-next-80b-a3b-instruct";
+    private static final double ANALYSIS_TEMPERATURE = 0.2;
+    private static final double ANALYSIS_TOP_P = 0.7;
+    private static final int ANALYSIS_MAX_TOKENS = 4096;
+    private static final MediaType JSON = MediaType.parse("application/json");
     
     private final LlmConfig config;
     private final ObjectMapper objectMapper;
+    private final LlmResultCache cache;
+    private final MeterRegistry meterRegistry;
+    
+    @Value("${llm.nvidia.api-url:" + NVIDIA_API_URL + "}")
+    private String apiUrl = NVIDIA_API_URL;
     
     private final OkHttpClient httpClient = new OkHttpClient.Builder()
         .connectTimeout(60, TimeUnit.SECONDS)
@@ -38,101 +59,198 @@ public class NvidiaLlmClient implements LlmClient {
         .build();
     
     @Override
-    @Cacheable(value = "llm-analysis", key = "#userPrompt.hashCode()")
     public LlmAnalysisResult analyze(String systemPrompt, String userPrompt) {
-        log.info("Calling Nvidia API (Qwen model) for security analysis");
-        
-        try {
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("model", MODEL);
-            requestBody.put("messages", List.of(
-                Map.of("role", "system", "content", systemPrompt),
-                Map.of("role", "user", "content", userPrompt)
-            ));
-            requestBody.put("temperature", 0.2);
-            requestBody.put("top_p", 0.7);
-            requestBody.put("max_tokens", 4096);
-            requestBody.put("stream", false);
-            
-            RequestBody body = RequestBody.create(
-                objectMapper.writeValueAsString(requestBody),
-                MediaType.parse("application/json")
-            );
+        return cache.getOrCompute(analysisCacheKey(systemPrompt, userPrompt), () -> {
+            log.info("Calling Nvidia API (Qwen model) for security analysis");
             
-            Request request = new Request.Builder()
-                .url(NVIDIA_API_URL)
-                .header("Content-Type", "application/json")
-                .header("Authorization", "Bearer " + config.getNvidiaApiKey())
-                .post(body)
-                .build();
-            
-            try (Response response = httpClient.newCall(request).execute()) {
-                if (!response.isSuccessful()) {
-                    throw new IOException("Nvidia API error: " + response);
-                }
-                
-                String responseBody = response.body().string();
-                Map<String, Object> responseMap = objectMapper.readValue(responseBody, Map.class);
-                
-                // Extract content from response
-                List<Map<String, Object>> choices = (List<Map<String, Object>>) responseMap.get("choices");
-                Map<String, Object> message = (Map<String, Object>) choices.get(0).get("message");
-                String content = (String) message.get("content");
-                
-                // Parse JSON content to LlmAnalysisResult
-                return parseAnalysisResult(content);
-            }
+            String content = complete(systemPrompt, userPrompt, ANALYSIS_MAX_TOKENS);
             
+            // Parse JSON content to LlmAnalysisResult
+            return parseAnalysisResult(content);
+        });
+    }
+    
+    /**
+     * Cache key of {@link #analyze} for the given prompts at the analysis sampling settings.
+     */
+    public String analysisCacheKey(String systemPrompt, String userPrompt) {
+        return LlmCacheKey.of(MODEL, systemPrompt, userPrompt,
+            ANALYSIS_TEMPERATURE, ANALYSIS_TOP_P, ANALYSIS_MAX_TOKENS);
+    }
+    
+    /**
+     * Raw chat completion with a system and a user message at analysis sampling settings.
+     * Used by the batch executor, which parses the combined response itself.
+     */
+    public String complete(String systemPrompt, String userPrompt, int maxTokens) {
+        ChatCompletionRequest request = new ChatCompletionRequest(
+            MODEL,
+            List.of(ChatMessage.system(systemPrompt), ChatMessage.user(userPrompt)),
+            ANALYSIS_TEMPERATURE,
+            ANALYSIS_TOP_P,
+            maxTokens,
+            false
+        );
+        try {
+            return execute(request).content();
         } catch (Exception e) {
             log.error("Nvidia API call failed", e);
             throw new RuntimeException("Failed to analyze with Nvidia API", e);
         }
     }
     
-    @Override
-    public String generateText(String prompt, int maxTokens) {
-        try {
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("model", MODEL);
-            requestBody.put("messages", List.of(
-                Map.of("role", "user", "content", prompt)
-            ));
-            requestBody.put("temperature", 0.7);
-            requestBody.put("top_p", 0.7);
-            requestBody.put("max_tokens", maxTokens);
-            requestBody.put("stream", false);
+    /**
+     * Streaming variant of {@link #analyze}: consumes server-sent events, feeds each content
+     * delta to {@code onContent} and cancels the call as soon as the first complete JSON
+     * object has arrived, without waiting for the rest of the stream.
+     */
+    public LlmAnalysisResult analyzeStreaming(String systemPrompt, String userPrompt, Consumer<String> onContent) {
+        return cache.getOrCompute(analysisCacheKey(systemPrompt, userPrompt), () -> {
+            log.info("Calling Nvidia API (Qwen model) for streaming security analysis");
             
-            RequestBody body = RequestBody.create(
-                objectMapper.writeValueAsString(requestBody),
-                MediaType.parse("application/json")
+            ChatCompletionRequest completionRequest = new ChatCompletionRequest(
+                MODEL,
+                List.of(ChatMessage.system(systemPrompt), ChatMessage.user(userPrompt)),
+                ANALYSIS_TEMPERATURE,
+                ANALYSIS_TOP_P,
+                ANALYSIS_MAX_TOKENS,
+                true
             );
             
-            Request request = new Request.Builder()
-                .url(NVIDIA_API_URL)
-                .header("Content-Type", "application/json")
-                .header("Authorization", "Bearer " + config.getNvidiaApiKey())
-                .post(body)
-                .build();
-            
-            try (Response response = httpClient.newCall(request).execute()) {
-                if (!response.isSuccessful()) {
-                    throw new IOException("Nvidia API error: " + response);
+            try {
+                Request request = newRequest(completionRequest)
+                    .header("Accept", "text/event-stream")
+                    .build();
+                
+                Call call = httpClient.newCall(request);
+                ChatCompletionDecoder decoder = decoder();
+                IncrementalJsonTracker tracker = new IncrementalJsonTracker();
+                long start = System.nanoTime();
+                boolean firstContent = true;
+                try (Response response = call.execute()) {
+                    if (!response.isSuccessful()) {
+                        throw new IOException("Nvidia API error: " + response);
+                    }
+                    
+                    BufferedSource source = response.body().source();
+                    String line;
+                    while ((line = source.readUtf8Line()) != null) {
+                        if (!line.startsWith("data:")) {
+                            continue;
+                        }
+                        String data = line.substring(5).trim();
+                        if (data.equals("[DONE]")) {
+                            break;
+                        }
+                        String delta = decoder.decodeDelta(data);
+                        if (delta.isEmpty()) {
+                            continue;
+                        }
+                        if (firstContent) {
+                            firstContent = false;
+                            Timer.builder("llm.request.first-content")
+                                .description("Time from sending a streaming completion to its first content delta")
+                                .tag("model", MODEL)
+                                .publishPercentiles(0.5, 0.95, 0.99)
+                                .register(meterRegistry)
+                                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                        }
+                        onContent.accept(delta);
+                        if (tracker.append(delta)) {
+                            // The result is complete - stop paying for the remaining tokens
+                            call.cancel();
+                            break;
+                        }
+                    }
+                } finally {
+                    // Streams are cancelled early, so the provider never reports their token usage
+                    recordLatency("streaming", tracker.isComplete() ? "success" : "error", start);
                 }
                 
-                String responseBody = response.body().string();
-                Map<String, Object> responseMap = objectMapper.readValue(responseBody, Map.class);
+                if (!tracker.isComplete()) {
+                    throw new IOException("Stream ended before a complete JSON result was received");
+                }
+                return parseAnalysisResult(tracker.json());
                 
-                List<Map<String, Object>> choices = (List<Map<String, Object>>) responseMap.get("choices");
-                Map<String, Object> message = (Map<String, Object>) choices.get(0).get("message");
-                return (String) message.get("content");
+            } catch (IOException e) {
+                log.error("Nvidia API streaming call failed", e);
+                throw new RuntimeException("Failed to analyze with Nvidia API", e);
             }
-            
+        });
+    }
+    
+    public LlmAnalysisResult analyzeStreaming(String systemPrompt, String userPrompt) {
+        return analyzeStreaming(systemPrompt, userPrompt, delta -> { });
+    }
+    
+    @Override
+    public String generateText(String prompt, int maxTokens) {
+        ChatCompletionRequest request = new ChatCompletionRequest(
+            MODEL,
+            List.of(ChatMessage.user(prompt)),
+            0.7,
+            0.7,
+            maxTokens,
+            false
+        );
+        try {
+            return execute(request).content();
         } catch (Exception e) {
             log.error("Nvidia API text generation failed", e);
             throw new RuntimeException("Failed to generate text with Nvidia API", e);
         }
     }
     
+    /**
+     * Sends a non-streaming completion and decodes the envelope straight from the body stream.
+     */
+    private DecodedCompletion execute(ChatCompletionRequest completionRequest) throws IOException {
+        long start = System.nanoTime();
+        String outcome = "error";
+        try (Response response = httpClient.newCall(newRequest(completionRequest).build()).execute()) {
+            if (!response.isSuccessful()) {
+                throw new IOException("Nvidia API error: " + response);
+            }
+            DecodedCompletion completion = decoder().decode(response.body().byteStream());
+            outcome = "success";
+            recordTokens(completion.usage());
+            return completion;
+        } finally {
+            recordLatency("blocking", outcome, start);
+        }
+    }
+    
+    private void recordLatency(String mode, String outcome, long startNanos) {
+        Timer.builder("llm.request.latency")
+            .description("Latency of one chat completion call to the provider")
+            .tag("model", MODEL)
+            .tag("mode", mode)
+            .tag("outcome", outcome)
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry)
+            .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+    
+    private void recordTokens(ChatCompletionResponse.Usage usage) {
+        if (usage == null) {
+            return;
+        }
+        meterRegistry.counter("llm.tokens", "model", MODEL, "type", "prompt").increment(usage.promptTokens());
+        meterRegistry.counter("llm.tokens", "model", MODEL, "type", "completion").increment(usage.completionTokens());
+    }
+    
+    private Request.Builder newRequest(ChatCompletionRequest completionRequest) throws IOException {
+        return new Request.Builder()
+            .url(apiUrl)
+            .header("Content-Type", "application/json")
+            .header("Authorization", "Bearer " + config.getNvidiaApiKey())
+            .post(RequestBody.create(objectMapper.writeValueAsBytes(completionRequest), JSON));
+    }
+    
+    private ChatCompletionDecoder decoder() {
+        return new ChatCompletionDecoder(objectMapper.getFactory());
+    }
+    
     @Override
     public <T> T generateStructured(String prompt, Class<T> responseType) {
         String json = generateText(prompt + "\n\nRespond with valid JSON only.", 4096);
@@ -144,6 +262,9 @@ public class NvidiaLlmClient implements LlmClient {
         }
     }
     
+    /**
+     * Parses the model output; content is passed through as-is, no intermediate tree.
+     */
     private LlmAnalysisResult parseAnalysisResult(String jsonContent) {
         try {
             return objectMapper.readValue(jsonContent, LlmAnalysisResult.class);
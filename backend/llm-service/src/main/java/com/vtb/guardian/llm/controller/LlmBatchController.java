@@ -0,0 +1,49 @@
+package com.vtb.guardian.llm.controller;
+
+import com.vtb.guardian.llm.batch.AnalysisPrompt;
+import com.vtb.guardian.llm.batch.BatchAnalysisResponse;
+import com.vtb.guardian.llm.batch.LlmBatchExecutor;
+import com.vtb.guardian.llm.model.LlmAnalysisResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Batch analysis endpoint for the core engine; the servlet thread is released
+ * while the prompts wait in the executor.
+ */
+@RestController
+@RequestMapping("/api/v1/llm")
+@RequiredArgsConstructor
+public class LlmBatchController {
+
+    private final LlmBatchExecutor batchExecutor;
+
+    @PostMapping("/analyze/batch")
+    public CompletableFuture<List<BatchAnalysisResponse>> analyzeBatch(@RequestBody List<AnalysisPrompt> request) {
+        List<AnalysisPrompt> prompts = new ArrayList<>(request.size());
+        for (int i = 0; i < request.size(); i++) {
+            AnalysisPrompt prompt = request.get(i);
+            prompts.add(prompt.id() != null
+                ? prompt
+                : new AnalysisPrompt(String.valueOf(i), prompt.systemPrompt(), prompt.userPrompt()));
+        }
+
+        List<CompletableFuture<LlmAnalysisResult>> futures = batchExecutor.submitAll(prompts);
+        List<CompletableFuture<BatchAnalysisResponse>> responses = new ArrayList<>(futures.size());
+        for (int i = 0; i < futures.size(); i++) {
+            String id = prompts.get(i).id();
+            responses.add(futures.get(i).handle((result, error) -> error == null
+                ? new BatchAnalysisResponse(id, result, null)
+                : new BatchAnalysisResponse(id, null, error.getMessage())));
+        }
+        return CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new))
+            .thenApply(ignored -> responses.stream().map(CompletableFuture::join).toList());
+    }
+}
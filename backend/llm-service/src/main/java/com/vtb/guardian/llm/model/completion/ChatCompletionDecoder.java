@@ -0,0 +1,137 @@
+package com.vtb.guardian.llm.model.completion;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Tree-less decoder for chat completion responses.
+ *
+ * Walks the token stream once and extracts only {@code choices[0].message.content},
+ * {@code choices[0].finish_reason} and {@code usage}; everything else is skipped
+ * without being materialised.
+ */
+public final class ChatCompletionDecoder {
+
+    private final JsonFactory jsonFactory;
+
+    public ChatCompletionDecoder(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    public DecodedCompletion decode(InputStream body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            return decode(parser);
+        }
+    }
+
+    public DecodedCompletion decode(byte[] body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            return decode(parser);
+        }
+    }
+
+    /**
+     * Extracts {@code choices[0].delta.content} from one streamed chunk; empty if absent.
+     */
+    public String decodeDelta(String chunk) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(chunk)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("choices".equals(field) && value == JsonToken.START_ARRAY) {
+                    String[] content = new String[1];
+                    readFirstChoice(parser, "delta", content, new String[1]);
+                    return content[0] != null ? content[0] : "";
+                }
+                parser.skipChildren();
+            }
+            return "";
+        }
+    }
+
+    private DecodedCompletion decode(JsonParser parser) throws IOException {
+        String[] content = new String[1];
+        String[] finishReason = new String[1];
+        ChatCompletionResponse.Usage usage = null;
+
+        expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("choices".equals(field) && value == JsonToken.START_ARRAY) {
+                readFirstChoice(parser, "message", content, finishReason);
+            } else if ("usage".equals(field) && value == JsonToken.START_OBJECT) {
+                usage = readUsage(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        if (content[0] == null) {
+            throw new IOException("Completion response has no choices[0].message.content");
+        }
+        return new DecodedCompletion(content[0], finishReason[0], usage);
+    }
+
+    /**
+     * Reads the first element of the {@code choices} array and skips the rest of it.
+     */
+    private static void readFirstChoice(JsonParser parser, String messageField,
+                                        String[] content, String[] finishReason) throws IOException {
+        boolean first = true;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (!first || parser.currentToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            first = false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (messageField.equals(field) && value == JsonToken.START_OBJECT) {
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        boolean isContent = "content".equals(parser.currentName());
+                        JsonToken contentToken = parser.nextToken();
+                        if (isContent && contentToken == JsonToken.VALUE_STRING) {
+                            content[0] = parser.getText();
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                } else if ("finish_reason".equals(field) && value == JsonToken.VALUE_STRING) {
+                    finishReason[0] = parser.getText();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+    }
+
+    private static ChatCompletionResponse.Usage readUsage(JsonParser parser) throws IOException {
+        int prompt = 0;
+        int completion = 0;
+        int total = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "prompt_tokens" -> prompt = parser.getValueAsInt();
+                case "completion_tokens" -> completion = parser.getValueAsInt();
+                case "total_tokens" -> total = parser.getValueAsInt();
+                default -> parser.skipChildren();
+            }
+        }
+        return new ChatCompletionResponse.Usage(prompt, completion, total);
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new IOException("Unexpected token " + actual + " at " + parser.currentLocation());
+        }
+    }
+}
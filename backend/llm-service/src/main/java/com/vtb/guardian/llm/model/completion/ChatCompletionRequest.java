@@ -0,0 +1,18 @@
+package com.vtb.guardian.llm.model.completion;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * OpenAI-compatible chat completion request body.
+ */
+public record ChatCompletionRequest(
+    String model,
+    List<ChatMessage> messages,
+    double temperature,
+    @JsonProperty("top_p") double topP,
+    @JsonProperty("max_tokens") int maxTokens,
+    boolean stream
+) {
+}
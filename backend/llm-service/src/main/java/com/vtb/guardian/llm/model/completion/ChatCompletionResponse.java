@@ -0,0 +1,34 @@
+package com.vtb.guardian.llm.model.completion;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * OpenAI-compatible chat completion response envelope.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ChatCompletionResponse(
+    String id,
+    String model,
+    List<Choice> choices,
+    Usage usage
+) {
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Choice(
+        int index,
+        ChatMessage message,
+        @JsonProperty("finish_reason") String finishReason
+    ) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Usage(
+        @JsonProperty("prompt_tokens") int promptTokens,
+        @JsonProperty("completion_tokens") int completionTokens,
+        @JsonProperty("total_tokens") int totalTokens
+    ) {
+    }
+}
@@ -0,0 +1,9 @@
+package com.vtb.guardian.llm.model.completion;
+
+/**
+ * The parts of a completion response the client actually uses.
+ *
+ * @param usage token usage, {@code null} if the provider did not report it
+ */
+public record DecodedCompletion(String content, String finishReason, ChatCompletionResponse.Usage usage) {
+}
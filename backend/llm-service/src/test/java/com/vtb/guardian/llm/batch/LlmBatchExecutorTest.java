@@ -0,0 +1,127 @@
+package com.vtb.guardian.llm.batch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vtb.guardian.llm.cache.LlmResultCache;
+import com.vtb.guardian.llm.client.impl.NvidiaLlmClient;
+import com.vtb.guardian.llm.model.LlmAnalysisResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for packing prompts of several callers into one completion and for shutting the executor down
+ */
+class LlmBatchExecutorTest {
+
+    private static final Pattern ITEM = Pattern.compile("### ITEM (\\S+)");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private NvidiaLlmClient client;
+    private LlmResultCache cache;
+    private LlmBatchExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        client = mock(NvidiaLlmClient.class);
+        when(client.analysisCacheKey(anyString(), anyString()))
+            .thenAnswer(invocation -> invocation.getArgument(0) + "|" + invocation.getArgument(1));
+        cache = new LlmResultCache(
+            mock(StringRedisTemplate.class), objectMapper, new SimpleMeterRegistry(), false, 60, 10, 60);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.stop();
+    }
+
+    @Test
+    @DisplayName("Should answer two callers' prompts from one batched completion")
+    void shouldBatchPromptsOfTwoCallers() throws Exception {
+        // Given: the model answers every item it was sent
+        when(client.complete(anyString(), anyString(), anyInt())).thenAnswer(invocation -> {
+            StringBuilder results = new StringBuilder();
+            Matcher items = ITEM.matcher(invocation.<String>getArgument(1));
+            while (items.find()) {
+                results.append(results.isEmpty() ? "" : ",")
+                    .append("{\"id\":\"").append(items.group(1)).append("\",\"result\":{}}");
+            }
+            return "{\"results\":[" + results + "]}";
+        });
+        executor = start(5, 1000);
+
+        // When: two callers submit concurrently, each with its own id
+        CompletableFuture<CompletableFuture<LlmAnalysisResult>> first = CompletableFuture.supplyAsync(
+            () -> executor.submit(new AnalysisPrompt("endpoint-1", "system", "GET /users/{id}")));
+        CompletableFuture<CompletableFuture<LlmAnalysisResult>> second = CompletableFuture.supplyAsync(
+            () -> executor.submit(new AnalysisPrompt("endpoint-1", "system", "DELETE /orders/{id}")));
+
+        // Then
+        assertThat(first.get(5, TimeUnit.SECONDS).get(5, TimeUnit.SECONDS)).isNotNull();
+        assertThat(second.get(5, TimeUnit.SECONDS).get(5, TimeUnit.SECONDS)).isNotNull();
+        verify(client, times(1)).complete(anyString(), anyString(), anyInt());
+        verify(client, never()).analyze(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should fail prompts the dispatcher already took off the queue when stopped")
+    void shouldFailPromptsHeldByDispatcherOnStop() throws Exception {
+        // Given: the only in-flight slot is taken by a call that does not return
+        CountDownLatch called = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(client.analyze(anyString(), anyString())).thenAnswer(invocation -> {
+            called.countDown();
+            release.await();
+            return null;
+        });
+        executor = start(1, 0);
+        executor.submit(new AnalysisPrompt("blocking", "system-a", "GET /health"));
+        assertThat(called.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // The dispatcher holds the next prompt (and possibly carries the incompatible one)
+        // while it waits for a slot
+        CompletableFuture<LlmAnalysisResult> held = executor.submit(new AnalysisPrompt("held", "system-a", "GET /a"));
+        CompletableFuture<LlmAnalysisResult> other = executor.submit(new AnalysisPrompt("other", "system-b", "GET /b"));
+        while (executor.getQueuedCount() > 1) {
+            Thread.sleep(10);
+        }
+
+        // When
+        executor.stop();
+        release.countDown();
+
+        // Then
+        assertThat(held).failsWithin(5, TimeUnit.SECONDS)
+            .withThrowableOfType(ExecutionException.class)
+            .withCauseInstanceOf(RejectedExecutionException.class);
+        assertThat(other).failsWithin(5, TimeUnit.SECONDS)
+            .withThrowableOfType(ExecutionException.class)
+            .withCauseInstanceOf(RejectedExecutionException.class);
+    }
+
+    private LlmBatchExecutor start(int maxConcurrent, long lingerMillis) {
+        LlmBatchExecutor started = new LlmBatchExecutor(client, cache, objectMapper, new SimpleMeterRegistry(),
+            maxConcurrent, 100, 8, 6000, 512, lingerMillis, 1000);
+        started.start();
+        return started;
+    }
+}
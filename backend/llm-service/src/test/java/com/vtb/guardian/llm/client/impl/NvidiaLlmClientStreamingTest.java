@@ -0,0 +1,148 @@
+package com.vtb.guardian.llm.client.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vtb.guardian.llm.cache.LlmResultCache;
+import com.vtb.guardian.llm.config.LlmConfig;
+import com.vtb.guardian.llm.model.LlmAnalysisResult;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for SSE consumption and call metrics in NvidiaLlmClient against a local mock server
+ */
+class NvidiaLlmClientStreamingTest {
+
+    private MockWebServer server;
+    private NvidiaLlmClient client;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+
+        LlmConfig config = mock(LlmConfig.class);
+        when(config.getNvidiaApiKey()).thenReturn("test-key");
+        ObjectMapper objectMapper = new ObjectMapper();
+        LlmResultCache cache = new LlmResultCache(
+            mock(StringRedisTemplate.class), objectMapper, new SimpleMeterRegistry(), false, 60, 10, 60);
+
+        meterRegistry = new SimpleMeterRegistry();
+        client = new NvidiaLlmClient(config, objectMapper, cache, meterRegistry);
+        ReflectionTestUtils.setField(client, "apiUrl", server.url("/v1/chat/completions").toString());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should parse the result from streamed deltas and stop at the closing brace")
+    void shouldStopOnceResultIsComplete() throws Exception {
+        // Given
+        server.enqueue(sse(
+            chunk("```json\\n{"),
+            chunk("}"),
+            chunk("\\n``` trailing explanation that must not be read"),
+            "[DONE]"
+        ));
+        List<String> deltas = new ArrayList<>();
+
+        // When
+        LlmAnalysisResult result = client.analyzeStreaming("system", "user", deltas::add);
+
+        // Then
+        assertThat(result).isNotNull();
+        assertThat(deltas).containsExactly("```json\n{", "}");
+
+        RecordedRequest request = server.takeRequest();
+        assertThat(request.getHeader("Authorization")).isEqualTo("Bearer test-key");
+        assertThat(request.getBody().readUtf8()).contains("\"stream\":true");
+    }
+
+    @Test
+    @DisplayName("Should fail when the stream ends before the JSON object is complete")
+    void shouldFailOnTruncatedStream() {
+        // Given
+        server.enqueue(sse(chunk("{"), "[DONE]"));
+
+        // When / Then
+        assertThatThrownBy(() -> client.analyzeStreaming("system", "user"))
+            .isInstanceOf(RuntimeException.class)
+            .hasRootCauseMessage("Stream ended before a complete JSON result was received");
+    }
+
+    @Test
+    @DisplayName("Should time streaming calls including the first content delta")
+    void shouldTimeStreamingCall() {
+        // Given
+        server.enqueue(sse(chunk("{"), chunk("}"), "[DONE]"));
+
+        // When
+        client.analyzeStreaming("system", "user");
+
+        // Then
+        assertThat(meterRegistry.get("llm.request.latency")
+            .tags("mode", "streaming", "outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("llm.request.first-content").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should count reported tokens and time blocking completions")
+    void shouldRecordBlockingCompletionMetrics() {
+        // Given
+        server.enqueue(new MockResponse()
+            .setHeader("Content-Type", "application/json")
+            .setBody("{\"choices\":[{\"index\":0,\"message\":{\"role\":\"assistant\",\"content\":\"ok\"},"
+                + "\"finish_reason\":\"stop\"}],"
+                + "\"usage\":{\"prompt_tokens\":120,\"completion_tokens\":30,\"total_tokens\":150}}"));
+        server.enqueue(new MockResponse().setResponseCode(503));
+
+        // When
+        String content = client.complete("system", "user", 256);
+        assertThatThrownBy(() -> client.complete("system", "user", 256)).isInstanceOf(RuntimeException.class);
+
+        // Then
+        assertThat(content).isEqualTo("ok");
+        assertThat(meterRegistry.get("llm.tokens").tag("type", "prompt").counter().count()).isEqualTo(120);
+        assertThat(meterRegistry.get("llm.tokens").tag("type", "completion").counter().count()).isEqualTo(30);
+        Timer success = meterRegistry.get("llm.request.latency")
+            .tags("mode", "blocking", "outcome", "success").timer();
+        Timer error = meterRegistry.get("llm.request.latency")
+            .tags("mode", "blocking", "outcome", "error").timer();
+        assertThat(success.count()).isEqualTo(1);
+        assertThat(error.count()).isEqualTo(1);
+    }
+
+    private static String chunk(String content) {
+        return "{\"choices\":[{\"index\":0,\"delta\":{\"content\":\"" + content + "\"}}]}";
+    }
+
+    private static MockResponse sse(String... events) {
+        StringBuilder body = new StringBuilder();
+        for (String event : events) {
+            body.append("data: ").append(event).append("\n\n");
+        }
+        return new MockResponse()
+            .setHeader("Content-Type", "text/event-stream")
+            .setBody(body.toString());
+    }
+}
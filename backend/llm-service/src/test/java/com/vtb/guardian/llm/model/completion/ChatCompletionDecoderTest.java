@@ -0,0 +1,57 @@
+package com.vtb.guardian.llm.model.completion;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for tree-less completion decoding
+ */
+class ChatCompletionDecoderTest {
+
+    private final ChatCompletionDecoder decoder = new ChatCompletionDecoder(new JsonFactory());
+
+    @Test
+    @DisplayName("Should read first choice content and usage, skipping unrelated fields")
+    void shouldDecodeEnvelope() throws Exception {
+        // Given
+        String body = """
+            {"id":"x","usage":{"prompt_tokens":10,"completion_tokens":5,"total_tokens":15},
+             "choices":[
+               {"index":0,"logprobs":{"content":[{"token":"a"}]},
+                "message":{"role":"assistant","content":"{\\"ok\\":true}"},"finish_reason":"stop"},
+               {"index":1,"message":{"role":"assistant","content":"ignored"}}
+             ],
+             "system_fingerprint":null}
+            """;
+
+        // When
+        DecodedCompletion completion = decoder.decode(body.getBytes(StandardCharsets.UTF_8));
+
+        // Then
+        assertThat(completion.content()).isEqualTo("{\"ok\":true}");
+        assertThat(completion.finishReason()).isEqualTo("stop");
+        assertThat(completion.usage().totalTokens()).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("Should fail when the response has no message content")
+    void shouldFailWithoutContent() {
+        assertThatThrownBy(() -> decoder.decode("{\"choices\":[]}".getBytes(StandardCharsets.UTF_8)))
+            .hasMessageContaining("choices[0].message.content");
+    }
+
+    @Test
+    @DisplayName("Should extract streamed delta content")
+    void shouldDecodeDelta() throws Exception {
+        assertThat(decoder.decodeDelta("{\"choices\":[{\"delta\":{\"content\":\"{\\\"a\\\"\"}}]}"))
+            .isEqualTo("{\"a\"");
+        assertThat(decoder.decodeDelta("{\"choices\":[{\"delta\":{\"role\":\"assistant\"}}]}"))
+            .isEmpty();
+    }
+}
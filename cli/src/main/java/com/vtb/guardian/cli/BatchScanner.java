@@ -0,0 +1,115 @@
+package com.vtb.guardian.cli;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Scans many specifications with bounded concurrency in one CLI process.
+ *
+ * A failure of one spec is recorded in its result and does not stop the others.
+ */
+public class BatchScanner {
+
+    /**
+     * Outcome of one specification; {@code error} is set when the scan itself failed.
+     */
+    public record SpecResult(String spec, String scanId, String status,
+                             int critical, int high, int medium, int low, int info,
+                             String report, long durationMs, String error) {
+
+        static SpecResult failed(Path spec, long durationMs, Exception e) {
+            return new SpecResult(spec.toString(), null, "ERROR", 0, 0, 0, 0, 0, null, durationMs,
+                e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        }
+
+        /**
+         * Same thresholds as the single-spec exit code.
+         */
+        public boolean exceeds(String failOn) {
+            return switch (failOn.toUpperCase(Locale.ROOT)) {
+                case "CRITICAL" -> critical > 0;
+                case "HIGH" -> critical + high > 0;
+                case "MEDIUM" -> critical + high + medium > 0;
+                case "LOW" -> critical + high + medium + low + info > 0;
+                default -> false;
+            };
+        }
+    }
+
+    /**
+     * Scans one specification and writes its report.
+     */
+    @FunctionalInterface
+    public interface SpecScan {
+        SpecResult scan(Path spec, Path report) throws Exception;
+    }
+
+    private final int parallelism;
+
+    public BatchScanner(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * @param onResult called from worker threads as each spec finishes
+     * @return results in the order of {@code specs}
+     */
+    public List<SpecResult> run(List<Path> specs, Path root, Path reportDirectory, String extension,
+                                SpecScan scan, Consumer<SpecResult> onResult) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, specs.size()));
+        try {
+            List<Future<SpecResult>> futures = new ArrayList<>(specs.size());
+            for (Path spec : specs) {
+                Path report = reportDirectory.resolve(reportName(root, spec, extension));
+                futures.add(executor.submit(() -> {
+                    long start = System.nanoTime();
+                    SpecResult result;
+                    try {
+                        result = scan.scan(spec, report);
+                    } catch (Exception e) {
+                        result = SpecResult.failed(spec, (System.nanoTime() - start) / 1_000_000, e);
+                    }
+                    onResult.accept(result);
+                    return result;
+                }));
+            }
+            List<SpecResult> results = new ArrayList<>(specs.size());
+            for (Future<SpecResult> future : futures) {
+                try {
+                    results.add(future.get());
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException(e.getCause());
+                }
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    public static void writeSummary(List<SpecResult> results, Path file) throws IOException {
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), results);
+    }
+
+    /**
+     * Report file named after the spec's path below the batch root, so equal file names
+     * in different directories do not overwrite each other.
+     */
+    static String reportName(Path root, Path spec, String extension) {
+        Path relative = spec.startsWith(root) && !spec.equals(root) ? root.relativize(spec) : spec.getFileName();
+        String name = relative.toString().replace('\\', '/').replace('/', '_');
+        int dot = name.lastIndexOf('.');
+        return (dot > 0 ? name.substring(0, dot) : name) + "." + extension;
+    }
+}
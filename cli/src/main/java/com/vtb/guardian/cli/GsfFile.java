@@ -0,0 +1,171 @@
+package com.vtb.guardian.cli;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Memory-mapped reader for scan findings exported with {@code --format gsf}.
+ *
+ * Records are read in place from the mapping (or from a heap copy, see {@link #read});
+ * only the string dictionary is decoded, once.
+ * The layout is documented on the server's {@code GsfReportWriter}.
+ */
+public class GsfFile {
+
+    /** Ordinal tables of the server's {@code VulnerabilityType} and {@code SeverityLevel}; append only. */
+    static final List<String> TYPES = List.of("BOLA", "BROKEN_AUTH", "EXCESSIVE_DATA", "RATE_LIMITING",
+        "BROKEN_FUNCTION_AUTH", "BUSINESS_FLOW", "SSRF", "MISCONFIGURATION", "INVENTORY", "UNSAFE_CONSUMPTION");
+    static final List<String> SEVERITIES = List.of("CRITICAL", "HIGH", "MEDIUM", "LOW", "INFO");
+
+    private static final byte[] MAGIC = {'G', 'S', 'F', 0};
+    private static final int SUPPORTED_VERSION = 1;
+    private static final int HEADER_SIZE = 24;
+    private static final int RECORD_SIZE = 16;
+    private static final int FOOTER_SIZE = 40;
+    private static final int FLAG_FINAL = 1;
+
+    /**
+     * One finding; method, endpoint and title are shared dictionary strings and may be {@code null}.
+     */
+    public record Finding(int typeOrdinal, int severityOrdinal, String method, String endpoint, String title) {
+
+        public String type() {
+            return typeOrdinal < TYPES.size() ? TYPES.get(typeOrdinal) : "TYPE_" + typeOrdinal;
+        }
+
+        public String severity() {
+            return severityOrdinal < SEVERITIES.size() ? SEVERITIES.get(severityOrdinal) : "SEVERITY_" + severityOrdinal;
+        }
+    }
+
+    private final ByteBuffer buffer;
+    private final UUID scanId;
+    private final boolean complete;
+    private final int recordCount;
+    private final String[] dictionary;
+    private final int[] severityCounts = new int[SEVERITIES.size()];
+
+    private GsfFile(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        long size = buffer.capacity();
+        if (size < HEADER_SIZE + FOOTER_SIZE || !hasMagic(buffer, 0) || !hasMagic(buffer, (int) size - MAGIC.length)) {
+            throw new IOException("Not a GSF file or file is truncated");
+        }
+        int version = buffer.getShort(4) & 0xFFFF;
+        if (version != SUPPORTED_VERSION) {
+            throw new IOException("Unsupported GSF version " + version);
+        }
+        this.complete = (buffer.getShort(6) & FLAG_FINAL) != 0;
+        this.scanId = new UUID(buffer.getLong(8), buffer.getLong(16));
+
+        int footer = (int) size - FOOTER_SIZE;
+        this.recordCount = buffer.getInt(footer);
+        int dictionarySize = buffer.getInt(footer + 4);
+        long dictionaryOffset = buffer.getLong(footer + 8);
+        if (dictionaryOffset != HEADER_SIZE + (long) recordCount * RECORD_SIZE || dictionaryOffset > footer) {
+            throw new IOException("Corrupt GSF file: record section does not match footer");
+        }
+        for (int i = 0; i < severityCounts.length; i++) {
+            severityCounts[i] = buffer.getInt(footer + 16 + i * 4);
+        }
+
+        this.dictionary = new String[dictionarySize];
+        ByteBuffer strings = buffer.duplicate().position((int) dictionaryOffset).limit(footer);
+        for (int i = 0; i < dictionarySize; i++) {
+            byte[] bytes = new byte[strings.getInt()];
+            strings.get(bytes);
+            dictionary[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    public static GsfFile open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("GSF file too large: " + path);
+            }
+            // The mapping stays valid after the channel is closed
+            return new GsfFile(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Reads the file into memory instead of mapping it, so it can be moved or deleted right away.
+     */
+    public static GsfFile read(Path path) throws IOException {
+        return new GsfFile(ByteBuffer.wrap(Files.readAllBytes(path)));
+    }
+
+    /**
+     * Reads the header's final flag without mapping the file.
+     *
+     * @return {@code false} also if the file is not a GSF file; {@link #open} reports why
+     */
+    public static boolean isComplete(Path path) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // Keep reading until the header is complete or the file ends
+            }
+        }
+        return !header.hasRemaining() && hasMagic(header, 0) && (header.getShort(6) & FLAG_FINAL) != 0;
+    }
+
+    public UUID scanId() {
+        return scanId;
+    }
+
+    /**
+     * @return {@code true} if the scan had finished when it was exported
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public int size() {
+        return recordCount;
+    }
+
+    public Finding get(int index) {
+        int at = HEADER_SIZE + index * RECORD_SIZE;
+        return new Finding(
+            buffer.get(at) & 0xFF,
+            buffer.get(at + 1) & 0xFF,
+            string(buffer.getInt(at + 4)),
+            string(buffer.getInt(at + 8)),
+            string(buffer.getInt(at + 12)));
+    }
+
+    public int count(String severity) {
+        int ordinal = SEVERITIES.indexOf(severity.toUpperCase());
+        return ordinal >= 0 ? severityCounts[ordinal] : 0;
+    }
+
+    /**
+     * Number of findings at or above the given severity, answered from the footer alone.
+     */
+    public int countAtOrAbove(String severity) {
+        int limit = SEVERITIES.indexOf(severity.toUpperCase());
+        return limit < 0 ? 0 : Arrays.stream(severityCounts, 0, limit + 1).sum();
+    }
+
+    private String string(int reference) {
+        return reference >= 0 ? dictionary[reference] : null;
+    }
+
+    private static boolean hasMagic(ByteBuffer buffer, int at) {
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (buffer.get(at + i) != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
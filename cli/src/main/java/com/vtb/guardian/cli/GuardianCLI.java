@@ -1,11 +1,18 @@
 package com.vtb.guardian.cli;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.vtb.guardian.core.model.dto.response.ScanSummaryResponse;
 import picocli.CommandLine;
 import picocli.CommandLine.Command;
 import picocli.CommandLine.Option;
 import picocli.CommandLine.Parameters;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
 import java.util.concurrent.Callable;
 
 /**
@@ -22,7 +29,8 @@ import java.util.concurrent.Callable;
     subcommands = {
         GuardianCLI.ScanCommand.class,
         GuardianCLI.ListCommand.class,
-        GuardianCLI.ReportCommand.class
+        GuardianCLI.ReportCommand.class,
+        GuardianCLI.DiffCommand.class
     }
 )
 public class GuardianCLI implements Callable<Integer> {
@@ -39,6 +47,19 @@ public class GuardianCLI implements Callable<Integer> {
         return 0;
     }
 
+    /**
+     * Saves a report: JSON, SARIF and HTML are streamed straight into the file,
+     * other formats (PDF) still go through the report service.
+     */
+    static void saveReport(ScanService scanService, String apiUrl, String scanId,
+                           String format, File outputFile) throws Exception {
+        if (ReportDownloader.isStreamed(format)) {
+            new ReportDownloader(apiUrl).download(scanId, format, outputFile);
+        } else {
+            scanService.downloadReport(scanId, format, outputFile);
+        }
+    }
+
     /**
      * Scan command - создает новое сканирование
      */
@@ -50,7 +71,7 @@ public class GuardianCLI implements Callable<Integer> {
 
         @Option(
             names = {"-f", "--file"},
-            description = "OpenAPI/Swagger specification file"
+            description = "OpenAPI/Swagger specification file, or a directory or glob of specifications to scan as a batch"
         )
         private File specFile;
 
@@ -69,7 +90,7 @@ public class GuardianCLI implements Callable<Integer> {
 
         @Option(
             names = {"--format"},
-            description = "Report format: HTML, PDF, JSON, SARIF",
+            description = "Report format: HTML, PDF, JSON, SARIF, GSF",
             defaultValue = "HTML"
         )
         private String format;
@@ -102,6 +123,15 @@ public class GuardianCLI implements Callable<Integer> {
         )
         private String failOn;
 
+        @Option(
+            names = {"--fail-fast"},
+            description = "Exit as soon as a finding at the --fail-on severity arrives, "
+                + "without waiting for the scan or writing a report",
+            defaultValue = "false",
+            negatable = true
+        )
+        private boolean failFast;
+
         @Option(
             names = {"--api-url"},
             description = "API Guardian server URL",
@@ -109,6 +139,34 @@ public class GuardianCLI implements Callable<Integer> {
         )
         private String apiUrl;
 
+        @Option(
+            names = {"--offline"},
+            description = "Run the static analyzers in-process instead of on the server",
+            defaultValue = "false"
+        )
+        private boolean offline;
+
+        @Option(
+            names = {"--batch-concurrency"},
+            description = "Specifications scanned at the same time in batch mode",
+            defaultValue = "4"
+        )
+        private int batchConcurrency;
+
+        @Option(
+            names = {"--report-dir"},
+            description = "Directory for per-spec reports and summary.json in batch mode",
+            defaultValue = "guardian-reports"
+        )
+        private File reportDir;
+
+        @Option(
+            names = {"--parallelism"},
+            description = "Analysis threads in offline mode (0 = number of processors)",
+            defaultValue = "0"
+        )
+        private int parallelism;
+
         @Override
         public Integer call() {
             if (specFile == null && specUrl == null) {
@@ -121,7 +179,8 @@ public class GuardianCLI implements Callable<Integer> {
                 System.out.println();
                 
                 // Validation
-                if (specFile != null && !specFile.exists()) {
+                boolean batch = specFile != null && SpecFinder.isBatch(specFile.getPath());
+                if (specFile != null && !batch && !specFile.exists()) {
                     System.err.println("Error: File not found: " + specFile);
                     return 1;
                 }
@@ -129,14 +188,22 @@ public class GuardianCLI implements Callable<Integer> {
                 // Display configuration
                 System.out.println("Configuration:");
                 System.out.println("  Specification: " + (specFile != null ? specFile : specUrl));
-                System.out.println("  Output: " + outputFile);
+                System.out.println("  Output: " + (batch ? reportDir : outputFile));
                 System.out.println("  Format: " + format);
                 System.out.println("  AI Analysis: " + (enableLlm ? "✅ Enabled" : "❌ Disabled"));
                 System.out.println("  Fuzzing: " + (enableFuzzing ? "✅ Enabled" : "❌ Disabled"));
                 System.out.println("  Dynamic Testing: " + (enableDynamic ? "✅ Enabled" : "❌ Disabled"));
                 System.out.println("  Fail on: " + failOn);
+                System.out.println("  Mode: " + (offline ? "offline" : apiUrl));
                 System.out.println();
 
+                if (batch) {
+                    return scanBatch();
+                }
+                if (offline) {
+                    return scanOffline();
+                }
+
                 // Create scan via API
                 var scanService = new ScanService(apiUrl);
                 String scanId = scanService.createScan(
@@ -150,7 +217,16 @@ public class GuardianCLI implements Callable<Integer> {
                 System.out.println("⏳ Analyzing API security...");
                 System.out.println();
 
-                // Wait for completion with progress
+                // Follow server-sent events; the server pushes findings as they are found
+                String blockingFinding = followEvents(scanId);
+                if (blockingFinding != null) {
+                    System.out.println();
+                    System.out.println("❌ " + blockingFinding);
+                    System.out.println("   Aborting: --fail-on " + failOn + " reached (scan " + scanId + " keeps running on the server)");
+                    return 1;
+                }
+
+                // Scan is finished at this point, so this returns the final state without waiting
                 ScanResult result = scanService.waitForCompletion(scanId);
 
                 // Display results
@@ -158,7 +234,7 @@ public class GuardianCLI implements Callable<Integer> {
 
                 // Generate report
                 System.out.println("📄 Generating report...");
-                scanService.downloadReport(scanId, format, outputFile);
+                saveReport(scanService, apiUrl, scanId, format, outputFile);
                 System.out.println("✅ Report saved to: " + outputFile.getAbsolutePath());
                 System.out.println();
 
@@ -172,6 +248,218 @@ public class GuardianCLI implements Callable<Integer> {
             }
         }
 
+        /**
+         * Streams scan events until the scan finishes.
+         *
+         * @return description of the first finding at or above the fail-on severity when
+         *         failing fast, {@code null} once the scan has finished
+         */
+        private String followEvents(String scanId) {
+            String[] blocking = new String[1];
+            try {
+                new ScanEventStream(apiUrl).follow(scanId, new ScanEventStream.Listener() {
+                    @Override
+                    public boolean onProgress(int analyzedEndpoints, int totalEndpoints) {
+                        if (totalEndpoints > 0) {
+                            System.out.printf("\r  Analyzed %d/%d endpoints", analyzedEndpoints, totalEndpoints);
+                        }
+                        return true;
+                    }
+
+                    @Override
+                    public boolean onFinding(JsonNode finding) {
+                        String severity = finding.path("severity").asText();
+                        if (!isAtOrAbove(severity, failOn)) {
+                            return true;
+                        }
+                        String description = String.format("[%s] %s %s - %s",
+                            severity,
+                            finding.path("method").asText(""),
+                            finding.path("endpoint").asText(""),
+                            finding.path("title").asText());
+                        if (failFast) {
+                            blocking[0] = description;
+                            return false;
+                        }
+                        System.out.println();
+                        System.out.println("  " + description);
+                        return true;
+                    }
+
+                    @Override
+                    public void onFinished(String status, String errorMessage) {
+                        System.out.println();
+                        if (errorMessage != null) {
+                            System.out.println("  Scan " + status + ": " + errorMessage);
+                        }
+                    }
+                });
+            } catch (IOException e) {
+                // Older servers or proxies without streaming support
+                System.out.println("⚠️  " + e.getMessage() + ", falling back to polling");
+            }
+            System.out.println();
+            return blocking[0];
+        }
+
+        /**
+         * Scans every specification matched by --file, --batch-concurrency at a time, sharing one
+         * client (or one in-process engine with --offline). Exits with 1 if any spec fails
+         * to scan, ends in a status other than COMPLETED, or reaches --fail-on.
+         */
+        private int scanBatch() throws Exception {
+            List<Path> specs = SpecFinder.find(specFile.getPath());
+            if (specs.isEmpty()) {
+                System.err.println("Error: No specifications found in " + specFile);
+                return 1;
+            }
+            if (offline && !OfflineScanner.supportsFormat(format)) {
+                System.err.println("Error: offline mode writes JSON, SARIF, HTML or GSF reports, not " + format);
+                return 1;
+            }
+            Path reports = reportDir.toPath();
+            Files.createDirectories(reports);
+            String extension = format.toLowerCase(Locale.ROOT);
+            System.out.println("📦 Scanning " + specs.size() + " specifications, " + batchConcurrency + " at a time");
+            System.out.println();
+
+            OfflineScanner offlineScanner = offline ? new OfflineScanner(parallelism) : null;
+            BatchScanner.SpecScan scan;
+            if (offlineScanner != null) {
+                scan = (spec, report) -> {
+                    OfflineScanner.Result result = offlineScanner.scan(spec);
+                    offlineScanner.writeReport(result, format, report.toFile());
+                    ScanSummaryResponse summary = result.summary();
+                    return new BatchScanner.SpecResult(spec.toString(), null, summary.getStatus().name(),
+                        summary.getCriticalFindings(), summary.getHighFindings(), summary.getMediumFindings(),
+                        summary.getLowFindings(), summary.getInfoFindings(), report.toString(),
+                        summary.getDurationMs(), null);
+                };
+            } else {
+                // One service (and connection pool) for all specs instead of one per invocation
+                var scanService = new ScanService(apiUrl);
+                scan = (spec, report) -> {
+                    long start = System.nanoTime();
+                    String scanId = scanService.createScan(
+                        spec.toAbsolutePath().toString(), enableLlm, enableFuzzing, enableDynamic);
+                    ScanResult result = scanService.waitForCompletion(scanId);
+                    String status = String.valueOf(result.getStatus());
+                    long durationMs = (System.nanoTime() - start) / 1_000_000;
+                    // A failed or cancelled scan has no trustworthy findings; it must not pass the gate
+                    if (!"COMPLETED".equals(status)) {
+                        return new BatchScanner.SpecResult(spec.toString(), scanId, status, 0, 0, 0, 0, 0, null,
+                            durationMs, "scan " + scanId + " ended " + status);
+                    }
+                    saveReport(scanService, apiUrl, scanId, format, report.toFile());
+                    return new BatchScanner.SpecResult(spec.toString(), scanId, status,
+                        result.getCriticalFindings(), result.getHighFindings(), result.getMediumFindings(),
+                        result.getLowFindings(), result.getInfoFindings(), report.toString(), durationMs, null);
+                };
+            }
+
+            List<BatchScanner.SpecResult> results;
+            try {
+                results = new BatchScanner(batchConcurrency).run(specs, SpecFinder.root(specFile.getPath()), reports,
+                    extension, scan, result -> System.out.println((result.error() != null ? "  ❌ " : "  ✔ ")
+                        + result.spec() + (result.error() != null ? ": " + result.error() : "")));
+            } finally {
+                if (offlineScanner != null) {
+                    offlineScanner.close();
+                }
+            }
+            BatchScanner.writeSummary(results, reports.resolve("summary.json"));
+            return printBatchSummary(results);
+        }
+
+        private int printBatchSummary(List<BatchScanner.SpecResult> results) {
+            System.out.println();
+            System.out.println("🎯 Batch Results:");
+            System.out.println("─".repeat(60));
+            System.out.println(String.format("  %-34s %5s %5s %5s %5s", "Specification", "CRIT", "HIGH", "MED", "LOW"));
+            int failed = 0;
+            int errors = 0;
+            int[] totals = new int[4];
+            for (BatchScanner.SpecResult result : results) {
+                String name = Path.of(result.spec()).getFileName().toString();
+                if (result.error() != null) {
+                    errors++;
+                    System.out.println(String.format("  %-34.34s %s", name,
+                        "ERROR".equals(result.status()) ? "scan failed" : "scan " + result.status()));
+                    continue;
+                }
+                if (result.exceeds(failOn)) {
+                    failed++;
+                }
+                totals[0] += result.critical();
+                totals[1] += result.high();
+                totals[2] += result.medium();
+                totals[3] += result.low();
+                System.out.println(String.format("  %-34.34s %5d %5d %5d %5d",
+                    name, result.critical(), result.high(), result.medium(), result.low()));
+            }
+            System.out.println("─".repeat(60));
+            System.out.println(String.format("  %-34s %5d %5d %5d %5d", "Total", totals[0], totals[1], totals[2], totals[3]));
+            System.out.println();
+            System.out.println("✅ Reports and summary.json saved to: " + reportDir.getAbsolutePath());
+            if (errors > 0) {
+                System.out.println("❌ " + errors + " specification(s) could not be scanned or did not complete");
+            }
+            if (failed > 0) {
+                System.out.println("❌ " + failed + " specification(s) reached --fail-on " + failOn.toUpperCase());
+            }
+            return errors > 0 || failed > 0 ? 1 : 0;
+        }
+
+        /**
+         * Static analysis in this process; the exit code follows the same --fail-on rules.
+         */
+        private int scanOffline() throws Exception {
+            if (enableLlm || enableFuzzing || enableDynamic) {
+                System.out.println("ℹ️  Offline mode runs static analysis only; AI analysis, fuzzing and dynamic testing are skipped");
+            }
+            if (!OfflineScanner.supportsFormat(format)) {
+                System.err.println("Error: offline mode writes JSON, SARIF, HTML or GSF reports, not " + format);
+                return 1;
+            }
+            try (var scanner = new OfflineScanner(parallelism)) {
+                OfflineScanner.Result result = specFile != null ? scanner.scan(specFile.toPath()) : scanner.scan(specUrl);
+                ScanSummaryResponse summary = result.summary();
+
+                System.out.println("🎯 Scan Results:");
+                System.out.println("─".repeat(60));
+                System.out.println(String.format("  Duration: %d ms", summary.getDurationMs()));
+                System.out.println(String.format("  Total Endpoints: %d", summary.getTotalEndpoints()));
+                System.out.println();
+                System.out.println("📊 Vulnerabilities Found:");
+                System.out.println(String.format("  🔴 Critical: %d", summary.getCriticalFindings()));
+                System.out.println(String.format("  🟠 High: %d", summary.getHighFindings()));
+                System.out.println(String.format("  🟡 Medium: %d", summary.getMediumFindings()));
+                System.out.println(String.format("  🟢 Low: %d", summary.getLowFindings()));
+                System.out.println(String.format("  ℹ️  Info: %d", summary.getInfoFindings()));
+                System.out.println("─".repeat(60));
+                System.out.println();
+
+                scanner.writeReport(result, format, outputFile);
+                System.out.println("✅ Report saved to: " + outputFile.getAbsolutePath());
+                System.out.println();
+
+                boolean failed = result.vulnerabilities().stream()
+                    .anyMatch(v -> isAtOrAbove(v.getSeverity().name(), failOn));
+                return failed ? 1 : 0;
+            }
+        }
+
+        private static boolean isAtOrAbove(String severity, String threshold) {
+            List<String> order = List.of("CRITICAL", "HIGH", "MEDIUM", "LOW", "INFO");
+            int rank = order.indexOf(severity.toUpperCase());
+            int limit = order.indexOf(threshold.toUpperCase());
+            if (rank < 0 || limit < 0) {
+                return false;
+            }
+            // LOW fails on any finding, like the exit code check after completion
+            return limit == order.indexOf("LOW") || rank <= limit;
+        }
+
         private void displayResults(ScanResult result) {
             System.out.println("🎯 Scan Results:");
             System.out.println("─".repeat(60));
@@ -223,11 +511,22 @@ public class GuardianCLI implements Callable<Integer> {
         )
         private int limit;
 
+        @Option(
+            names = {"--project"},
+            description = "Only scans of this project ID"
+        )
+        private String projectId;
+
+        @Option(
+            names = {"--status"},
+            description = "Only scans with this status: QUEUED, RUNNING, COMPLETED, FAILED, CANCELLED"
+        )
+        private String status;
+
         @Override
         public Integer call() {
             try {
-                var scanService = new ScanService(apiUrl);
-                var scans = scanService.listScans(limit);
+                var scans = new ScanListClient(apiUrl).listScans(limit, projectId, status);
 
                 System.out.println("Recent Scans:");
                 System.out.println("─".repeat(100));
@@ -237,10 +536,10 @@ public class GuardianCLI implements Callable<Integer> {
 
                 for (var scan : scans) {
                     System.out.printf("%-38s %-30s %-12s %-20s%n",
-                        scan.getId(),
-                        truncate(scan.getName(), 30),
-                        scan.getStatus(),
-                        scan.getCreatedAt()
+                        scan.id(),
+                        truncate(scan.name(), 30),
+                        scan.status(),
+                        scan.createdAt()
                     );
                 }
 
@@ -280,7 +579,7 @@ public class GuardianCLI implements Callable<Integer> {
 
         @Option(
             names = {"--format"},
-            description = "Report format: HTML, PDF, JSON, SARIF",
+            description = "Report format: HTML, PDF, JSON, SARIF, GSF",
             defaultValue = "HTML"
         )
         private String format;
@@ -298,7 +597,7 @@ public class GuardianCLI implements Callable<Integer> {
                 System.out.println("📄 Generating report for scan: " + scanId);
                 
                 var scanService = new ScanService(apiUrl);
-                scanService.downloadReport(scanId, format, outputFile);
+                saveReport(scanService, apiUrl, scanId, format, outputFile);
                 
                 System.out.println("✅ Report saved to: " + outputFile.getAbsolutePath());
                 return 0;
@@ -308,5 +607,82 @@ public class GuardianCLI implements Callable<Integer> {
             }
         }
     }
-}
 
+    /**
+     * Diff command - сравнивает результаты двух сканирований
+     */
+    @Command(
+        name = "diff",
+        description = "Compare a scan with a baseline scan (GSF files or scan IDs)"
+    )
+    static class DiffCommand implements Callable<Integer> {
+
+        @Option(
+            names = {"-b", "--baseline"},
+            description = "Baseline: a .gsf file or a scan ID",
+            required = true
+        )
+        private String baseline;
+
+        @Option(
+            names = {"-c", "--current"},
+            description = "Current scan: a .gsf file or a scan ID",
+            required = true
+        )
+        private String current;
+
+        @Option(
+            names = {"--fail-on"},
+            description = "Fail if new vulnerabilities at this severity or above: CRITICAL, HIGH, MEDIUM, LOW",
+            defaultValue = "CRITICAL"
+        )
+        private String failOn;
+
+        @Option(
+            names = {"--api-url"},
+            description = "API Guardian server URL",
+            defaultValue = "http://localhost:8080/api/v1"
+        )
+        private String apiUrl;
+
+        @Override
+        public Integer call() {
+            try {
+                var cache = new ScanResultCache(apiUrl);
+                GsfFile baselineScan = load(cache, baseline);
+                GsfFile currentScan = load(cache, current);
+                ScanDiff diff = ScanDiff.compare(baselineScan, currentScan);
+
+                System.out.printf("Baseline %s: %d findings, current %s: %d findings%n",
+                    baselineScan.scanId(), baselineScan.size(), currentScan.scanId(), currentScan.size());
+                System.out.println();
+                System.out.println("🆕 New (" + diff.added().size() + "):");
+                diff.added().forEach(f -> System.out.println("  + " + describe(f)));
+                System.out.println("✅ Resolved (" + diff.resolved().size() + "):");
+                diff.resolved().forEach(f -> System.out.println("  - " + describe(f)));
+                System.out.println();
+
+                long blocking = diff.addedAtOrAbove(failOn);
+                if (blocking > 0) {
+                    System.out.println("❌ " + blocking + " new finding(s) at " + failOn.toUpperCase() + " or above");
+                    return 1;
+                }
+                return 0;
+            } catch (Exception e) {
+                System.err.println("Error: " + e.getMessage());
+                return 1;
+            }
+        }
+
+        private static GsfFile load(ScanResultCache cache, String source) throws IOException {
+            Path path = Path.of(source);
+            return Files.isRegularFile(path) ? GsfFile.open(path) : cache.load(source);
+        }
+
+        private static String describe(GsfFile.Finding finding) {
+            return String.format("[%s] %s %s %s - %s", finding.severity(), finding.type(),
+                finding.method() != null ? finding.method() : "", finding.endpoint() != null ? finding.endpoint() : "",
+                finding.title());
+        }
+    }
+}
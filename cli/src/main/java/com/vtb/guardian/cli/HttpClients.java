@@ -0,0 +1,33 @@
+package com.vtb.guardian.cli;
+
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One OkHttp client for the whole CLI process.
+ *
+ * Clients that need other timeouts derive from it with {@link OkHttpClient#newBuilder()},
+ * which keeps the shared connection pool and dispatcher, so batch scans reuse connections
+ * to the server instead of opening new ones per spec.
+ */
+final class HttpClients {
+
+    private static final OkHttpClient SHARED = new OkHttpClient.Builder()
+        .connectTimeout(30, TimeUnit.SECONDS)
+        .readTimeout(60, TimeUnit.SECONDS)
+        .connectionPool(new ConnectionPool(32, 5, TimeUnit.MINUTES))
+        .build();
+
+    private HttpClients() {
+    }
+
+    static OkHttpClient shared() {
+        return SHARED;
+    }
+
+    static OkHttpClient withReadTimeout(long timeout, TimeUnit unit) {
+        return SHARED.newBuilder().readTimeout(timeout, unit).build();
+    }
+}
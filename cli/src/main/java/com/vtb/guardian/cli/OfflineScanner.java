@@ -0,0 +1,116 @@
+package com.vtb.guardian.cli;
+
+import com.vtb.guardian.core.analyzer.VulnerabilityAnalyzer;
+import com.vtb.guardian.core.analyzer.engine.ParallelAnalysisEngine;
+import com.vtb.guardian.core.model.domain.ApiSpecification;
+import com.vtb.guardian.core.model.domain.Vulnerability;
+import com.vtb.guardian.core.model.dto.response.ScanSummaryResponse;
+import com.vtb.guardian.core.model.enums.ScanStatus;
+import com.vtb.guardian.core.parser.OpenApiNormalizer;
+import com.vtb.guardian.core.parser.SpecificationLoader;
+import com.vtb.guardian.core.parser.streaming.StreamingOpenApiParser;
+import com.vtb.guardian.core.report.ReportFormat;
+import com.vtb.guardian.core.report.ReportWriter;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.UUID;
+
+/**
+ * Runs the core-engine analyzers in-process: no server, database or Spring context.
+ *
+ * Analyzers are discovered through {@link ServiceLoader}, the specification is parsed with
+ * the engine's streaming parser and reports are rendered with the same writers the server uses.
+ * Only static analysis is available; LLM, fuzzing and dynamic testing need the server.
+ */
+public class OfflineScanner implements AutoCloseable {
+
+    private static final int CHUNK_SIZE = 256;
+
+    /**
+     * @param summary counts and timing in the shape of the server's scan summary
+     */
+    public record Result(ScanSummaryResponse summary, List<Vulnerability> vulnerabilities) {
+    }
+
+    private final SpecificationLoader loader = new SpecificationLoader(
+        new StreamingOpenApiParser(), new OpenApiNormalizer(), SpecificationLoader.DEFAULT_STREAMING_THRESHOLD_BYTES);
+    private final ParallelAnalysisEngine engine;
+
+    public OfflineScanner(int parallelism) {
+        List<VulnerabilityAnalyzer> analyzers = ServiceLoader.load(VulnerabilityAnalyzer.class).stream()
+            .map(ServiceLoader.Provider::get)
+            .toList();
+        if (analyzers.isEmpty()) {
+            throw new IllegalStateException("No analyzers found on the class path");
+        }
+        this.engine = new ParallelAnalysisEngine(analyzers, parallelism, CHUNK_SIZE);
+    }
+
+    public static boolean supportsFormat(String format) {
+        try {
+            ReportFormat.parse(format);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    public Result scan(Path specification) throws IOException {
+        return scan(specification.getFileName().toString(), Files.readAllBytes(specification));
+    }
+
+    public Result scan(String url) throws IOException {
+        return scan(url, loader.fetch(null, url));
+    }
+
+    private Result scan(String name, byte[] content) throws IOException {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long start = System.nanoTime();
+        ApiSpecification specification = loader.load(content);
+        List<Vulnerability> vulnerabilities = engine.analyze(specification);
+
+        int[] counts = new int[5];
+        for (Vulnerability vulnerability : vulnerabilities) {
+            counts[vulnerability.getSeverity().ordinal()]++;
+        }
+        ScanSummaryResponse summary = ScanSummaryResponse.builder()
+            .id(UUID.randomUUID())
+            .name(specification.getTitle() != null ? specification.getTitle() : name)
+            .status(ScanStatus.COMPLETED)
+            .totalEndpoints(specification.getEndpoints().size())
+            .criticalFindings(counts[0])
+            .highFindings(counts[1])
+            .mediumFindings(counts[2])
+            .lowFindings(counts[3])
+            .infoFindings(counts[4])
+            .durationMs((System.nanoTime() - start) / 1_000_000)
+            .createdAt(startedAt)
+            .completedAt(LocalDateTime.now())
+            .build();
+        return new Result(summary, vulnerabilities);
+    }
+
+    public void writeReport(Result result, String format, File outputFile) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(outputFile.toPath()))) {
+            ReportWriter writer = ReportFormat.parse(format).newWriter(out, "offline");
+            writer.begin(result.summary());
+            for (Vulnerability vulnerability : result.vulnerabilities()) {
+                writer.finding(vulnerability);
+            }
+            writer.end();
+        }
+    }
+
+    @Override
+    public void close() {
+        engine.shutdown();
+    }
+}
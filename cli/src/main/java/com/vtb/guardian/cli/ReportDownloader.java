@@ -0,0 +1,77 @@
+package com.vtb.guardian.cli;
+
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Downloads streamed reports from {@code GET /scans/{id}/report} directly into the output file.
+ *
+ * The response body is handed to {@link FileChannel#transferFrom} so the report never
+ * accumulates on the heap; it is written to a temporary file next to the target and moved
+ * into place once complete, so an interrupted download does not leave a truncated report.
+ */
+public class ReportDownloader {
+
+    /** Formats the server renders as a stream; other formats go through the report service. */
+    public static final Set<String> STREAMED_FORMATS = Set.of("JSON", "SARIF", "HTML", "GSF");
+
+    private static final long TRANSFER_CHUNK = 8L * 1024 * 1024;
+
+    private final HttpUrl baseUrl;
+    private final OkHttpClient httpClient = HttpClients.withReadTimeout(5, TimeUnit.MINUTES);
+
+    public ReportDownloader(String apiUrl) {
+        this.baseUrl = HttpUrl.get(apiUrl + "/scans");
+    }
+
+    public static boolean isStreamed(String format) {
+        return STREAMED_FORMATS.contains(format.toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * @return number of bytes written
+     */
+    public long download(String scanId, String format, File outputFile) throws IOException {
+        HttpUrl url = baseUrl.newBuilder()
+            .addPathSegment(scanId)
+            .addPathSegment("report")
+            .addQueryParameter("format", format.toLowerCase(Locale.ROOT))
+            .build();
+
+        Path target = outputFile.toPath().toAbsolutePath();
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".part");
+        try (Response response = httpClient.newCall(new Request.Builder().url(url).build()).execute()) {
+            if (!response.isSuccessful()) {
+                throw new IOException("Failed to download report: HTTP " + response.code());
+            }
+            long written = 0;
+            try (ReadableByteChannel source = Channels.newChannel(response.body().byteStream());
+                 FileChannel file = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                long transferred;
+                // The source blocks until data arrives, so a zero-byte transfer means end of stream
+                while ((transferred = file.transferFrom(source, written, TRANSFER_CHUNK)) > 0) {
+                    written += transferred;
+                }
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return written;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
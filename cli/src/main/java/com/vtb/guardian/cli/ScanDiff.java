@@ -0,0 +1,73 @@
+package com.vtb.guardian.cli;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Compares two scans by finding identity: type, method, endpoint and title. The server's
+ * finding key also covers the affected parameter, which GSF does not carry, so findings
+ * that differ only in that parameter compare as one.
+ */
+public class ScanDiff {
+
+    private record Key(int type, String method, String endpoint, String title) {
+    }
+
+    private final List<GsfFile.Finding> added = new ArrayList<>();
+    private final List<GsfFile.Finding> resolved = new ArrayList<>();
+
+    private ScanDiff() {
+    }
+
+    public static ScanDiff compare(GsfFile baseline, GsfFile current) {
+        ScanDiff diff = new ScanDiff();
+        Set<Key> baselineKeys = keys(baseline);
+        Set<Key> currentKeys = new HashSet<>(current.size() * 2);
+        for (int i = 0; i < current.size(); i++) {
+            GsfFile.Finding finding = current.get(i);
+            Key key = key(finding);
+            currentKeys.add(key);
+            if (!baselineKeys.contains(key)) {
+                diff.added.add(finding);
+            }
+        }
+        for (int i = 0; i < baseline.size(); i++) {
+            GsfFile.Finding finding = baseline.get(i);
+            if (!currentKeys.contains(key(finding))) {
+                diff.resolved.add(finding);
+            }
+        }
+        return diff;
+    }
+
+    public List<GsfFile.Finding> added() {
+        return added;
+    }
+
+    public List<GsfFile.Finding> resolved() {
+        return resolved;
+    }
+
+    public long addedAtOrAbove(String severity) {
+        int limit = GsfFile.SEVERITIES.indexOf(severity.toUpperCase());
+        return added.stream().filter(f -> f.severityOrdinal() <= limit).count();
+    }
+
+    private static Set<Key> keys(GsfFile file) {
+        Set<Key> keys = new HashSet<>(file.size() * 2);
+        for (int i = 0; i < file.size(); i++) {
+            keys.add(key(file.get(i)));
+        }
+        return keys;
+    }
+
+    private static Key key(GsfFile.Finding finding) {
+        return new Key(finding.typeOrdinal(),
+            Objects.requireNonNullElse(finding.method(), ""),
+            Objects.requireNonNullElse(finding.endpoint(), ""),
+            Objects.requireNonNullElse(finding.title(), ""));
+    }
+}
@@ -0,0 +1,113 @@
+package com.vtb.guardian.cli;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.Call;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okio.BufferedSource;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client of the server-sent event stream {@code GET /scans/{id}/events}.
+ *
+ * Replaces status polling: the server pushes progress, every finding as soon as it
+ * is found, and a final {@code finished} event.
+ */
+public class ScanEventStream {
+
+    /**
+     * Callbacks for stream events. Returning {@code false} closes the stream early.
+     */
+    public interface Listener {
+
+        boolean onProgress(int analyzedEndpoints, int totalEndpoints);
+
+        boolean onFinding(JsonNode finding);
+
+        void onFinished(String status, String errorMessage);
+    }
+
+    public enum Outcome {
+        /** The server sent the finished event. */
+        FINISHED,
+        /** The listener stopped the stream. */
+        STOPPED
+    }
+
+    private final String apiUrl;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // Server heartbeats arrive every 15 s, so a silent minute means the connection is gone
+    private final OkHttpClient httpClient = HttpClients.withReadTimeout(60, TimeUnit.SECONDS);
+
+    public ScanEventStream(String apiUrl) {
+        this.apiUrl = apiUrl;
+    }
+
+    public Outcome follow(String scanId, Listener listener) throws IOException {
+        Request request = new Request.Builder()
+            .url(apiUrl + "/scans/" + scanId + "/events")
+            .header("Accept", "text/event-stream")
+            .build();
+
+        Call call = httpClient.newCall(request);
+        try (Response response = call.execute()) {
+            if (!response.isSuccessful()) {
+                throw new IOException("Event stream unavailable: HTTP " + response.code());
+            }
+
+            BufferedSource source = response.body().source();
+            String event = "message";
+            StringBuilder data = new StringBuilder();
+            String line;
+            while ((line = source.readUtf8Line()) != null) {
+                if (line.isEmpty()) {
+                    if (!data.isEmpty()) {
+                        Outcome outcome = dispatch(event, objectMapper.readTree(data.toString()), listener);
+                        if (outcome != null) {
+                            call.cancel();
+                            return outcome;
+                        }
+                    }
+                    event = "message";
+                    data.setLength(0);
+                } else if (line.startsWith("event:")) {
+                    event = line.substring(6).trim();
+                } else if (line.startsWith("data:")) {
+                    if (!data.isEmpty()) {
+                        data.append('\n');
+                    }
+                    data.append(line.substring(5).trim());
+                }
+                // Comment lines (heartbeats) and ids are ignored
+            }
+        }
+        throw new IOException("Event stream closed before the scan finished");
+    }
+
+    private static Outcome dispatch(String event, JsonNode data, Listener listener) {
+        switch (event) {
+            case "progress" -> {
+                if (!listener.onProgress(data.path("analyzedEndpoints").asInt(), data.path("totalEndpoints").asInt())) {
+                    return Outcome.STOPPED;
+                }
+            }
+            case "finding" -> {
+                if (!listener.onFinding(data)) {
+                    return Outcome.STOPPED;
+                }
+            }
+            case "finished" -> {
+                listener.onFinished(data.path("status").asText(), data.path("errorMessage").asText(null));
+                return Outcome.FINISHED;
+            }
+            default -> {
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,74 @@
+package com.vtb.guardian.cli;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lists scans through the keyset-paginated {@code GET /scans/cursor} endpoint,
+ * following {@code nextCursor} until enough scans have been read.
+ */
+public class ScanListClient {
+
+    private static final int MAX_PAGE_SIZE = 200;
+
+    /**
+     * Row of the scan listing.
+     */
+    public record ScanRow(String id, String name, String status, String createdAt,
+                          int criticalFindings, int highFindings) {
+    }
+
+    private final HttpUrl baseUrl;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final OkHttpClient httpClient = HttpClients.shared();
+
+    public ScanListClient(String apiUrl) {
+        this.baseUrl = HttpUrl.get(apiUrl + "/scans/cursor");
+    }
+
+    public List<ScanRow> listScans(int limit, String projectId, String status) throws IOException {
+        List<ScanRow> rows = new ArrayList<>(limit);
+        String cursor = null;
+        do {
+            HttpUrl.Builder url = baseUrl.newBuilder()
+                .addQueryParameter("limit", String.valueOf(Math.min(limit - rows.size(), MAX_PAGE_SIZE)));
+            if (projectId != null) {
+                url.addQueryParameter("projectId", projectId);
+            }
+            if (status != null) {
+                url.addQueryParameter("status", status.toUpperCase());
+            }
+            if (cursor != null) {
+                url.addQueryParameter("cursor", cursor);
+            }
+
+            JsonNode page;
+            try (Response response = httpClient.newCall(new Request.Builder().url(url.build()).build()).execute()) {
+                if (!response.isSuccessful()) {
+                    throw new IOException("Failed to list scans: HTTP " + response.code());
+                }
+                page = objectMapper.readTree(response.body().byteStream());
+            }
+
+            for (JsonNode item : page.path("items")) {
+                rows.add(new ScanRow(
+                    item.path("id").asText(),
+                    item.path("name").asText(""),
+                    item.path("status").asText(),
+                    item.path("createdAt").asText(""),
+                    item.path("criticalFindings").asInt(),
+                    item.path("highFindings").asInt()));
+            }
+            cursor = page.path("nextCursor").isTextual() ? page.path("nextCursor").asText() : null;
+        } while (cursor != null && rows.size() < limit);
+        return rows;
+    }
+}
@@ -0,0 +1,59 @@
+package com.vtb.guardian.cli;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.UUID;
+
+/**
+ * Local cache of finished scans in GSF form, keyed by scan id.
+ *
+ * Only scans that had finished when exported are kept, since their findings no longer change.
+ * The directory defaults to {@code ~/.cache/guardian/scans} and can be set with
+ * {@code GUARDIAN_CACHE_DIR}, e.g. to a directory cached between CI runs.
+ */
+public class ScanResultCache {
+
+    private final Path directory;
+    private final ReportDownloader downloader;
+
+    public ScanResultCache(String apiUrl) {
+        String configured = System.getenv("GUARDIAN_CACHE_DIR");
+        this.directory = configured != null && !configured.isBlank()
+            ? Path.of(configured)
+            : Path.of(System.getProperty("user.home"), ".cache", "guardian", "scans");
+        this.downloader = new ReportDownloader(apiUrl);
+    }
+
+    /**
+     * Returns the scan's findings from the cache, downloading them on a miss.
+     */
+    public GsfFile load(String scanId) throws IOException {
+        // Parsed, so the id can never name a path outside the cache directory
+        String id;
+        try {
+            id = UUID.fromString(scanId).toString();
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Neither a GSF file nor a scan id: " + scanId);
+        }
+
+        Path cached = directory.resolve(id + ".gsf");
+        if (Files.isRegularFile(cached)) {
+            return GsfFile.open(cached);
+        }
+        Files.createDirectories(directory);
+        Path download = directory.resolve(id + ".gsf.tmp");
+        downloader.download(id, "gsf", download.toFile());
+        // Moved before it is mapped: Windows cannot move or delete a mapped file
+        if (GsfFile.isComplete(download)) {
+            Files.move(download, cached, StandardCopyOption.REPLACE_EXISTING);
+            return GsfFile.open(cached);
+        }
+        try {
+            return GsfFile.read(download);
+        } finally {
+            Files.deleteIfExists(download);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.vtb.guardian.cli;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Resolves the {@code --file} argument of a batch scan: a directory (searched recursively for
+ * YAML and JSON files) or a glob such as {@code specs/**&#47;openapi.yaml}.
+ */
+final class SpecFinder {
+
+    private SpecFinder() {
+    }
+
+    static boolean isGlob(String argument) {
+        return argument.chars().anyMatch(c -> c == '*' || c == '?' || c == '[' || c == '{');
+    }
+
+    static boolean isBatch(String argument) {
+        return isGlob(argument) || Files.isDirectory(Path.of(argument));
+    }
+
+    /**
+     * Directory the search starts in; report names are relative to it.
+     */
+    static Path root(String argument) {
+        return isGlob(argument) ? baseDirectory(argument) : Path.of(argument);
+    }
+
+    /**
+     * @return matching files in a stable (path) order
+     */
+    static List<Path> find(String argument) throws IOException {
+        PathMatcher matcher = isGlob(argument)
+            ? FileSystems.getDefault().getPathMatcher("glob:" + normalize(argument))
+            : null;
+        try (Stream<Path> files = Files.walk(root(argument))) {
+            return files
+                .filter(Files::isRegularFile)
+                .filter(path -> matcher != null
+                    ? matcher.matches(Path.of(normalize(path.toString())))
+                    : isSpecification(path))
+                .sorted()
+                .toList();
+        }
+    }
+
+    /**
+     * Longest leading part of the glob without wildcards; the walk starts there.
+     */
+    static Path baseDirectory(String glob) {
+        String normalized = glob.replace('\\', '/');
+        int wildcard = 0;
+        while (wildcard < normalized.length() && "*?[{".indexOf(normalized.charAt(wildcard)) < 0) {
+            wildcard++;
+        }
+        int slash = normalized.lastIndexOf('/', wildcard);
+        if (slash < 0) {
+            return Path.of(".");
+        }
+        return Path.of(slash == 0 ? "/" : normalized.substring(0, slash));
+    }
+
+    /**
+     * Applied to the glob and to the walked paths alike, so {@code ./specs/*.yaml} matches.
+     */
+    private static String normalize(String path) {
+        String text = path.replace('\\', '/');
+        while (text.startsWith("./")) {
+            text = text.substring(2);
+        }
+        return text;
+    }
+
+    private static boolean isSpecification(Path path) {
+        String name = path.getFileName().toString().toLowerCase(Locale.ROOT);
+        return name.endsWith(".yaml") || name.endsWith(".yml") || name.endsWith(".json");
+    }
+}
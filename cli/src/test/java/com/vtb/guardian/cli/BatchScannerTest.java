@@ -0,0 +1,39 @@
+package com.vtb.guardian.cli;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for naming the reports of a batch scan
+ */
+class BatchScannerTest {
+
+    @Test
+    @DisplayName("Should name reports after the spec's path below the batch root")
+    void shouldKeepEqualFileNamesApart() {
+        // Given
+        Path root = Path.of("specs");
+
+        // When / Then
+        assertThat(BatchScanner.reportName(root, Path.of("specs/payments/openapi.yaml"), "sarif"))
+            .isEqualTo("payments_openapi.sarif");
+        assertThat(BatchScanner.reportName(root, Path.of("specs/cards/openapi.yaml"), "sarif"))
+            .isEqualTo("cards_openapi.sarif");
+        assertThat(BatchScanner.reportName(root, Path.of("specs/accounts.v1.json"), "json"))
+            .isEqualTo("accounts.v1.json");
+    }
+
+    @Test
+    @DisplayName("Should fall back to the file name for specs outside the root")
+    void shouldUseFileNameOutsideRoot() {
+        // When / Then
+        assertThat(BatchScanner.reportName(Path.of("specs"), Path.of("other/openapi.yml"), "html"))
+            .isEqualTo("openapi.html");
+        assertThat(BatchScanner.reportName(Path.of("specs"), Path.of("specs/Makefile"), "gsf"))
+            .isEqualTo("Makefile.gsf");
+    }
+}
@@ -0,0 +1,104 @@
+package com.vtb.guardian.cli;
+
+import com.vtb.guardian.core.model.domain.Vulnerability;
+import com.vtb.guardian.core.model.dto.response.ScanSummaryResponse;
+import com.vtb.guardian.core.model.enums.ScanStatus;
+import com.vtb.guardian.core.model.enums.SeverityLevel;
+import com.vtb.guardian.core.model.enums.VulnerabilityType;
+import com.vtb.guardian.core.report.GsfReportWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Round-trip tests for reading files written by the server's {@link GsfReportWriter}
+ */
+class GsfFileTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should map a written file and read back every finding and count")
+    void shouldRoundTrip() throws Exception {
+        // Given
+        UUID scanId = UUID.randomUUID();
+        Path path = write(directory.resolve("scan.gsf"), scanId, ScanStatus.COMPLETED, List.of(
+            finding(VulnerabilityType.BOLA, SeverityLevel.CRITICAL, "GET", "/users/{id}", "Object level authorization"),
+            finding(VulnerabilityType.SSRF, SeverityLevel.LOW, "POST", "/webhooks", "Outbound request to user URL")));
+
+        // When
+        GsfFile file = GsfFile.open(path);
+
+        // Then
+        assertThat(file.scanId()).isEqualTo(scanId);
+        assertThat(file.isComplete()).isTrue();
+        assertThat(GsfFile.isComplete(path)).isTrue();
+        assertThat(file.size()).isEqualTo(2);
+        assertThat(file.get(0)).isEqualTo(new GsfFile.Finding(VulnerabilityType.BOLA.ordinal(),
+            SeverityLevel.CRITICAL.ordinal(), "GET", "/users/{id}", "Object level authorization"));
+        assertThat(file.get(1).type()).isEqualTo("SSRF");
+        assertThat(file.get(1).severity()).isEqualTo("LOW");
+        assertThat(file.countAtOrAbove("HIGH")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should report a running scan as incomplete from the header alone")
+    void shouldDetectIncompleteScan() throws Exception {
+        // Given
+        Path path = write(directory.resolve("running.gsf"), UUID.randomUUID(), ScanStatus.RUNNING, List.of(
+            finding(VulnerabilityType.BOLA, SeverityLevel.HIGH, "GET", "/users/{id}", "Object level authorization")));
+
+        // When
+        GsfFile file = GsfFile.read(path);
+        Files.delete(path);
+
+        // Then
+        assertThat(file.isComplete()).isFalse();
+        assertThat(file.get(0).endpoint()).isEqualTo("/users/{id}");
+    }
+
+    @Test
+    @DisplayName("Should reject files that are not GSF")
+    void shouldRejectOtherFiles() throws Exception {
+        // Given
+        Path path = Files.writeString(directory.resolve("report.json"), "{\"findings\": []}");
+
+        // When / Then
+        assertThat(GsfFile.isComplete(path)).isFalse();
+        assertThatThrownBy(() -> GsfFile.open(path)).isInstanceOf(IOException.class);
+    }
+
+    static Path write(Path path, UUID scanId, ScanStatus status, List<Vulnerability> findings) throws IOException {
+        try (OutputStream out = Files.newOutputStream(path)) {
+            GsfReportWriter writer = new GsfReportWriter(out);
+            writer.begin(ScanSummaryResponse.builder().id(scanId).name("Petstore").status(status).build());
+            for (Vulnerability finding : findings) {
+                writer.finding(finding);
+            }
+            writer.end();
+        }
+        return path;
+    }
+
+    static Vulnerability finding(VulnerabilityType type, SeverityLevel severity, String method, String endpoint,
+                                 String title) {
+        return Vulnerability.builder()
+            .type(type)
+            .severity(severity)
+            .method(method)
+            .endpoint(endpoint)
+            .title(title)
+            .build();
+    }
+}
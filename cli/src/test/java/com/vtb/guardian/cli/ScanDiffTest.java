@@ -0,0 +1,49 @@
+package com.vtb.guardian.cli;
+
+import com.vtb.guardian.core.model.enums.ScanStatus;
+import com.vtb.guardian.core.model.enums.SeverityLevel;
+import com.vtb.guardian.core.model.enums.VulnerabilityType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import static com.vtb.guardian.cli.GsfFileTest.finding;
+import static com.vtb.guardian.cli.GsfFileTest.write;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for comparing two exported scans
+ */
+class ScanDiffTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should report added and resolved findings by type, method, endpoint and title")
+    void shouldCompareByFindingIdentity() throws Exception {
+        // Given: the same endpoint gains a second, differently titled BOLA finding
+        GsfFile baseline = GsfFile.open(write(directory.resolve("baseline.gsf"), UUID.randomUUID(),
+            ScanStatus.COMPLETED, List.of(
+                finding(VulnerabilityType.BOLA, SeverityLevel.HIGH, "GET", "/users/{id}", "Object level authorization"),
+                finding(VulnerabilityType.SSRF, SeverityLevel.MEDIUM, "POST", "/webhooks", "Outbound request"))));
+        GsfFile current = GsfFile.open(write(directory.resolve("current.gsf"), UUID.randomUUID(),
+            ScanStatus.COMPLETED, List.of(
+                finding(VulnerabilityType.BOLA, SeverityLevel.HIGH, "GET", "/users/{id}", "Object level authorization"),
+                finding(VulnerabilityType.BOLA, SeverityLevel.CRITICAL, "GET", "/users/{id}", "Sequential identifiers"),
+                finding(VulnerabilityType.BROKEN_AUTH, SeverityLevel.LOW, "GET", "/health", "No authentication"))));
+
+        // When
+        ScanDiff diff = ScanDiff.compare(baseline, current);
+
+        // Then
+        assertThat(diff.added()).extracting(GsfFile.Finding::title)
+            .containsExactly("Sequential identifiers", "No authentication");
+        assertThat(diff.resolved()).extracting(GsfFile.Finding::endpoint).containsExactly("/webhooks");
+        assertThat(diff.addedAtOrAbove("high")).isEqualTo(1);
+    }
+}
@@ -0,0 +1,79 @@
+package com.vtb.guardian.cli;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for resolving the --file argument of a batch scan
+ */
+class SpecFinderTest {
+
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    void createSpecs() throws IOException {
+        Files.createDirectories(directory.resolve("payments/v2"));
+        Files.writeString(directory.resolve("accounts.yaml"), "openapi: 3.0.1");
+        Files.writeString(directory.resolve("cards.json"), "{}");
+        Files.writeString(directory.resolve("notes.txt"), "not a spec");
+        Files.writeString(directory.resolve("payments/openapi.yaml"), "openapi: 3.0.1");
+        Files.writeString(directory.resolve("payments/v2/openapi.yaml"), "openapi: 3.0.1");
+    }
+
+    @Test
+    @DisplayName("Should find YAML and JSON files below a directory in path order")
+    void shouldSearchDirectory() throws Exception {
+        // When
+        List<Path> specs = SpecFinder.find(directory.toString());
+
+        // Then
+        assertThat(specs).containsExactly(
+            directory.resolve("accounts.yaml"),
+            directory.resolve("cards.json"),
+            directory.resolve("payments/openapi.yaml"),
+            directory.resolve("payments/v2/openapi.yaml"));
+    }
+
+    @Test
+    @DisplayName("Should match a recursive glob from its base directory")
+    void shouldMatchRecursiveGlob() throws Exception {
+        // Given
+        String glob = slashes(directory) + "/**/openapi.yaml";
+
+        // When
+        List<Path> specs = SpecFinder.find(glob);
+
+        // Then
+        assertThat(SpecFinder.baseDirectory(glob)).isEqualTo(directory);
+        assertThat(specs).containsExactly(
+            directory.resolve("payments/openapi.yaml"),
+            directory.resolve("payments/v2/openapi.yaml"));
+    }
+
+    @Test
+    @DisplayName("Should match a glob that starts with ./")
+    void shouldMatchRelativeGlob() throws Exception {
+        // Given
+        String glob = "./" + slashes(Path.of("").toAbsolutePath().relativize(directory)) + "/*.yaml";
+
+        // When
+        List<Path> specs = SpecFinder.find(glob);
+
+        // Then
+        assertThat(specs).extracting(path -> path.getFileName().toString()).containsExactly("accounts.yaml");
+    }
+
+    private static String slashes(Path path) {
+        return path.toString().replace('\\', '/');
+    }
+}
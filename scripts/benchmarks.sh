@@ -0,0 +1,35 @@
+#!/bin/bash
+
+# API Security Guardian - Benchmark Script
+#
+# Usage: scripts/benchmarks.sh [--update-baseline] [JMH options, e.g. Analyzer -p endpoints=1000]
+# Results are written to backend/benchmarks/target/jmh-result.json and compared against
+# backend/benchmarks/baseline.json when it exists. Record the baseline on the same machine.
+set -e
+
+UPDATE_BASELINE=false
+if [ "$1" == "--update-baseline" ]; then
+    UPDATE_BASELINE=true
+    shift
+fi
+
+echo "📦 Building benchmarks..."
+cd backend
+./mvnw -q -pl benchmarks -am package -DskipTests
+echo ""
+
+echo "⏱️  Running benchmarks..."
+java -jar benchmarks/target/benchmarks.jar -rf json -rff benchmarks/target/jmh-result.json "$@"
+echo ""
+
+if [ "$UPDATE_BASELINE" == "true" ]; then
+    cp benchmarks/target/jmh-result.json benchmarks/baseline.json
+    echo "✅ Baseline updated: backend/benchmarks/baseline.json"
+elif [ -f benchmarks/baseline.json ]; then
+    echo "📊 Comparing with baseline..."
+    java -cp benchmarks/target/benchmarks.jar com.vtb.guardian.benchmark.BaselineComparison \
+        benchmarks/baseline.json benchmarks/target/jmh-result.json "${BENCHMARK_THRESHOLD:-10}"
+    echo "✅ No regressions"
+else
+    echo "ℹ️  No baseline yet, record one with --update-baseline"
+fi